@@ -10,9 +10,12 @@ import com.tournamenthost.connect.frontend.with.backend.DTO.RegisterUserDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.ResetPasswordRequest;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Security.JwtService;
+import com.tournamenthost.connect.frontend.with.backend.Security.PasswordHashingOverloadedException;
 import com.tournamenthost.connect.frontend.with.backend.Service.AuthenticationService;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RequestMapping("/auth")
 @RestController
@@ -26,31 +29,39 @@ public class AuthenticationController {
         this.authenticationService = authenticationService;
     }
 
-    @PostMapping("/signup")
-    public ResponseEntity<?> register(@RequestBody RegisterUserDTO registerUserDto) {
-        try {
-            User registeredUser = authenticationService.signup(registerUserDto);
+    // Signup and login return futures so the servlet thread is released while the password is hashed
 
-            return ResponseEntity.ok(registeredUser);
-        } catch (Exception e) {
-            return ResponseEntity.status(401).body("registration failed");
-        }
+    @PostMapping("/signup")
+    public CompletableFuture<ResponseEntity<?>> register(@RequestBody RegisterUserDTO registerUserDto) {
+        return authenticationService.signup(registerUserDto)
+                .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(e -> overloaded(e) ? busy() : ResponseEntity.status(401).body("registration failed"));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<?> authenticate(@RequestBody LoginUserDTO loginUserDto) {
-        try {
-            User authenticatedUser = authenticationService.authenticate(loginUserDto);
-            String jwtToken = jwtService.generateToken(authenticatedUser);
+    public CompletableFuture<ResponseEntity<?>> authenticate(@RequestBody LoginUserDTO loginUserDto) {
+        return authenticationService.authenticate(loginUserDto)
+                .<ResponseEntity<?>>thenApply(authenticatedUser -> {
+                    String jwtToken = jwtService.generateToken(authenticatedUser);
 
-            LoginResponse loginResponse = new LoginResponse();
-            loginResponse.setToken(jwtToken);
-            loginResponse.setExpiresIn(jwtService.getExpirationTime());
+                    LoginResponse loginResponse = new LoginResponse();
+                    loginResponse.setToken(jwtToken);
+                    loginResponse.setExpiresIn(jwtService.getExpirationTime());
 
-            return ResponseEntity.ok(loginResponse);
-        } catch (Exception e) {
-            return ResponseEntity.status(401).body("Authenitcation Failed"); // or a custom error response
-        }
+                    return ResponseEntity.ok(loginResponse);
+                })
+                .exceptionally(e -> overloaded(e) ? busy() : ResponseEntity.status(401).body("Authenitcation Failed")); // or a custom error response
+    }
+
+    private static boolean overloaded(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof PasswordHashingOverloadedException;
+    }
+
+    private static ResponseEntity<?> busy() {
+        return ResponseEntity.status(503)
+                .header("Retry-After", "2")
+                .body("Server is busy, please try again shortly");
     }
 
     @PostMapping("/forgot-password")
@@ -2,9 +2,13 @@ package com.tournamenthost.connect.frontend.with.backend.Controller;
 
 import com.tournamenthost.connect.frontend.with.backend.DTO.DrawResponseDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.EventDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.EventPageDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.EventRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.MatchDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.MatchResultRequest;
+import com.tournamenthost.connect.frontend.with.backend.DTO.LivePointRequest;
+import com.tournamenthost.connect.frontend.with.backend.DTO.LiveScoreStartRequest;
+import com.tournamenthost.connect.frontend.with.backend.DTO.MatchStateDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.TournamentDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.TournamentRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.TournamentUpdateRequest;
@@ -13,6 +17,7 @@ import com.tournamenthost.connect.frontend.with.backend.DTO.TeamDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.UserGetRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.PointsDistributionRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.PointsDistributionDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.TournamentPageDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.ManualSeedingRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.AutoSeedingRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.SeededUserDTO;
@@ -23,9 +28,19 @@ import com.tournamenthost.connect.frontend.with.backend.DTO.EventSignupRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.GuestSignupRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.CreateTeamRequest;
 import com.tournamenthost.connect.frontend.with.backend.DTO.GameDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.PoolPlayConfigRequest;
+import com.tournamenthost.connect.frontend.with.backend.DTO.StandingDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.SwissConfigRequest;
+import com.tournamenthost.connect.frontend.with.backend.DTO.SwissStandingDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.ScheduleConfigRequest;
+import com.tournamenthost.connect.frontend.with.backend.DTO.ScheduledMatchDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.RosterImportResultDTO;
 import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.ResultLogEntry;
 import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.util.DTOConverter;
+import com.tournamenthost.connect.frontend.with.backend.util.MatchStreamWriter;
 import com.tournamenthost.connect.frontend.with.backend.Model.Team;
 import com.tournamenthost.connect.frontend.with.backend.Model.PointsDistribution;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.EventRegistration;
@@ -34,33 +49,91 @@ import com.tournamenthost.connect.frontend.with.backend.Model.Event.EventType;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.RoundRobinEvent;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissStanding;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TeamSchedule;
+import com.tournamenthost.connect.frontend.with.backend.Service.ForecastService;
+import com.tournamenthost.connect.frontend.with.backend.Service.GuestService;
+import com.tournamenthost.connect.frontend.with.backend.Service.LeagueService;
+import com.tournamenthost.connect.frontend.with.backend.Service.LiveScoreService;
+import com.tournamenthost.connect.frontend.with.backend.Service.MatchStreamService;
+import com.tournamenthost.connect.frontend.with.backend.Service.PageVersionService;
+import com.tournamenthost.connect.frontend.with.backend.Service.ResultLogService;
+import com.tournamenthost.connect.frontend.with.backend.Service.ScheduleService;
 import com.tournamenthost.connect.frontend.with.backend.Service.TournamentService;
 import com.tournamenthost.connect.frontend.with.backend.Repository.UserRepository;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @RestController
 @RequestMapping("/api/tournaments")
 public class TournamentController {
 
     private final TournamentService tournamentService;
+    private final ScheduleService scheduleService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final GuestService guestService;
+    private final ResultLogService resultLogService;
+    private final LeagueService leagueService;
+    private final LiveScoreService liveScoreService;
+    private final ForecastService forecastService;
+    private final MatchStreamService matchStreamService;
+    private final PageVersionService pageVersionService;
+
+    // Parts of a tournament page that can be asked for with ?fields=
+    private static final List<String> PAGE_FIELDS = List.of("tournament", "users", "events", "draws", "points", "seeds");
+
+    private static final int CACHED_PAGES = 500;
+
+    // Latest page built per tournament, with the version and parts it was built for; least recently used go first
+    private final Map<Long, CachedPage> pages = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedPage> eldest) {
+                return size() > CACHED_PAGES;
+            }
+        });
+
+    private record CachedPage(String version, Set<String> fields, TournamentPageDTO page) {
+    }
 
-    public TournamentController(TournamentService tournamentService, UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public TournamentController(TournamentService tournamentService, ScheduleService scheduleService,
+                                UserRepository userRepository, GuestService guestService,
+                                ResultLogService resultLogService, LeagueService leagueService,
+                                LiveScoreService liveScoreService, ForecastService forecastService,
+                                MatchStreamService matchStreamService, PageVersionService pageVersionService) {
         this.tournamentService = tournamentService;
+        this.scheduleService = scheduleService;
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.guestService = guestService;
+        this.resultLogService = resultLogService;
+        this.leagueService = leagueService;
+        this.liveScoreService = liveScoreService;
+        this.forecastService = forecastService;
+        this.matchStreamService = matchStreamService;
+        this.pageVersionService = pageVersionService;
     }
 
     private User getCurrentUser() {
@@ -68,6 +141,12 @@ public class TournamentController {
         return (User) authentication.getPrincipal();
     }
 
+    // For public endpoints: the signed-in user, or null for anonymous requests
+    private User getCurrentUserOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user : null;
+    }
+
     @PostMapping
     public ResponseEntity<?> createTournament(@RequestBody TournamentRequest tournamentRequest) {
         try {
@@ -181,37 +260,50 @@ public class TournamentController {
     public ResponseEntity<TournamentDTO> getTournament(@PathVariable Long id) {
         try {
             Tournament tournament = tournamentService.getTournament(id);
-            TournamentDTO dto = new TournamentDTO();
-            dto.setId(tournament.getId());
-            dto.setName(tournament.getName());
-            dto.setMessage(tournament.getMessage());
-            dto.setBegin(tournament.getBegin());
-            dto.setEnd(tournament.getEnd());
-            dto.setLocation(tournament.getLocation());
+            TournamentDTO dto = toTournamentDTO(tournament);
+            return ResponseEntity.ok(dto);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
 
-            // Include owner information
-            if (tournament.getOwner() != null) {
-                UserDTO ownerDTO = new UserDTO();
-                ownerDTO.setId(tournament.getOwner().getId());
-                ownerDTO.setUsername(tournament.getOwner().getUsername());
-                ownerDTO.setName(tournament.getOwner().getName());
-                dto.setOwner(ownerDTO);
+    /**
+     * Everything a tournament page shows, in one response instead of a call per part
+     * GET /api/tournaments/{id}/page?fields=tournament,users,events,draws,points,seeds
+     * Returns: TournamentPageDTO with the requested parts (all by default). The page version is
+     * sent as the ETag; a request whose If-None-Match carries it gets 304 without the page being
+     * built, and an unchanged page is served from memory.
+     */
+    @GetMapping("/{id}/page")
+    public ResponseEntity<?> getTournamentPage(
+            @PathVariable Long id,
+            @RequestParam(required = false) Set<String> fields,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        try {
+            Set<String> parts = fields == null || fields.isEmpty() ? new HashSet<>(PAGE_FIELDS) : fields;
+            for (String part : parts) {
+                if (!PAGE_FIELDS.contains(part)) {
+                    return ResponseEntity.badRequest().body("Unknown field '" + part + "', expected any of " + PAGE_FIELDS);
+                }
             }
 
-            // Include authorized editors
-            List<UserDTO> editorDTOs = new ArrayList<>();
-            for (User editor : tournament.getAuthorizedEditors()) {
-                UserDTO editorDTO = new UserDTO();
-                editorDTO.setId(editor.getId());
-                editorDTO.setUsername(editor.getUsername());
-                editorDTO.setName(editor.getName());
-                editorDTOs.add(editorDTO);
+            String version = pageVersionService.getVersion(id);
+            String eTag = "\"" + version + "\"";
+            if (ifNoneMatch != null && ifNoneMatch.contains(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
             }
-            dto.setAuthorizedEditors(editorDTOs);
 
-            return ResponseEntity.ok(dto);
+            CachedPage cached = pages.get(id);
+            TournamentPageDTO page;
+            if (cached != null && cached.version().equals(version) && cached.fields().equals(parts)) {
+                page = cached.page();
+            } else {
+                page = buildTournamentPage(id, version, parts);
+                pages.put(id, new CachedPage(version, Set.copyOf(parts), page));
+            }
+            return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(page);
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.notFound().build();
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
@@ -231,35 +323,31 @@ public class TournamentController {
                 request.getLocation()
             );
 
-            TournamentDTO dto = new TournamentDTO();
-            dto.setId(tournament.getId());
-            dto.setName(tournament.getName());
-            dto.setMessage(tournament.getMessage());
-            dto.setBegin(tournament.getBegin());
-            dto.setEnd(tournament.getEnd());
-            dto.setLocation(tournament.getLocation());
+            TournamentDTO dto = toTournamentDTO(tournament);
 
-            // Include owner information
-            if (tournament.getOwner() != null) {
-                UserDTO ownerDTO = new UserDTO();
-                ownerDTO.setId(tournament.getOwner().getId());
-                ownerDTO.setUsername(tournament.getOwner().getUsername());
-                ownerDTO.setName(tournament.getOwner().getName());
-                dto.setOwner(ownerDTO);
-            }
+            return ResponseEntity.ok(dto);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-            // Include authorized editors
-            List<UserDTO> editorDTOs = new ArrayList<>();
-            for (User editor : tournament.getAuthorizedEditors()) {
-                UserDTO editorDTO = new UserDTO();
-                editorDTO.setId(editor.getId());
-                editorDTO.setUsername(editor.getUsername());
-                editorDTO.setName(editor.getName());
-                editorDTOs.add(editorDTO);
-            }
-            dto.setAuthorizedEditors(editorDTOs);
+    /**
+     * Delete a tournament and everything in it (owner only)
+     * DELETE /api/tournaments/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteTournament(@PathVariable Long id) {
+        try {
+            User currentUser = getCurrentUser();
+            List<Long> leagueIds = tournamentService.deleteTournament(id, currentUser);
+            pages.remove(id);
+            forecastService.evictTournament(id);
 
-            return ResponseEntity.ok(dto);
+            // League standings counted this tournament's results
+            for (Long leagueId : leagueIds) {
+                leagueService.recalculateLeagueRankings(leagueId);
+            }
+            return ResponseEntity.ok("Tournament deleted successfully");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -288,25 +376,7 @@ public class TournamentController {
             List<BaseEvent> events = tournamentService.getEventsForTournament(id);
             List<EventDTO> eventDTOs = new ArrayList<>();
             for (BaseEvent event : events) {
-                EventDTO dto = new EventDTO();
-                dto.setId(event.getIndex());
-                dto.setName(event.getName());
-
-                // Set event type
-                if (event instanceof SingleElimEvent) {
-                    dto.setEventType("SINGLE_ELIM");
-                } else if (event instanceof DoubleElimEvent) {
-                    dto.setEventType("DOUBLE_ELIM");
-                } else if (event instanceof RoundRobinEvent) {
-                    dto.setEventType("ROUND_ROBIN");
-                }
-
-                // Set match configuration
-                dto.setMatchType(event.getMatchType().name());
-                dto.setGamesPerMatch(event.getGamesPerMatch());
-                dto.setGamesRequiredToWin(event.getGamesRequiredToWin());
-                dto.setInitialized(event.isEventInitialized());
-
+                EventDTO dto = toEventDTO(event);
                 eventDTOs.add(dto);
             }
             return ResponseEntity.ok(eventDTOs);
@@ -398,100 +468,32 @@ public class TournamentController {
     public ResponseEntity<?> getEventDraw(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
         try {
             BaseEvent event = tournamentService.getEventsForTournament(tournamentId).get(eventIndex);
-            String eventType;
-            List<List<Object>> dtoDraw = new ArrayList<>();
-
-            if (event instanceof SingleElimEvent) {
-                eventType = "SINGLE_ELIM";
-                Object drawObject = tournamentService.getEventDraw(tournamentId, eventIndex);
-                List<List<Match>> draw = (List<List<Match>>) drawObject;
-                for (List<Match> round : draw) {
-                    List<Object> roundDTOs = new ArrayList<>();
-                    for (Match match : round) {
-                        MatchDTO dto = createMatchDTO(match, event);
-                        roundDTOs.add(dto);
-                    }
-                    dtoDraw.add(roundDTOs);
-                }
-            } else if (event instanceof RoundRobinEvent) {
-                eventType = "ROUND_ROBIN";
-                Object drawObject = tournamentService.getEventDraw(tournamentId, eventIndex);
-                Map<Team, List<Match>> draw = (Map<Team, List<Match>>) drawObject;
-                for (Map.Entry<Team, List<Match>> entry : draw.entrySet()) {
-                    Team team = entry.getKey();
-                    TeamDTO teamDTO = convertTeamToDTO(team);
-
-                    List<Object> teamRow = new ArrayList<>();
-                    teamRow.add(teamDTO);
-
-                    for (Match match : entry.getValue()) {
-                        MatchDTO dto = createMatchDTO(match, event);
-                        teamRow.add(dto);
-                    }
-                    dtoDraw.add(teamRow);
-                }
-            } else if (event instanceof DoubleElimEvent doubleElimEvent) {
-                eventType = "DOUBLE_ELIM";
-                Object drawObject = tournamentService.getEventDraw(tournamentId, eventIndex);
-                Map<String, List<List<Match>>> draw = (Map<String, List<List<Match>>>) drawObject;
-
-                // Create a map to return with winners, losers brackets, and bronze match
-                Map<String, Object> doubleElimDraw = new TreeMap<>();
-
-                // Process winners bracket
-                List<List<MatchDTO>> winnersDTOs = new ArrayList<>();
-                for (List<Match> round : draw.get("winners")) {
-                    List<MatchDTO> roundDTOs = new ArrayList<>();
-                    for (Match match : round) {
-                        roundDTOs.add(createMatchDTO(match, event));
-                    }
-                    winnersDTOs.add(roundDTOs);
-                }
-                doubleElimDraw.put("winners", winnersDTOs);
-
-                // Process losers bracket
-                List<List<MatchDTO>> losersDTOs = new ArrayList<>();
-                for (List<Match> round : draw.get("losers")) {
-                    List<MatchDTO> roundDTOs = new ArrayList<>();
-                    for (Match match : round) {
-                        roundDTOs.add(createMatchDTO(match, event));
-                    }
-                    losersDTOs.add(roundDTOs);
-                }
-                doubleElimDraw.put("losers", losersDTOs);
-
-                // Add bronze match (3rd/4th place)
-                Match bronzeMatch = doubleElimEvent.getBronzeMatch();
-                if (bronzeMatch != null) {
-                    doubleElimDraw.put("bronze", createMatchDTO(bronzeMatch, event));
-                }
-
-                DrawResponseDTO response = new DrawResponseDTO();
-                response.setEventType(eventType);
-                response.setDraw(doubleElimDraw);
-                return ResponseEntity.ok(response);
-            } else {
-                throw new IllegalArgumentException("Unsupported event type: " + event.getClass().getSimpleName());
-            }
-
-            DrawResponseDTO response = new DrawResponseDTO();
-            response.setEventType(eventType);
-            response.setDraw(dtoDraw);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(toDrawResponse(event, tournamentService.getEventDraw(event)));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    /**
+     * All matches of a tournament, streamed as they are read from the database
+     * GET /api/tournaments/{id}/matches?format=json|ndjson|csv
+     * json (the default) is the usual MatchDTO array; ndjson and csv are for exports.
+     */
     @GetMapping("/{id}/matches")
-    public ResponseEntity<?> getMatches(@PathVariable Long id) {
+    public ResponseEntity<?> getMatches(@PathVariable Long id,
+                                        @RequestParam(defaultValue = "json") String format) {
         try {
-            List<Match> matches = tournamentService.getAllMatches(id);
-            List<MatchDTO> matchDTOs = new ArrayList<>();
-            for (Match match : matches) {
-                matchDTOs.add(createMatchDTO(match));
+            MatchStreamWriter.Format streamFormat = MatchStreamWriter.Format.parse(format);
+            // Check before streaming starts, while a 400 can still be sent
+            tournamentService.getTournament(id);
+            StreamingResponseBody body = out -> matchStreamService.streamMatches(id, streamFormat, out);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(streamFormat.getContentType()));
+            if (streamFormat == MatchStreamWriter.Format.CSV) {
+                response.header(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename("tournament-" + id + "-matches.csv").build().toString());
             }
-            return ResponseEntity.ok(matchDTOs);
+            return response.body(body);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
@@ -518,19 +520,49 @@ public class TournamentController {
 
         // Initialize event (stub)
     // Initialize event (requires both tournamentId and eventIndex)
+    // Pass drawSeed to commit a draw seen through draw-preview
     @PostMapping("/{tournamentId}/event/{eventIndex}/initialize")
-    public ResponseEntity<?> initializeEvent(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+    public ResponseEntity<?> initializeEvent(@PathVariable Long tournamentId, @PathVariable int eventIndex,
+                                             @RequestParam(required = false) Long drawSeed) {
         try {
             User currentUser = getCurrentUser();
             tournamentService.verifyEditPermission(tournamentId, currentUser);
 
-            tournamentService.initializeEvent(tournamentId, eventIndex);
+            tournamentService.initializeEvent(tournamentId, eventIndex, drawSeed);
             return ResponseEntity.ok().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    /**
+     * Preview first-round draws of an elimination event without initializing it
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/draw-preview?seeds=7,42 (or ?count=3 for random seeds)
+     * Returns: List of DrawPreviewDTO; POST .../initialize?drawSeed={seed} commits one
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/draw-preview")
+    public ResponseEntity<?> previewDraws(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestParam(required = false) List<Long> seeds,
+            @RequestParam(defaultValue = "1") int count) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            if (seeds == null || seeds.isEmpty()) {
+                if (count < 1 || count > TournamentService.MAX_DRAW_PREVIEWS) {
+                    return ResponseEntity.badRequest()
+                        .body("Between 1 and " + TournamentService.MAX_DRAW_PREVIEWS + " draws can be previewed at once");
+                }
+                seeds = ThreadLocalRandom.current().longs(count).boxed().toList();
+            }
+            return ResponseEntity.ok(tournamentService.previewDraws(tournamentId, eventIndex, seeds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // Deinitialize event (removes rounds and matches, keeps players)
     @PostMapping("/{tournamentId}/event/{eventIndex}/deinitialize")
     public ResponseEntity<?> deinitializeEvent(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
@@ -539,6 +571,7 @@ public class TournamentController {
             tournamentService.verifyEditPermission(tournamentId, currentUser);
 
             tournamentService.deinitializeEvent(tournamentId, eventIndex);
+            forecastService.evictEvent(tournamentService.getEventsForTournament(tournamentId).get(eventIndex).getId());
             return ResponseEntity.ok().build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -564,6 +597,144 @@ public class TournamentController {
         }
     }
 
+    /**
+     * Correct a result that was entered wrongly
+     * Only the bracket matches that depended on the old result are cleared
+     * PUT /api/tournaments/{tournamentId}/matches/{matchId}/result
+     */
+    @PutMapping("/{tournamentId}/matches/{matchId}/result")
+    public ResponseEntity<?> correctMatchResult(
+            @PathVariable Long tournamentId,
+            @PathVariable Long matchId,
+            @RequestBody MatchResultRequest request) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            tournamentService.correctMatchResult(tournamentId, matchId, request.getWinnerId(), request.getScore());
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // ==================== LIVE SCORING ENDPOINTS ====================
+
+    /**
+     * Start (or join) point-by-point scoring of a match
+     * POST /api/tournaments/{tournamentId}/matches/{matchId}/live/start
+     * Body (all optional): { "pointsToWin": 21, "winBy": 2, "pointCap": 30 }
+     */
+    @PostMapping("/{tournamentId}/matches/{matchId}/live/start")
+    public ResponseEntity<?> startLiveScoring(
+            @PathVariable Long tournamentId,
+            @PathVariable Long matchId,
+            @RequestBody(required = false) LiveScoreStartRequest request) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            return ResponseEntity.ok(liveScoreService.start(tournamentId, matchId, request, currentUser));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Award one rally; the match result is recorded automatically when the last game ends
+     * POST /api/tournaments/{tournamentId}/matches/{matchId}/live/point
+     * Body: { "side": "A" }
+     */
+    @PostMapping("/{tournamentId}/matches/{matchId}/live/point")
+    public ResponseEntity<?> scoreLivePoint(
+            @PathVariable Long tournamentId,
+            @PathVariable Long matchId,
+            @RequestBody LivePointRequest request) {
+        try {
+            // Edit permission is checked by the service once per scorer, not on every rally
+            return ResponseEntity.ok(liveScoreService.point(tournamentId, matchId, request.getSide(), getCurrentUser()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Take back the last rally of the game in progress
+     * POST /api/tournaments/{tournamentId}/matches/{matchId}/live/undo
+     */
+    @PostMapping("/{tournamentId}/matches/{matchId}/live/undo")
+    public ResponseEntity<?> undoLivePoint(@PathVariable Long tournamentId, @PathVariable Long matchId) {
+        try {
+            return ResponseEntity.ok(liveScoreService.undoPoint(tournamentId, matchId, getCurrentUser()));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Follow a match's live score as server-sent "score" events
+     * GET /api/tournaments/{tournamentId}/matches/{matchId}/live
+     */
+    @GetMapping(value = "/{tournamentId}/matches/{matchId}/live", produces = "text/event-stream")
+    public SseEmitter watchLiveScore(@PathVariable Long tournamentId, @PathVariable Long matchId) {
+        return liveScoreService.watch(matchId);
+    }
+
+    /**
+     * Every result, correction and undo recorded in an event, oldest first
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/results/log
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/results/log")
+    public ResponseEntity<?> getResultLog(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            BaseEvent event = tournamentService.getEventsForTournament(tournamentId).get(eventIndex);
+            List<ResultLogEntry> log = resultLogService.getLog(event);
+            return ResponseEntity.ok(log);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * The event's matches rebuilt from its draw and result log, optionally as they stood
+     * just after log entry upTo
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/results/replay?upTo=12
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/results/replay")
+    public ResponseEntity<?> replayResults(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestParam(required = false) Integer upTo) {
+        try {
+            BaseEvent event = tournamentService.getEventsForTournament(tournamentId).get(eventIndex);
+            if (!event.isEventInitialized()) {
+                return ResponseEntity.badRequest().body("This event hasn't been initialized, please initialize it first");
+            }
+            List<MatchStateDTO> state = resultLogService.getStateAt(event, upTo);
+            return ResponseEntity.ok(state);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Undo the latest result or correction in an elimination event
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/results/undo
+     */
+    @PostMapping("/{tournamentId}/event/{eventIndex}/results/undo")
+    public ResponseEntity<?> undoLastResult(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            BaseEvent event = tournamentService.getEventsForTournament(tournamentId).get(eventIndex);
+            ResultLogEntry undo = resultLogService.undoLastResult(event);
+            return ResponseEntity.ok(undo);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // Helper method to create MatchDTO with all fields (no seed info)
     private MatchDTO createMatchDTO(Match match) {
         return createMatchDTO(match, null);
@@ -577,6 +748,8 @@ public class TournamentController {
         dto.setScore(match.getScore());
         dto.setMatchType(match.getMatchType() != null ? match.getMatchType().name() : "SINGLES");
         dto.setGamesRequiredToWin(match.getGamesRequiredToWin());
+        dto.setScheduledStart(match.getScheduledStart());
+        dto.setCourt(match.getCourt());
 
         // Convert games
         if (match.getGames() != null) {
@@ -623,6 +796,241 @@ public class TournamentController {
         return dto;
     }
 
+    /**
+     * Assemble a tournament page from the tournament loaded once
+     * Events, their entries, brackets, matches and seeds are all reached from that one entity,
+     * so Hibernate's batch fetching loads each kind in a handful of queries; points tables come
+     * in one more.
+     */
+    private TournamentPageDTO buildTournamentPage(Long id, String version, Set<String> parts) {
+        Tournament tournament = tournamentService.getTournament(id);
+        List<BaseEvent> events = tournament.getEvents() != null ? tournament.getEvents() : List.of();
+
+        TournamentPageDTO page = new TournamentPageDTO();
+        page.setVersion(version);
+        if (parts.contains("tournament")) {
+            page.setTournament(toTournamentDTO(tournament));
+        }
+        if (parts.contains("users")) {
+            Map<Long, User> users = new HashMap<>();
+            for (BaseEvent event : events) {
+                for (User player : event.getPlayers()) {
+                    users.putIfAbsent(player.getId(), player);
+                }
+            }
+            page.setUsers(users.values().stream()
+                .sorted(Comparator.comparing(User::getId))
+                .map(DTOConverter::convertToUserDTO)
+                .toList());
+        }
+
+        boolean draws = parts.contains("draws");
+        boolean points = parts.contains("points");
+        boolean seeds = parts.contains("seeds");
+        if (!parts.contains("events") && !draws && !points && !seeds) {
+            return page;
+        }
+
+        Map<Long, PointsDistribution> pointsByEvent = new HashMap<>();
+        if (points) {
+            for (PointsDistribution pd : tournamentService.getAllPointsDistributions(id)) {
+                if (pd.getEvent() != null) {
+                    pointsByEvent.put(pd.getEvent().getId(), pd);
+                }
+            }
+        }
+
+        List<EventPageDTO> eventPages = new ArrayList<>();
+        for (BaseEvent event : events) {
+            EventPageDTO eventPage = new EventPageDTO();
+            eventPage.setIndex(event.getIndex());
+            if (parts.contains("events")) {
+                eventPage.setEvent(toEventDTO(event));
+            }
+            if (draws && event.isEventInitialized()) {
+                eventPage.setDraw(toDrawResponse(event, tournamentService.getEventDraw(event)));
+            }
+            PointsDistribution pd = pointsByEvent.get(event.getId());
+            if (pd != null) {
+                PointsDistributionDTO dto = new PointsDistributionDTO();
+                dto.setId(pd.getId());
+                dto.setTournamentId(id);
+                dto.setEventIndex(event.getIndex());
+                dto.setPointsMap(new HashMap<>(pd.getPointsMap()));
+                eventPage.setPointsDistribution(dto);
+            }
+            // Copied so a cached page doesn't hold on to the entity's collections
+            if (seeds) {
+                eventPage.setSeeds(event.getPlayerSeeds() != null ? new HashMap<>(event.getPlayerSeeds()) : null);
+                eventPage.setTeamSeeds(event.getTeamSeeds() != null ? new HashMap<>(event.getTeamSeeds()) : null);
+            }
+            eventPages.add(eventPage);
+        }
+        page.setEvents(eventPages);
+        return page;
+    }
+
+    // Tournament details with its owner and authorized editors
+    private TournamentDTO toTournamentDTO(Tournament tournament) {
+        TournamentDTO dto = new TournamentDTO();
+        dto.setId(tournament.getId());
+        dto.setName(tournament.getName());
+        dto.setMessage(tournament.getMessage());
+        dto.setBegin(tournament.getBegin());
+        dto.setEnd(tournament.getEnd());
+        dto.setLocation(tournament.getLocation());
+
+        // Include owner information
+        if (tournament.getOwner() != null) {
+            UserDTO ownerDTO = new UserDTO();
+            ownerDTO.setId(tournament.getOwner().getId());
+            ownerDTO.setUsername(tournament.getOwner().getUsername());
+            ownerDTO.setName(tournament.getOwner().getName());
+            dto.setOwner(ownerDTO);
+        }
+
+        // Include authorized editors
+        List<UserDTO> editorDTOs = new ArrayList<>();
+        for (User editor : tournament.getAuthorizedEditors()) {
+            UserDTO editorDTO = new UserDTO();
+            editorDTO.setId(editor.getId());
+            editorDTO.setUsername(editor.getUsername());
+            editorDTO.setName(editor.getName());
+            editorDTOs.add(editorDTO);
+        }
+        dto.setAuthorizedEditors(editorDTOs);
+        return dto;
+    }
+
+    // Event summary as listed by /{id}/events
+    private EventDTO toEventDTO(BaseEvent event) {
+        EventDTO dto = new EventDTO();
+        dto.setId(event.getIndex());
+        dto.setName(event.getName());
+
+        // Set event type
+        if (event instanceof SingleElimEvent) {
+            dto.setEventType("SINGLE_ELIM");
+        } else if (event instanceof DoubleElimEvent) {
+            dto.setEventType("DOUBLE_ELIM");
+        } else if (event instanceof RoundRobinEvent) {
+            dto.setEventType("ROUND_ROBIN");
+        } else if (event instanceof SwissEvent) {
+            dto.setEventType("SWISS");
+        }
+
+        // Set match configuration
+        dto.setMatchType(event.getMatchType().name());
+        dto.setGamesPerMatch(event.getGamesPerMatch());
+        dto.setGamesRequiredToWin(event.getGamesRequiredToWin());
+        dto.setInitialized(event.isEventInitialized());
+        dto.setCapacity(event.getCapacity());
+        dto.setAdmittedCount(event.getAdmittedCount());
+        dto.setDrawSeed(event.getDrawSeed());
+        return dto;
+    }
+
+    // Draw of an event as rendered by /draw; drawObject comes from TournamentService.getEventDraw
+    @SuppressWarnings("unchecked")
+    private DrawResponseDTO toDrawResponse(BaseEvent event, Object drawObject) {
+        String eventType;
+        List<List<Object>> dtoDraw = new ArrayList<>();
+
+        if (event instanceof SingleElimEvent || event instanceof SwissEvent) {
+            // Swiss rounds render like bracket rounds: a list of matches per round
+            eventType = event instanceof SwissEvent ? "SWISS" : "SINGLE_ELIM";
+            List<List<Match>> draw = (List<List<Match>>) drawObject;
+            for (List<Match> round : draw) {
+                List<Object> roundDTOs = new ArrayList<>();
+                for (Match match : round) {
+                    MatchDTO dto = createMatchDTO(match, event);
+                    roundDTOs.add(dto);
+                }
+                dtoDraw.add(roundDTOs);
+            }
+        } else if (event instanceof RoundRobinEvent) {
+            eventType = "ROUND_ROBIN";
+            Map<Team, List<Match>> draw = (Map<Team, List<Match>>) drawObject;
+            for (Map.Entry<Team, List<Match>> entry : draw.entrySet()) {
+                Team team = entry.getKey();
+                TeamDTO teamDTO = convertTeamToDTO(team);
+
+                List<Object> teamRow = new ArrayList<>();
+                teamRow.add(teamDTO);
+
+                for (Match match : entry.getValue()) {
+                    MatchDTO dto = createMatchDTO(match, event);
+                    teamRow.add(dto);
+                }
+                dtoDraw.add(teamRow);
+            }
+        } else if (event instanceof DoubleElimEvent doubleElimEvent) {
+            eventType = "DOUBLE_ELIM";
+            Map<String, List<List<Match>>> draw = (Map<String, List<List<Match>>>) drawObject;
+
+            // Create a map to return with winners, losers brackets, and bronze match
+            Map<String, Object> doubleElimDraw = new TreeMap<>();
+
+            // Process winners bracket
+            List<List<MatchDTO>> winnersDTOs = new ArrayList<>();
+            for (List<Match> round : draw.get("winners")) {
+                List<MatchDTO> roundDTOs = new ArrayList<>();
+                for (Match match : round) {
+                    roundDTOs.add(createMatchDTO(match, event));
+                }
+                winnersDTOs.add(roundDTOs);
+            }
+            doubleElimDraw.put("winners", winnersDTOs);
+
+            // Process losers bracket
+            List<List<MatchDTO>> losersDTOs = new ArrayList<>();
+            for (List<Match> round : draw.get("losers")) {
+                List<MatchDTO> roundDTOs = new ArrayList<>();
+                for (Match match : round) {
+                    roundDTOs.add(createMatchDTO(match, event));
+                }
+                losersDTOs.add(roundDTOs);
+            }
+            doubleElimDraw.put("losers", losersDTOs);
+
+            // Add bronze match (3rd/4th place)
+            Match bronzeMatch = doubleElimEvent.getBronzeMatch();
+            if (bronzeMatch != null) {
+                doubleElimDraw.put("bronze", createMatchDTO(bronzeMatch, event));
+            }
+
+            DrawResponseDTO response = new DrawResponseDTO();
+            response.setEventType(eventType);
+            response.setDraw(doubleElimDraw);
+            return response;
+        } else {
+            throw new IllegalArgumentException("Unsupported event type: " + event.getClass().getSimpleName());
+        }
+
+        DrawResponseDTO response = new DrawResponseDTO();
+        response.setEventType(eventType);
+        response.setDraw(dtoDraw);
+        return response;
+    }
+
+    // Helper method to convert a TeamSchedule standings row to StandingDTO
+    private StandingDTO createStandingDTO(TeamSchedule schedule, int position) {
+        StandingDTO dto = new StandingDTO();
+        dto.setPosition(position);
+        dto.setPoolNumber(schedule.getPoolNumber());
+        dto.setTeam(convertTeamToDTO(schedule.getTeam()));
+        dto.setMatchesPlayed(schedule.getMatchesPlayed());
+        dto.setWins(schedule.getWins());
+        dto.setLosses(schedule.getLosses());
+        dto.setGamesWon(schedule.getGamesWon());
+        dto.setGamesLost(schedule.getGamesLost());
+        dto.setGameDifferential(schedule.getGameDifferential());
+        dto.setPointsFor(schedule.getPointsFor());
+        dto.setPointsAgainst(schedule.getPointsAgainst());
+        dto.setPointDifferential(schedule.getPointDifferential());
+        return dto;
+    }
+
     // Helper method to convert Team to TeamDTO
     private TeamDTO convertTeamToDTO(Team team) {
         if (team == null) return null;
@@ -856,6 +1264,25 @@ public class TournamentController {
         }
     }
 
+    /**
+     * Simulated chances of each entrant reaching each stage, finishing in each placement, and
+     * their expected points, from player ratings and the event's current state
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/forecast?simulations=100000
+     * simulations is 10000, 100000 (default) or 1000000; the last is for tournament editors only
+     * Returns: EventForecastDTO (single and double elim events only), or 503 while the forecast pool is full
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/forecast")
+    public ResponseEntity<?> getForecast(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestParam(defaultValue = "" + ForecastService.DEFAULT_SIMULATIONS) int simulations) {
+        try {
+            return ResponseEntity.ok(forecastService.getForecast(tournamentId, eventIndex, simulations, getCurrentUserOrNull()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Calculate and get cumulative tournament points across all events
      * GET /api/tournaments/{tournamentId}/cumulative-points
@@ -912,9 +1339,9 @@ public class TournamentController {
     }
 
     /**
-     * Automatically set seeds from league rankings
+     * Automatically set seeds from league rankings or player ratings
      * POST /api/tournaments/{tournamentId}/event/{eventIndex}/seeds/auto
-     * Body: { "numberOfSeeds": 8 }
+     * Body: { "numberOfSeeds": 8, "source": "RATING" } (source optional: LEAGUE or RATING)
      */
     @PostMapping("/{tournamentId}/event/{eventIndex}/seeds/auto")
     public ResponseEntity<?> setAutoSeeds(
@@ -925,7 +1352,7 @@ public class TournamentController {
             User currentUser = getCurrentUser();
             tournamentService.verifyEditPermission(tournamentId, currentUser);
 
-            tournamentService.setAutoSeeds(tournamentId, eventIndex, request.getNumberOfSeeds());
+            tournamentService.setAutoSeeds(tournamentId, eventIndex, request.getNumberOfSeeds(), request.getSource());
             return ResponseEntity.ok().build();
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -995,9 +1422,9 @@ public class TournamentController {
     }
 
     /**
-     * Automatically set team seeds from league rankings (averaged from both players)
+     * Automatically set team seeds from league rankings or player ratings (averaged from both players)
      * POST /api/tournaments/{tournamentId}/event/{eventIndex}/seeds/teams/auto
-     * Body: { "numberOfSeeds": 8 }
+     * Body: { "numberOfSeeds": 8, "source": "RATING" } (source optional: LEAGUE or RATING)
      */
     @PostMapping("/{tournamentId}/event/{eventIndex}/seeds/teams/auto")
     public ResponseEntity<?> setAutoTeamSeeds(
@@ -1008,7 +1435,7 @@ public class TournamentController {
             User currentUser = getCurrentUser();
             tournamentService.verifyEditPermission(tournamentId, currentUser);
 
-            tournamentService.setAutoTeamSeeds(tournamentId, eventIndex, request.getNumberOfSeeds());
+            tournamentService.setAutoTeamSeeds(tournamentId, eventIndex, request.getNumberOfSeeds(), request.getSource());
             return ResponseEntity.ok().build();
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -1030,8 +1457,338 @@ public class TournamentController {
         }
     }
 
+    // ==================== POOL PLAY ENDPOINTS ====================
+
+    /**
+     * Configure pool play for a round robin event (must be done before initialization)
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/pools
+     * Body: { "poolCount": 4, "qualifiersPerPool": 2 }
+     */
+    @PostMapping("/{tournamentId}/event/{eventIndex}/pools")
+    public ResponseEntity<?> configurePoolPlay(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestBody PoolPlayConfigRequest request) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            tournamentService.configurePoolPlay(tournamentId, eventIndex, request.getPoolCount(), request.getQualifiersPerPool());
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get live standings for every pool of a round robin event
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/pools/standings
+     * Returns: { "poolNumber": [StandingDTO, ...], ... }
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/pools/standings")
+    public ResponseEntity<?> getPoolStandings(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            Map<Integer, List<TeamSchedule>> standings = tournamentService.getPoolStandings(tournamentId, eventIndex);
+            Map<Integer, List<StandingDTO>> response = new TreeMap<>();
+            for (Map.Entry<Integer, List<TeamSchedule>> pool : standings.entrySet()) {
+                List<StandingDTO> rows = new ArrayList<>();
+                for (int i = 0; i < pool.getValue().size(); i++) {
+                    rows.add(createStandingDTO(pool.getValue().get(i), i + 1));
+                }
+                response.put(pool.getKey(), rows);
+            }
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get live standings for a round robin event, ranked with its tiebreak cascade
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/standings
+     * Returns: [StandingDTO, ...] best first (across all pools for pool play)
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/standings")
+    public ResponseEntity<?> getStandings(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            List<TeamSchedule> standings = tournamentService.getStandings(tournamentId, eventIndex);
+            List<StandingDTO> response = new ArrayList<>();
+            for (int i = 0; i < standings.size(); i++) {
+                response.add(createStandingDTO(standings.get(i), i + 1));
+            }
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild standings from completed matches (for results recorded before standings were persisted)
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/standings/recalculate
+     */
+    @PostMapping("/{tournamentId}/event/{eventIndex}/standings/recalculate")
+    public ResponseEntity<?> recalculateStandings(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            tournamentService.recalculateStandings(tournamentId, eventIndex);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get the tiebreak cascade for a round robin event
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/tiebreakers
+     * Returns: ["HEAD_TO_HEAD", "GAME_DIFFERENTIAL", "POINT_DIFFERENTIAL"]
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/tiebreakers")
+    public ResponseEntity<?> getTiebreakers(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            BaseEvent event = tournamentService.getEventsForTournament(tournamentId).get(eventIndex);
+            if (!(event instanceof RoundRobinEvent roundRobin)) {
+                throw new IllegalArgumentException("Tiebreakers are only available for round robin events");
+            }
+            return ResponseEntity.ok(roundRobin.getTiebreakers());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Set the tiebreak cascade for a round robin event
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/tiebreakers
+     * Body: ["HEAD_TO_HEAD", "GAME_DIFFERENTIAL", "POINT_DIFFERENTIAL"]
+     */
+    @PostMapping("/{tournamentId}/event/{eventIndex}/tiebreakers")
+    public ResponseEntity<?> setTiebreakers(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestBody List<String> tiebreakers) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            tournamentService.setTiebreakers(tournamentId, eventIndex, tiebreakers);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Generate a single elimination playoff from the top finishers of each pool
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/pools/playoff
+     * Returns the new playoff event
+     */
+    @PostMapping("/{tournamentId}/event/{eventIndex}/pools/playoff")
+    public ResponseEntity<?> generatePoolPlayoff(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            SingleElimEvent playoff = tournamentService.generatePoolPlayoff(tournamentId, eventIndex);
+            EventDTO dto = new EventDTO();
+            dto.setId(playoff.getIndex());
+            dto.setName(playoff.getName());
+            dto.setEventType("SINGLE_ELIM");
+            dto.setMatchType(playoff.getMatchType().name());
+            dto.setGamesPerMatch(playoff.getGamesPerMatch());
+            dto.setGamesRequiredToWin(playoff.getGamesRequiredToWin());
+            dto.setInitialized(playoff.isEventInitialized());
+            return ResponseEntity.ok(dto);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // ==================== SWISS ENDPOINTS ====================
+
+    /**
+     * Configure the number of rounds for a Swiss event (must be done before initialization)
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/swiss-config
+     * Body: { "numberOfRounds": 7 }  (0 = automatic, ceil(log2(entrants)))
+     */
+    @PostMapping("/{tournamentId}/event/{eventIndex}/swiss-config")
+    public ResponseEntity<?> configureSwissRounds(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestBody SwissConfigRequest request) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            tournamentService.configureSwissRounds(tournamentId, eventIndex, request.getNumberOfRounds());
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get live standings for a Swiss event
+     * GET /api/tournaments/{tournamentId}/event/{eventIndex}/swiss/standings
+     * Returns: [SwissStandingDTO, ...] ordered by score, then Buchholz
+     */
+    @GetMapping("/{tournamentId}/event/{eventIndex}/swiss/standings")
+    public ResponseEntity<?> getSwissStandings(@PathVariable Long tournamentId, @PathVariable int eventIndex) {
+        try {
+            List<SwissStanding> standings = tournamentService.getSwissStandings(tournamentId, eventIndex);
+            List<SwissStandingDTO> response = new ArrayList<>();
+            for (int i = 0; i < standings.size(); i++) {
+                SwissStanding standing = standings.get(i);
+                SwissStandingDTO dto = new SwissStandingDTO();
+                dto.setPosition(i + 1);
+                dto.setTeam(convertTeamToDTO(standing.getTeam()));
+                dto.setScore(standing.getScore());
+                dto.setWins(standing.getWins());
+                dto.setLosses(standing.getLosses());
+                dto.setByes(standing.getByes());
+                dto.setBuchholz(standing.getBuchholz());
+                response.add(dto);
+            }
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // ==================== SCHEDULE ENDPOINTS ====================
+
+    /**
+     * Configure courts, rest and session windows for scheduling
+     * POST /api/tournaments/{tournamentId}/schedule/config
+     * Body: { "courtCount": 6, "minRestMinutes": 30, "minutesPerGame": 20,
+     *         "sessions": [{ "start": "2025-06-07T09:00:00", "end": "2025-06-07T18:00:00" }] }
+     */
+    @PostMapping("/{tournamentId}/schedule/config")
+    public ResponseEntity<?> configureSchedule(
+            @PathVariable Long tournamentId,
+            @RequestBody ScheduleConfigRequest request) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            scheduleService.configureSchedule(tournamentId, request.getCourtCount(), request.getMinRestMinutes(),
+                request.getMinutesPerGame(), request.getSessions());
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get the scheduling configuration
+     * GET /api/tournaments/{tournamentId}/schedule/config
+     */
+    @GetMapping("/{tournamentId}/schedule/config")
+    public ResponseEntity<?> getScheduleConfig(@PathVariable Long tournamentId) {
+        try {
+            Tournament tournament = tournamentService.getTournament(tournamentId);
+            ScheduleConfigRequest response = new ScheduleConfigRequest(tournament.getCourtCount(),
+                tournament.getMinRestMinutes(), tournament.getMinutesPerGame(), tournament.getSessions());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Assign a court and start time to every unplayed match
+     * POST /api/tournaments/{tournamentId}/schedule
+     * Matches already played or on court keep their slot. After this, the schedule
+     * is updated automatically as each result is recorded.
+     */
+    @PostMapping("/{tournamentId}/schedule")
+    public ResponseEntity<?> generateSchedule(@PathVariable Long tournamentId) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            List<Match> schedule = scheduleService.generateSchedule(tournamentId);
+            return ResponseEntity.ok(createScheduleResponse(schedule));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get the order of play
+     * GET /api/tournaments/{tournamentId}/schedule
+     * Returns: [ScheduledMatchDTO, ...] ordered by start time, then court
+     */
+    @GetMapping("/{tournamentId}/schedule")
+    public ResponseEntity<?> getSchedule(@PathVariable Long tournamentId) {
+        try {
+            List<Match> schedule = scheduleService.getSchedule(tournamentId);
+            return ResponseEntity.ok(createScheduleResponse(schedule));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Projected finish time of each event and of the whole tournament
+     * GET /api/tournaments/{tournamentId}/timeline
+     * Returns: TimelineDTO with the event holding up the day and its critical path of match ids
+     */
+    @GetMapping("/{tournamentId}/timeline")
+    public ResponseEntity<?> getTimeline(@PathVariable Long tournamentId) {
+        try {
+            return ResponseEntity.ok(scheduleService.getTimeline(tournamentId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Helper method to convert scheduled matches to ScheduledMatchDTOs
+    private List<ScheduledMatchDTO> createScheduleResponse(List<Match> schedule) {
+        List<ScheduledMatchDTO> response = new ArrayList<>();
+        for (Match match : schedule) {
+            BaseEvent event = match.getEvent();
+            ScheduledMatchDTO dto = new ScheduledMatchDTO();
+            dto.setEventIndex(event.getIndex());
+            dto.setEventName(event.getName());
+            dto.setCourt(match.getCourt());
+            dto.setScheduledStart(match.getScheduledStart());
+            dto.setEstimatedEnd(match.getScheduledStart()
+                .plusMinutes(scheduleService.estimateDuration(event.getTournament(), event)));
+            dto.setMatch(createMatchDTO(match, event));
+            response.add(dto);
+        }
+        return response;
+    }
+
     // ==================== EVENT REGISTRATION ENDPOINTS ====================
 
+    /**
+     * Set how many players can take a place through signup (moderators only)
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/capacity
+     * Body: { "capacity": 64 }  (0 = unlimited)
+     * Signups beyond the capacity are waitlisted and promoted in order as places free up.
+     */
+    @PostMapping("/{tournamentId}/event/{eventIndex}/capacity")
+    public ResponseEntity<?> setEventCapacity(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestBody Map<String, Integer> request) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            Integer capacity = request.get("capacity");
+            if (capacity == null) {
+                return ResponseEntity.badRequest().body("capacity is required");
+            }
+            tournamentService.setEventCapacity(tournamentId, eventIndex, capacity);
+            return ResponseEntity.ok().build();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Sign up for an event (any authenticated user)
      * POST /api/tournaments/{tournamentId}/event/{eventIndex}/signup
@@ -1047,6 +1804,7 @@ public class TournamentController {
             EventRegistration registration = tournamentService.signUpForEvent(tournamentId, eventIndex, currentUser, desiredPartner);
 
             EventRegistrationDTO dto = new EventRegistrationDTO(registration);
+            dto.setWaitlistPosition(tournamentService.getWaitlistPosition(registration));
             return ResponseEntity.ok(dto);
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -1055,7 +1813,8 @@ public class TournamentController {
 
     /**
      * Sign up for an event as a guest (without authentication)
-     * Creates a temporary guest account automatically
+     * Creates a guest identity automatically; the response carries a claim token
+     * that can later be used to move the entry into a real account
      * POST /api/tournaments/{tournamentId}/event/{eventIndex}/signup/guest
      */
     @PostMapping("/{tournamentId}/event/{eventIndex}/signup/guest")
@@ -1069,23 +1828,16 @@ public class TournamentController {
                 return ResponseEntity.badRequest().body("Full name is required for guest signup");
             }
 
-            // Create guest user with auto-generated credentials
-            String guestUsername = "guest_" + UUID.randomUUID().toString() + "@temporary.local";
-            String randomPassword = UUID.randomUUID().toString();
-
-            User guestUser = new User();
-            guestUser.setUsername(guestUsername);
-            guestUser.setName(request.getFullName().trim());
-            guestUser.setPassword(passwordEncoder.encode(randomPassword));
-
-            // Save guest user
-            userRepository.save(guestUser);
+            // Lightweight guest identity: no password to hash
+            GuestService.GuestIdentity guest = guestService.createGuest(request.getFullName());
 
             // Sign up for event
             String desiredPartner = request.getDesiredPartner();
-            EventRegistration registration = tournamentService.signUpForEvent(tournamentId, eventIndex, guestUser, desiredPartner);
+            EventRegistration registration = tournamentService.signUpForEvent(tournamentId, eventIndex, guest.getUser(), desiredPartner);
 
             EventRegistrationDTO dto = new EventRegistrationDTO(registration);
+            dto.setWaitlistPosition(tournamentService.getWaitlistPosition(registration));
+            dto.setGuestClaimToken(guest.getClaimToken());
             return ResponseEntity.ok(dto);
         } catch (IllegalArgumentException | IllegalStateException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -1192,6 +1944,28 @@ public class TournamentController {
         }
     }
 
+    /**
+     * Import a roster of entrants from CSV (moderators only)
+     * POST /api/tournaments/{tournamentId}/event/{eventIndex}/roster/import
+     * Body (text/csv): one username per line, or a header row with a "username" or "email" column
+     * Returns: RosterImportResultDTO with counts, any usernames that have no account and any left on the waitlist
+     */
+    @PostMapping(value = "/{tournamentId}/event/{eventIndex}/roster/import", consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<?> importRoster(
+            @PathVariable Long tournamentId,
+            @PathVariable int eventIndex,
+            @RequestBody String csv) {
+        try {
+            User currentUser = getCurrentUser();
+            tournamentService.verifyEditPermission(tournamentId, currentUser);
+
+            RosterImportResultDTO result = tournamentService.importRoster(tournamentId, eventIndex, csv, currentUser);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Reject a registration (moderators only)
      * POST /api/tournaments/{tournamentId}/event/{eventIndex}/registrations/{registrationId}/reject
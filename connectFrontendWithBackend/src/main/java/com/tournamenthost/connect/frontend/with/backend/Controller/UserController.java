@@ -1,16 +1,24 @@
 package com.tournamenthost.connect.frontend.with.backend.Controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import com.tournamenthost.connect.frontend.with.backend.DTO.HeadToHeadDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.PlayerStatsDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.RegisterUserDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.UserDTO;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Service.GuestService;
+import com.tournamenthost.connect.frontend.with.backend.Service.HeadToHeadService;
 import com.tournamenthost.connect.frontend.with.backend.Service.UserService;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -20,6 +28,12 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private HeadToHeadService headToHeadService;
+
     @GetMapping("/me")
     public ResponseEntity<UserDTO> authenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -29,6 +43,8 @@ public class UserController {
         userDTO.setId(currentUser.getId());
         userDTO.setName(currentUser.getName());
         userDTO.setUsername(currentUser.getUsername());
+        userDTO.setClub(currentUser.getClub());
+        userDTO.setRegion(currentUser.getRegion());
         // Add other fields as needed
 
         return ResponseEntity.ok(userDTO);
@@ -39,20 +55,84 @@ public class UserController {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         User currentUser = (User) authentication.getPrincipal();
 
-        User updatedUser = userService.setUser(currentUser, updatedUserDTO.getUsername(), updatedUserDTO.getName(), updatedUserDTO.getPassword());
+        User updatedUser = userService.setUser(currentUser, updatedUserDTO.getUsername(), updatedUserDTO.getName(),
+            updatedUserDTO.getPassword(), updatedUserDTO.getClub(), updatedUserDTO.getRegion());
 
         UserDTO userDTO = new UserDTO();
         userDTO.setId(updatedUser.getId());
         userDTO.setName(updatedUser.getName());
         userDTO.setUsername(updatedUser.getUsername());
+        userDTO.setClub(updatedUser.getClub());
+        userDTO.setRegion(updatedUser.getRegion());
         // Add other fields as needed
 
         return ResponseEntity.ok(userDTO);
     }
 
+    /**
+     * Move a guest signup into the logged-in account
+     * POST /api/users/me/claim-guest
+     * Body: { "claimToken": "..." } (the token returned by guest signup)
+     */
+    @PostMapping("/me/claim-guest")
+    public ResponseEntity<?> claimGuest(@RequestBody Map<String, String> body) {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            User currentUser = (User) authentication.getPrincipal();
+
+            int claimed = guestService.claimGuest(body.get("claimToken"), currentUser);
+            return ResponseEntity.ok(Map.of("claimedRegistrations", claimed));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UserDTO> getUser(@PathVariable Long id) {
         UserDTO userDTO = userService.getUserWithTournamentsAndMatches(id);
         return ResponseEntity.ok(userDTO);
     }
+
+    /**
+     * Get a player's match, game and point record, streaks and titles
+     * GET /api/users/{id}/stats
+     * GET /api/users/{id}/stats?leagueId={leagueId} (only results in that league)
+     */
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<?> getPlayerStats(@PathVariable Long id, @RequestParam(required = false) Long leagueId) {
+        try {
+            PlayerStatsDTO stats = userService.getPlayerStats(id, leagueId);
+            return ResponseEntity.ok(stats);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Get a player's record against an opponent, with their most recent meetings
+     * GET /api/users/{id}/head-to-head/{opponentId}?limit=10
+     * For doubles, add partnerId and opponentPartnerId to compare the two pairings.
+     */
+    @GetMapping("/{id}/head-to-head/{opponentId}")
+    public ResponseEntity<?> getHeadToHead(
+            @PathVariable Long id,
+            @PathVariable Long opponentId,
+            @RequestParam(required = false) Long partnerId,
+            @RequestParam(required = false) Long opponentPartnerId,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<Long> side = new ArrayList<>(List.of(id));
+            List<Long> opponent = new ArrayList<>(List.of(opponentId));
+            if (partnerId != null) {
+                side.add(partnerId);
+            }
+            if (opponentPartnerId != null) {
+                opponent.add(opponentPartnerId);
+            }
+            HeadToHeadDTO record = headToHeadService.getHeadToHead(side, opponent, limit);
+            return ResponseEntity.ok(record);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 }
\ No newline at end of file
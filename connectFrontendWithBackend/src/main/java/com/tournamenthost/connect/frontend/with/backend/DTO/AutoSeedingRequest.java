@@ -1,10 +1,14 @@
 package com.tournamenthost.connect.frontend.with.backend.DTO;
 
+import com.tournamenthost.connect.frontend.with.backend.Model.SeedingSource;
+
 /**
- * DTO for automatically seeding players from league rankings
+ * DTO for automatically seeding players from league rankings or player ratings
+ * source is optional: without it, league tournaments seed from the league and others from ratings.
  */
 public class AutoSeedingRequest {
     private int numberOfSeeds;
+    private SeedingSource source;
 
     public AutoSeedingRequest() {
     }
@@ -20,4 +24,12 @@ public class AutoSeedingRequest {
     public void setNumberOfSeeds(int numberOfSeeds) {
         this.numberOfSeeds = numberOfSeeds;
     }
+
+    public SeedingSource getSource() {
+        return source;
+    }
+
+    public void setSource(SeedingSource source) {
+        this.source = source;
+    }
 }
@@ -0,0 +1,17 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrawPreviewDTO {
+    private long seed; // Initialize the event with this draw seed to get this draw
+    private int bracketSize;
+    private List<UserDTO> players; // Singles: first-round positions (A, B, A, B, ...), null for a bye
+    private List<TeamDTO> teams; // Doubles: first-round positions, as for players
+}
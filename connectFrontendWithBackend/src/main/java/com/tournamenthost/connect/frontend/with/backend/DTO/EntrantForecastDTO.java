@@ -0,0 +1,20 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntrantForecastDTO {
+    private UserDTO player; // Singles entrant, null for teams
+    private TeamDTO team; // Doubles entrant, null for singles
+    private double rating; // Rating the simulation used (partners' mean for teams)
+    private List<Double> reach; // Probability of playing in each stage, aligned with EventForecastDTO.stages
+    private Map<String, Double> placements; // Placement -> probability of finishing there
+    private double expectedPoints;
+}
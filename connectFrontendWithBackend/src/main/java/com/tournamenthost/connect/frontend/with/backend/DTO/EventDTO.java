@@ -15,4 +15,7 @@ public class EventDTO {
     private int gamesPerMatch;
     private int gamesRequiredToWin;
     private boolean initialized;
+    private int capacity;      // 0 = unlimited
+    private int admittedCount; // Signup places taken (pending + approved)
+    private Long drawSeed;     // Seed the draw was made with, once initialized
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventForecastDTO {
+    private int version; // Event's result log sequence the forecast was run at
+    private int simulations;
+    private List<String> stages; // "Round 1", ... or "Winners 1", ..., "Losers 1", ..., "Bronze"
+    private List<String> placements; // Placements the event awards, as in the points distribution
+    private List<EntrantForecastDTO> entrants; // Highest expected points first
+}
@@ -0,0 +1,19 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPageDTO {
+    private int index;
+    private EventDTO event;
+    private DrawResponseDTO draw; // Null until the event is initialized
+    private PointsDistributionDTO pointsDistribution;
+    private Map<Long, Integer> seeds; // User ID -> seed
+    private Map<Long, Integer> teamSeeds; // Team ID -> seed
+}
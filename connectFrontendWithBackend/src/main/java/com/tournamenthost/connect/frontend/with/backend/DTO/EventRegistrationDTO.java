@@ -17,6 +17,8 @@ public class EventRegistrationDTO {
     private Date reviewedAt;
     private UserDTO reviewedBy;
     private String desiredPartner;
+    private Integer waitlistPosition; // Only set for WAITLISTED registrations
+    private String guestClaimToken; // Only set in the response to a guest signup
 
     public EventRegistrationDTO() {
     }
@@ -121,4 +123,20 @@ public class EventRegistrationDTO {
     public void setDesiredPartner(String desiredPartner) {
         this.desiredPartner = desiredPartner;
     }
+
+    public Integer getWaitlistPosition() {
+        return waitlistPosition;
+    }
+
+    public void setWaitlistPosition(Integer waitlistPosition) {
+        this.waitlistPosition = waitlistPosition;
+    }
+
+    public String getGuestClaimToken() {
+        return guestClaimToken;
+    }
+
+    public void setGuestClaimToken(String guestClaimToken) {
+        this.guestClaimToken = guestClaimToken;
+    }
 }
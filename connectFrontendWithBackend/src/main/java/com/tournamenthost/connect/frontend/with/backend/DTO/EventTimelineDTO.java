@@ -0,0 +1,20 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventTimelineDTO {
+    private int eventIndex;
+    private String eventName;
+    private int remainingMatches;
+    private LocalDateTime earliestFinish;  // Critical-path lower bound, ignoring court availability
+    private LocalDateTime scheduledFinish; // End of the last scheduled match, if the tournament is scheduled
+    private List<Long> criticalPath;       // Match ids of the unplayed chain that decides earliestFinish
+}
@@ -0,0 +1,22 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadToHeadDTO {
+    private List<Long> side; // player ids of the side asked about
+    private List<Long> opponent;
+    private int wins;
+    private int losses;
+    private int gamesWon;
+    private int gamesLost;
+    private int pointsWon;
+    private int pointsLost;
+    private List<HeadToHeadMeetingDTO> meetings; // most recent first
+}
@@ -0,0 +1,20 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeadToHeadMeetingDTO {
+    private Long matchId;
+    private boolean won;
+    private int gamesWon;
+    private int gamesLost;
+    private int pointsWon;
+    private int pointsLost;
+    private LocalDateTime playedAt;
+}
@@ -0,0 +1,24 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Live state of a match being scored point by point, as pushed to watchers
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveScoreDTO {
+    private Long matchId;
+    private long version;           // Increases with every point, so watchers can drop stale updates
+    private int gameNumber;         // 1-based game in progress
+    private List<List<Integer>> games; // [sideA, sideB] points of every game so far, current one last
+    private int sideAGamesWon;
+    private int sideBGamesWon;
+    private boolean completed;
+    private Long winnerId;          // User id (singles) or team id (doubles) once completed
+}
@@ -0,0 +1,17 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Scoring rules for a live-scored match; anything left null takes the default
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveScoreStartRequest {
+    private Integer pointsToWin; // Default 21
+    private Integer winBy;       // Default 2
+    private Integer pointCap;    // Default 30; a game ends at the cap whatever the margin (0 = no cap)
+}
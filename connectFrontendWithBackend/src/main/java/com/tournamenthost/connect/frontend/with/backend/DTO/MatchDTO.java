@@ -3,6 +3,7 @@ package com.tournamenthost.connect.frontend.with.backend.DTO;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -26,4 +27,8 @@ public class MatchDTO {
     private List<Integer> score;
 
     private boolean completed;
+
+    // Court schedule (null until the tournament has been scheduled)
+    private LocalDateTime scheduledStart;
+    private Integer court;
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A match as rebuilt from the result log; sides and winner are user ids (singles) or team ids (doubles)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchStateDTO {
+    private Long matchId;
+    private Long sideA;
+    private Long sideB;
+    private Long winner;
+    private boolean completed;
+    private List<Integer> score;
+}
@@ -0,0 +1,23 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerStatsDTO {
+    private Long playerId;
+    private Long leagueId; // null for career totals
+    private int matchesPlayed;
+    private int matchesWon;
+    private int matchesLost;
+    private int gamesWon;
+    private int gamesLost;
+    private int pointsWon;
+    private int pointsLost;
+    private int currentStreak; // positive for wins in a row, negative for losses
+    private int longestWinStreak;
+    private int titles;
+}
@@ -0,0 +1,13 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoolPlayConfigRequest {
+    private int poolCount; // 1 = classic round robin, K > 1 = K snake-seeded pools
+    private int qualifiersPerPool; // top N per pool advancing to the playoff, 0 = no playoff
+}
@@ -4,6 +4,8 @@ public class RegisterUserDTO {
     private String username;
     private String password;
     private String name;
+    private String club;
+    private String region;
 
     public RegisterUserDTO() {}
 
@@ -36,4 +38,20 @@ public class RegisterUserDTO {
     public void setName(String name) {
         this.name = name;
     }
+
+    public String getClub() {
+        return club;
+    }
+
+    public void setClub(String club) {
+        this.club = club;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
 }
\ No newline at end of file
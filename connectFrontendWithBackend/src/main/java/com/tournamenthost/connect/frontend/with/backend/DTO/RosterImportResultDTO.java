@@ -0,0 +1,17 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterImportResultDTO {
+    private int added;             // Entrants added to the event
+    private int alreadyEntered;    // Rows for players already in the event
+    private List<String> notFound; // Usernames with no matching account
+    private List<String> waitlisted; // Waitlisted players left in line because the event is full
+}
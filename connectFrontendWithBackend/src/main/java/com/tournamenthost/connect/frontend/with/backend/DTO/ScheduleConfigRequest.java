@@ -0,0 +1,19 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import java.util.List;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.SessionWindow;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleConfigRequest {
+    private int courtCount;
+    private int minRestMinutes = 30;
+    private int minutesPerGame = 20;
+    private List<SessionWindow> sessions; // [{ "start": "2025-06-07T09:00:00", "end": "2025-06-07T18:00:00" }, ...]
+}
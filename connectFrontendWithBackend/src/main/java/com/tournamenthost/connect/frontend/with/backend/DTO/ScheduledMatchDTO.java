@@ -0,0 +1,19 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledMatchDTO {
+    private int eventIndex;
+    private String eventName;
+    private Integer court;
+    private LocalDateTime scheduledStart;
+    private LocalDateTime estimatedEnd;
+    private MatchDTO match;
+}
@@ -0,0 +1,23 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StandingDTO {
+    private int position; // 1-based position within the pool
+    private int poolNumber;
+    private TeamDTO team;
+    private int matchesPlayed;
+    private int wins;
+    private int losses;
+    private int gamesWon;
+    private int gamesLost;
+    private int gameDifferential;
+    private int pointsFor;
+    private int pointsAgainst;
+    private int pointDifferential;
+}
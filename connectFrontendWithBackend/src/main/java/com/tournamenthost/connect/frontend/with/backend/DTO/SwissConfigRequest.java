@@ -0,0 +1,12 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwissConfigRequest {
+    private int numberOfRounds; // 0 = automatic, ceil(log2(entrants))
+}
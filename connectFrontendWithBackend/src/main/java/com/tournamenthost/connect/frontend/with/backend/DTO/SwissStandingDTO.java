@@ -0,0 +1,18 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SwissStandingDTO {
+    private int position; // 1-based position in the standings
+    private TeamDTO team;
+    private int score; // one point per win or bye
+    private int wins;
+    private int losses;
+    private int byes;
+    private int buchholz; // sum of opponents' scores
+}
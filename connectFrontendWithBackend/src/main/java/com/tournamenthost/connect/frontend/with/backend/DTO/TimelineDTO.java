@@ -0,0 +1,19 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineDTO {
+    private LocalDateTime asOf;
+    private LocalDateTime earliestFinish;
+    private Integer bottleneckEventIndex; // Event finishing last, i.e. the one holding up the day
+    private String bottleneckEventName;
+    private List<EventTimelineDTO> events;
+}
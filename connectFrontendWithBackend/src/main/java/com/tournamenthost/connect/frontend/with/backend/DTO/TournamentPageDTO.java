@@ -0,0 +1,17 @@
+package com.tournamenthost.connect.frontend.with.backend.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TournamentPageDTO {
+    private String version; // Changes whenever anything on the page does; also sent as the ETag
+    private TournamentDTO tournament; // Details with owner and editors
+    private List<UserDTO> users; // Everyone entered in any event
+    private List<EventPageDTO> events; // In event index order
+}
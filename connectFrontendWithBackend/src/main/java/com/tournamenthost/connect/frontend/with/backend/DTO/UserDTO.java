@@ -6,6 +6,8 @@ public class UserDTO implements Comparable<UserDTO>{
     private Long id;
     private String username;
     private String name;
+    private String club;
+    private String region;
     private List<TournamentDTO> tournaments;
 
     public UserDTO() {}
@@ -41,6 +43,22 @@ public class UserDTO implements Comparable<UserDTO>{
         this.name = name;
     }
 
+    public String getClub() {
+        return club;
+    }
+
+    public void setClub(String club) {
+        this.club = club;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
     public List<TournamentDTO> getTournaments() {
         return tournaments;
     }
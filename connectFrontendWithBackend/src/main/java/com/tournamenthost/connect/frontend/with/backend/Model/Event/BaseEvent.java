@@ -166,6 +166,56 @@ public abstract class BaseEvent implements Event {
         this.gamesRequiredToWin = gamesRequiredToWin;
     }
 
+    // Signup capacity: 0 means unlimited
+    @Column(columnDefinition = "integer default 0")
+    private int capacity = 0;
+
+    // Slots held by pending and approved registrations. Only ever changed by the
+    // conditional UPDATEs in EventRepository, never by saving the entity, so a
+    // stale copy of the event can't overwrite a concurrent signup's increment
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private int admittedCount = 0;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        if (this.initialized) {
+            throw new IllegalStateException("Cannot change capacity after event has been initialized");
+        }
+        this.capacity = capacity;
+    }
+
+    public int getAdmittedCount() {
+        return admittedCount;
+    }
+
+    public boolean hasCapacityLimit() {
+        return capacity > 0;
+    }
+
+    // Last sequence number handed out to this event's result log. Bumped with an
+    // UPDATE ... RETURNING in ResultLogService so concurrent scorers never share one
+    @Column(columnDefinition = "integer default 0", insertable = false, updatable = false)
+    private int resultLogSequence = 0;
+
+    public int getResultLogSequence() {
+        return resultLogSequence;
+    }
+
+    // Seed of the random draw the event was initialized with; the same seed, entrants and
+    // seeds give the same bracket. Cleared when the event is deinitialized
+    private Long drawSeed;
+
+    public Long getDrawSeed() {
+        return drawSeed;
+    }
+
+    public void setDrawSeed(Long drawSeed) {
+        this.drawSeed = drawSeed;
+    }
+
     // Seeding system: Maps User ID to their seed number (1 = first seed, 2 = second seed, etc.)
     @ElementCollection
     @CollectionTable(name = "event_seeds", joinColumns = @JoinColumn(name = "event_id"))
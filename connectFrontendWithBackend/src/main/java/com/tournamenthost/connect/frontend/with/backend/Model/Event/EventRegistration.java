@@ -11,7 +11,8 @@ import java.util.Date;
  * Players can sign up, but must be approved by tournament owners/moderators
  */
 @Entity
-@Table(name = "event_registrations")
+@Table(name = "event_registrations",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "user_id"}))
 public class EventRegistration {
 
     @Id
@@ -120,8 +121,16 @@ public class EventRegistration {
     }
 
     public enum RegistrationStatus {
-        PENDING,    // Waiting for approval
+        PENDING,    // Waiting for approval (holds one of the event's capacity slots)
         APPROVED,   // Approved and added to event
-        REJECTED    // Rejected by moderator
+        REJECTED,   // Rejected by moderator
+        WAITLISTED; // Event was full at signup; promoted to PENDING in signup order as slots free up
+
+        /**
+         * Whether a registration in this status counts against the event's capacity
+         */
+        public boolean holdsSlot() {
+            return this == PENDING || this == APPROVED;
+        }
     }
 }
@@ -3,5 +3,6 @@ package com.tournamenthost.connect.frontend.with.backend.Model.Event;
 public enum EventType {
     SINGLE_ELIM,
     ROUND_ROBIN,
-    DOUBLE_ELIM
+    DOUBLE_ELIM,
+    SWISS
 }
\ No newline at end of file
@@ -6,9 +6,16 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
 import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
 
 @Entity
 @DiscriminatorValue("ROUND_ROBIN")
@@ -17,6 +24,76 @@ public class RoundRobinEvent extends BaseEvent {
     @JsonIgnore  // Prevent circular reference when serializing event
     private List<TeamSchedule> teamSchedules;
 
+    // Pool play: entrants are snake-seeded into this many groups (1 = classic single pool)
+    @Column(name = "pool_count", columnDefinition = "integer default 1")
+    private int poolCount = 1;
+
+    // Top N finishers of every pool that feed the generated playoff (0 = no playoff)
+    @Column(name = "playoff_qualifiers_per_pool", columnDefinition = "integer default 0")
+    private int playoffQualifiersPerPool = 0;
+
+    // Index of the generated single elimination playoff event, null until generated
+    @Column(name = "playoff_event_index")
+    private Integer playoffEventIndex;
+
+    public int getPoolCount() {
+        return poolCount;
+    }
+
+    public void setPoolCount(int poolCount) {
+        if (isEventInitialized()) {
+            throw new IllegalStateException("Cannot change pool count after event has been initialized");
+        }
+        this.poolCount = poolCount;
+    }
+
+    public int getPlayoffQualifiersPerPool() {
+        return playoffQualifiersPerPool;
+    }
+
+    public void setPlayoffQualifiersPerPool(int playoffQualifiersPerPool) {
+        if (isEventInitialized()) {
+            throw new IllegalStateException("Cannot change playoff qualifiers after event has been initialized");
+        }
+        this.playoffQualifiersPerPool = playoffQualifiersPerPool;
+    }
+
+    public Integer getPlayoffEventIndex() {
+        return playoffEventIndex;
+    }
+
+    public void setPlayoffEventIndex(Integer playoffEventIndex) {
+        this.playoffEventIndex = playoffEventIndex;
+    }
+
+    public boolean isPoolPlay() {
+        return poolCount > 1;
+    }
+
+    // Tiebreak cascade applied to teams level on wins, in priority order
+    @ElementCollection
+    @CollectionTable(name = "event_tiebreakers", joinColumns = @JoinColumn(name = "event_id"))
+    @OrderColumn(name = "priority")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule")
+    private List<TiebreakRule> tiebreakers;
+
+    public static List<TiebreakRule> defaultTiebreakers() {
+        return List.of(TiebreakRule.HEAD_TO_HEAD, TiebreakRule.GAME_DIFFERENTIAL, TiebreakRule.POINT_DIFFERENTIAL);
+    }
+
+    public List<TiebreakRule> getTiebreakers() {
+        // Events created before tiebreakers were configurable use the default cascade
+        if (tiebreakers == null || tiebreakers.isEmpty()) {
+            return defaultTiebreakers();
+        }
+        return tiebreakers;
+    }
+
+    public void setTiebreakers(List<TiebreakRule> tiebreakers) {
+        this.tiebreakers = new ArrayList<>(tiebreakers);
+    }
+
     public List<TeamSchedule> getTeamSchedules() {
         return teamSchedules;
     }
@@ -34,10 +111,12 @@ public class RoundRobinEvent extends BaseEvent {
     public RoundRobinEvent() {
         super();
         this.teamSchedules = new ArrayList<>();
+        this.tiebreakers = new ArrayList<>(defaultTiebreakers());
     }
 
     public RoundRobinEvent(String name, List<User> players, Tournament tournament, int index) {
         super(name, players, tournament, index);
         this.teamSchedules = new ArrayList<>();
+        this.tiebreakers = new ArrayList<>(defaultTiebreakers());
     }
 }
\ No newline at end of file
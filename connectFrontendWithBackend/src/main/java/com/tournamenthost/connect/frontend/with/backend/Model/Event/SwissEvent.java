@@ -0,0 +1,81 @@
+package com.tournamenthost.connect.frontend.with.backend.Model.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+
+/**
+ * Swiss-system event
+ * Every entrant plays every round against an opponent on the same score,
+ * never meeting the same opponent twice. Nobody is eliminated.
+ */
+@Entity
+@DiscriminatorValue("SWISS")
+public class SwissEvent extends BaseEvent {
+
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("roundNumber ASC")
+    private List<SwissRound> rounds;
+
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonIgnore  // Prevent circular reference when serializing event
+    private List<SwissStanding> standings;
+
+    /**
+     * Number of rounds to play
+     * 0 means automatic: ceil(log2(entrants)) rounds, enough to leave a single unbeaten entrant
+     */
+    @Column(name = "swiss_rounds", columnDefinition = "integer default 0")
+    private int numberOfRounds = 0;
+
+    public List<SwissRound> getRounds() {
+        return rounds;
+    }
+
+    public void addRound(SwissRound round) {
+        rounds.add(round);
+    }
+
+    public SwissRound getCurrentRound() {
+        return rounds.isEmpty() ? null : rounds.get(rounds.size() - 1);
+    }
+
+    public List<SwissStanding> getStandings() {
+        return standings;
+    }
+
+    public void addStanding(SwissStanding standing) {
+        standings.add(standing);
+    }
+
+    public int getNumberOfRounds() {
+        return numberOfRounds;
+    }
+
+    public void setNumberOfRounds(int numberOfRounds) {
+        if (isEventInitialized()) {
+            throw new IllegalStateException("Cannot change number of rounds after event has been initialized");
+        }
+        this.numberOfRounds = numberOfRounds;
+    }
+
+    public SwissEvent() {
+        super();
+        this.rounds = new ArrayList<>();
+        this.standings = new ArrayList<>();
+    }
+
+    public SwissEvent(String name, List<User> players, Tournament tournament, int index) {
+        super(name, players, tournament, index);
+        this.rounds = new ArrayList<>();
+        this.standings = new ArrayList<>();
+    }
+}
@@ -0,0 +1,66 @@
+package com.tournamenthost.connect.frontend.with.backend.Model.Event;
+
+import jakarta.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+
+/**
+ * Represents one round of a Swiss-system event
+ * A bye, when the entrant count is odd, is stored as a completed match with only teamA
+ */
+@Entity
+@Table(name = "swiss_rounds")
+public class SwissRound {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToMany(cascade = CascadeType.ALL)
+    @OrderColumn(name = "match_position")
+    private List<Match> matches;
+
+    // Round number starting at 1
+    private int roundNumber;
+
+    @ManyToOne
+    @JoinColumn(name = "event_id")
+    private SwissEvent event;
+
+    public SwissRound() {
+        this.matches = new ArrayList<>();
+    }
+
+    public SwissRound(SwissEvent event, int roundNumber) {
+        this.event = event;
+        this.roundNumber = roundNumber;
+        this.matches = new ArrayList<>();
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+
+    public List<Match> getMatches() { return matches; }
+    public void setMatches(List<Match> matches) { this.matches = matches; }
+
+    public int getRoundNumber() { return roundNumber; }
+    public void setRoundNumber(int roundNumber) { this.roundNumber = roundNumber; }
+
+    public SwissEvent getEvent() {
+        return event;
+    }
+
+    public void setEvent(SwissEvent event) {
+        this.event = event;
+    }
+
+    public boolean isComplete() {
+        for (Match match : matches) {
+            if (!match.isCompleted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
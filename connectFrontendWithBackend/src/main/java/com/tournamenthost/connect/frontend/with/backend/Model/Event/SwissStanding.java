@@ -0,0 +1,145 @@
+package com.tournamenthost.connect.frontend.with.backend.Model.Event;
+
+import java.util.HashSet;
+import java.util.Set;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import jakarta.persistence.*;
+
+/**
+ * Running standing of one entrant in a Swiss-system event
+ * Score and Buchholz are maintained incrementally as rounds are paired and results recorded.
+ */
+@Entity
+@Table(name = "swiss_standings")
+public class SwissStanding {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "team_id")
+    private Team team;
+
+    @ManyToOne
+    @JoinColumn(name = "event_id")
+    @JsonIgnore  // Prevent circular reference: SwissStanding -> Event -> standings
+    private SwissEvent event;
+
+    // Starting rank from seeding (1 = top seed), used as the final tiebreak
+    @Column(name = "initial_rank")
+    private int initialRank;
+
+    // Match points: one per win, one per bye
+    private int score = 0;
+
+    private int wins = 0;
+    private int losses = 0;
+    private int byes = 0;
+
+    // Times played as teamA minus times played as teamB, kept close to zero when pairing
+    @Column(name = "side_balance")
+    private int sideBalance = 0;
+
+    // Sum of the current scores of every opponent faced (Buchholz / SOS)
+    private int buchholz = 0;
+
+    // Teams already faced, so they are never paired again
+    @ElementCollection
+    @CollectionTable(name = "swiss_standing_opponents", joinColumns = @JoinColumn(name = "standing_id"))
+    @Column(name = "opponent_team_id")
+    private Set<Long> opponentTeamIds;
+
+    public SwissStanding() {
+        this.opponentTeamIds = new HashSet<>();
+    }
+
+    public SwissStanding(Team team, SwissEvent event, int initialRank) {
+        this.team = team;
+        this.event = event;
+        this.initialRank = initialRank;
+        this.opponentTeamIds = new HashSet<>();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public SwissEvent getEvent() {
+        return event;
+    }
+
+    public int getInitialRank() {
+        return initialRank;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public int getByes() {
+        return byes;
+    }
+
+    public boolean hasHadBye() {
+        return byes > 0;
+    }
+
+    public int getSideBalance() {
+        return sideBalance;
+    }
+
+    public int getBuchholz() {
+        return buchholz;
+    }
+
+    public Set<Long> getOpponentTeamIds() {
+        return opponentTeamIds;
+    }
+
+    public boolean hasPlayed(Team opponent) {
+        return opponentTeamIds.contains(opponent.getId());
+    }
+
+    /**
+     * Record a pairing against an opponent; their current score joins this Buchholz
+     */
+    public void recordPairing(SwissStanding opponent, boolean asTeamA) {
+        opponentTeamIds.add(opponent.getTeam().getId());
+        buchholz += opponent.getScore();
+        sideBalance += asTeamA ? 1 : -1;
+    }
+
+    public void recordWin() {
+        wins++;
+        score++;
+    }
+
+    public void recordLoss() {
+        losses++;
+    }
+
+    public void recordBye() {
+        byes++;
+        score++;
+    }
+
+    /**
+     * An opponent's score changed, so this Buchholz moves with it
+     */
+    public void adjustBuchholz(int delta) {
+        buchholz += delta;
+    }
+}
@@ -31,6 +31,29 @@ public class TeamSchedule {
     @JsonIgnore  // Prevent circular reference: TeamSchedule -> Match -> potentially back to schedule
     private Set<Match> matches;
 
+    // Pool this team plays in (1-based); always 1 for a classic single-pool round robin
+    @Column(name = "pool_number", columnDefinition = "integer default 1")
+    private int poolNumber = 1;
+
+    // Running standings, updated as each result is recorded
+    @Column(columnDefinition = "integer default 0")
+    private int wins = 0;
+
+    @Column(columnDefinition = "integer default 0")
+    private int losses = 0;
+
+    @Column(name = "games_won", columnDefinition = "integer default 0")
+    private int gamesWon = 0;
+
+    @Column(name = "games_lost", columnDefinition = "integer default 0")
+    private int gamesLost = 0;
+
+    @Column(name = "points_for", columnDefinition = "integer default 0")
+    private int pointsFor = 0;
+
+    @Column(name = "points_against", columnDefinition = "integer default 0")
+    private int pointsAgainst = 0;
+
     public Long getId() {
         return id;
     }
@@ -63,6 +86,89 @@ public class TeamSchedule {
         matches.add(match);
     }
 
+    public int getPoolNumber() {
+        return poolNumber;
+    }
+
+    public void setPoolNumber(int poolNumber) {
+        this.poolNumber = poolNumber;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public int getMatchesPlayed() {
+        return wins + losses;
+    }
+
+    public int getGamesWon() {
+        return gamesWon;
+    }
+
+    public int getGamesLost() {
+        return gamesLost;
+    }
+
+    public int getPointsFor() {
+        return pointsFor;
+    }
+
+    public int getPointsAgainst() {
+        return pointsAgainst;
+    }
+
+    public int getGameDifferential() {
+        return gamesWon - gamesLost;
+    }
+
+    public int getPointDifferential() {
+        return pointsFor - pointsAgainst;
+    }
+
+    public void resetStandings() {
+        this.wins = 0;
+        this.losses = 0;
+        this.gamesWon = 0;
+        this.gamesLost = 0;
+        this.pointsFor = 0;
+        this.pointsAgainst = 0;
+    }
+
+    /**
+     * Apply one recorded match to this team's running standings
+     */
+    public void recordResult(boolean won, int gamesWon, int gamesLost, int pointsFor, int pointsAgainst) {
+        if (won) {
+            this.wins++;
+        } else {
+            this.losses++;
+        }
+        this.gamesWon += gamesWon;
+        this.gamesLost += gamesLost;
+        this.pointsFor += pointsFor;
+        this.pointsAgainst += pointsAgainst;
+    }
+
+    /**
+     * Take one match back out of this team's running standings, e.g. before correcting its score
+     */
+    public void removeResult(boolean won, int gamesWon, int gamesLost, int pointsFor, int pointsAgainst) {
+        if (won) {
+            this.wins--;
+        } else {
+            this.losses--;
+        }
+        this.gamesWon -= gamesWon;
+        this.gamesLost -= gamesLost;
+        this.pointsFor -= pointsFor;
+        this.pointsAgainst -= pointsAgainst;
+    }
+
     public TeamSchedule() {
         this.matches = new HashSet<>();
     }
@@ -72,4 +178,9 @@ public class TeamSchedule {
         this.event = event;
         this.matches = new HashSet<>();
     }
+
+    public TeamSchedule(Team team, RoundRobinEvent event, int poolNumber) {
+        this(team, event);
+        this.poolNumber = poolNumber;
+    }
 }
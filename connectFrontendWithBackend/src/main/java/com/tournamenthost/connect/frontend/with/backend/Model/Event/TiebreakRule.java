@@ -0,0 +1,25 @@
+package com.tournamenthost.connect.frontend.with.backend.Model.Event;
+
+/**
+ * Enum representing a tiebreak rule for Round Robin standings
+ * Rules are applied in order to teams that are level on wins
+ */
+public enum TiebreakRule {
+    /**
+     * Head to head
+     * Wins in matches played between the tied teams only
+     */
+    HEAD_TO_HEAD,
+
+    /**
+     * Game differential
+     * Games won minus games lost across all matches
+     */
+    GAME_DIFFERENTIAL,
+
+    /**
+     * Point differential
+     * Points scored minus points conceded across all games
+     */
+    POINT_DIFFERENTIAL
+}
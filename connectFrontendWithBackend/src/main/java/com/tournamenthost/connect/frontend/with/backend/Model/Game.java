@@ -3,6 +3,7 @@ package com.tournamenthost.connect.frontend.with.backend.Model;
 import jakarta.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_game_match_number", columnNames = {"match_id", "game_number"}))
 public class Game {
 
     @Id
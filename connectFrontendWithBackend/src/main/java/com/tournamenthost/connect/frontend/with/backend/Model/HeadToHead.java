@@ -0,0 +1,52 @@
+package com.tournamenthost.connect.frontend.with.backend.Model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Running record between two sides that have met, singles or doubles
+ * A side is identified by its player ids in ascending order joined with '+' ("12" or
+ * "12+40"), so a doubles pairing is the same side in every event it enters together.
+ * The pair is stored once, with sideA the lower key, and kept up to date by
+ * HeadToHeadService as results are recorded and reversed; the meetings behind it are
+ * HeadToHeadMeeting rows.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "head_to_head",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"side_a", "side_b"}))
+public class HeadToHead {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "side_a", nullable = false, length = 41)
+    private String sideA;
+
+    @Column(name = "side_b", nullable = false, length = 41)
+    private String sideB;
+
+    @Column(nullable = false)
+    private boolean doubles;
+
+    @Column(name = "wins_a", columnDefinition = "integer default 0")
+    private int winsA = 0;
+
+    @Column(name = "wins_b", columnDefinition = "integer default 0")
+    private int winsB = 0;
+
+    @Column(name = "games_a", columnDefinition = "integer default 0")
+    private int gamesA = 0;
+
+    @Column(name = "games_b", columnDefinition = "integer default 0")
+    private int gamesB = 0;
+
+    @Column(name = "points_a", columnDefinition = "integer default 0")
+    private int pointsA = 0;
+
+    @Column(name = "points_b", columnDefinition = "integer default 0")
+    private int pointsB = 0;
+}
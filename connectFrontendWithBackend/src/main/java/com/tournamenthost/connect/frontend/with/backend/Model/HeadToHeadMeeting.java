@@ -0,0 +1,49 @@
+package com.tournamenthost.connect.frontend.with.backend.Model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One completed match between the two sides of a HeadToHead, from sideA's point of view
+ * Indexed by pair and time so the latest meetings of a pair are a single index range scan.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "head_to_head_meetings",
+       uniqueConstraints = @UniqueConstraint(columnNames = "match_id"),
+       indexes = @Index(columnList = "head_to_head_id, played_at"))
+public class HeadToHeadMeeting {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "head_to_head_id", nullable = false)
+    private Long headToHeadId;
+
+    @Column(name = "match_id", nullable = false)
+    private Long matchId;
+
+    @Column(name = "side_a_won", nullable = false)
+    private boolean sideAWon;
+
+    @Column(name = "games_a", columnDefinition = "integer default 0")
+    private int gamesA = 0;
+
+    @Column(name = "games_b", columnDefinition = "integer default 0")
+    private int gamesB = 0;
+
+    @Column(name = "points_a", columnDefinition = "integer default 0")
+    private int pointsA = 0;
+
+    @Column(name = "points_b", columnDefinition = "integer default 0")
+    private int pointsB = 0;
+
+    // When the match was completed; null for results recorded before completion times were kept
+    @Column(name = "played_at")
+    private LocalDateTime playedAt;
+}
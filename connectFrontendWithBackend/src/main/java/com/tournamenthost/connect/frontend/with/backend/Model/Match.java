@@ -1,5 +1,6 @@
 package com.tournamenthost.connect.frontend.with.backend.Model;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,6 +8,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
 
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -60,6 +64,14 @@ public class Match {
     @Column(nullable = false)
     private int gamesRequiredToWin = 1; // For best-of-3, this would be 2
 
+    // Games won by each side while the match is live-scored, written by LiveScoreService's flush
+    // Not maintained by other game-writing paths; isMatchCompleted and determineWinner scan games.
+    @Column(name = "side_a_games_won", columnDefinition = "integer default 0")
+    private int sideAGamesWon;
+
+    @Column(name = "side_b_games_won", columnDefinition = "integer default 0")
+    private int sideBGamesWon;
+
     // OLD: Player-based fields (kept for backward compatibility during migration)
     @ManyToOne
     @JoinColumn(name = "player_a_id")
@@ -69,6 +81,10 @@ public class Match {
     @JoinColumn(name = "player_b_id")
     private User playerB;
 
+    // Points per game as [a1, b1, a2, b2, ...], stored as a native integer[] so SQL can
+    // aggregate it (see MatchRepository.SCORE_TOTALS)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "score", columnDefinition = "integer[]")
     private List<Integer> score;
 
     @ManyToOne
@@ -77,6 +93,14 @@ public class Match {
 
     private boolean completed;
 
+    // Scheduling: planned start and court (1-based), set by the court scheduler
+    private LocalDateTime scheduledStart;
+
+    private Integer court;
+
+    // When the result was recorded, so the scheduler knows if a match ran early or late
+    private LocalDateTime completedAt;
+
     @ManyToOne
     @JsonIgnore  // Prevent circular reference: Match -> Event -> matches
     private BaseEvent event;
@@ -0,0 +1,39 @@
+package com.tournamenthost.connect.frontend.with.backend.Model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * A player's Glicko rating, kept up to date by RatingService
+ * Teams are rated through their players (see RatingEngine), so only players have rows.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "player_ratings")
+public class PlayerRating {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "player_id", nullable = false, unique = true)
+    private Long playerId;
+
+    @Column(nullable = false)
+    private double rating;
+
+    // Rating deviation: how far off the rating may be (lower is more certain)
+    @Column(nullable = false)
+    private double deviation;
+
+    @Column(columnDefinition = "integer default 0")
+    private int matches = 0;
+
+    // Day of the player's last rated match; null if it had no completion time
+    @Column(name = "last_played")
+    private LocalDate lastPlayed;
+}
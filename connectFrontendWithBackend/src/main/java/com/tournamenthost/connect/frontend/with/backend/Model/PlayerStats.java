@@ -0,0 +1,120 @@
+package com.tournamenthost.connect.frontend.with.backend.Model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * Running totals of one player's results, either across their whole career (league is null)
+ * or within one league
+ * Rows are kept up to date as results are recorded and reversed, so profile and leaderboard
+ * stats are single-row reads. Doubles results count for both partners. Byes don't count.
+ */
+@Getter
+@Entity
+@Table(name = "player_stats",
+       indexes = @Index(columnList = "player_id, league_id"))
+public class PlayerStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "player_id", nullable = false)
+    @JsonIgnore
+    private User player;
+
+    @ManyToOne
+    @JoinColumn(name = "league_id")
+    @JsonIgnore
+    private League league;
+
+    @Column(name = "matches_won", columnDefinition = "integer default 0")
+    private int matchesWon = 0;
+
+    @Column(name = "matches_lost", columnDefinition = "integer default 0")
+    private int matchesLost = 0;
+
+    @Column(name = "games_won", columnDefinition = "integer default 0")
+    private int gamesWon = 0;
+
+    @Column(name = "games_lost", columnDefinition = "integer default 0")
+    private int gamesLost = 0;
+
+    @Column(name = "points_won", columnDefinition = "integer default 0")
+    private int pointsWon = 0;
+
+    @Column(name = "points_lost", columnDefinition = "integer default 0")
+    private int pointsLost = 0;
+
+    // Wins in a row if positive, losses in a row if negative
+    @Column(name = "current_streak", columnDefinition = "integer default 0")
+    private int currentStreak = 0;
+
+    @Column(name = "longest_win_streak", columnDefinition = "integer default 0")
+    private int longestWinStreak = 0;
+
+    // Elimination event finals won
+    @Column(columnDefinition = "integer default 0")
+    private int titles = 0;
+
+    public PlayerStats() {
+    }
+
+    public PlayerStats(User player, League league) {
+        this.player = player;
+        this.league = league;
+    }
+
+    public int getMatchesPlayed() {
+        return matchesWon + matchesLost;
+    }
+
+    /**
+     * Apply one result, as the player's most recent
+     */
+    public void recordResult(boolean won, int gamesWon, int gamesLost, int pointsWon, int pointsLost, boolean title) {
+        addTotals(won, gamesWon, gamesLost, pointsWon, pointsLost, title, 1);
+        recordStreak(won);
+    }
+
+    /**
+     * Take back one result's totals
+     * Streaks depend on the order of results, so they are rebuilt separately with
+     * resetStreaks() and recordStreak() over the remaining results.
+     */
+    public void removeResult(boolean won, int gamesWon, int gamesLost, int pointsWon, int pointsLost, boolean title) {
+        addTotals(won, gamesWon, gamesLost, pointsWon, pointsLost, title, -1);
+    }
+
+    public void resetStreaks() {
+        this.currentStreak = 0;
+        this.longestWinStreak = 0;
+    }
+
+    public void recordStreak(boolean won) {
+        if (won) {
+            currentStreak = Math.max(currentStreak, 0) + 1;
+            longestWinStreak = Math.max(longestWinStreak, currentStreak);
+        } else {
+            currentStreak = Math.min(currentStreak, 0) - 1;
+        }
+    }
+
+    private void addTotals(boolean won, int gamesWon, int gamesLost, int pointsWon, int pointsLost,
+                           boolean title, int sign) {
+        if (won) {
+            this.matchesWon += sign;
+        } else {
+            this.matchesLost += sign;
+        }
+        this.gamesWon += sign * gamesWon;
+        this.gamesLost += sign * gamesLost;
+        this.pointsWon += sign * pointsWon;
+        this.pointsLost += sign * pointsLost;
+        if (title) {
+            this.titles += sign;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.tournamenthost.connect.frontend.with.backend.Model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of an event's append-only result log
+ * Rows are never updated or deleted while the event is live: a correction or an undo is
+ * a new row. Replaying the log in sequence order over the event's draw rebuilds the bracket.
+ * Ids are stored as plain columns so the log stays compact and outlives match rows.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "result_log",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "sequence"}))
+public class ResultLogEntry {
+
+    public enum Kind {
+        RESULT,
+        CORRECTION,
+        UNDO
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    // 1, 2, 3... within the event
+    @Column(nullable = false)
+    private int sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Kind kind;
+
+    @Column(name = "match_id")
+    private Long matchId;
+
+    // User id for singles, team id for doubles
+    @Column(name = "winner_id")
+    private Long winnerId;
+
+    // Points per game, comma separated (e.g. "11,7,11")
+    @Column(length = 100)
+    private String score;
+
+    // For UNDO rows, the sequence number being undone
+    @Column(name = "undoes_sequence")
+    private Integer undoesSequence;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime recordedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        recordedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,11 @@
+package com.tournamenthost.connect.frontend.with.backend.Model;
+
+/**
+ * Where automatic seeding takes its order from
+ */
+public enum SeedingSource {
+    // Rank in a league the tournament belongs to
+    LEAGUE,
+    // Player rating (Glicko), available for any tournament
+    RATING
+}
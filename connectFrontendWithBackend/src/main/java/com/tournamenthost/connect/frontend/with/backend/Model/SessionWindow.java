@@ -0,0 +1,24 @@
+package com.tournamenthost.connect.frontend.with.backend.Model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * A block of time when courts are available for play (e.g. Saturday 9:00 - 18:00).
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionWindow {
+    @Column(name = "session_start")
+    private LocalDateTime start;
+
+    @Column(name = "session_end")
+    private LocalDateTime end;
+}
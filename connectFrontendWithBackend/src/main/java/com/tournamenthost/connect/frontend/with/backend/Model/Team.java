@@ -92,21 +92,25 @@ public class Team {
      * Doubles: "Player A / Player B"
      */
     public String getTeamName() {
+        return formatTeamName(teamType, player1.getName(), player1.getUsername(),
+            player2 != null ? player2.getName() : null, player2 != null ? player2.getUsername() : null);
+    }
+
+    /**
+     * Team display name from its players' names, falling back to usernames
+     * For callers reading rows rather than entities; a doubles team without a second player
+     * (no username2) shows "TBD" for them.
+     */
+    public static String formatTeamName(TeamType teamType, String name1, String username1,
+                                        String name2, String username2) {
+        String player1Name = name1 != null && !name1.isEmpty() ? name1 : username1;
         if (teamType == TeamType.SINGLES) {
-            return player1.getName() != null && !player1.getName().isEmpty()
-                ? player1.getName()
-                : player1.getUsername();
-        } else {
-            String player1Name = player1.getName() != null && !player1.getName().isEmpty()
-                ? player1.getName()
-                : player1.getUsername();
-            String player2Name = player2 != null
-                ? (player2.getName() != null && !player2.getName().isEmpty()
-                    ? player2.getName()
-                    : player2.getUsername())
-                : "TBD";
-            return player1Name + " / " + player2Name;
+            return player1Name;
         }
+        String player2Name = username2 != null
+            ? (name2 != null && !name2.isEmpty() ? name2 : username2)
+            : "TBD";
+        return player1Name + " / " + player2Name;
     }
 
     /**
@@ -48,6 +48,25 @@ public class Tournament implements Comparable<Tournament> {
 
     private String location;
 
+    // Court scheduling settings shared by every event in the tournament
+    @Column(columnDefinition = "integer default 0")
+    private int courtCount = 0;
+
+    @Column(columnDefinition = "integer default 30")
+    private int minRestMinutes = 30;
+
+    @Column(columnDefinition = "integer default 20")
+    private int minutesPerGame = 20;
+
+    // Bumped in SQL only (PageVersionService), so saving the entity never writes back a stale value
+    @Column(columnDefinition = "bigint default 0", insertable = false, updatable = false)
+    private long pageVersion;
+
+    @ElementCollection
+    @CollectionTable(name = "tournament_sessions", joinColumns = @JoinColumn(name = "tournament_id"))
+    @OrderBy("start ASC")
+    private List<SessionWindow> sessions = new ArrayList<>();
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -126,6 +145,37 @@ public class Tournament implements Comparable<Tournament> {
         this.location = location;
     }
 
+    public int getCourtCount() {
+        return courtCount;
+    }
+
+    public void setCourtCount(int courtCount) {
+        this.courtCount = courtCount;
+    }
+
+    public int getMinRestMinutes() {
+        return minRestMinutes;
+    }
+
+    public void setMinRestMinutes(int minRestMinutes) {
+        this.minRestMinutes = minRestMinutes;
+    }
+
+    public int getMinutesPerGame() {
+        return minutesPerGame;
+    }
+
+    public void setMinutesPerGame(int minutesPerGame) {
+        this.minutesPerGame = minutesPerGame;
+    }
+
+    public List<SessionWindow> getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(List<SessionWindow> sessions) {
+        this.sessions = sessions;
+    }
 
     // Constructors
     public Tournament() {
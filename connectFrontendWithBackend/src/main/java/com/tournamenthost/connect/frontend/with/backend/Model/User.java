@@ -45,6 +45,22 @@ public class User implements UserDetails, Comparable<User> {
     @Column(name = "updated_at")
     private Date updatedAt;
 
+    // Guests are created by guest signup: no usable password and cannot log in
+    @Column(columnDefinition = "boolean default false")
+    private boolean guest;
+
+    // SHA-256 of the token that lets a real account claim this guest's entries
+    @Column(name = "claim_token_hash", unique = true, length = 64)
+    @JsonIgnore
+    private String claimTokenHash;
+
+    // Club and region the player represents; draws keep players sharing one apart
+    @Column(length = 100)
+    private String club;
+
+    @Column(length = 100)
+    private String region;
+
     @ManyToMany
     @JsonIgnore  // Prevent circular reference: User -> Tournament -> Event -> User
     private List<Tournament> tournaments = new ArrayList<>();
@@ -105,6 +121,38 @@ public class User implements UserDetails, Comparable<User> {
         return updatedAt;
     }
 
+    public String getClub() {
+        return club;
+    }
+
+    public void setClub(String club) {
+        this.club = club;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public boolean isGuest() {
+        return guest;
+    }
+
+    public void setGuest(boolean guest) {
+        this.guest = guest;
+    }
+
+    public String getClaimTokenHash() {
+        return claimTokenHash;
+    }
+
+    public void setClaimTokenHash(String claimTokenHash) {
+        this.claimTokenHash = claimTokenHash;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of();
@@ -127,7 +175,7 @@ public class User implements UserDetails, Comparable<User> {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return !guest;
     }
 
     @Override
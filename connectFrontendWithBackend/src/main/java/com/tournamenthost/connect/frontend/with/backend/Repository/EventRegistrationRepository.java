@@ -3,8 +3,14 @@ package com.tournamenthost.connect.frontend.with.backend.Repository;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.EventRegistration;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +23,59 @@ public interface EventRegistrationRepository extends CrudRepository<EventRegistr
     Optional<EventRegistration> findByEventAndUser(BaseEvent event, User user);
 
     boolean existsByEventAndUser(BaseEvent event, User user);
+
+    /**
+     * Load a batch of registrations with their users in one query
+     */
+    @Query("SELECT r FROM EventRegistration r JOIN FETCH r.user WHERE r.id IN :ids")
+    List<EventRegistration> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Set the review status of a batch of registrations in one statement
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.status = :status, r.reviewedAt = :reviewedAt, r.reviewedBy = :reviewer " +
+           "WHERE r.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") EventRegistration.RegistrationStatus status,
+                     @Param("reviewedAt") Date reviewedAt,
+                     @Param("reviewer") User reviewer);
+
+    /**
+     * Approve any pending registrations of the given users (used when a roster import adds them directly)
+     */
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.status = 'APPROVED', r.reviewedAt = :reviewedAt, r.reviewedBy = :reviewer " +
+           "WHERE r.event = :event AND r.user.id IN :userIds AND r.status = 'PENDING'")
+    int approvePendingForUsers(@Param("event") BaseEvent event,
+                               @Param("userIds") Collection<Long> userIds,
+                               @Param("reviewedAt") Date reviewedAt,
+                               @Param("reviewer") User reviewer);
+
+    /**
+     * Oldest waitlisted registration (waitlist is first come, first served)
+     */
+    Optional<EventRegistration> findFirstByEventAndStatusOrderByIdAsc(BaseEvent event, EventRegistration.RegistrationStatus status);
+
+    /**
+     * Waitlisted registrations of some users, in waitlist order
+     */
+    @Query("SELECT r FROM EventRegistration r JOIN FETCH r.user WHERE r.event = :event AND r.user.id IN :userIds " +
+           "AND r.status = 'WAITLISTED' ORDER BY r.id")
+    List<EventRegistration> findWaitlistedForUsers(@Param("event") BaseEvent event, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Position on the waitlist, counting from 1
+     */
+    @Query("SELECT COUNT(r) + 1 FROM EventRegistration r WHERE r.event = :event AND r.status = 'WAITLISTED' AND r.id < :id")
+    long findWaitlistPosition(@Param("event") BaseEvent event, @Param("id") Long id);
+
+    /**
+     * Move a registration off the waitlist, unless someone else already did
+     * @return 1 if this call promoted it
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EventRegistration r SET r.status = 'PENDING' WHERE r.id = :id AND r.status = 'WAITLISTED'")
+    int promoteFromWaitlist(@Param("id") Long id);
 }
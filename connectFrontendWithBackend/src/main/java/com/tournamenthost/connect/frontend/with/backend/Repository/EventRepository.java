@@ -1,10 +1,67 @@
 package com.tournamenthost.connect.frontend.with.backend.Repository;
 
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
 
 public interface EventRepository extends CrudRepository<BaseEvent, Long>{
-    
+
+    /**
+     * Ids of the players entered in an event, without loading the players themselves
+     */
+    @Query("SELECT p.id FROM BaseEvent e JOIN e.players p WHERE e.id = :eventId")
+    Set<Long> findPlayerIds(@Param("eventId") Long eventId);
+
+    /**
+     * Check whether a user is entered in an event without loading the roster
+     */
+    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END FROM BaseEvent e JOIN e.players p " +
+           "WHERE e.id = :eventId AND p.id = :userId")
+    boolean existsPlayer(@Param("eventId") Long eventId, @Param("userId") Long userId);
+
+    /**
+     * Atomically take one capacity slot if the event has room
+     * The row lock taken by the UPDATE serializes concurrent signups for the same event,
+     * and the WHERE clause re-checks the count under that lock, so it can never over-admit.
+     * @return 1 if a slot was taken, 0 if the event is full
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE base_event SET admitted_count = admitted_count + 1 " +
+                   "WHERE id = :eventId AND (capacity = 0 OR admitted_count < capacity)", nativeQuery = true)
+    int claimSlot(@Param("eventId") Long eventId);
+
+    /**
+     * Give back one capacity slot
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE base_event SET admitted_count = admitted_count - 1 " +
+                   "WHERE id = :eventId AND admitted_count > 0", nativeQuery = true)
+    int releaseSlot(@Param("eventId") Long eventId);
+
+    /**
+     * Take slots without checking capacity (moderator overrides and recounts)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE base_event SET admitted_count = admitted_count + :slots WHERE id = :eventId", nativeQuery = true)
+    int forceClaimSlots(@Param("eventId") Long eventId, @Param("slots") int slots);
+
+    /**
+     * Reset the slot count from the registrations that actually hold a slot
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE base_event SET admitted_count = (SELECT COUNT(*) FROM event_registrations r " +
+                   "WHERE r.event_id = :eventId AND r.status IN ('PENDING', 'APPROVED')) WHERE id = :eventId",
+           nativeQuery = true)
+    int recountSlots(@Param("eventId") Long eventId);
 }
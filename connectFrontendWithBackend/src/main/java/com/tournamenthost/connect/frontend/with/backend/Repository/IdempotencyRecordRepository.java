@@ -0,0 +1,34 @@
+package com.tournamenthost.connect.frontend.with.backend.Repository;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+    Optional<IdempotencyRecord> findByKeyHash(String keyHash);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.keyHash = :keyHash")
+    int deleteByKeyHash(@Param("keyHash") String keyHash);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.statusCode = :statusCode, r.contentType = :contentType, " +
+           "r.responseBody = :responseBody WHERE r.keyHash = :keyHash")
+    int complete(@Param("keyHash") String keyHash, @Param("statusCode") int statusCode,
+                 @Param("contentType") String contentType, @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,9 +1,46 @@
 package com.tournamenthost.connect.frontend.with.backend.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
 
 public interface MatchRepository extends CrudRepository<Match, Long>{
-    
+
+    /**
+     * Completed matches any of the players took part in, singles or as a team member, oldest first
+     */
+    @Query("SELECT m FROM Match m LEFT JOIN m.teamA ta LEFT JOIN m.teamB tb " +
+           "WHERE m.completed = true AND (m.playerA.id IN :playerIds OR m.playerB.id IN :playerIds " +
+           "OR ta.player1.id IN :playerIds OR ta.player2.id IN :playerIds " +
+           "OR tb.player1.id IN :playerIds OR tb.player2.id IN :playerIds) " +
+           "ORDER BY m.completedAt, m.id")
+    List<Match> findCompletedForPlayers(@Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Completed matches of the given tournaments, oldest first
+     */
+    @Query("SELECT m FROM Match m WHERE m.completed = true AND m.event.tournament IN :tournaments " +
+           "ORDER BY m.completedAt, m.id")
+    List<Match> findCompletedInTournaments(@Param("tournaments") Collection<Tournament> tournaments);
+
+    @Query("SELECT m FROM Match m WHERE m.completed = true ORDER BY m.completedAt, m.id")
+    List<Match> findAllCompleted();
+
+    /**
+     * Games won by each side and points scored by each side of match m, from its score array
+     * For use in a LATERAL join; it always yields exactly one row.
+     */
+    String SCORE_TOTALS =
+        "SELECT CAST(COUNT(*) FILTER (WHERE m.score[2 * g - 1] > m.score[2 * g]) AS integer) AS games_a, " +
+        "CAST(COUNT(*) FILTER (WHERE m.score[2 * g] > m.score[2 * g - 1]) AS integer) AS games_b, " +
+        "CAST(COALESCE(SUM(m.score[2 * g - 1]), 0) AS integer) AS points_a, " +
+        "CAST(COALESCE(SUM(m.score[2 * g]), 0) AS integer) AS points_b " +
+        "FROM generate_series(1, COALESCE(array_length(m.score, 1), 0) / 2) AS g " +
+        "WHERE m.score[2 * g - 1] IS NOT NULL AND m.score[2 * g] IS NOT NULL";
 }
@@ -0,0 +1,25 @@
+package com.tournamenthost.connect.frontend.with.backend.Repository;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.PlayerRating;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlayerRatingRepository extends JpaRepository<PlayerRating, Long> {
+
+    /**
+     * Ratings of the given players, by the unique player_id index
+     */
+    List<PlayerRating> findByPlayerIdIn(Collection<Long> playerIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM PlayerRating r WHERE r.playerId IN :playerIds")
+    List<PlayerRating> findByPlayerIdInForUpdate(@Param("playerIds") Collection<Long> playerIds);
+}
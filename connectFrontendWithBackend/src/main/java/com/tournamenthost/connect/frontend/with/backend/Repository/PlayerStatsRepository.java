@@ -0,0 +1,40 @@
+package com.tournamenthost.connect.frontend.with.backend.Repository;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.PlayerStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+
+    Optional<PlayerStats> findByPlayerIdAndLeagueIsNull(Long playerId);
+
+    Optional<PlayerStats> findByPlayerIdAndLeagueId(Long playerId, Long leagueId);
+
+    List<PlayerStats> findByLeagueId(Long leagueId);
+
+    /**
+     * Career row and league rows of a player, locked so concurrent results for the
+     * same player apply one after the other
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PlayerStats s WHERE s.player.id = :playerId")
+    List<PlayerStats> findByPlayerIdForUpdate(@Param("playerId") Long playerId);
+
+    @Modifying
+    @Query("DELETE FROM PlayerStats s WHERE s.player.id IN :playerIds")
+    void deleteByPlayerIds(@Param("playerIds") Collection<Long> playerIds);
+
+    @Modifying
+    @Query("DELETE FROM PlayerStats s WHERE s.league.id = :leagueId")
+    void deleteByLeagueId(@Param("leagueId") Long leagueId);
+}
@@ -0,0 +1,14 @@
+package com.tournamenthost.connect.frontend.with.backend.Repository;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.ResultLogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResultLogRepository extends JpaRepository<ResultLogEntry, Long> {
+    List<ResultLogEntry> findByEventIdOrderBySequenceAsc(Long eventId);
+
+    List<ResultLogEntry> findByEventIdAndSequenceLessThanEqualOrderBySequenceAsc(Long eventId, int sequence);
+}
@@ -0,0 +1,31 @@
+package com.tournamenthost.connect.frontend.with.backend.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissStanding;
+
+@Repository
+public interface SwissStandingRepository extends JpaRepository<SwissStanding, Long> {
+
+    /**
+     * Find all standings for a specific event
+     */
+    List<SwissStanding> findByEvent(SwissEvent event);
+
+    /**
+     * Find standing for a specific team in an event
+     */
+    Optional<SwissStanding> findByTeamAndEvent(Team team, SwissEvent event);
+
+    /**
+     * Find standings for a set of teams in an event (e.g. everyone a team has faced)
+     */
+    List<SwissStanding> findByEventAndTeamIdIn(SwissEvent event, Collection<Long> teamIds);
+}
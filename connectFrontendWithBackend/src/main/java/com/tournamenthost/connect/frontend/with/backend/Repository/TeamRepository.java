@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
 
@@ -25,6 +26,12 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     @Query("SELECT t FROM Team t WHERE t.player1 = :player OR t.player2 = :player")
     List<Team> findByPlayer(@Param("player") User player);
 
+    /**
+     * Doubles pairings entered in a tournament's events other than the given one
+     */
+    @Query("SELECT t FROM Team t WHERE t.event.tournament = :tournament AND t.event <> :event AND t.player2 IS NOT NULL")
+    List<Team> findPairsInOtherEvents(@Param("tournament") Tournament tournament, @Param("event") BaseEvent event);
+
     /**
      * Find all teams for a specific event that include a specific player
      */
@@ -1,13 +1,17 @@
 package com.tournamenthost.connect.frontend.with.backend.Repository;
 
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 
@@ -18,6 +22,52 @@ public interface UserRepository extends CrudRepository<User, Long>{
 
     Optional<User> findByUsername(String username);
 
+    /**
+     * Look up many users by username in one query (usernames must already be lower case)
+     */
+    @Query("SELECT u FROM User u WHERE LOWER(u.username) IN :usernames")
+    List<User> findByLowerUsernameIn(@Param("usernames") Collection<String> usernames);
+
+    Optional<User> findByClaimTokenHashAndGuestTrue(String claimTokenHash);
+
+    /**
+     * Unclaimed guests created before the cutoff whose every registration is for a tournament
+     * that ended before the cutoff, and who do not appear in any team or match
+     * (played results are kept so brackets and standings stay intact)
+     */
+    @Query(value = "SELECT u.id FROM users u WHERE u.guest = true AND u.created_at < :cutoff " +
+                   "AND NOT EXISTS (SELECT 1 FROM event_registrations r " +
+                   "  JOIN base_event e ON e.id = r.event_id JOIN tournament t ON t.id = e.tournament_id " +
+                   "  WHERE r.user_id = u.id AND (t.\"end\" IS NULL OR t.\"end\" >= :cutoff)) " +
+                   "AND NOT EXISTS (SELECT 1 FROM team tm WHERE tm.player1_id = u.id OR tm.player2_id = u.id) " +
+                   "AND NOT EXISTS (SELECT 1 FROM matches m WHERE m.player_a_id = u.id OR m.player_b_id = u.id OR m.winner_id = u.id) " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Long> findPurgeableGuestIds(@Param("cutoff") Date cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM event_registrations WHERE user_id IN (:ids)", nativeQuery = true)
+    int deleteRegistrationsOf(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM user_events WHERE user_id IN (:ids)", nativeQuery = true)
+    int deleteEventEntriesOf(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM player_stats WHERE player_id IN (:ids)", nativeQuery = true)
+    int deleteStatsOf(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM player_ratings WHERE player_id IN (:ids)", nativeQuery = true)
+    int deleteRatingsOf(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM users WHERE id IN (:ids) AND guest = true", nativeQuery = true)
+    int deleteGuests(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT u FROM User u WHERE LOWER(REPLACE(u.username, ' ', '')) LIKE LOWER(CONCAT('%', REPLACE(:query, ' ', ''), '%')) OR LOWER(REPLACE(u.name, ' ', '')) LIKE LOWER(CONCAT('%', REPLACE(:query, ' ', ''), '%'))")
     List<User> findByUsernameOrNameContainingIgnoreCaseAndSpaces(@Param("query") String query, Pageable pageable);
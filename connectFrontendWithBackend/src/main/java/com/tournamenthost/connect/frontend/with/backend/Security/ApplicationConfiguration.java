@@ -1,21 +1,38 @@
 package com.tournamenthost.connect.frontend.with.backend.Security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.ClassUtils;
 
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Repository.UserRepository;
 
+import java.util.Map;
+
 @Configuration
 public class ApplicationConfiguration {
     private final UserRepository userRepository;
 
+    // BCrypt cost (log2 rounds); raising it rehashes each user's password on their next login
+    @Value("${app.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    // bcrypt or argon2 (argon2 needs BouncyCastle on the classpath)
+    @Value("${app.security.password.algorithm:bcrypt}")
+    private String passwordAlgorithm;
+
     public ApplicationConfiguration(UserRepository userRepository) {
         this.userRepository = userRepository;
     }
@@ -28,9 +45,40 @@ public class ApplicationConfiguration {
         };
     }
 
+    /**
+     * Password encoder for new hashes
+     * Existing hashes keep verifying whichever setting is chosen: BCrypt hashes below the
+     * configured cost, or any BCrypt hash once argon2 is selected, report upgradeEncoding
+     * and are rehashed on the next successful login.
+     */
+    @Bean
+    PasswordEncoder passwordEncoder() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        if (!"argon2".equalsIgnoreCase(passwordAlgorithm)) {
+            return bcrypt;
+        }
+        if (!ClassUtils.isPresent("org.bouncycastle.crypto.params.Argon2Parameters", getClass().getClassLoader())) {
+            throw new IllegalStateException("app.security.password.algorithm=argon2 requires org.bouncycastle:bcprov on the classpath");
+        }
+
+        // Stored BCrypt hashes have no {id} prefix, so unprefixed hashes are checked as BCrypt
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("argon2", Map.of(
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                "bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegating;
+    }
+
+    /**
+     * Saves the rehashed password after a login whose stored hash needed upgrading
+     */
     @Bean
-    BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    UserDetailsPasswordService userDetailsPasswordService() {
+        return (userDetails, newPassword) -> {
+            User user = (User) userDetails;
+            user.setPassword(newPassword);
+            return userRepository.save(user);
+        };
     }
 
     @Bean
@@ -44,6 +92,7 @@ public class ApplicationConfiguration {
 
         authProvider.setUserDetailsService(userDetailsService());
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
 
         return authProvider;
     }
@@ -1,6 +1,7 @@
 package com.tournamenthost.connect.frontend.with.backend.Security;
 
 import com.tournamenthost.connect.frontend.with.backend.Service.ErrorMonitoringService;
+import com.tournamenthost.connect.frontend.with.backend.Service.ForecastOverloadedException;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,6 +33,20 @@ public class GlobalExceptionHandler {
             return errorDetail;
         }
 
+        if (exception instanceof PasswordHashingOverloadedException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(503), exception.getMessage());
+            errorDetail.setProperty("description", "Too many password operations in progress");
+
+            return errorDetail;
+        }
+
+        if (exception instanceof ForecastOverloadedException) {
+            errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(503), exception.getMessage());
+            errorDetail.setProperty("description", "Too many forecasts in progress");
+
+            return errorDetail;
+        }
+
         if (exception instanceof AccountStatusException) {
             errorDetail = ProblemDetail.forStatusAndDetail(HttpStatusCode.valueOf(403), exception.getMessage());
             errorDetail.setProperty("description", "The account is locked");
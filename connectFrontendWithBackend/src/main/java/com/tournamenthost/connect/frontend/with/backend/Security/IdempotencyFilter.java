@@ -0,0 +1,212 @@
+package com.tournamenthost.connect.frontend.with.backend.Security;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.IdempotencyRecord;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Service.IdempotencyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Makes API mutations safe to retry when the client sends an Idempotency-Key header.
+ * The first request with a key runs normally and its response is stored; a retry with
+ * the same key and body gets the stored response back without running the handler again
+ * (so a result is never recorded or advanced twice). Keys are scoped to the caller,
+ * method and path; anonymous callers are told apart by client IP.
+ *
+ * Runs after the security filter chain so the caller is known.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyService idempotencyService;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService) {
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean mutation = "POST".equals(method) || "PUT".equals(method)
+            || "PATCH".equals(method) || "DELETE".equals(method);
+        return !mutation || !request.getRequestURI().startsWith("/api/") || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String keyHash = IdempotencyService.sha256(caller(request) + "|" + request.getMethod() + "|" + request.getRequestURI() + "|" + key);
+        String requestHash = IdempotencyService.sha256(cachedRequest.body);
+
+        Optional<IdempotencyRecord> existing = idempotencyService.find(keyHash);
+        if (existing.isPresent() && !idempotencyService.isAbandoned(existing.get())) {
+            replayOrReject(existing.get(), requestHash, response);
+            return;
+        }
+
+        if (!idempotencyService.begin(keyHash, requestHash)) {
+            // A concurrent attempt with the same key claimed it first
+            Optional<IdempotencyRecord> winner = idempotencyService.find(keyHash);
+            if (winner.isPresent()) {
+                replayOrReject(winner.get(), requestHash, response);
+            } else {
+                reject(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is already in progress");
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachedResponse);
+
+            int status = cachedResponse.getStatus();
+            if (status < 500 && !request.isAsyncStarted()) {
+                String body = new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8);
+                idempotencyService.complete(keyHash, requestHash, status, cachedResponse.getContentType(), body);
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                // Server errors (and anything that threw) may succeed on retry, so free the key
+                idempotencyService.abandon(keyHash);
+            }
+            cachedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replayOrReject(IdempotencyRecord record, String requestHash, HttpServletResponse response) throws IOException {
+        if (!record.getRequestHash().equals(requestHash)) {
+            reject(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used for a different request");
+            return;
+        }
+        if (!record.isCompleted()) {
+            reject(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is already in progress");
+            return;
+        }
+
+        response.setStatus(record.getStatusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        if (record.getResponseBody() != null) {
+            byte[] body = record.getResponseBody().getBytes(StandardCharsets.UTF_8);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(message);
+    }
+
+    /**
+     * Who the key belongs to
+     * Anonymous callers (guest signup) are scoped by client IP, so one guest can't replay
+     * another's response - and with it the other guest's claim token - by reusing a key.
+     */
+    private String caller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getId();
+        }
+        return "anonymous:" + RateLimitingFilter.getClientIP(request);
+    }
+
+    /**
+     * Request whose body has been read up front so it can be hashed and still reach the controller
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The whole body is already in memory, so it is all available straight away
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
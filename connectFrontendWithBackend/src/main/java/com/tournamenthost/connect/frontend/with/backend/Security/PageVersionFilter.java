@@ -0,0 +1,55 @@
+package com.tournamenthost.connect.frontend.with.backend.Security;
+
+import com.tournamenthost.connect.frontend.with.backend.Service.PageVersionService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Bumps a tournament's page version after any mutation under /api/tournaments/{id}
+ * Runs once the handler has returned, so its transaction has committed and a page built
+ * for the new version sees the change. Failed requests bump too; that only costs a rebuild.
+ */
+@Component
+public class PageVersionFilter extends OncePerRequestFilter {
+
+    private static final Pattern TOURNAMENT_PATH = Pattern.compile("^/api/tournaments/(\\d+)(/.*)?$");
+
+    private final PageVersionService pageVersionService;
+
+    public PageVersionFilter(PageVersionService pageVersionService) {
+        this.pageVersionService = pageVersionService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean mutation = "POST".equals(method) || "PUT".equals(method)
+            || "PATCH".equals(method) || "DELETE".equals(method);
+        return !mutation || !TOURNAMENT_PATH.matcher(request.getRequestURI()).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Matcher matcher = TOURNAMENT_PATH.matcher(request.getRequestURI());
+            if (matcher.matches()) {
+                pageVersionService.bump(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.tournamenthost.connect.frontend.with.backend.Security;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing and verification on a small, separately sized thread pool.
+ * BCrypt is deliberately slow, so during a login storm it would otherwise occupy every
+ * servlet thread. The pool has a bounded queue; once it is full new work is rejected
+ * straight away (load shedding) and the caller answers 503 instead of piling up.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final AtomicLong rejected = new AtomicLong();
+    private long reportedRejected;
+
+    public PasswordHashingExecutor(
+            @Value("${app.security.hashing.threads:0}") int threads,
+            @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.hashing.timeout-ms:10000}") long timeoutMillis) {
+        // Default to one thread per core: hashing is pure CPU
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        log.info("Password hashing pool: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Queue hashing work without blocking the caller
+     * @return Future completed with the result, or failed with PasswordHashingOverloadedException when shedding
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            long total = rejected.incrementAndGet();
+            log.debug("Password hashing overloaded, shedding request (queue {}, active {}, rejected so far {})",
+                    executor.getQueue().size(), executor.getActiveCount(), total);
+            return CompletableFuture.failedFuture(new PasswordHashingOverloadedException());
+        }
+    }
+
+    /**
+     * Run hashing work on the pool and wait for it (for rare paths such as password changes)
+     */
+    public <T> T call(Supplier<T> work) {
+        try {
+            return submit(work).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new PasswordHashingOverloadedException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadedException();
+        }
+    }
+
+    /**
+     * Log pool stats once a minute while requests are being shed
+     */
+    @Scheduled(fixedRate = 60000)
+    public void reportStats() {
+        long total = rejected.get();
+        if (total != reportedRejected) {
+            log.warn("Password hashing shed {} requests in the last minute (pool {}, active {}, queue {}/{}, completed {}, rejected {})",
+                    total - reportedRejected, executor.getCorePoolSize(), executor.getActiveCount(),
+                    executor.getQueue().size(), executor.getQueue().size() + executor.getQueue().remainingCapacity(),
+                    executor.getCompletedTaskCount(), total);
+            reportedRejected = total;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,11 @@
+package com.tournamenthost.connect.frontend.with.backend.Security;
+
+/**
+ * Thrown when the password hashing pool is full and the request is shed
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException() {
+        super("Server is busy, please try again shortly");
+    }
+}
@@ -16,15 +16,25 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 /**
  * Rate limiting filter to prevent abuse of authentication endpoints and protect against brute force attacks.
  * Uses token bucket algorithm with per-IP rate limiting.
+ * Guest signup is public and creates accounts, so it has its own per-IP limit plus a global cap.
  */
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
+    private static final Pattern GUEST_SIGNUP = Pattern.compile("^/api/tournaments/[^/]+/event/[^/]+/signup/guest/?$");
+
     private final Map<String, Bucket> cache = new ConcurrentHashMap<>();
+    private final Map<String, Bucket> guestCache = new ConcurrentHashMap<>();
+
+    // Shared by every client so a spread-out burst still cannot flood the users table
+    private final Bucket guestGlobalBucket = Bucket.builder()
+            .addLimit(Bandwidth.classic(120, Refill.greedy(120, Duration.ofMinutes(1))))
+            .build();
 
     /**
      * Create a new bucket for rate limiting
@@ -44,6 +54,16 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         return cache.computeIfAbsent(ip, k -> createNewBucket());
     }
 
+    /**
+     * Guest signup bucket for the given IP address
+     * Allows 5 guest signups per 10 minutes per IP address
+     */
+    private Bucket resolveGuestBucket(String ip) {
+        return guestCache.computeIfAbsent(ip, k -> Bucket.builder()
+                .addLimit(Bandwidth.classic(5, Refill.intervally(5, Duration.ofMinutes(10))))
+                .build());
+    }
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -52,7 +72,7 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String requestURI = request.getRequestURI();
 
-        // Only apply rate limiting to authentication endpoints
+        // Only apply rate limiting to authentication endpoints and guest signup
         if (requestURI.startsWith("/auth/")) {
             String ip = getClientIP(request);
             Bucket bucket = resolveBucket(ip);
@@ -62,25 +82,35 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                 filterChain.doFilter(request, response);
             } else {
                 // Rate limit exceeded
-                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
-                response.setContentType("application/json");
-                response.getWriter().write("{\"error\": \"Too many requests. Please try again later.\"}");
+                rejectTooManyRequests(response);
+            }
+        } else if ("POST".equals(request.getMethod()) && GUEST_SIGNUP.matcher(requestURI).matches()) {
+            String ip = getClientIP(request);
+
+            if (resolveGuestBucket(ip).tryConsume(1) && guestGlobalBucket.tryConsume(1)) {
+                filterChain.doFilter(request, response);
+            } else {
+                rejectTooManyRequests(response);
             }
         } else {
-            // Not an auth endpoint, proceed without rate limiting
+            // Not a rate limited endpoint, proceed without rate limiting
             filterChain.doFilter(request, response);
         }
     }
 
+    private void rejectTooManyRequests(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType("application/json");
+        response.getWriter().write("{\"error\": \"Too many requests. Please try again later.\"}");
+    }
+
     /**
-     * Get client IP address, considering proxy headers
+     * Get client IP address
+     * X-Forwarded-For isn't read here, since any client can set it. Behind a proxy, Tomcat's
+     * RemoteIpValve (server.forward-headers-strategy) resolves the remote address from it,
+     * trusting only the configured proxies.
      */
-    private String getClientIP(HttpServletRequest request) {
-        String xfHeader = request.getHeader("X-Forwarded-For");
-        if (xfHeader != null && !xfHeader.isEmpty()) {
-            // X-Forwarded-For can contain multiple IPs, take the first one
-            return xfHeader.split(",")[0].trim();
-        }
+    static String getClientIP(HttpServletRequest request) {
         return request.getRemoteAddr();
     }
 }
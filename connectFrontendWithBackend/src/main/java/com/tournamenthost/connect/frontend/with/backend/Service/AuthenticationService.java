@@ -2,6 +2,7 @@ package com.tournamenthost.connect.frontend.with.backend.Service;
 
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,9 +15,11 @@ import com.tournamenthost.connect.frontend.with.backend.Model.PasswordResetToken
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Repository.PasswordResetTokenRepository;
 import com.tournamenthost.connect.frontend.with.backend.Repository.UserRepository;
+import com.tournamenthost.connect.frontend.with.backend.Security.PasswordHashingExecutor;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AuthenticationService {
@@ -31,40 +34,56 @@ public class AuthenticationService {
 
     private final EmailService emailService;
 
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
     public AuthenticationService(
         UserRepository userRepository,
         AuthenticationManager authenticationManager,
         PasswordEncoder passwordEncoder,
         PasswordResetTokenRepository passwordResetTokenRepository,
-        EmailService emailService
+        EmailService emailService,
+        PasswordHashingExecutor passwordHashingExecutor
     ) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.passwordResetTokenRepository = passwordResetTokenRepository;
         this.emailService = emailService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
-    public User signup(RegisterUserDTO input) {
-        User user = new User();
-        user.setUsername(input.getUsername());
-        user.setName(input.getName());
-        user.setPassword(passwordEncoder.encode(input.getPassword()));
-        // Set any other fields required by your User model here
-
-        return userRepository.save(user);
+    /**
+     * Register a new user; the password is hashed on the hashing pool, not the request thread
+     */
+    public CompletableFuture<User> signup(RegisterUserDTO input) {
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(input.getPassword()))
+                .thenApply(hash -> {
+                    User user = new User();
+                    user.setUsername(input.getUsername());
+                    user.setName(input.getName());
+                    user.setPassword(hash);
+                    user.setClub(input.getClub() == null || input.getClub().isBlank() ? null : input.getClub().trim());
+                    user.setRegion(input.getRegion() == null || input.getRegion().isBlank() ? null : input.getRegion().trim());
+                    // Set any other fields required by your User model here
+
+                    return userRepository.save(user);
+                });
     }
 
-    public User authenticate(LoginUserDTO input) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        input.getUsername(),
-                        input.getPassword()
-                )
-        );
-
-        return userRepository.findByUsername(input.getUsername())
-                .orElseThrow();
+    /**
+     * Check credentials on the hashing pool
+     * A stored hash weaker than the configured encoder is rehashed as part of the same login.
+     */
+    public CompletableFuture<User> authenticate(LoginUserDTO input) {
+        return passwordHashingExecutor.submit(() -> {
+            Authentication authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            input.getUsername(),
+                            input.getPassword()
+                    )
+            );
+            return (User) authentication.getPrincipal();
+        });
     }
 
     @Transactional
@@ -136,7 +155,7 @@ public class AuthenticationService {
 
         // Update user password
         User user = resetToken.getUser();
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashingExecutor.call(() -> passwordEncoder.encode(newPassword)));
         userRepository.save(user);
 
         // Mark token as used
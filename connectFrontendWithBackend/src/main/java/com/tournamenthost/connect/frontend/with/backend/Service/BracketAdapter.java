@@ -0,0 +1,331 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimRound;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.Round;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.RoundRobinEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissRound;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TeamSchedule;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import com.tournamenthost.connect.frontend.with.backend.util.BracketEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Moves an event between its Match entities and a BracketEngine
+ * Bracket rules live in the engine; this class only numbers the matches and entrants,
+ * loads them, and saves back the matches whose slots, winner or completion changed.
+ */
+@Service
+public class BracketAdapter {
+
+    @Autowired
+    private MatchRepository matchRepo;
+
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
+    /**
+     * An event loaded into the engine, with the engine's indices mapped back to entities
+     */
+    public static class LoadedBracket {
+        private final BracketEngine engine;
+        private final List<Match> matches;
+        private final List<Object> entrants;
+        private final Map<Object, Integer> entrantIndex;
+        private final boolean teamBased;
+        private Map<Long, Integer> matchIndex;
+
+        LoadedBracket(BracketEngine engine, List<Match> matches, List<Object> entrants,
+                      Map<Object, Integer> entrantIndex, boolean teamBased) {
+            this.engine = engine;
+            this.matches = matches;
+            this.entrants = entrants;
+            this.entrantIndex = entrantIndex;
+            this.teamBased = teamBased;
+        }
+
+        public BracketEngine getEngine() {
+            return engine;
+        }
+
+        public List<Match> getMatches() {
+            return matches;
+        }
+
+        public boolean isTeamBased() {
+            return teamBased;
+        }
+
+        /**
+         * User or Team behind an engine entrant number, or null for an empty slot
+         */
+        public Object entrant(int index) {
+            return index == 0 ? null : entrants.get(index - 1);
+        }
+
+        public int entrantCount() {
+            return entrants.size();
+        }
+
+        /**
+         * Engine entrant number of a User or Team, or 0 if it isn't in this event
+         */
+        public int indexOf(Object entrant) {
+            Integer index = entrant == null ? null : entrantIndex.get(entrant);
+            return index == null ? 0 : index;
+        }
+
+        /**
+         * Engine match number of a match, or -1 if it isn't part of this event's bracket
+         */
+        public int indexOf(Match match) {
+            if (matchIndex == null) {
+                matchIndex = new HashMap<>();
+                for (int i = 0; i < matches.size(); i++) {
+                    matchIndex.put(matches.get(i).getId(), i);
+                }
+            }
+            Integer index = matchIndex.get(match.getId());
+            return index == null ? -1 : index;
+        }
+
+        /**
+         * Record a result on the engine
+         */
+        public void record(Match match, Object winner) {
+            engine.record(require(match), indexOf(winner));
+        }
+
+        /**
+         * Reverse a result on the engine; on save the match loses its games like any other
+         * un-completed match, since they belong to the result being replaced
+         */
+        public void reverse(Match match) {
+            engine.reverse(require(match));
+        }
+
+        private int require(Match match) {
+            int index = indexOf(match);
+            if (index < 0) {
+                throw new IllegalArgumentException("Match with id " + match.getId() + " is not part of this bracket");
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Load the event as it is stored now
+     */
+    public LoadedBracket load(BaseEvent event) {
+        LoadedBracket loaded = build(event);
+        BracketEngine engine = loaded.engine;
+        List<Match> matches = loaded.matches;
+        for (int i = 0; i < matches.size(); i++) {
+            Match match = matches.get(i);
+            engine.restore(i,
+                entrantNumber(sideA(match, loaded.teamBased), loaded),
+                entrantNumber(sideB(match, loaded.teamBased), loaded),
+                entrantNumber(winner(match, loaded.teamBased), loaded),
+                match.isCompleted());
+        }
+        return loaded;
+    }
+
+    /**
+     * Load only the event's draw, with the byes created at initialization applied
+     * The drawn matches are always the first ones in match order.
+     */
+    public LoadedBracket loadDraw(BaseEvent event) {
+        LoadedBracket loaded = build(event);
+        BracketEngine engine = loaded.engine;
+        for (int i = 0; i < drawSize(event, loaded.matches); i++) {
+            Match match = loaded.matches.get(i);
+            engine.seed(i,
+                entrantNumber(sideA(match, loaded.teamBased), loaded),
+                entrantNumber(sideB(match, loaded.teamBased), loaded));
+        }
+        engine.start();
+        return loaded;
+    }
+
+    /**
+     * Whether every stored match agrees with the engine
+     */
+    public boolean matchesStored(LoadedBracket loaded) {
+        for (int i = 0; i < loaded.matches.size(); i++) {
+            if (changed(loaded, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Write the engine's state back to the matches that differ and save only those
+     * A match the engine un-completed loses its winner, score, completion time, games and
+     * games-won counters. Results that are
+     * overwritten are taken out of player stats first; callers add the new ones once the
+     * scores are in place.
+     * @return The matches that changed
+     */
+    public List<Match> save(LoadedBracket loaded) {
+        BracketEngine engine = loaded.engine;
+        List<Match> changed = new ArrayList<>();
+        for (int i = 0; i < loaded.matches.size(); i++) {
+            if (changed(loaded, i)) {
+                changed.add(loaded.matches.get(i));
+            }
+        }
+        playerStatsService.retractResults(changed.stream().filter(Match::isCompleted).toList());
+
+        for (Match match : changed) {
+            int i = loaded.indexOf(match);
+            Object a = loaded.entrant(engine.getSlotA(i));
+            Object b = loaded.entrant(engine.getSlotB(i));
+            Object won = loaded.entrant(engine.getWinner(i));
+            if (loaded.teamBased) {
+                match.setTeamA((Team) a);
+                match.setTeamB((Team) b);
+                match.setWinnerTeam((Team) won);
+            } else {
+                match.setPlayerA((User) a);
+                match.setPlayerB((User) b);
+                match.setWinner((User) won);
+            }
+            if (match.isCompleted() && !engine.isCompleted(i)) {
+                match.getGames().clear();
+                match.setSideAGamesWon(0);
+                match.setSideBGamesWon(0);
+                match.setScore(null);
+                match.setCompletedAt(null);
+            }
+            match.setCompleted(engine.isCompleted(i));
+        }
+        matchRepo.saveAll(changed);
+        return changed;
+    }
+
+    private boolean changed(LoadedBracket loaded, int i) {
+        BracketEngine engine = loaded.engine;
+        Match match = loaded.matches.get(i);
+        return match.isCompleted() != engine.isCompleted(i)
+            || !Objects.equals(sideA(match, loaded.teamBased), loaded.entrant(engine.getSlotA(i)))
+            || !Objects.equals(sideB(match, loaded.teamBased), loaded.entrant(engine.getSlotB(i)))
+            || !Objects.equals(winner(match, loaded.teamBased), loaded.entrant(engine.getWinner(i)));
+    }
+
+    /**
+     * Engine for the event's structure, with matches numbered and no state loaded yet
+     */
+    private LoadedBracket build(BaseEvent event) {
+        List<Match> matches = new ArrayList<>();
+        BracketEngine engine;
+
+        if (event instanceof SingleElimEvent singleElim) {
+            List<Round> rounds = singleElim.getRounds();
+            int[] sizes = new int[rounds.size()];
+            for (int r = 0; r < rounds.size(); r++) {
+                sizes[r] = rounds.get(r).getMatches().size();
+                matches.addAll(rounds.get(r).getMatches());
+            }
+            engine = BracketEngine.singleElim(sizes);
+        } else if (event instanceof DoubleElimEvent doubleElim) {
+            List<DoubleElimRound> winners = doubleElim.getWinnersBracket();
+            List<DoubleElimRound> losers = doubleElim.getLosersBracket();
+            int[] winnersSizes = new int[winners.size()];
+            for (int r = 0; r < winners.size(); r++) {
+                winnersSizes[r] = winners.get(r).getMatches().size();
+                matches.addAll(winners.get(r).getMatches());
+            }
+            int[] losersSizes = new int[losers.size()];
+            int[] feedsFrom = new int[losers.size()];
+            for (int r = 0; r < losers.size(); r++) {
+                losersSizes[r] = losers.get(r).getMatches().size();
+                Integer feeds = losers.get(r).getFeedsFromWinnersRound();
+                feedsFrom[r] = feeds != null ? feeds : -1;
+                matches.addAll(losers.get(r).getMatches());
+            }
+            boolean hasBronze = doubleElim.getBronzeMatch() != null;
+            if (hasBronze) {
+                matches.add(doubleElim.getBronzeMatch());
+            }
+            engine = BracketEngine.doubleElim(winnersSizes, losersSizes, feedsFrom,
+                doubleElim.getFeedInCutoffRound(), hasBronze);
+        } else if (event instanceof RoundRobinEvent roundRobin) {
+            Set<Match> seen = new LinkedHashSet<>();
+            for (TeamSchedule schedule : roundRobin.getTeamSchedules()) {
+                seen.addAll(schedule.getMatches());
+            }
+            matches.addAll(seen);
+            engine = BracketEngine.standalone(matches.size());
+        } else if (event instanceof SwissEvent swiss) {
+            for (SwissRound round : swiss.getRounds()) {
+                matches.addAll(round.getMatches());
+            }
+            engine = BracketEngine.standalone(matches.size());
+        } else {
+            throw new IllegalArgumentException("Unsupported event type");
+        }
+
+        List<Match> drawn = matches.subList(0, drawSize(event, matches));
+        boolean teamBased = false;
+        for (Match match : drawn) {
+            if (match.getTeamA() != null || match.getTeamB() != null) {
+                teamBased = true;
+                break;
+            }
+        }
+
+        // Number entrants in draw order so a loaded event and a replayed one agree
+        List<Object> entrants = new ArrayList<>();
+        Map<Object, Integer> entrantIndex = new HashMap<>();
+        LoadedBracket loaded = new LoadedBracket(engine, matches, entrants, entrantIndex, teamBased);
+        for (Match match : drawn) {
+            entrantNumber(sideA(match, teamBased), loaded);
+            entrantNumber(sideB(match, teamBased), loaded);
+        }
+        return loaded;
+    }
+
+    // First-round matches for brackets, every match for round robin and Swiss
+    private int drawSize(BaseEvent event, List<Match> matches) {
+        if (event instanceof SingleElimEvent singleElim) {
+            return singleElim.getRounds().isEmpty() ? 0 : singleElim.getRounds().get(0).getMatches().size();
+        }
+        if (event instanceof DoubleElimEvent doubleElim) {
+            return doubleElim.getWinnersBracket().isEmpty() ? 0 : doubleElim.getWinnersBracket().get(0).getMatches().size();
+        }
+        return matches.size();
+    }
+
+    private int entrantNumber(Object entrant, LoadedBracket loaded) {
+        if (entrant == null) {
+            return 0;
+        }
+        return loaded.entrantIndex.computeIfAbsent(entrant, e -> {
+            loaded.entrants.add(e);
+            return loaded.entrants.size();
+        });
+    }
+
+    private Object sideA(Match match, boolean teamBased) {
+        return teamBased ? match.getTeamA() : match.getPlayerA();
+    }
+
+    private Object sideB(Match match, boolean teamBased) {
+        return teamBased ? match.getTeamB() : match.getPlayerB();
+    }
+
+    private Object winner(Match match, boolean teamBased) {
+        return teamBased ? match.getWinnerTeam() : match.getWinner();
+    }
+}
@@ -0,0 +1,86 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs forecast simulations on a small thread pool of their own
+ * Forecasts are public and CPU bound, so they must not spill onto the servlet threads or the
+ * common fork-join pool the rest of the app shares. Each simulation runs on one pool thread;
+ * once the bounded queue is full new forecasts are rejected straight away and answered 503.
+ */
+@Component
+public class ForecastExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ForecastExecutor.class);
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public ForecastExecutor(
+            @Value("${app.forecast.threads:0}") int threads,
+            @Value("${app.forecast.queue-capacity:8}") int queueCapacity,
+            @Value("${app.forecast.timeout-ms:60000}") long timeoutMillis) {
+        // Default to half the cores, so forecasts never take the whole machine
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "forecast-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        log.info("Forecast pool: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Run a simulation on the pool and wait for it
+     * @throws ForecastOverloadedException if the queue is full or the simulation doesn't finish in time
+     */
+    public <T> T call(Supplier<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work::get);
+        } catch (RejectedExecutionException e) {
+            log.debug("Forecast pool overloaded, shedding request (queue {}, active {})",
+                    executor.getQueue().size(), executor.getActiveCount());
+            throw new ForecastOverloadedException();
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ForecastOverloadedException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ForecastOverloadedException();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
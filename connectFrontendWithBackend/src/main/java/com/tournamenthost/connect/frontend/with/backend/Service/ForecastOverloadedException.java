@@ -0,0 +1,11 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+/**
+ * Thrown when the forecast pool is full and the request is shed
+ */
+public class ForecastOverloadedException extends RuntimeException {
+
+    public ForecastOverloadedException() {
+        super("Too many forecasts are running, please try again shortly");
+    }
+}
@@ -0,0 +1,271 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.DTO.EntrantForecastDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.EventForecastDTO;
+import com.tournamenthost.connect.frontend.with.backend.Model.PointsDistribution;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimRound;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.Round;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.util.BracketEngine;
+import com.tournamenthost.connect.frontend.with.backend.util.BracketSimulator;
+import com.tournamenthost.connect.frontend.with.backend.util.DTOConverter;
+import com.tournamenthost.connect.frontend.with.backend.util.RatingEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Monte Carlo forecasts of elimination events from player ratings
+ * The event is loaded into a BracketEngine as it stands and the rest is played out by
+ * BracketSimulator, so completed matches are fixed and each result shrinks the work left.
+ * Placements follow the same rules calculateEventPoints uses. Forecasts are cached per event
+ * and reused until the event's state changes.
+ */
+@Service
+public class ForecastService {
+
+    public static final int DEFAULT_SIMULATIONS = 100_000;
+    // The only run sizes offered, so every request can hit the cache; above the default needs edit permission
+    private static final List<Integer> SIMULATION_COUNTS = List.of(10_000, DEFAULT_SIMULATIONS, 1_000_000);
+    private static final int CACHED_FORECASTS = 300;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private BracketAdapter bracketAdapter;
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private ForecastExecutor forecastExecutor;
+
+    // Latest forecast per event and run size, with the state signature it was run at; least recently used go first
+    private final Map<ForecastKey, CachedForecast> forecasts = Collections.synchronizedMap(
+        new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ForecastKey, CachedForecast> eldest) {
+                return size() > CACHED_FORECASTS;
+            }
+        });
+
+    private record ForecastKey(Long eventId, int simulations) {
+    }
+
+    private record CachedForecast(Long tournamentId, long signature, EventForecastDTO forecast) {
+    }
+
+    /**
+     * Forecast an initialized single or double elim event
+     * @param simulations Number of simulated completions: 10,000, 100,000 or 1,000,000
+     * @param viewer Who asked, or null if anonymous; runs above DEFAULT_SIMULATIONS need edit permission
+     */
+    public EventForecastDTO getForecast(Long tournamentId, int eventIndex, int simulations, User viewer) {
+        BaseEvent event = tournamentService.getEventsForTournament(tournamentId).get(eventIndex);
+        if (!(event instanceof SingleElimEvent) && !(event instanceof DoubleElimEvent)) {
+            throw new IllegalArgumentException("Forecasts are only available for single and double elimination events");
+        }
+        if (!event.isEventInitialized()) {
+            throw new IllegalArgumentException("Event has not been initialized yet");
+        }
+        if (!SIMULATION_COUNTS.contains(simulations)) {
+            throw new IllegalArgumentException("Simulations must be one of " + SIMULATION_COUNTS);
+        }
+        if (simulations > DEFAULT_SIMULATIONS
+                && (viewer == null || !tournamentService.canUserEditTournament(tournamentId, viewer))) {
+            throw new IllegalArgumentException("Only tournament editors can run more than " + DEFAULT_SIMULATIONS + " simulations");
+        }
+
+        BracketAdapter.LoadedBracket loaded = bracketAdapter.load(event);
+        BracketEngine engine = loaded.getEngine();
+        // Ratings drift day to day as deviations age, so the day is part of the state
+        long signature = signature(loaded, event.getResultLogSequence(), LocalDate.now().toEpochDay());
+        ForecastKey key = new ForecastKey(event.getId(), simulations);
+        CachedForecast cached = forecasts.get(key);
+        if (cached != null && cached.signature == signature) {
+            return cached.forecast;
+        }
+
+        // Stages and placements per engine match
+        List<String> stages = new ArrayList<>();
+        List<String> placementLabels = new ArrayList<>();
+        int[] stageOf = new int[engine.size()];
+        String[] loserLabel = new String[engine.size()];
+        String[] winnerLabel = new String[engine.size()];
+        label(event, engine, stages, stageOf, loserLabel, winnerLabel);
+        for (String[] labels : new String[][] {loserLabel, winnerLabel}) {
+            for (String placement : labels) {
+                if (placement != null && !placementLabels.contains(placement)) {
+                    placementLabels.add(placement);
+                }
+            }
+        }
+        placementLabels.sort(Comparator.comparingInt(Integer::parseInt));
+        int[] loserPlacement = new int[engine.size()];
+        int[] winnerPlacement = new int[engine.size()];
+        for (int match = 0; match < engine.size(); match++) {
+            loserPlacement[match] = loserLabel[match] == null ? -1 : placementLabels.indexOf(loserLabel[match]);
+            winnerPlacement[match] = winnerLabel[match] == null ? -1 : placementLabels.indexOf(winnerLabel[match]);
+        }
+        PointsDistribution pointsDistribution = tournamentService.getPointsDistribution(tournamentId, eventIndex);
+        int[] placementPoints = placementLabels.stream()
+            .mapToInt(placement -> pointsDistribution == null ? 0 : pointsDistribution.getPointsForPlacement(placement))
+            .toArray();
+
+        // Entrant strengths; teams play as their partners' composite, as in the rating engine
+        int entrants = loaded.entrantCount();
+        List<Long> playerIds = new ArrayList<>();
+        for (int e = 1; e <= entrants; e++) {
+            members(loaded.entrant(e)).forEach(player -> playerIds.add(player.getId()));
+        }
+        Map<Long, double[]> ratings = ratingService.getRatings(playerIds);
+        double[] rating = new double[entrants + 1];
+        double[] deviation = new double[entrants + 1];
+        for (int e = 1; e <= entrants; e++) {
+            List<User> players = members(loaded.entrant(e));
+            double ratingSum = 0;
+            double varianceSum = 0;
+            for (User player : players) {
+                double[] rated = ratings.getOrDefault(player.getId(),
+                    new double[] {RatingEngine.DEFAULT_RATING, RatingEngine.DEFAULT_DEVIATION});
+                ratingSum += rated[0];
+                varianceSum += rated[1] * rated[1];
+            }
+            rating[e] = ratingSum / players.size();
+            deviation[e] = Math.sqrt(varianceSum / players.size());
+        }
+
+        BracketSimulator simulator = new BracketSimulator(engine, entrants,
+            BracketSimulator.winProbabilities(rating, deviation), stageOf, stages.size(),
+            loserPlacement, winnerPlacement, placementPoints);
+        BracketSimulator.Forecast result = forecastExecutor.call(() -> simulator.run(simulations, signature));
+
+        List<EntrantForecastDTO> entrantForecasts = new ArrayList<>();
+        for (int e = 1; e <= entrants; e++) {
+            List<Double> reach = new ArrayList<>();
+            for (double probability : result.reach()[e]) {
+                reach.add(probability);
+            }
+            Map<String, Double> placements = new LinkedHashMap<>();
+            for (int p = 0; p < placementLabels.size(); p++) {
+                placements.put(placementLabels.get(p), result.placement()[e][p]);
+            }
+            Object entrant = loaded.entrant(e);
+            entrantForecasts.add(new EntrantForecastDTO(
+                entrant instanceof User user ? DTOConverter.convertToUserDTO(user) : null,
+                entrant instanceof Team team ? DTOConverter.convertToTeamDTO(team) : null,
+                rating[e], reach, placements, result.expectedPoints()[e]));
+        }
+        entrantForecasts.sort(Comparator.comparingDouble(EntrantForecastDTO::getExpectedPoints).reversed()
+            .thenComparing(Comparator.comparingDouble(EntrantForecastDTO::getRating).reversed()));
+
+        EventForecastDTO forecast = new EventForecastDTO(event.getResultLogSequence(), simulations, stages,
+            placementLabels, entrantForecasts);
+        forecasts.put(key, new CachedForecast(tournamentId, signature, forecast));
+        return forecast;
+    }
+
+    /**
+     * Drop the cached forecast of an event whose bracket was torn down
+     */
+    public void evictEvent(Long eventId) {
+        synchronized (forecasts) {
+            forecasts.keySet().removeIf(key -> key.eventId.equals(eventId));
+        }
+    }
+
+    /**
+     * Drop the cached forecasts of a deleted tournament's events
+     */
+    public void evictTournament(Long tournamentId) {
+        synchronized (forecasts) {
+            forecasts.values().removeIf(cached -> cached.tournamentId.equals(tournamentId));
+        }
+    }
+
+    /**
+     * Stage of every engine match, and the placements its loser and winner earn
+     * Mirrors TournamentService's points rules: single elim losers place by round and the
+     * final's winner is first; double elim places losers bracket losers by round and the
+     * winner of the last losers round first.
+     */
+    private void label(BaseEvent event, BracketEngine engine, List<String> stages, int[] stageOf,
+                       String[] loserLabel, String[] winnerLabel) {
+        if (event instanceof SingleElimEvent singleElim) {
+            List<Round> rounds = singleElim.getRounds();
+            for (int r = 0; r < rounds.size(); r++) {
+                stages.add("Round " + (r + 1));
+            }
+            for (int match = 0; match < engine.size(); match++) {
+                int r = engine.getRound(match);
+                stageOf[match] = r;
+                loserLabel[match] = tournamentService.getPlacementForSingleElimRound(rounds.size(), r);
+                if (r == rounds.size() - 1 && match == engine.size() - rounds.get(r).getMatches().size()) {
+                    winnerLabel[match] = "1";
+                }
+            }
+            return;
+        }
+
+        DoubleElimEvent doubleElim = (DoubleElimEvent) event;
+        List<DoubleElimRound> winners = doubleElim.getWinnersBracket();
+        List<DoubleElimRound> losers = doubleElim.getLosersBracket();
+        for (int r = 0; r < winners.size(); r++) {
+            stages.add("Winners " + (r + 1));
+        }
+        for (int r = 0; r < losers.size(); r++) {
+            stages.add("Losers " + (r + 1));
+        }
+        if (doubleElim.getBronzeMatch() != null) {
+            stages.add("Bronze");
+        }
+        int lastLosersRoundStart = -1;
+        for (int match = 0; match < engine.size(); match++) {
+            int r = engine.getRound(match);
+            switch (engine.getBracket(match)) {
+                case BracketEngine.MAIN -> stageOf[match] = r;
+                case BracketEngine.LOSERS -> {
+                    stageOf[match] = winners.size() + r;
+                    loserLabel[match] = tournamentService.getPlacementForDoubleElimLosersRound(losers.size(), r, losers);
+                    if (r == losers.size() - 1 && lastLosersRoundStart < 0) {
+                        lastLosersRoundStart = match;
+                    }
+                }
+                default -> stageOf[match] = winners.size() + losers.size();
+            }
+        }
+        if (lastLosersRoundStart >= 0) {
+            winnerLabel[lastLosersRoundStart] = "1";
+        }
+    }
+
+    private List<User> members(Object entrant) {
+        if (entrant instanceof Team team) {
+            return team.getPlayer2() == null ? List.of(team.getPlayer1()) : List.of(team.getPlayer1(), team.getPlayer2());
+        }
+        return List.of((User) entrant);
+    }
+
+    // Changes whenever a slot, winner or completion changes, or the event is re-drawn
+    private long signature(BracketAdapter.LoadedBracket loaded, int sequence, long day) {
+        BracketEngine engine = loaded.getEngine();
+        long hash = 31L * sequence + day;
+        for (int e = 1; e <= loaded.entrantCount(); e++) {
+            Object entrant = loaded.entrant(e);
+            hash = 31 * hash + (entrant instanceof Team team ? team.getId() : ((User) entrant).getId());
+        }
+        for (int match = 0; match < engine.size(); match++) {
+            hash = 31 * hash + engine.getSlotA(match);
+            hash = 31 * hash + engine.getSlotB(match);
+            hash = 31 * hash + (engine.isCompleted(match) ? engine.getWinner(match) + 1 : 0);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,55 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Adds the unique (match_id, game_number) constraint to existing game tables
+ * Live scoring upserts games on that pair. Hibernate adds the constraint to new schemas, but
+ * on an existing one it fails if duplicate games were written before it existed; so after the
+ * schema update, any duplicates are removed (keeping the newest row of each game) and the
+ * constraint added, in one transaction.
+ */
+@Service
+@DependsOn("entityManagerFactory")
+public class GameConstraintMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(GameConstraintMigration.class);
+
+    static final String CONSTRAINT = "uk_game_match_number";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        Integer tables = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM information_schema.tables WHERE table_schema = current_schema() AND table_name = 'game'",
+            Integer.class);
+        Integer constraints = jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM information_schema.table_constraints " +
+            "WHERE table_schema = current_schema() AND table_name = 'game' AND constraint_name = ?",
+            Integer.class, CONSTRAINT);
+        if (tables == null || tables == 0 || (constraints != null && constraints > 0)) {
+            return;
+        }
+
+        int removed = transactionTemplate.execute(status -> {
+            int duplicates = jdbcTemplate.update(
+                "DELETE FROM game g USING game newer " +
+                "WHERE newer.match_id = g.match_id AND newer.game_number = g.game_number AND newer.id > g.id");
+            jdbcTemplate.execute("ALTER TABLE game ADD CONSTRAINT " + CONSTRAINT + " UNIQUE (match_id, game_number)");
+            return duplicates;
+        });
+        log.info("Added unique (match_id, game_number) to game, removing {} duplicate games", removed);
+    }
+}
@@ -0,0 +1,231 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Guest identities for players who sign up without an account
+ * A guest is an ordinary users row flagged as guest so it can be entered in events,
+ * but it has no usable password (nothing to hash) and cannot log in. Each guest gets
+ * a random claim token; a real account presenting it takes over the guest's entries.
+ */
+@Service
+public class GuestService {
+
+    private static final Logger log = LoggerFactory.getLogger(GuestService.class);
+
+    // Not a BCrypt hash, so no password ever matches it
+    private static final String NO_PASSWORD = "!guest";
+
+    // Unclaimed guests are kept this long after their last tournament ends
+    private static final long PURGE_AFTER_MILLIS = 30L * 24 * 60 * 60 * 1000;
+    private static final int PURGE_BATCH_SIZE = 500;
+
+    private final SecureRandom random = new SecureRandom();
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private LeagueService leagueService;
+
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
+    @Autowired
+    private HeadToHeadService headToHeadService;
+
+    @Autowired
+    private PageVersionService pageVersionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * A newly created guest and the claim token to hand back to the client (only available here)
+     */
+    public static class GuestIdentity {
+        private final User user;
+        private final String claimToken;
+
+        public GuestIdentity(User user, String claimToken) {
+            this.user = user;
+            this.claimToken = claimToken;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public String getClaimToken() {
+            return claimToken;
+        }
+    }
+
+    /**
+     * Create a guest user; costs one insert and a SHA-256, no password hashing
+     */
+    public GuestIdentity createGuest(String fullName) {
+        if (fullName == null || fullName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Full name is required for guest signup");
+        }
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String claimToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        User guest = new User("guest_" + UUID.randomUUID() + "@temporary.local", fullName.trim(), NO_PASSWORD);
+        guest.setGuest(true);
+        guest.setClaimTokenHash(hashToken(claimToken));
+        return new GuestIdentity(userRepo.save(guest), claimToken);
+    }
+
+    /**
+     * Move everything a guest entered into the given real account, then delete the guest
+     * Where both were registered for the same event the account's own entry is kept.
+     * @return Number of events the account gained
+     */
+    @Transactional
+    public int claimGuest(String claimToken, User account) {
+        if (claimToken == null || claimToken.isBlank()) {
+            throw new IllegalArgumentException("Claim token is required");
+        }
+        if (account.isGuest()) {
+            throw new IllegalArgumentException("Only a registered account can claim a guest");
+        }
+        User guest = userRepo.findByClaimTokenHashAndGuestTrue(hashToken(claimToken.trim()))
+            .orElseThrow(() -> new IllegalArgumentException("Invalid or already used claim token"));
+        Long guestId = guest.getId();
+        Long accountId = account.getId();
+
+        // Duplicate registrations: drop the guest's and free any slot it held
+        List<Map<String, Object>> dropped = jdbcTemplate.queryForList(
+            "DELETE FROM event_registrations g USING event_registrations a " +
+            "WHERE g.user_id = ? AND a.user_id = ? AND a.event_id = g.event_id " +
+            "RETURNING g.event_id, g.status", guestId, accountId);
+        int moved = jdbcTemplate.update(
+            "UPDATE event_registrations SET user_id = ? WHERE user_id = ?", accountId, guestId);
+
+        jdbcTemplate.update(
+            "DELETE FROM user_events g USING user_events a " +
+            "WHERE g.user_id = ? AND a.user_id = ? AND a.event_id = g.event_id", guestId, accountId);
+        jdbcTemplate.update("UPDATE user_events SET user_id = ? WHERE user_id = ?", accountId, guestId);
+
+        // Seeds are keyed on the user id with no foreign key; where both are seeded the account's seed stands
+        jdbcTemplate.update(
+            "DELETE FROM event_seeds g USING event_seeds a " +
+            "WHERE g.user_id = ? AND a.user_id = ? AND a.event_id = g.event_id", guestId, accountId);
+        jdbcTemplate.update("UPDATE event_seeds SET user_id = ? WHERE user_id = ?", accountId, guestId);
+
+        // Completed matches the guest played, whose head-to-head sides change with the move
+        List<Long> playedMatchIds = jdbcTemplate.queryForList(
+            "SELECT m.id FROM matches m LEFT JOIN team ta ON ta.id = m.team_a_id LEFT JOIN team tb ON tb.id = m.team_b_id " +
+            "WHERE m.completed AND ? IN (m.player_a_id, m.player_b_id, ta.player1_id, ta.player2_id, tb.player1_id, tb.player2_id)",
+            Long.class, guestId);
+
+        // Teams and matches already played move over as they are
+        jdbcTemplate.update("UPDATE team SET player1_id = ? WHERE player1_id = ?", accountId, guestId);
+        jdbcTemplate.update("UPDATE team SET player2_id = ? WHERE player2_id = ?", accountId, guestId);
+        jdbcTemplate.update("UPDATE matches SET player_a_id = ? WHERE player_a_id = ?", accountId, guestId);
+        jdbcTemplate.update("UPDATE matches SET player_b_id = ? WHERE player_b_id = ?", accountId, guestId);
+        jdbcTemplate.update("UPDATE matches SET winner_id = ? WHERE winner_id = ?", accountId, guestId);
+
+        // League rankings are derived from results, so rebuild them rather than merging rows
+        List<Long> leagueIds = jdbcTemplate.queryForList(
+            "SELECT DISTINCT league_id FROM league_player_rankings WHERE player_id = ?", Long.class, guestId);
+        jdbcTemplate.update("DELETE FROM league_player_rankings WHERE player_id = ?", guestId);
+
+        // Stats and head-to-head records are rebuilt from the moved matches; player_stats
+        // references users, so the guest's rows must be gone before the guest is
+        playerStatsService.rebuildPlayers(List.of(guestId, accountId));
+        headToHeadService.rebuildMeetings(playedMatchIds);
+
+        // The guest's rating becomes the account's if it has none; otherwise it's dropped and
+        // the nightly re-rate folds the guest's results into the account's rating
+        jdbcTemplate.update(
+            "UPDATE player_ratings SET player_id = ? WHERE player_id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM player_ratings WHERE player_id = ?)", accountId, guestId, accountId);
+        jdbcTemplate.update("DELETE FROM player_ratings WHERE player_id = ?", guestId);
+
+        userRepo.delete(guest);
+        // Pages showing the guest's entries now show the account
+        pageVersionService.bumpForUsers(List.of(accountId));
+
+        for (Map<String, Object> row : dropped) {
+            String status = (String) row.get("status");
+            if ("PENDING".equals(status) || "APPROVED".equals(status)) {
+                tournamentService.releaseEventSlot(((Number) row.get("event_id")).longValue());
+            }
+        }
+        for (Long leagueId : leagueIds) {
+            leagueService.recalculateLeagueRankings(leagueId);
+        }
+        return moved;
+    }
+
+    /**
+     * Delete unclaimed guests whose tournaments ended more than 30 days ago, in batches
+     * Guests who appear in a team or match are kept so results stay intact.
+     * Runs daily at 3 AM.
+     */
+    @Scheduled(cron = "0 0 3 * * ?")
+    public void purgeExpiredGuests() {
+        Date cutoff = new Date(System.currentTimeMillis() - PURGE_AFTER_MILLIS);
+        int purged = 0;
+        while (true) {
+            List<Long> ids = userRepo.findPurgeableGuestIds(cutoff, PURGE_BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            purged += purgeBatch(ids);
+            if (ids.size() < PURGE_BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("Purged {} expired guest accounts (cutoff {})", purged, cutoff);
+    }
+
+    /**
+     * Each delete commits on its own; a guest left half-purged still qualifies on the next run
+     */
+    private int purgeBatch(List<Long> ids) {
+        // Rows left from results since deleted; player_stats references users
+        userRepo.deleteStatsOf(ids);
+        userRepo.deleteRatingsOf(ids);
+        headToHeadService.removePlayers(ids);
+        pageVersionService.bumpForUsers(ids);
+        userRepo.deleteRegistrationsOf(ids);
+        userRepo.deleteEventEntriesOf(ids);
+        return userRepo.deleteGuests(ids);
+    }
+
+    private static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.DTO.HeadToHeadDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.HeadToHeadMeetingDTO;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Head-to-head records between sides, kept in the head_to_head and head_to_head_meetings tables
+ * Recording a meeting upserts the pair's totals and adds a meeting row in two statements;
+ * removing meetings subtracts them back out set-based. Everything is plain SQL so two results
+ * for the same pair at once can't lose an update.
+ */
+@Service
+public class HeadToHeadService {
+
+    private static final Logger log = LoggerFactory.getLogger(HeadToHeadService.class);
+
+    private static final int MAX_MEETINGS = 100;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // SQL for the side key of team t, matching sideKey()
+    private static String teamKey(String t) {
+        return String.format("CASE WHEN %1$s.player2_id IS NULL THEN CAST(%1$s.player1_id AS varchar) " +
+            "ELSE CAST(LEAST(%1$s.player1_id, %1$s.player2_id) AS varchar) || '+' || " +
+            "CAST(GREATEST(%1$s.player1_id, %1$s.player2_id) AS varchar) END", t);
+    }
+
+    /**
+     * Every counted result as a meeting, oriented so side_a is the lower key
+     * Same rules as live recording: byes and matches without a winner are skipped. Keys are
+     * compared bytewise (COLLATE "C") to agree with String.compareTo.
+     */
+    private static final String MEETINGS =
+        "WITH raw AS (" +
+        "SELECT m.id AS match_id, m.completed_at AS played_at, m.team_a_id IS NOT NULL AS doubles, " +
+        "CASE WHEN m.team_a_id IS NULL THEN CAST(m.player_a_id AS varchar) ELSE " + teamKey("ta") + " END AS key_a, " +
+        "CASE WHEN m.team_b_id IS NULL THEN CAST(m.player_b_id AS varchar) ELSE " + teamKey("tb") + " END AS key_b, " +
+        "COALESCE(m.winner_team_id, m.winner_id) = COALESCE(m.team_a_id, m.player_a_id) AS a_won, " +
+        "s.games_a, s.games_b, s.points_a, s.points_b " +
+        "FROM matches m LEFT JOIN team ta ON ta.id = m.team_a_id LEFT JOIN team tb ON tb.id = m.team_b_id " +
+        "CROSS JOIN LATERAL (" + MatchRepository.SCORE_TOTALS + ") s " +
+        "WHERE m.completed AND COALESCE(m.team_a_id, m.player_a_id) IS NOT NULL " +
+        "AND COALESCE(m.team_b_id, m.player_b_id) IS NOT NULL " +
+        "AND COALESCE(m.winner_team_id, m.winner_id) IS NOT NULL), " +
+        "oriented AS (" +
+        "SELECT match_id, played_at, doubles, key_a COLLATE \"C\" < key_b COLLATE \"C\" AS kept, " +
+        "key_a, key_b, a_won, games_a, games_b, points_a, points_b FROM raw) " +
+        "SELECT match_id, played_at, doubles, " +
+        "CASE WHEN kept THEN key_a ELSE key_b END AS side_a, CASE WHEN kept THEN key_b ELSE key_a END AS side_b, " +
+        "CASE WHEN kept THEN a_won ELSE NOT a_won END AS side_a_won, " +
+        "CASE WHEN kept THEN games_a ELSE games_b END AS games_a, CASE WHEN kept THEN games_b ELSE games_a END AS games_b, " +
+        "CASE WHEN kept THEN points_a ELSE points_b END AS points_a, CASE WHEN kept THEN points_b ELSE points_a END AS points_b " +
+        "FROM oriented";
+
+    /**
+     * Build the tables from every completed match on first start
+     * Done as two set-based statements over all matches rather than match by match, so the
+     * database can scan and aggregate with parallel workers.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM head_to_head_meetings", Integer.class);
+        if (existing != null && existing > 0) {
+            return;
+        }
+
+        int pairs = jdbcTemplate.update(
+            "INSERT INTO head_to_head (side_a, side_b, doubles, wins_a, wins_b, games_a, games_b, points_a, points_b) " +
+            "SELECT side_a, side_b, bool_or(doubles), " +
+            "CAST(COUNT(*) FILTER (WHERE side_a_won) AS integer), CAST(COUNT(*) FILTER (WHERE NOT side_a_won) AS integer), " +
+            "CAST(SUM(games_a) AS integer), CAST(SUM(games_b) AS integer), " +
+            "CAST(SUM(points_a) AS integer), CAST(SUM(points_b) AS integer) " +
+            "FROM (" + MEETINGS + ") meetings GROUP BY side_a, side_b");
+        if (pairs == 0) {
+            return;
+        }
+        int meetings = jdbcTemplate.update(
+            "INSERT INTO head_to_head_meetings " +
+            "(head_to_head_id, match_id, side_a_won, games_a, games_b, points_a, points_b, played_at) " +
+            "SELECT h.id, o.match_id, o.side_a_won, o.games_a, o.games_b, o.points_a, o.points_b, o.played_at " +
+            "FROM (" + MEETINGS + ") o JOIN head_to_head h ON h.side_a = o.side_a AND h.side_b = o.side_b");
+        log.info("Built head-to-head records for {} pairs from {} matches", pairs, meetings);
+    }
+
+    /**
+     * Add a completed match to its pair's record
+     * @param summary Games and points per side, as from StandingsUtil.summarizeScore
+     */
+    public void recordMeeting(Match match, List<User> sideA, List<User> sideB, boolean sideAWon, int[] summary) {
+        String keyA = sideKey(sideA);
+        String keyB = sideKey(sideB);
+        boolean kept = keyA.compareTo(keyB) < 0;
+        boolean won = kept == sideAWon;
+        int gamesA = kept ? summary[0] : summary[1];
+        int gamesB = kept ? summary[1] : summary[0];
+        int pointsA = kept ? summary[2] : summary[3];
+        int pointsB = kept ? summary[3] : summary[2];
+
+        Long pairId = jdbcTemplate.queryForObject(
+            "INSERT INTO head_to_head (side_a, side_b, doubles, wins_a, wins_b, games_a, games_b, points_a, points_b) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (side_a, side_b) DO UPDATE SET " +
+            "wins_a = head_to_head.wins_a + EXCLUDED.wins_a, wins_b = head_to_head.wins_b + EXCLUDED.wins_b, " +
+            "games_a = head_to_head.games_a + EXCLUDED.games_a, games_b = head_to_head.games_b + EXCLUDED.games_b, " +
+            "points_a = head_to_head.points_a + EXCLUDED.points_a, points_b = head_to_head.points_b + EXCLUDED.points_b " +
+            "RETURNING id", Long.class,
+            kept ? keyA : keyB, kept ? keyB : keyA, sideA.size() > 1 || sideB.size() > 1,
+            won ? 1 : 0, won ? 0 : 1, gamesA, gamesB, pointsA, pointsB);
+
+        jdbcTemplate.update(
+            "INSERT INTO head_to_head_meetings " +
+            "(head_to_head_id, match_id, side_a_won, games_a, games_b, points_a, points_b, played_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            pairId, match.getId(), won, gamesA, gamesB, pointsA, pointsB,
+            match.getCompletedAt() != null ? Timestamp.valueOf(match.getCompletedAt()) : null);
+    }
+
+    /**
+     * Take matches back out of their pairs' records
+     */
+    public void removeMeetings(Collection<Long> matchIds) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+        String placeholders = matchIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        removeMeetings("IN (" + placeholders + ")", matchIds.toArray());
+    }
+
+    /**
+     * Take the meetings of every match matching the predicate out of their pairs' records
+     * @param matchPredicate SQL applied to a match id, e.g. "IN (SELECT id FROM matches WHERE event_id = ?)"
+     */
+    public void removeMeetings(String matchPredicate, Object... args) {
+        jdbcTemplate.update(String.format(
+            "UPDATE head_to_head h SET wins_a = h.wins_a - d.wins_a, wins_b = h.wins_b - d.wins_b, " +
+            "games_a = h.games_a - d.games_a, games_b = h.games_b - d.games_b, " +
+            "points_a = h.points_a - d.points_a, points_b = h.points_b - d.points_b " +
+            "FROM (SELECT head_to_head_id, " +
+            "COUNT(*) FILTER (WHERE side_a_won) AS wins_a, COUNT(*) FILTER (WHERE NOT side_a_won) AS wins_b, " +
+            "SUM(games_a) AS games_a, SUM(games_b) AS games_b, SUM(points_a) AS points_a, SUM(points_b) AS points_b " +
+            "FROM head_to_head_meetings WHERE match_id %s GROUP BY head_to_head_id) d " +
+            "WHERE h.id = d.head_to_head_id", matchPredicate), args);
+        jdbcTemplate.update(String.format("DELETE FROM head_to_head_meetings WHERE match_id %s", matchPredicate), args);
+    }
+
+    /**
+     * Re-key matches whose sides changed, e.g. after an account claims a guest's results
+     * The matches are taken out of their old pairs, pairs left without meetings are dropped,
+     * and the matches are added back under the sides they have now.
+     */
+    public void rebuildMeetings(Collection<Long> matchIds) {
+        if (matchIds.isEmpty()) {
+            return;
+        }
+        String in = "IN (" + matchIds.stream().map(id -> "?").collect(Collectors.joining(", ")) + ")";
+        Object[] args = matchIds.toArray();
+        List<Long> oldPairs = jdbcTemplate.queryForList(
+            "SELECT DISTINCT head_to_head_id FROM head_to_head_meetings WHERE match_id " + in, Long.class, args);
+        removeMeetings(in, args);
+        if (!oldPairs.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM head_to_head h WHERE h.id IN (" +
+                oldPairs.stream().map(id -> "?").collect(Collectors.joining(", ")) + ") " +
+                "AND NOT EXISTS (SELECT 1 FROM head_to_head_meetings m WHERE m.head_to_head_id = h.id)",
+                oldPairs.toArray());
+        }
+
+        jdbcTemplate.update(
+            "INSERT INTO head_to_head (side_a, side_b, doubles, wins_a, wins_b, games_a, games_b, points_a, points_b) " +
+            "SELECT side_a, side_b, bool_or(doubles), " +
+            "CAST(COUNT(*) FILTER (WHERE side_a_won) AS integer), CAST(COUNT(*) FILTER (WHERE NOT side_a_won) AS integer), " +
+            "CAST(SUM(games_a) AS integer), CAST(SUM(games_b) AS integer), " +
+            "CAST(SUM(points_a) AS integer), CAST(SUM(points_b) AS integer) " +
+            "FROM (" + MEETINGS + ") meetings WHERE match_id " + in + " GROUP BY side_a, side_b " +
+            "ON CONFLICT (side_a, side_b) DO UPDATE SET " +
+            "wins_a = head_to_head.wins_a + EXCLUDED.wins_a, wins_b = head_to_head.wins_b + EXCLUDED.wins_b, " +
+            "games_a = head_to_head.games_a + EXCLUDED.games_a, games_b = head_to_head.games_b + EXCLUDED.games_b, " +
+            "points_a = head_to_head.points_a + EXCLUDED.points_a, points_b = head_to_head.points_b + EXCLUDED.points_b",
+            args);
+        jdbcTemplate.update(
+            "INSERT INTO head_to_head_meetings " +
+            "(head_to_head_id, match_id, side_a_won, games_a, games_b, points_a, points_b, played_at) " +
+            "SELECT h.id, o.match_id, o.side_a_won, o.games_a, o.games_b, o.points_a, o.points_b, o.played_at " +
+            "FROM (" + MEETINGS + ") o JOIN head_to_head h ON h.side_a = o.side_a AND h.side_b = o.side_b " +
+            "WHERE o.match_id " + in,
+            args);
+    }
+
+    /**
+     * Drop every pair (and its meetings) with one of these players on either side
+     * For players being deleted; their matches are gone, so only the keys are left.
+     */
+    public void removePlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        String involved = "EXISTS (SELECT 1 FROM unnest(string_to_array(h.side_a || '+' || h.side_b, '+')) k " +
+            "WHERE CAST(k AS bigint) IN (" + playerIds.stream().map(id -> "?").collect(Collectors.joining(", ")) + "))";
+        Object[] args = playerIds.toArray();
+        jdbcTemplate.update("DELETE FROM head_to_head_meetings m USING head_to_head h " +
+            "WHERE m.head_to_head_id = h.id AND " + involved, args);
+        jdbcTemplate.update("DELETE FROM head_to_head h WHERE " + involved, args);
+    }
+
+    /**
+     * Record of one side against another, with their most recent meetings
+     * Both come from one query: the pair row by its unique key, then its newest meetings
+     * off the (head_to_head_id, played_at) index.
+     * @param side Player ids of the side asked about (one for singles, two for doubles)
+     * @param opponent Player ids of the other side
+     * @param limit Number of meetings to return
+     */
+    public HeadToHeadDTO getHeadToHead(List<Long> side, List<Long> opponent, int limit) {
+        if (side.isEmpty() || opponent.isEmpty()) {
+            throw new IllegalArgumentException("Both sides need at least one player");
+        }
+        if (limit < 0 || limit > MAX_MEETINGS) {
+            throw new IllegalArgumentException("Number of meetings must be between 0 and " + MAX_MEETINGS);
+        }
+        String key = idKey(side);
+        String opponentKey = idKey(opponent);
+        if (key.equals(opponentKey)) {
+            throw new IllegalArgumentException("A side has no record against itself");
+        }
+        boolean kept = key.compareTo(opponentKey) < 0;
+
+        HeadToHeadDTO record = new HeadToHeadDTO(sorted(side), sorted(opponent), 0, 0, 0, 0, 0, 0, new ArrayList<>());
+        jdbcTemplate.query(
+            "SELECT h.wins_a, h.wins_b, h.games_a, h.games_b, h.points_a, h.points_b, " +
+            "mt.match_id, mt.side_a_won, mt.games_a AS meeting_games_a, mt.games_b AS meeting_games_b, " +
+            "mt.points_a AS meeting_points_a, mt.points_b AS meeting_points_b, mt.played_at " +
+            "FROM head_to_head h LEFT JOIN LATERAL (" +
+            "SELECT * FROM head_to_head_meetings m WHERE m.head_to_head_id = h.id " +
+            "ORDER BY m.played_at DESC NULLS LAST LIMIT ?) mt ON true " +
+            "WHERE h.side_a = ? AND h.side_b = ? ORDER BY mt.played_at DESC NULLS LAST",
+            rs -> {
+                // The pair's totals repeat on every row
+                record.setWins(rs.getInt(kept ? "wins_a" : "wins_b"));
+                record.setLosses(rs.getInt(kept ? "wins_b" : "wins_a"));
+                record.setGamesWon(rs.getInt(kept ? "games_a" : "games_b"));
+                record.setGamesLost(rs.getInt(kept ? "games_b" : "games_a"));
+                record.setPointsWon(rs.getInt(kept ? "points_a" : "points_b"));
+                record.setPointsLost(rs.getInt(kept ? "points_b" : "points_a"));
+                long matchId = rs.getLong("match_id");
+                if (rs.wasNull()) {
+                    return;
+                }
+                Timestamp playedAt = rs.getTimestamp("played_at");
+                record.getMeetings().add(new HeadToHeadMeetingDTO(
+                    matchId,
+                    rs.getBoolean("side_a_won") == kept,
+                    rs.getInt(kept ? "meeting_games_a" : "meeting_games_b"),
+                    rs.getInt(kept ? "meeting_games_b" : "meeting_games_a"),
+                    rs.getInt(kept ? "meeting_points_a" : "meeting_points_b"),
+                    rs.getInt(kept ? "meeting_points_b" : "meeting_points_a"),
+                    playedAt != null ? playedAt.toLocalDateTime() : null));
+            },
+            limit, kept ? key : opponentKey, kept ? opponentKey : key);
+        return record;
+    }
+
+    private static String sideKey(List<User> players) {
+        return idKey(players.stream().map(User::getId).toList());
+    }
+
+    // Player ids ascending, joined with '+'
+    private static String idKey(List<Long> ids) {
+        return sorted(ids).stream().map(String::valueOf).collect(Collectors.joining("+"));
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return new ArrayList<>(new TreeSet<>(ids));
+    }
+}
@@ -0,0 +1,144 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.IdempotencyRecord;
+import com.tournamenthost.connect.frontend.with.backend.Repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Storage for Idempotency-Key outcomes
+ * Completed outcomes are kept in the idempotency_keys table for a day, with the most
+ * recent ones also held in memory so a burst of retries never reaches the database.
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    /** How long a stored outcome can be replayed */
+    public static final long TTL_HOURS = 24;
+
+    /** An attempt still marked in progress after this long is assumed to have died */
+    public static final long IN_PROGRESS_TIMEOUT_MINUTES = 5;
+
+    private static final int CACHE_SIZE = 10_000;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepo;
+
+    // Least recently used completed outcomes
+    private final Map<String, IdempotencyRecord> cache = Collections.synchronizedMap(
+        new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        });
+
+    /**
+     * Look up the outcome recorded for a key, if any
+     */
+    public Optional<IdempotencyRecord> find(String keyHash) {
+        IdempotencyRecord cached = cache.get(keyHash);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return Optional.of(cached);
+            }
+            cache.remove(keyHash);
+        }
+        return idempotencyRecordRepo.findByKeyHash(keyHash).filter(record -> !isExpired(record));
+    }
+
+    /**
+     * Claim a key for a first attempt
+     * @return false if another attempt with the same key got there first
+     */
+    public boolean begin(String keyHash, String requestHash) {
+        // Expired or abandoned rows would otherwise block the key until the next prune
+        idempotencyRecordRepo.findByKeyHash(keyHash)
+            .filter(record -> isExpired(record) || isAbandoned(record))
+            .ifPresent(record -> idempotencyRecordRepo.deleteByKeyHash(keyHash));
+
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setKeyHash(keyHash);
+        record.setRequestHash(requestHash);
+        try {
+            idempotencyRecordRepo.saveAndFlush(record);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Store the outcome of a first attempt so retries can replay it
+     */
+    public void complete(String keyHash, String requestHash, int statusCode, String contentType, String body) {
+        idempotencyRecordRepo.complete(keyHash, statusCode, contentType, body);
+
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setKeyHash(keyHash);
+        record.setRequestHash(requestHash);
+        record.setStatusCode(statusCode);
+        record.setContentType(contentType);
+        record.setResponseBody(body);
+        record.setCreatedAt(LocalDateTime.now());
+        cache.put(keyHash, record);
+    }
+
+    /**
+     * Forget a key whose attempt failed in a way worth retrying (server errors)
+     */
+    public void abandon(String keyHash) {
+        cache.remove(keyHash);
+        idempotencyRecordRepo.deleteByKeyHash(keyHash);
+    }
+
+    public boolean isAbandoned(IdempotencyRecord record) {
+        return !record.isCompleted()
+            && record.getCreatedAt().isBefore(LocalDateTime.now().minusMinutes(IN_PROGRESS_TIMEOUT_MINUTES));
+    }
+
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getCreatedAt().isBefore(LocalDateTime.now().minusHours(TTL_HOURS));
+    }
+
+    /**
+     * Drop expired outcomes; runs every hour
+     */
+    @Scheduled(cron = "0 15 * * * ?")
+    public void pruneExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(TTL_HOURS);
+        int removed = idempotencyRecordRepo.deleteCreatedBefore(cutoff);
+        synchronized (cache) {
+            cache.values().removeIf(this::isExpired);
+        }
+        log.info("Pruned {} expired idempotency keys", removed);
+    }
+
+    public static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static String sha256(String value) {
+        return sha256(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
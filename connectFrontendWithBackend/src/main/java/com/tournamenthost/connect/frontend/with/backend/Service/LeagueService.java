@@ -7,6 +7,7 @@ import java.util.*;
 
 import com.tournamenthost.connect.frontend.with.backend.Model.League;
 import com.tournamenthost.connect.frontend.with.backend.Model.LeaguePlayerRanking;
+import com.tournamenthost.connect.frontend.with.backend.Model.PlayerStats;
 import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Repository.LeagueRepository;
@@ -24,6 +25,9 @@ public class LeagueService {
     @Autowired
     private TournamentService tournamentService;
 
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
     // ==================== LEAGUE CRUD OPERATIONS ====================
 
     /**
@@ -67,6 +71,7 @@ public class LeagueService {
     public void deleteLeague(Long leagueId, User user) {
         League league = getLeague(leagueId);
         verifyEditPermission(leagueId, user);
+        playerStatsService.removeLeague(league);
         leagueRepo.delete(league);
     }
 
@@ -95,6 +100,7 @@ public class LeagueService {
 
         league.addTournament(tournament);
         leagueRepo.save(league);
+        playerStatsService.rebuildLeague(league);
     }
 
     /**
@@ -112,6 +118,7 @@ public class LeagueService {
 
         league.removeTournament(tournament);
         leagueRepo.save(league);
+        playerStatsService.rebuildLeague(league);
 
         // Recalculate rankings after removing tournament
         recalculateLeagueRankings(leagueId);
@@ -130,6 +137,7 @@ public class LeagueService {
     /**
      * Calculate and update league rankings
      * Rankings are based on cumulative points from all tournaments in the league
+     * Match records come from the league's player stats rows
      */
     public List<LeaguePlayerRanking> recalculateLeagueRankings(Long leagueId) {
         League league = getLeague(leagueId);
@@ -146,11 +154,14 @@ public class LeagueService {
         Map<User, Integer> playerMatchesLost = new HashMap<>();
         Map<User, Integer> playerMatchesPlayed = new HashMap<>();
 
+        Map<Long, PlayerStats> leagueStats = playerStatsService.getLeagueStats(league);
+
         for (User player : allPlayers) {
             int totalPoints = 0;
-            int totalMatchesWon = 0;
-            int totalMatchesLost = 0;
-            int totalMatchesPlayed = 0;
+            PlayerStats stats = leagueStats.get(player.getId());
+            int totalMatchesWon = stats != null ? stats.getMatchesWon() : 0;
+            int totalMatchesLost = stats != null ? stats.getMatchesLost() : 0;
+            int totalMatchesPlayed = stats != null ? stats.getMatchesPlayed() : 0;
 
             // Sum points from each tournament in the league
             for (Tournament tournament : league.getTournaments()) {
@@ -164,10 +175,6 @@ public class LeagueService {
                 } catch (IllegalArgumentException e) {
                     // Tournament has no completed events or no points distributions, skip
                 }
-
-                // TODO: Calculate matches won/lost/played from tournament data
-                // This would require iterating through all matches in the tournament
-                // For now, we'll leave these as 0
             }
 
             playerTotalPoints.put(player, totalPoints);
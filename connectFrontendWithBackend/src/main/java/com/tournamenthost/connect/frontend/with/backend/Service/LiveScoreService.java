@@ -0,0 +1,569 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.DTO.LiveScoreDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.LiveScoreStartRequest;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Point-by-point scoring of matches in progress
+ * Every rally updates an in-memory score for the match and is pushed to watchers over SSE,
+ * but nothing is written per rally: a background flush writes each changed match's Game rows
+ * and games-won counters at most once a second, so a burst of points becomes one update.
+ * Finishing the match flushes immediately and records the result through the normal path.
+ * Writes for one match go one at a time under its write lock, so a later score is never
+ * overwritten by an earlier one. If the server restarts, scoring resumes from the last
+ * flushed score.
+ */
+@Service
+public class LiveScoreService {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveScoreService.class);
+
+    private static final int DEFAULT_POINTS_TO_WIN = 21;
+    private static final int DEFAULT_WIN_BY = 2;
+    private static final int DEFAULT_POINT_CAP = 30;
+
+    /** Live matches nobody has scored for this long are flushed and dropped from memory */
+    private static final long IDLE_TIMEOUT_MILLIS = 2 * 60 * 60 * 1000L;
+
+    /** Watchers are disconnected after this long and expected to reconnect */
+    private static final long WATCH_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    @Autowired
+    private MatchRepository matchRepo;
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PageVersionService pageVersionService;
+
+    private final Map<Long, LiveMatch> live = new ConcurrentHashMap<>();
+
+    private final Map<Long, List<SseEmitter>> watchers = new ConcurrentHashMap<>();
+
+    /**
+     * Score of one match; every field is guarded by the object's own lock
+     * writeLock is held from copying pending writes until they're stored (and, when finishing,
+     * until the result is recorded), so stores for a match land in the order they were taken.
+     */
+    private static class LiveMatch {
+        final Long tournamentId;
+        final Long matchId;
+        final Long sideAId;
+        final Long sideBId;
+        final Long sideATeamId; // Team ids for doubles, so finished games can record their winner
+        final Long sideBTeamId;
+        final int gamesRequiredToWin;
+        final int pointsToWin;
+        final int winBy;
+        final int pointCap;
+        final Set<Long> scorers = ConcurrentHashMap.newKeySet();
+        final ReentrantLock writeLock = new ReentrantLock();
+
+        // Points per game, indexed by game - 1; at most 2 * gamesRequiredToWin - 1 games
+        final int[] pointsA;
+        final int[] pointsB;
+        int currentGame; // 0-based
+        int sideAGamesWon;
+        int sideBGamesWon;
+
+        // Sides that won each rally of the current game, for undo
+        int[] rallies = new int[64];
+        int rallyCount;
+
+        long version;
+        boolean finished;
+
+        // Write-behind bookkeeping: first game changed since the last flush, and rows that exist
+        int dirtyFrom = Integer.MAX_VALUE;
+        int storedGames;
+        long lastActivity = System.currentTimeMillis();
+
+        LiveMatch(Match match, Long tournamentId, int pointsToWin, int winBy, int pointCap) {
+            boolean teamBased = match.getTeamA() != null || match.getTeamB() != null;
+            this.tournamentId = tournamentId;
+            this.matchId = match.getId();
+            this.sideATeamId = teamBased ? match.getTeamA().getId() : null;
+            this.sideBTeamId = teamBased ? match.getTeamB().getId() : null;
+            this.sideAId = teamBased ? sideATeamId : match.getPlayerA().getId();
+            this.sideBId = teamBased ? sideBTeamId : match.getPlayerB().getId();
+            this.gamesRequiredToWin = Math.max(1, match.getGamesRequiredToWin());
+            this.pointsToWin = pointsToWin;
+            this.winBy = winBy;
+            this.pointCap = pointCap;
+            this.pointsA = new int[2 * gamesRequiredToWin - 1];
+            this.pointsB = new int[pointsA.length];
+        }
+
+        boolean gameOver(int a, int b) {
+            int high = Math.max(a, b);
+            if (pointCap > 0 && high >= pointCap) {
+                return true;
+            }
+            return high >= pointsToWin && Math.abs(a - b) >= winBy;
+        }
+
+        boolean matchOver() {
+            return sideAGamesWon >= gamesRequiredToWin || sideBGamesWon >= gamesRequiredToWin;
+        }
+
+        /**
+         * Take back the rally that ended the match, after recording its result failed
+         * The scorer awards it again to retry.
+         */
+        void reopen() {
+            int g = currentGame;
+            if (pointsA[g] > pointsB[g]) {
+                sideAGamesWon--;
+            } else {
+                sideBGamesWon--;
+            }
+            if (rallies[--rallyCount] == 0) {
+                pointsA[g]--;
+            } else {
+                pointsB[g]--;
+            }
+            finished = false;
+            markDirty(g);
+        }
+
+        void markDirty(int game) {
+            dirtyFrom = Math.min(dirtyFrom, game);
+            version++;
+            lastActivity = System.currentTimeMillis();
+        }
+
+        LiveScoreDTO snapshot() {
+            List<List<Integer>> games = new ArrayList<>(currentGame + 1);
+            for (int g = 0; g <= currentGame; g++) {
+                games.add(List.of(pointsA[g], pointsB[g]));
+            }
+            Long winnerId = !matchOver() ? null : (sideAGamesWon > sideBGamesWon ? sideAId : sideBId);
+            return new LiveScoreDTO(matchId, version, currentGame + 1, games,
+                sideAGamesWon, sideBGamesWon, finished, winnerId);
+        }
+    }
+
+    /**
+     * Rows to write for one match, copied under its lock so the writes happen outside it
+     * storedGames is the count before this write, to restore if the write fails.
+     */
+    private record PendingWrite(Long matchId, int fromGame, int toGame, int storedGames,
+                                int[] pointsA, int[] pointsB, Long[] winnerTeamIds,
+                                int sideAGamesWon, int sideBGamesWon) {
+    }
+
+    /**
+     * Start (or join) live scoring of a match
+     * Loads the match once; if it was live-scored before a restart, scoring resumes from
+     * its stored games. The caller must already have checked edit permission.
+     */
+    public LiveScoreDTO start(Long tournamentId, Long matchId, LiveScoreStartRequest rules, User scorer) {
+        LiveMatch existing = live.get(matchId);
+        if (existing != null) {
+            if (!existing.tournamentId.equals(tournamentId)) {
+                throw new IllegalArgumentException("Match with id " + matchId + " does not belong to tournament with id " + tournamentId);
+            }
+            existing.scorers.add(scorer.getId());
+            synchronized (existing) {
+                return existing.snapshot();
+            }
+        }
+
+        tournamentService.verifyMatchBelongsToTournament(matchId, tournamentId);
+        Match match = matchRepo.findById(matchId)
+            .orElseThrow(() -> new IllegalArgumentException("Match with id " + matchId + " not found"));
+        if (match.isCompleted()) {
+            throw new IllegalArgumentException("Match with id " + matchId + " has already been completed");
+        }
+        boolean teamBased = match.getTeamA() != null || match.getTeamB() != null;
+        boolean bothSides = teamBased
+            ? match.getTeamA() != null && match.getTeamB() != null
+            : match.getPlayerA() != null && match.getPlayerB() != null;
+        if (!bothSides) {
+            throw new IllegalStateException("Match with id " + matchId + " doesn't have both of its sides yet");
+        }
+
+        int pointsToWin = rules != null && rules.getPointsToWin() != null ? rules.getPointsToWin() : DEFAULT_POINTS_TO_WIN;
+        int winBy = rules != null && rules.getWinBy() != null ? rules.getWinBy() : DEFAULT_WIN_BY;
+        int pointCap = rules != null && rules.getPointCap() != null ? rules.getPointCap() : DEFAULT_POINT_CAP;
+        if (pointsToWin < 1 || winBy < 1 || (pointCap != 0 && pointCap < pointsToWin)) {
+            throw new IllegalArgumentException("Points to win and win by must be at least 1, and the cap can't be below points to win");
+        }
+
+        LiveMatch state = new LiveMatch(match, tournamentId, pointsToWin, winBy, pointCap);
+        resume(state);
+        state.scorers.add(scorer.getId());
+        if (state.matchOver()) {
+            // Every game was flushed but the result never got recorded; record it now
+            state.finished = true;
+            LiveScoreDTO snapshot = state.snapshot();
+            finish(state, snapshot);
+            return snapshot;
+        }
+
+        LiveMatch raced = live.putIfAbsent(matchId, state);
+        LiveMatch current = raced != null ? raced : state;
+        current.scorers.add(scorer.getId());
+        synchronized (current) {
+            return current.snapshot();
+        }
+    }
+
+    /**
+     * Pick up games flushed before a restart
+     */
+    private void resume(LiveMatch state) {
+        jdbcTemplate.query(
+            "SELECT game_number, teamascore, teambscore FROM game WHERE match_id = ? ORDER BY game_number",
+            rs -> {
+                int g = rs.getInt("game_number") - 1;
+                if (g >= 0 && g < state.pointsA.length) {
+                    state.currentGame = g;
+                    state.pointsA[g] = rs.getInt("teamascore");
+                    state.pointsB[g] = rs.getInt("teambscore");
+                    state.storedGames = Math.max(state.storedGames, g + 1);
+                }
+            },
+            state.matchId);
+        state.sideAGamesWon = 0;
+        state.sideBGamesWon = 0;
+        for (int g = 0; g <= state.currentGame; g++) {
+            if (state.gameOver(state.pointsA[g], state.pointsB[g])) {
+                if (state.pointsA[g] > state.pointsB[g]) {
+                    state.sideAGamesWon++;
+                } else {
+                    state.sideBGamesWon++;
+                }
+            }
+        }
+        // The last stored game was already finished: play continues in the next one
+        if (state.storedGames > 0 && state.gameOver(state.pointsA[state.currentGame], state.pointsB[state.currentGame])
+            && !state.matchOver() && state.currentGame + 1 < state.pointsA.length) {
+            state.currentGame++;
+        }
+    }
+
+    /**
+     * Award a rally to one side
+     * Permission is checked against the database only the first time a user scores a match.
+     * @param side "A" or "B"
+     */
+    public LiveScoreDTO point(Long tournamentId, Long matchId, String side, User scorer) {
+        boolean sideA = parseSide(side);
+        LiveMatch state = liveMatch(tournamentId, matchId, scorer);
+
+        LiveScoreDTO snapshot;
+        boolean finishedNow = false;
+        synchronized (state) {
+            if (state.finished) {
+                throw new IllegalStateException("Match with id " + matchId + " has already been completed");
+            }
+            int g = state.currentGame;
+            if (sideA) {
+                state.pointsA[g]++;
+            } else {
+                state.pointsB[g]++;
+            }
+            if (state.rallyCount == state.rallies.length) {
+                state.rallies = Arrays.copyOf(state.rallies, state.rallies.length * 2);
+            }
+            state.rallies[state.rallyCount++] = sideA ? 0 : 1;
+            state.markDirty(g);
+
+            if (state.gameOver(state.pointsA[g], state.pointsB[g])) {
+                if (state.pointsA[g] > state.pointsB[g]) {
+                    state.sideAGamesWon++;
+                } else {
+                    state.sideBGamesWon++;
+                }
+                if (state.matchOver()) {
+                    state.finished = true;
+                    finishedNow = true;
+                } else if (g + 1 < state.pointsA.length) {
+                    state.currentGame++;
+                    state.rallyCount = 0;
+                }
+            }
+            snapshot = state.snapshot();
+        }
+
+        if (finishedNow) {
+            finish(state, snapshot);
+        } else {
+            publish(matchId, snapshot, false);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Take back the last rally of the game in progress
+     * Finished games are final; correct them through the match result instead.
+     */
+    public LiveScoreDTO undoPoint(Long tournamentId, Long matchId, User scorer) {
+        LiveMatch state = liveMatch(tournamentId, matchId, scorer);
+        LiveScoreDTO snapshot;
+        synchronized (state) {
+            if (state.finished) {
+                throw new IllegalStateException("Match with id " + matchId + " has already been completed");
+            }
+            if (state.rallyCount == 0) {
+                throw new IllegalStateException("There are no points to undo in the current game");
+            }
+            int g = state.currentGame;
+            if (state.rallies[--state.rallyCount] == 0) {
+                state.pointsA[g]--;
+            } else {
+                state.pointsB[g]--;
+            }
+            state.markDirty(g);
+            snapshot = state.snapshot();
+        }
+        publish(matchId, snapshot, false);
+        return snapshot;
+    }
+
+    /**
+     * Current live score, or null if the match isn't being live-scored
+     */
+    public LiveScoreDTO getLiveScore(Long matchId) {
+        LiveMatch state = live.get(matchId);
+        if (state == null) {
+            return null;
+        }
+        synchronized (state) {
+            return state.snapshot();
+        }
+    }
+
+    /**
+     * Subscribe to a match's live score; the current score is sent straight away if it's live
+     */
+    public SseEmitter watch(Long matchId) {
+        SseEmitter emitter = new SseEmitter(WATCH_TIMEOUT_MILLIS);
+        List<SseEmitter> list = watchers.computeIfAbsent(matchId, id -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        Runnable remove = () -> removeWatcher(matchId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        LiveScoreDTO current = getLiveScore(matchId);
+        if (current != null) {
+            send(matchId, emitter, current);
+        }
+        return emitter;
+    }
+
+    private LiveMatch liveMatch(Long tournamentId, Long matchId, User scorer) {
+        LiveMatch state = live.get(matchId);
+        if (state == null) {
+            throw new IllegalStateException("Live scoring hasn't been started for match with id " + matchId);
+        }
+        if (!state.tournamentId.equals(tournamentId)) {
+            throw new IllegalArgumentException("Match with id " + matchId + " does not belong to tournament with id " + tournamentId);
+        }
+        if (!state.scorers.contains(scorer.getId())) {
+            tournamentService.verifyEditPermission(tournamentId, scorer);
+            state.scorers.add(scorer.getId());
+        }
+        return state;
+    }
+
+    private boolean parseSide(String side) {
+        if ("A".equalsIgnoreCase(side)) {
+            return true;
+        }
+        if ("B".equalsIgnoreCase(side)) {
+            return false;
+        }
+        throw new IllegalArgumentException("Side must be A or B");
+    }
+
+    /**
+     * Write the final games, then record the result through the normal path so brackets,
+     * standings, the result log and the schedule all update as for a typed-in result
+     * If either step fails the match stays live with its last rally taken back, so the
+     * scorer can award it again; watchers only see the final score once it's recorded.
+     */
+    private void finish(LiveMatch state, LiveScoreDTO snapshot) {
+        // Waits for a flush already writing this match, so its older games can't land last
+        state.writeLock.lock();
+        try {
+            PendingWrite write;
+            synchronized (state) {
+                write = pending(state);
+            }
+            if (write != null) {
+                store(state, write);
+            }
+
+            List<Integer> score = new ArrayList<>();
+            for (List<Integer> game : snapshot.getGames()) {
+                score.addAll(game);
+            }
+            tournamentService.recordMatchResult(state.tournamentId, state.matchId, snapshot.getWinnerId(), score);
+        } catch (RuntimeException e) {
+            LiveScoreDTO reopened;
+            synchronized (state) {
+                state.reopen();
+                reopened = state.snapshot();
+            }
+            publish(state.matchId, reopened, false);
+            throw e;
+        } finally {
+            state.writeLock.unlock();
+        }
+        live.remove(state.matchId, state);
+        publish(state.matchId, snapshot, true);
+    }
+
+    /**
+     * Write-behind flush: one write per changed match, however many points it took
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        long now = System.currentTimeMillis();
+        for (LiveMatch state : live.values()) {
+            // Held by finish(), which writes whatever is pending itself
+            if (!state.writeLock.tryLock()) {
+                continue;
+            }
+            boolean idle;
+            try {
+                PendingWrite write;
+                synchronized (state) {
+                    if (state.finished) {
+                        continue;
+                    }
+                    write = pending(state);
+                    idle = now - state.lastActivity > IDLE_TIMEOUT_MILLIS;
+                }
+                if (write != null && !store(state, write)) {
+                    continue;
+                }
+            } finally {
+                state.writeLock.unlock();
+            }
+            if (idle) {
+                live.remove(state.matchId, state);
+                log.info("Dropped idle live scoring of match {}; it resumes from the stored games", state.matchId);
+            }
+        }
+    }
+
+    // Must hold the state's lock
+    private PendingWrite pending(LiveMatch state) {
+        if (state.dirtyFrom == Integer.MAX_VALUE) {
+            return null;
+        }
+        int from = state.dirtyFrom;
+        int to = state.currentGame;
+        Long[] winnerTeamIds = new Long[to + 1];
+        for (int g = from; g <= to; g++) {
+            if (state.sideATeamId != null && state.gameOver(state.pointsA[g], state.pointsB[g])) {
+                winnerTeamIds[g] = state.pointsA[g] > state.pointsB[g] ? state.sideATeamId : state.sideBTeamId;
+            }
+        }
+        PendingWrite write = new PendingWrite(state.matchId, from, to, state.storedGames,
+            Arrays.copyOf(state.pointsA, to + 1), Arrays.copyOf(state.pointsB, to + 1), winnerTeamIds,
+            state.sideAGamesWon, state.sideBGamesWon);
+        state.dirtyFrom = Integer.MAX_VALUE;
+        state.storedGames = Math.max(state.storedGames, to + 1);
+        return write;
+    }
+
+    /**
+     * Upsert the changed games on (match_id, game_number), so a retried write can't lose or
+     * duplicate a game whether or not its row already exists. Caller holds the write lock.
+     * A failed flush is put back in the queue for the next one and returns false; a failed
+     * finish is rethrown.
+     */
+    private boolean store(LiveMatch state, PendingWrite write) {
+        List<Object[]> games = new ArrayList<>();
+        for (int g = write.fromGame(); g <= write.toGame(); g++) {
+            games.add(new Object[] {write.matchId(), g + 1, write.pointsA()[g], write.pointsB()[g], write.winnerTeamIds()[g]});
+        }
+        try {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO game (match_id, game_number, teamascore, teambscore, winner_team_id) VALUES (?, ?, ?, ?, ?) " +
+                "ON CONFLICT (match_id, game_number) DO UPDATE SET teamascore = EXCLUDED.teamascore, " +
+                "teambscore = EXCLUDED.teambscore, winner_team_id = EXCLUDED.winner_team_id",
+                games);
+            jdbcTemplate.update("UPDATE matches SET side_a_games_won = ?, side_b_games_won = ? WHERE id = ?",
+                write.sideAGamesWon(), write.sideBGamesWon(), write.matchId());
+            pageVersionService.bump(state.tournamentId);
+            return true;
+        } catch (RuntimeException e) {
+            boolean finished;
+            synchronized (state) {
+                state.dirtyFrom = Math.min(state.dirtyFrom, write.fromGame());
+                state.storedGames = write.storedGames();
+                finished = state.finished;
+            }
+            if (finished) {
+                throw e;
+            }
+            log.warn("Failed to flush live score of match {}: {}", state.matchId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void publish(Long matchId, LiveScoreDTO snapshot, boolean last) {
+        List<SseEmitter> list = watchers.get(matchId);
+        if (list == null) {
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            send(matchId, emitter, snapshot);
+            if (last) {
+                emitter.complete();
+            }
+        }
+        if (last) {
+            watchers.remove(matchId);
+        }
+    }
+
+    private void send(Long matchId, SseEmitter emitter, LiveScoreDTO snapshot) {
+        try {
+            emitter.send(SseEmitter.event()
+                .name("score")
+                .id(String.valueOf(snapshot.getVersion()))
+                .data(snapshot));
+        } catch (IOException | IllegalStateException e) {
+            // The watcher went away
+            removeWatcher(matchId, emitter);
+        }
+    }
+
+    private void removeWatcher(Long matchId, SseEmitter emitter) {
+        watchers.computeIfPresent(matchId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
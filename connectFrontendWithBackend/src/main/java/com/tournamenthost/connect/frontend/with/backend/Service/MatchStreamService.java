@@ -0,0 +1,218 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournamenthost.connect.frontend.with.backend.DTO.GameDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.MatchDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.TeamDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.UserDTO;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.TeamType;
+import com.tournamenthost.connect.frontend.with.backend.util.MatchStreamWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Streams every match of a tournament straight from a database cursor
+ * One forward-only query joins matches to their event, players, teams and games, ordered so a
+ * match's game rows arrive together; each match is written as soon as its last row is read.
+ * Postgres only honours the fetch size inside a transaction, hence the read-only transaction
+ * around the query. Memory stays at one fetch batch however many matches there are.
+ */
+@Service
+public class MatchStreamService {
+
+    // Rows pulled from the server per round trip, and how often the output is flushed
+    public static final int FETCH_SIZE = 500;
+
+    private static final String MATCH_ROWS_SQL =
+        "SELECT e.index AS event_index, e.name AS event_name, " +
+        "m.id, m.match_type, m.games_required_to_win, m.completed, m.score, m.scheduled_start, m.court, " +
+        userColumns("pa") + ", " + userColumns("pb") + ", " + userColumns("pw") + ", " +
+        teamColumns("ta") + ", " + teamColumns("tb") + ", " + teamColumns("tw") + ", " +
+        "g.id AS g_id, g.teamascore AS g_a, g.teambscore AS g_b " +
+        "FROM matches m JOIN base_event e ON e.id = m.event_id " +
+        "LEFT JOIN users pa ON pa.id = m.player_a_id " +
+        "LEFT JOIN users pb ON pb.id = m.player_b_id " +
+        "LEFT JOIN users pw ON pw.id = m.winner_id " +
+        teamJoins("ta", "m.team_a_id") + teamJoins("tb", "m.team_b_id") + teamJoins("tw", "m.winner_team_id") +
+        "LEFT JOIN game g ON g.match_id = m.id " +
+        "WHERE e.tournament_id = ? " +
+        "ORDER BY e.index, m.id, g.game_number, g.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Write all matches of a tournament to out, event by event
+     * Matches come in creation order within each event, the same shape as GET /matches.
+     * @return The number of matches written
+     */
+    @Transactional(readOnly = true)
+    public int streamMatches(Long tournamentId, MatchStreamWriter.Format format, OutputStream out) throws IOException {
+        MatchStreamWriter writer = new MatchStreamWriter(format, out, objectMapper);
+        writer.start();
+        MatchRowReader reader = new MatchRowReader(writer);
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement statement = con.prepareStatement(MATCH_ROWS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(FETCH_SIZE);
+                statement.setLong(1, tournamentId);
+                return statement;
+            }, reader::processRow);
+            reader.finish();
+        } catch (UncheckedIOException e) {
+            // The client went away; nothing more to send
+            throw e.getCause();
+        }
+        writer.finish();
+        return writer.getWritten();
+    }
+
+    // Collects one match's rows and writes it when the next match starts
+    private static class MatchRowReader {
+        private final MatchStreamWriter writer;
+        private MatchDTO current;
+        private int eventIndex;
+        private String eventName;
+        private int rows;
+
+        MatchRowReader(MatchStreamWriter writer) {
+            this.writer = writer;
+        }
+
+        void processRow(ResultSet rs) throws SQLException {
+            long matchId = rs.getLong("id");
+            if (current == null || current.getId() != matchId) {
+                emit();
+                eventIndex = rs.getInt("event_index");
+                eventName = rs.getString("event_name");
+                current = readMatch(rs);
+            }
+            long gameId = rs.getLong("g_id");
+            if (!rs.wasNull()) {
+                GameDTO game = new GameDTO();
+                game.setId(gameId);
+                game.setTeamAScore(rs.getInt("g_a"));
+                game.setTeamBScore(rs.getInt("g_b"));
+                current.getGames().add(game);
+            }
+            if (++rows % FETCH_SIZE == 0) {
+                try {
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        void finish() {
+            emit();
+        }
+
+        private void emit() {
+            if (current == null) {
+                return;
+            }
+            try {
+                writer.write(current, eventIndex, eventName);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            current = null;
+        }
+    }
+
+    private static MatchDTO readMatch(ResultSet rs) throws SQLException {
+        MatchDTO dto = new MatchDTO();
+        dto.setId(rs.getLong("id"));
+        dto.setCompleted(rs.getBoolean("completed"));
+        dto.setScore(readScore(rs.getArray("score")));
+        String matchType = rs.getString("match_type");
+        dto.setMatchType(matchType != null ? matchType : "SINGLES");
+        dto.setGamesRequiredToWin(rs.getInt("games_required_to_win"));
+        Timestamp scheduledStart = rs.getTimestamp("scheduled_start");
+        dto.setScheduledStart(scheduledStart != null ? scheduledStart.toLocalDateTime() : null);
+        dto.setCourt(rs.getObject("court", Integer.class));
+        dto.setGames(new ArrayList<>());
+
+        // Same rules as the entity-based MatchDTO: team fields for team matches, player fields otherwise
+        TeamDTO teamA = readTeam(rs, "ta");
+        TeamDTO teamB = readTeam(rs, "tb");
+        if (teamA != null || teamB != null) {
+            dto.setTeamA(teamA);
+            dto.setTeamB(teamB);
+            dto.setWinnerTeam(readTeam(rs, "tw"));
+        }
+        UserDTO playerA = readUser(rs, "pa");
+        UserDTO playerB = readUser(rs, "pb");
+        if (playerA != null || playerB != null) {
+            dto.setPlayerA(playerA != null ? playerA : new UserDTO());
+            dto.setPlayerB(playerB != null ? playerB : new UserDTO());
+            dto.setWinner(readUser(rs, "pw"));
+        }
+        return dto;
+    }
+
+    private static List<Integer> readScore(Array score) throws SQLException {
+        if (score == null) {
+            return null;
+        }
+        return new ArrayList<>(Arrays.asList((Integer[]) score.getArray()));
+    }
+
+    private static UserDTO readUser(ResultSet rs, String alias) throws SQLException {
+        long id = rs.getLong(alias + "_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+        return new UserDTO(id, rs.getString(alias + "_username"), rs.getString(alias + "_name"), null);
+    }
+
+    private static TeamDTO readTeam(ResultSet rs, String alias) throws SQLException {
+        long id = rs.getLong(alias + "_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+        TeamType teamType = TeamType.valueOf(rs.getString(alias + "_type"));
+        UserDTO player1 = readUser(rs, alias + "1");
+        UserDTO player2 = readUser(rs, alias + "2");
+        String teamName = Team.formatTeamName(teamType,
+            player1.getName(), player1.getUsername(),
+            player2 != null ? player2.getName() : null, player2 != null ? player2.getUsername() : null);
+        return new TeamDTO(id, player1, player2, teamType.name(), teamName);
+    }
+
+    private static String userColumns(String alias) {
+        return alias + ".id AS " + alias + "_id, " + alias + ".username AS " + alias + "_username, " +
+            alias + ".name AS " + alias + "_name";
+    }
+
+    private static String teamColumns(String alias) {
+        return alias + ".id AS " + alias + "_id, " + alias + ".team_type AS " + alias + "_type, " +
+            userColumns(alias + "1") + ", " + userColumns(alias + "2");
+    }
+
+    private static String teamJoins(String alias, String teamIdColumn) {
+        return "LEFT JOIN team " + alias + " ON " + alias + ".id = " + teamIdColumn + " " +
+            "LEFT JOIN users " + alias + "1 ON " + alias + "1.id = " + alias + ".player1_id " +
+            "LEFT JOIN users " + alias + "2 ON " + alias + "2.id = " + alias + ".player2_id ";
+    }
+}
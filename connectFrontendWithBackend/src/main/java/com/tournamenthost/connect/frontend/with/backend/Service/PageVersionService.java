@@ -0,0 +1,58 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Version counter of each tournament page, for the page cache and ETags
+ * tournament.page_version is bumped by whatever changes what the page shows: every API
+ * mutation under the tournament (PageVersionFilter), live score flushes, and changes to the
+ * players entered in it (renames, guest claims and purges). Reading it is one primary key
+ * lookup however big the tournament is.
+ */
+@Service
+public class PageVersionService {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public String getVersion(Long tournamentId) {
+        List<Long> version = jdbcTemplate.queryForList(
+            "SELECT page_version FROM tournament WHERE id = ?", Long.class, tournamentId);
+        if (version.isEmpty()) {
+            throw new IllegalArgumentException("Tournament not found");
+        }
+        return String.valueOf(version.get(0));
+    }
+
+    public void bump(Long tournamentId) {
+        jdbcTemplate.update("UPDATE tournament SET page_version = page_version + 1 WHERE id = ?", tournamentId);
+    }
+
+    /**
+     * Bump every tournament these users are entered in, own or edit
+     */
+    public void bumpForUsers(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        String in = "IN (" + userIds.stream().map(id -> "?").collect(Collectors.joining(", ")) + ")";
+        Object[] ids = userIds.toArray();
+        Object[] args = new Object[ids.length * 5];
+        for (int i = 0; i < 5; i++) {
+            System.arraycopy(ids, 0, args, i * ids.length, ids.length);
+        }
+        jdbcTemplate.update(
+            "UPDATE tournament SET page_version = page_version + 1 WHERE id IN (" +
+            "SELECT e.tournament_id FROM base_event e WHERE e.id IN (" +
+            "SELECT event_id FROM user_events WHERE user_id " + in + " " +
+            "UNION SELECT event_id FROM team WHERE player1_id " + in + " OR player2_id " + in + ")) " +
+            "OR owner_id " + in + " OR id IN (SELECT tournament_id FROM tournament_editors WHERE user_id " + in + ")",
+            args);
+    }
+}
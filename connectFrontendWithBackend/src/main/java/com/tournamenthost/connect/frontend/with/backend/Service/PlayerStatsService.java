@@ -0,0 +1,371 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.League;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.PlayerStats;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimRound;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.Round;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Repository.LeagueRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.PlayerStatsRepository;
+import com.tournamenthost.connect.frontend.with.backend.util.StandingsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Keeps PlayerStats rows in step with recorded results
+ * Recording a result adds it to the career row and league rows of every player involved;
+ * reversing one (corrections, undo) takes its totals back out and rebuilds the affected
+ * streaks from the player's remaining results. Deletes that bypass Hibernate rebuild the
+ * players they touched from scratch. Each counted result also goes to the head-to-head record
+ * of its two sides and to its players' ratings.
+ */
+@Service
+public class PlayerStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlayerStatsService.class);
+
+    @Autowired
+    private PlayerStatsRepository playerStatsRepo;
+
+    @Autowired
+    private MatchRepository matchRepo;
+
+    @Autowired
+    private LeagueRepository leagueRepo;
+
+    @Autowired
+    private HeadToHeadService headToHeadService;
+
+    @Autowired
+    private RatingService ratingService;
+
+    /**
+     * A counted result: who played on each side, who won, and the games and points per side
+     */
+    private record Outcome(List<User> sideA, List<User> sideB, boolean sideAWon, int[] summary, boolean title) {
+    }
+
+    /**
+     * Fill the table on first start so existing results show up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (playerStatsRepo.count() > 0) {
+            return;
+        }
+        List<Match> matches = matchRepo.findAllCompleted();
+        if (matches.isEmpty()) {
+            return;
+        }
+        Collection<PlayerStats> rows = accumulate(matches, null, null);
+        playerStatsRepo.saveAll(rows);
+        log.info("Built player stats from {} completed matches ({} rows)", matches.size(), rows.size());
+    }
+
+    // ==================== READ METHODS ====================
+
+    /**
+     * Career totals of a player; a player with no results gets an empty row (not saved)
+     */
+    public PlayerStats getCareerStats(User player) {
+        return playerStatsRepo.findByPlayerIdAndLeagueIsNull(player.getId())
+            .orElseGet(() -> new PlayerStats(player, null));
+    }
+
+    /**
+     * A player's totals within one league; empty (not saved) if they have no results there
+     */
+    public PlayerStats getLeagueStats(League league, User player) {
+        return playerStatsRepo.findByPlayerIdAndLeagueId(player.getId(), league.getId())
+            .orElseGet(() -> new PlayerStats(player, league));
+    }
+
+    /**
+     * League totals of every player with a result in the league, keyed by player id
+     */
+    public Map<Long, PlayerStats> getLeagueStats(League league) {
+        Map<Long, PlayerStats> stats = new HashMap<>();
+        for (PlayerStats row : playerStatsRepo.findByLeagueId(league.getId())) {
+            stats.put(row.getPlayer().getId(), row);
+        }
+        return stats;
+    }
+
+    // ==================== INCREMENTAL UPDATES ====================
+
+    /**
+     * Add a just-completed match to its players' stats
+     * Call after the match's winner and score are set. Byes are ignored.
+     */
+    @Transactional
+    public void recordResult(Match match) {
+        Outcome outcome = outcome(match);
+        if (outcome == null) {
+            return;
+        }
+        List<League> leagues = leaguesOf(match);
+        List<PlayerStats> changed = new ArrayList<>();
+        forEachPlayer(outcome, (player, won) -> {
+            Map<Long, PlayerStats> rows = lockRows(player);
+            for (League league : scopes(leagues)) {
+                PlayerStats row = rows.computeIfAbsent(league == null ? null : league.getId(),
+                    id -> new PlayerStats(player, league));
+                apply(row, outcome, won);
+                changed.add(row);
+            }
+        });
+        playerStatsRepo.saveAll(changed);
+        headToHeadService.recordMeeting(match, outcome.sideA, outcome.sideB, outcome.sideAWon, outcome.summary);
+        ratingService.recordResult(outcome.sideA, outcome.sideB, outcome.sideAWon, match.getCompletedAt());
+    }
+
+    /**
+     * Take matches that are about to lose their result out of their players' stats
+     * Call while the matches still hold the result being removed. Totals are subtracted;
+     * streaks are rebuilt from each affected player's results other than these matches.
+     */
+    @Transactional
+    public void retractResults(Collection<Match> matches) {
+        Set<Long> retracted = new HashSet<>();
+        Set<PlayerStats> touched = new LinkedHashSet<>();
+        for (Match match : matches) {
+            Outcome outcome = outcome(match);
+            if (outcome == null) {
+                continue;
+            }
+            retracted.add(match.getId());
+            List<League> leagues = leaguesOf(match);
+            forEachPlayer(outcome, (player, won) -> {
+                Map<Long, PlayerStats> rows = lockRows(player);
+                for (League league : scopes(leagues)) {
+                    PlayerStats row = rows.get(league == null ? null : league.getId());
+                    if (row != null) {
+                        row.removeResult(won, games(outcome, won), games(outcome, !won),
+                            points(outcome, won), points(outcome, !won), outcome.title && won);
+                        touched.add(row);
+                    }
+                }
+            });
+        }
+        for (PlayerStats row : touched) {
+            rebuildStreaks(row, retracted);
+        }
+        playerStatsRepo.saveAll(touched);
+        headToHeadService.removeMeetings(retracted);
+    }
+
+    // ==================== REBUILDS ====================
+
+    /**
+     * Recompute every row of the given players from their completed matches
+     * For changes made with set-based SQL, where there is no match left to retract.
+     */
+    @Transactional
+    public void rebuildPlayers(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(playerIds);
+        playerStatsRepo.deleteByPlayerIds(ids);
+        playerStatsRepo.saveAll(accumulate(matchRepo.findCompletedForPlayers(ids), ids, null));
+    }
+
+    /**
+     * Recompute a league's rows, e.g. after a tournament joins or leaves it
+     */
+    @Transactional
+    public void rebuildLeague(League league) {
+        playerStatsRepo.deleteByLeagueId(league.getId());
+        if (league.getTournaments().isEmpty()) {
+            return;
+        }
+        List<Match> matches = matchRepo.findCompletedInTournaments(league.getTournaments());
+        playerStatsRepo.saveAll(accumulate(matches, null, league));
+    }
+
+    /**
+     * Drop a league's rows before the league itself is deleted
+     */
+    @Transactional
+    public void removeLeague(League league) {
+        playerStatsRepo.deleteByLeagueId(league.getId());
+    }
+
+    /**
+     * Fold matches (oldest first) into fresh rows
+     * @param playerIds Only build rows for these players, or null for everyone
+     * @param onlyLeague Only build this league's rows, or null for career and every league
+     */
+    private Collection<PlayerStats> accumulate(List<Match> matches, Set<Long> playerIds, League onlyLeague) {
+        Map<List<Long>, PlayerStats> rows = new LinkedHashMap<>();
+        Map<Long, List<League>> leaguesByTournament = new HashMap<>();
+        for (Match match : matches) {
+            Outcome outcome = outcome(match);
+            if (outcome == null) {
+                continue;
+            }
+            List<League> scopes;
+            if (onlyLeague != null) {
+                scopes = List.of(onlyLeague);
+            } else {
+                Tournament tournament = match.getEvent().getTournament();
+                scopes = scopes(leaguesByTournament.computeIfAbsent(tournament.getId(),
+                    id -> leagueRepo.findByTournamentsContaining(tournament)));
+            }
+            forEachPlayer(outcome, (player, won) -> {
+                if (playerIds != null && !playerIds.contains(player.getId())) {
+                    return;
+                }
+                for (League league : scopes) {
+                    List<Long> key = Arrays.asList(player.getId(), league == null ? null : league.getId());
+                    apply(rows.computeIfAbsent(key, k -> new PlayerStats(player, league)), outcome, won);
+                }
+            });
+        }
+        return rows.values();
+    }
+
+    private void rebuildStreaks(PlayerStats row, Set<Long> excludedMatchIds) {
+        User player = row.getPlayer();
+        List<Match> matches;
+        if (row.getLeague() == null) {
+            matches = matchRepo.findCompletedForPlayers(List.of(player.getId()));
+        } else {
+            Set<Tournament> tournaments = row.getLeague().getTournaments();
+            matches = new ArrayList<>();
+            for (Match match : matchRepo.findCompletedForPlayers(List.of(player.getId()))) {
+                if (tournaments.contains(match.getEvent().getTournament())) {
+                    matches.add(match);
+                }
+            }
+        }
+
+        row.resetStreaks();
+        for (Match match : matches) {
+            if (excludedMatchIds.contains(match.getId())) {
+                continue;
+            }
+            Outcome outcome = outcome(match);
+            if (outcome != null) {
+                row.recordStreak(outcome.sideA.contains(player) == outcome.sideAWon);
+            }
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * The match's result as stats see it, or null if it doesn't count (not finished, or a bye)
+     */
+    private Outcome outcome(Match match) {
+        if (!match.isCompleted()) {
+            return null;
+        }
+        boolean teamMatch = match.getTeamA() != null || match.getTeamB() != null;
+        boolean sideAWon;
+        List<User> sideA;
+        List<User> sideB;
+        if (teamMatch) {
+            if (match.getTeamA() == null || match.getTeamB() == null || match.getWinnerTeam() == null) {
+                return null;
+            }
+            sideA = members(match.getTeamA());
+            sideB = members(match.getTeamB());
+            sideAWon = match.getWinnerTeam().equals(match.getTeamA());
+        } else {
+            if (match.getPlayerA() == null || match.getPlayerB() == null || match.getWinner() == null) {
+                return null;
+            }
+            sideA = List.of(match.getPlayerA());
+            sideB = List.of(match.getPlayerB());
+            sideAWon = match.getWinner().equals(match.getPlayerA());
+        }
+        return new Outcome(sideA, sideB, sideAWon, StandingsUtil.summarizeScore(match.getScore()), isFinal(match));
+    }
+
+    private List<User> members(Team team) {
+        return team.getPlayer2() == null
+            ? List.of(team.getPlayer1())
+            : List.of(team.getPlayer1(), team.getPlayer2());
+    }
+
+    /**
+     * Whether the match decides an elimination event's winner: the last round of a single
+     * elim bracket, or the winners bracket final of a double elim one (it has no grand final)
+     */
+    private boolean isFinal(Match match) {
+        BaseEvent event = match.getEvent();
+        List<Match> lastRound = null;
+        if (event instanceof SingleElimEvent singleElim && !singleElim.getRounds().isEmpty()) {
+            List<Round> rounds = singleElim.getRounds();
+            lastRound = rounds.get(rounds.size() - 1).getMatches();
+        } else if (event instanceof DoubleElimEvent doubleElim && !doubleElim.getWinnersBracket().isEmpty()) {
+            List<DoubleElimRound> rounds = doubleElim.getWinnersBracket();
+            lastRound = rounds.get(rounds.size() - 1).getMatches();
+        }
+        return lastRound != null && lastRound.size() == 1 && lastRound.get(0).getId().equals(match.getId());
+    }
+
+    private interface PlayerResult {
+        void accept(User player, boolean won);
+    }
+
+    private void forEachPlayer(Outcome outcome, PlayerResult action) {
+        for (User player : outcome.sideA) {
+            action.accept(player, outcome.sideAWon);
+        }
+        for (User player : outcome.sideB) {
+            action.accept(player, !outcome.sideAWon);
+        }
+    }
+
+    private void apply(PlayerStats row, Outcome outcome, boolean won) {
+        row.recordResult(won, games(outcome, won), games(outcome, !won),
+            points(outcome, won), points(outcome, !won), outcome.title && won);
+    }
+
+    // Games or points of the winning side (forWinner) or the losing side
+    private int games(Outcome outcome, boolean forWinner) {
+        return outcome.summary[forWinner == outcome.sideAWon ? 0 : 1];
+    }
+
+    private int points(Outcome outcome, boolean forWinner) {
+        return outcome.summary[forWinner == outcome.sideAWon ? 2 : 3];
+    }
+
+    private List<League> leaguesOf(Match match) {
+        return leagueRepo.findByTournamentsContaining(match.getEvent().getTournament());
+    }
+
+    // The career scope (null) followed by each league
+    private List<League> scopes(List<League> leagues) {
+        List<League> scopes = new ArrayList<>(leagues.size() + 1);
+        scopes.add(null);
+        scopes.addAll(leagues);
+        return scopes;
+    }
+
+    // The player's existing rows keyed by league id (null for career), locked for update
+    private Map<Long, PlayerStats> lockRows(User player) {
+        Map<Long, PlayerStats> rows = new HashMap<>();
+        for (PlayerStats row : playerStatsRepo.findByPlayerIdForUpdate(player.getId())) {
+            rows.put(row.getLeague() == null ? null : row.getLeague().getId(), row);
+        }
+        return rows;
+    }
+}
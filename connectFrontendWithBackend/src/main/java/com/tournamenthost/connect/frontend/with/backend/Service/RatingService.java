@@ -0,0 +1,219 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.PlayerRating;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Repository.PlayerRatingRepository;
+import com.tournamenthost.connect.frontend.with.backend.util.RatingEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Player ratings, updated match by match and re-rated from the full history every night
+ * Each recorded match is applied as its own rating period. The nightly replay groups results
+ * into one period per day, which is how Glicko is meant to run, and also picks up corrections
+ * and undos that incremental updates can't take back.
+ */
+@Service
+public class RatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingService.class);
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private PlayerRatingRepository playerRatingRepo;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rate the full history on first start
+     * Transactional itself: the listener is called through the proxy, but the call to rerateAll
+     * below isn't, and LOCK TABLE needs a transaction to run in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (playerRatingRepo.count() == 0) {
+            rerateAll();
+        }
+    }
+
+    /**
+     * Apply one completed match to its players' ratings
+     */
+    @Transactional
+    public void recordResult(List<User> sideA, List<User> sideB, boolean sideAWon, LocalDateTime completedAt) {
+        List<Long> playerIds = new ArrayList<>();
+        sideA.forEach(player -> playerIds.add(player.getId()));
+        sideB.forEach(player -> playerIds.add(player.getId()));
+
+        Map<Long, PlayerRating> rows = new HashMap<>();
+        for (PlayerRating row : playerRatingRepo.findByPlayerIdInForUpdate(playerIds)) {
+            rows.put(row.getPlayerId(), row);
+        }
+
+        // Entrant k of the engine is playerIds.get(k)
+        double[] rating = new double[playerIds.size()];
+        double[] deviation = new double[playerIds.size()];
+        long[] lastDay = new long[playerIds.size()];
+        for (int k = 0; k < playerIds.size(); k++) {
+            PlayerRating row = rows.computeIfAbsent(playerIds.get(k), this::unrated);
+            rating[k] = row.getRating();
+            deviation[k] = row.getDeviation();
+            lastDay[k] = row.getLastPlayed() != null ? row.getLastPlayed().toEpochDay() : RatingEngine.NEVER;
+        }
+
+        LocalDate day = completedAt != null ? completedAt.toLocalDate() : LocalDate.now();
+        int[] entrantsA = new int[sideA.size()];
+        int[] entrantsB = new int[sideB.size()];
+        for (int k = 0; k < entrantsA.length; k++) {
+            entrantsA[k] = k;
+        }
+        for (int k = 0; k < entrantsB.length; k++) {
+            entrantsB[k] = sideA.size() + k;
+        }
+        new RatingEngine(rating, deviation, lastDay)
+            .rate(new RatingEngine.Result(entrantsA, entrantsB, sideAWon, day.toEpochDay()));
+
+        for (int k = 0; k < playerIds.size(); k++) {
+            PlayerRating row = rows.get(playerIds.get(k));
+            row.setRating(rating[k]);
+            row.setDeviation(deviation[k]);
+            row.setMatches(row.getMatches() + 1);
+            row.setLastPlayed(day);
+        }
+        playerRatingRepo.saveAll(rows.values());
+    }
+
+    /**
+     * Re-rate every player from all completed matches
+     * The table is locked against incremental updates for the duration; a result recorded
+     * meanwhile waits and is then applied on top of the new ratings.
+     */
+    @Scheduled(cron = "0 30 3 * * ?")
+    @Transactional
+    public void rerateAll() {
+        jdbcTemplate.execute("LOCK TABLE player_ratings IN SHARE ROW EXCLUSIVE MODE");
+
+        Map<Long, Integer> entrantIndex = new HashMap<>();
+        List<Long> players = new ArrayList<>();
+        List<RatingEngine.Result> results = new ArrayList<>();
+        jdbcTemplate.query(
+            "SELECT m.player_a_id, m.player_b_id, ta.player1_id AS a1, ta.player2_id AS a2, " +
+            "tb.player1_id AS b1, tb.player2_id AS b2, " +
+            "COALESCE(m.winner_team_id, m.winner_id) = COALESCE(m.team_a_id, m.player_a_id) AS a_won, " +
+            "m.completed_at " +
+            "FROM matches m LEFT JOIN team ta ON ta.id = m.team_a_id LEFT JOIN team tb ON tb.id = m.team_b_id " +
+            "WHERE m.completed AND COALESCE(m.team_a_id, m.player_a_id) IS NOT NULL " +
+            "AND COALESCE(m.team_b_id, m.player_b_id) IS NOT NULL " +
+            "AND COALESCE(m.winner_team_id, m.winner_id) IS NOT NULL " +
+            "ORDER BY m.completed_at NULLS FIRST, m.id",
+            rs -> {
+                boolean doubles = rs.getObject("a1") != null;
+                int[] sideA = doubles
+                    ? entrants(entrantIndex, players, rs.getObject("a1"), rs.getObject("a2"))
+                    : entrants(entrantIndex, players, rs.getObject("player_a_id"));
+                int[] sideB = doubles
+                    ? entrants(entrantIndex, players, rs.getObject("b1"), rs.getObject("b2"))
+                    : entrants(entrantIndex, players, rs.getObject("player_b_id"));
+                Timestamp completedAt = rs.getTimestamp("completed_at");
+                // Results without a completion time predate it; they all go in the earliest period
+                long day = completedAt != null ? completedAt.toLocalDateTime().toLocalDate().toEpochDay() : 0;
+                results.add(new RatingEngine.Result(sideA, sideB, rs.getBoolean("a_won"), day));
+            });
+
+        RatingEngine engine = new RatingEngine(players.size());
+        engine.replay(results);
+
+        int[] matches = new int[players.size()];
+        for (RatingEngine.Result result : results) {
+            for (int entrant : result.sideA()) {
+                matches[entrant]++;
+            }
+            for (int entrant : result.sideB()) {
+                matches[entrant]++;
+            }
+        }
+
+        jdbcTemplate.update("DELETE FROM player_ratings");
+        List<Object[]> rows = new ArrayList<>(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            long lastDay = engine.getLastDay(i);
+            rows.add(new Object[] {players.get(i), engine.getRating(i), engine.getDeviation(i), matches[i],
+                lastDay == RatingEngine.NEVER || lastDay == 0 ? null : Date.valueOf(LocalDate.ofEpochDay(lastDay))});
+        }
+        for (int start = 0; start < rows.size(); start += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO player_ratings (player_id, rating, deviation, matches, last_played) VALUES (?, ?, ?, ?, ?)",
+                rows.subList(start, Math.min(rows.size(), start + BATCH_SIZE)));
+        }
+        log.info("Re-rated {} players from {} matches", players.size(), results.size());
+    }
+
+    /**
+     * Seeding strength of each rated player: rating minus two deviations, aged to today
+     * Players with no rating are left out. One query on the unique player_id index.
+     */
+    public Map<Long, Double> getSeedingRatings(Collection<Long> playerIds) {
+        Map<Long, Double> ratings = new HashMap<>();
+        if (playerIds.isEmpty()) {
+            return ratings;
+        }
+        long today = LocalDate.now().toEpochDay();
+        for (PlayerRating row : playerRatingRepo.findByPlayerIdIn(playerIds)) {
+            long lastDay = row.getLastPlayed() != null ? row.getLastPlayed().toEpochDay() : RatingEngine.NEVER;
+            ratings.put(row.getPlayerId(),
+                RatingEngine.conservativeRating(row.getRating(), row.getDeviation(), lastDay, today));
+        }
+        return ratings;
+    }
+
+    /**
+     * {rating, deviation aged to today} of each rated player; players with no rating are left out
+     */
+    public Map<Long, double[]> getRatings(Collection<Long> playerIds) {
+        Map<Long, double[]> ratings = new HashMap<>();
+        if (playerIds.isEmpty()) {
+            return ratings;
+        }
+        long today = LocalDate.now().toEpochDay();
+        for (PlayerRating row : playerRatingRepo.findByPlayerIdIn(playerIds)) {
+            long lastDay = row.getLastPlayed() != null ? row.getLastPlayed().toEpochDay() : RatingEngine.NEVER;
+            ratings.put(row.getPlayerId(), new double[] {row.getRating(),
+                RatingEngine.agedDeviation(row.getDeviation(), lastDay, today)});
+        }
+        return ratings;
+    }
+
+    private PlayerRating unrated(Long playerId) {
+        PlayerRating row = new PlayerRating();
+        row.setPlayerId(playerId);
+        row.setRating(RatingEngine.DEFAULT_RATING);
+        row.setDeviation(RatingEngine.DEFAULT_DEVIATION);
+        return row;
+    }
+
+    // Engine entrant numbers of the given player ids (nulls skipped), numbering new players as they appear
+    private int[] entrants(Map<Long, Integer> entrantIndex, List<Long> players, Object... ids) {
+        return Arrays.stream(ids)
+            .filter(Objects::nonNull)
+            .mapToInt(id -> entrantIndex.computeIfAbsent(((Number) id).longValue(), playerId -> {
+                players.add(playerId);
+                return players.size() - 1;
+            }))
+            .toArray();
+    }
+}
@@ -0,0 +1,248 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.DTO.MatchStateDTO;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.ResultLogEntry;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Repository.ResultLogRepository;
+import com.tournamenthost.connect.frontend.with.backend.util.BracketEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Append-only log of every result recorded in an event, and rebuilding brackets from it
+ * The draw (first-round slots, or every pairing for round robin and Swiss) never changes
+ * once an event is initialized, so draw + log fully determines the bracket. That gives an
+ * audit trail, point-in-time views and undo without keeping snapshots.
+ */
+@Service
+public class ResultLogService {
+
+    @Autowired
+    private ResultLogRepository resultLogRepo;
+
+    @Autowired
+    private BracketAdapter bracketAdapter;
+
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * An event's bracket replayed from its log, with the scores and times the log recorded
+     */
+    public static class ReplayedEvent {
+        private final BracketAdapter.LoadedBracket bracket;
+        private final String[] scores;
+        private final LocalDateTime[] completedAt;
+
+        ReplayedEvent(BracketAdapter.LoadedBracket bracket) {
+            this.bracket = bracket;
+            this.scores = new String[bracket.getMatches().size()];
+            this.completedAt = new LocalDateTime[bracket.getMatches().size()];
+        }
+
+        public BracketAdapter.LoadedBracket getBracket() {
+            return bracket;
+        }
+    }
+
+    /**
+     * Append a result to the event's log
+     * Sequence numbers come from a counter on the event row, bumped atomically, so two
+     * scorers recording at once still get distinct, ordered numbers.
+     */
+    public ResultLogEntry append(BaseEvent event, ResultLogEntry.Kind kind, Long matchId, Long winnerId,
+                                 List<Integer> score, Integer undoesSequence) {
+        Integer sequence = jdbcTemplate.queryForObject(
+            "UPDATE base_event SET result_log_sequence = COALESCE(result_log_sequence, 0) + 1 " +
+            "WHERE id = ? RETURNING result_log_sequence", Integer.class, event.getId());
+
+        ResultLogEntry entry = new ResultLogEntry();
+        entry.setEventId(event.getId());
+        entry.setSequence(sequence);
+        entry.setKind(kind);
+        entry.setMatchId(matchId);
+        entry.setWinnerId(winnerId);
+        entry.setScore(formatScore(score));
+        entry.setUndoesSequence(undoesSequence);
+        return resultLogRepo.save(entry);
+    }
+
+    public List<ResultLogEntry> getLog(BaseEvent event) {
+        return resultLogRepo.findByEventIdOrderBySequenceAsc(event.getId());
+    }
+
+    /**
+     * The event's matches as they stood just after the given log entry
+     * @param upToSequence Last sequence number to apply, or null for the whole log
+     */
+    public List<MatchStateDTO> getStateAt(BaseEvent event, Integer upToSequence) {
+        List<ResultLogEntry> log = upToSequence == null
+            ? resultLogRepo.findByEventIdOrderBySequenceAsc(event.getId())
+            : resultLogRepo.findByEventIdAndSequenceLessThanEqualOrderBySequenceAsc(event.getId(), upToSequence);
+        ReplayedEvent replayed = replay(event, log);
+
+        BracketAdapter.LoadedBracket loaded = replayed.bracket;
+        BracketEngine bracket = loaded.getEngine();
+        List<MatchStateDTO> state = new ArrayList<>(loaded.getMatches().size());
+        for (int i = 0; i < loaded.getMatches().size(); i++) {
+            state.add(new MatchStateDTO(
+                loaded.getMatches().get(i).getId(),
+                entrantId(loaded.entrant(bracket.getSlotA(i))),
+                entrantId(loaded.entrant(bracket.getSlotB(i))),
+                entrantId(loaded.entrant(bracket.getWinner(i))),
+                bracket.isCompleted(i),
+                parseScore(replayed.scores[i])));
+        }
+        return state;
+    }
+
+    /**
+     * Undo the most recent result or correction that hasn't been undone yet
+     * An UNDO row is appended, the bracket is rebuilt from the log and only the matches
+     * whose state differs are written back.
+     * @return The UNDO row
+     */
+    @Transactional
+    public ResultLogEntry undoLastResult(BaseEvent event) {
+        if (!(event instanceof SingleElimEvent) && !(event instanceof DoubleElimEvent)) {
+            throw new IllegalStateException("Undo is only supported for elimination events");
+        }
+
+        List<ResultLogEntry> log = new ArrayList<>(resultLogRepo.findByEventIdOrderBySequenceAsc(event.getId()));
+        ResultLogEntry target = null;
+        Set<Integer> undone = undoneSequences(log);
+        for (int i = log.size() - 1; i >= 0; i--) {
+            ResultLogEntry entry = log.get(i);
+            if (entry.getKind() != ResultLogEntry.Kind.UNDO && !undone.contains(entry.getSequence())) {
+                target = entry;
+                break;
+            }
+        }
+        if (target == null) {
+            throw new IllegalStateException("There are no results to undo");
+        }
+
+        // Results entered before the log existed can't be rebuilt, so refuse rather than lose them
+        ReplayedEvent current = replay(event, log);
+        if (!bracketAdapter.matchesStored(current.bracket)) {
+            throw new IllegalStateException("This event has results that are not in its result log, so they cannot be undone");
+        }
+
+        ResultLogEntry undo = append(event, ResultLogEntry.Kind.UNDO, target.getMatchId(), null, null, target.getSequence());
+        log.add(undo);
+        writeBack(replay(event, log));
+        return undo;
+    }
+
+    /**
+     * Rebuild the event from its draw plus the given log entries (in sequence order)
+     */
+    public ReplayedEvent replay(BaseEvent event, List<ResultLogEntry> log) {
+        ReplayedEvent replayed = new ReplayedEvent(bracketAdapter.loadDraw(event));
+        BracketAdapter.LoadedBracket loaded = replayed.bracket;
+        BracketEngine bracket = loaded.getEngine();
+
+        Map<Long, Integer> matchIndex = new HashMap<>();
+        for (int i = 0; i < loaded.getMatches().size(); i++) {
+            matchIndex.put(loaded.getMatches().get(i).getId(), i);
+        }
+        Map<Long, Integer> entrantIndex = new HashMap<>();
+        for (int i = 1; i <= loaded.entrantCount(); i++) {
+            entrantIndex.put(entrantId(loaded.entrant(i)), i);
+        }
+
+        Set<Integer> undone = undoneSequences(log);
+        for (ResultLogEntry entry : log) {
+            if (entry.getKind() == ResultLogEntry.Kind.UNDO || undone.contains(entry.getSequence())) {
+                continue;
+            }
+            Integer match = matchIndex.get(entry.getMatchId());
+            Integer winner = entrantIndex.get(entry.getWinnerId());
+            if (match == null || winner == null) {
+                throw new IllegalStateException("Result log entry " + entry.getSequence() + " does not fit this event's draw");
+            }
+            if (entry.getKind() == ResultLogEntry.Kind.CORRECTION) {
+                bracket.correct(match, winner);
+            } else {
+                bracket.record(match, winner);
+            }
+            replayed.scores[match] = entry.getScore();
+            replayed.completedAt[match] = entry.getRecordedAt();
+        }
+        return replayed;
+    }
+
+    /**
+     * Sequence numbers cancelled by UNDO rows
+     */
+    private Set<Integer> undoneSequences(List<ResultLogEntry> log) {
+        Set<Integer> undone = new HashSet<>();
+        for (ResultLogEntry entry : log) {
+            if (entry.getKind() == ResultLogEntry.Kind.UNDO && entry.getUndoesSequence() != null) {
+                undone.add(entry.getUndoesSequence());
+            }
+        }
+        return undone;
+    }
+
+    /**
+     * Save the replayed bracket, then restore the score and time of each result from the log
+     * and count the restored results in player stats
+     */
+    private void writeBack(ReplayedEvent replayed) {
+        BracketAdapter.LoadedBracket loaded = replayed.bracket;
+        for (Match match : bracketAdapter.save(loaded)) {
+            int i = loaded.indexOf(match);
+            if (match.isCompleted()) {
+                match.setScore(parseScore(replayed.scores[i]));
+                match.setCompletedAt(replayed.completedAt[i]);
+                playerStatsService.recordResult(match);
+            }
+        }
+    }
+
+    private Long entrantId(Object entrant) {
+        if (entrant instanceof Team team) {
+            return team.getId();
+        }
+        if (entrant instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static String formatScore(List<Integer> score) {
+        if (score == null || score.isEmpty()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (Integer points : score) {
+            joiner.add(String.valueOf(points));
+        }
+        return joiner.toString();
+    }
+
+    private static List<Integer> parseScore(String score) {
+        if (score == null || score.isEmpty()) {
+            return null;
+        }
+        List<Integer> points = new ArrayList<>();
+        for (String part : score.split(",")) {
+            points.add(Integer.parseInt(part));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,510 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.tournamenthost.connect.frontend.with.backend.DTO.EventTimelineDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.TimelineDTO;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.SessionWindow;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimRound;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.Round;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.RoundRobinEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissRound;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TeamSchedule;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.TournamentRepository;
+import com.tournamenthost.connect.frontend.with.backend.util.CriticalPath;
+import com.tournamenthost.connect.frontend.with.backend.util.MatchScheduler;
+
+/**
+ * Assigns courts and start times to every match in a tournament.
+ * All events share the tournament's courts, and a player entered in several
+ * events is kept apart by the minimum rest across all of them.
+ */
+@Service
+public class ScheduleService {
+
+    @Autowired
+    private TournamentRepository tournamentRepo;
+
+    @Autowired
+    private MatchRepository matchRepo;
+
+    // Critical-path state per tournament, updated in place as results come in
+    private final Map<Long, Timeline> timelines = new ConcurrentHashMap<>();
+
+    /**
+     * Every match of a tournament flattened into scheduler indices
+     */
+    private static class MatchGraph {
+        private final List<Match> matches = new ArrayList<>();
+        private final List<BaseEvent> events = new ArrayList<>();
+        private final Map<Long, Integer> indexByMatchId = new HashMap<>();
+        private final Map<Long, Integer> playerIndex = new HashMap<>();
+        private final List<List<Integer>> predecessors = new ArrayList<>();
+
+        private int add(Match match, BaseEvent event) {
+            Integer existing = indexByMatchId.get(match.getId());
+            if (existing != null) {
+                return existing;
+            }
+            int index = matches.size();
+            matches.add(match);
+            events.add(event);
+            predecessors.add(new ArrayList<>());
+            indexByMatchId.put(match.getId(), index);
+            return index;
+        }
+
+        private void feeds(Match from, Match to) {
+            Integer fromIndex = indexByMatchId.get(from.getId());
+            Integer toIndex = indexByMatchId.get(to.getId());
+            if (fromIndex != null && toIndex != null && !predecessors.get(toIndex).contains(fromIndex)) {
+                predecessors.get(toIndex).add(fromIndex);
+            }
+        }
+
+        private int[] participants(Match match) {
+            List<User> players = new ArrayList<>();
+            for (Team team : new Team[] {match.getTeamA(), match.getTeamB()}) {
+                if (team != null) {
+                    players.add(team.getPlayer1());
+                    players.add(team.getPlayer2());
+                }
+            }
+            players.add(match.getPlayerA());
+            players.add(match.getPlayerB());
+
+            return players.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(player -> playerIndex.computeIfAbsent(player.getId(), id -> playerIndex.size()))
+                .distinct()
+                .toArray();
+        }
+    }
+
+    /**
+     * Cached critical-path values for one tournament
+     * The signature covers the set of matches and how many are complete, so any
+     * change made outside recordMatchResult (new Swiss round, re-initialized event,
+     * bye walkovers) forces a rebuild on the next read.
+     */
+    private static class Timeline {
+        private final CriticalPath path;
+        private final Map<Long, Integer> indexByMatchId;
+        private long signature;
+
+        private Timeline(CriticalPath path, Map<Long, Integer> indexByMatchId, long signature) {
+            this.path = path;
+            this.indexByMatchId = indexByMatchId;
+            this.signature = signature;
+        }
+    }
+
+    // ==================== SCHEDULE CONFIGURATION METHODS ====================
+
+    /**
+     * Set the courts, rest and session windows the scheduler works with
+     */
+    public Tournament configureSchedule(Long tournamentId, int courtCount, int minRestMinutes, int minutesPerGame,
+                                        List<SessionWindow> sessions) {
+        Tournament tournament = getTournament(tournamentId);
+
+        if (courtCount < 1) {
+            throw new IllegalArgumentException("Court count must be at least 1");
+        }
+        if (minRestMinutes < 0) {
+            throw new IllegalArgumentException("Minimum rest cannot be negative");
+        }
+        if (minutesPerGame < 1) {
+            throw new IllegalArgumentException("Minutes per game must be at least 1");
+        }
+
+        List<SessionWindow> ordered = new ArrayList<>(sessions != null ? sessions : List.of());
+        for (SessionWindow session : ordered) {
+            if (session.getStart() == null || session.getEnd() == null || !session.getEnd().isAfter(session.getStart())) {
+                throw new IllegalArgumentException("Each session needs a start before its end");
+            }
+        }
+        ordered.sort(Comparator.comparing(SessionWindow::getStart));
+        for (int i = 1; i < ordered.size(); i++) {
+            if (ordered.get(i).getStart().isBefore(ordered.get(i - 1).getEnd())) {
+                throw new IllegalArgumentException("Sessions cannot overlap");
+            }
+        }
+
+        tournament.setCourtCount(courtCount);
+        tournament.setMinRestMinutes(minRestMinutes);
+        tournament.setMinutesPerGame(minutesPerGame);
+        tournament.getSessions().clear();
+        tournament.getSessions().addAll(ordered);
+        return tournamentRepo.save(tournament);
+    }
+
+    // ==================== SCHEDULING METHODS ====================
+
+    /**
+     * Build (or rebuild) the schedule for every unplayed match from now on
+     * @return Scheduled matches ordered by start time, then court
+     */
+    public List<Match> generateSchedule(Long tournamentId) {
+        Tournament tournament = getTournament(tournamentId);
+        if (tournament.getCourtCount() < 1) {
+            throw new IllegalStateException("Configure courts for this tournament before scheduling");
+        }
+        reschedule(tournament, LocalDateTime.now());
+        return getSchedule(tournamentId);
+    }
+
+    /**
+     * Get the current schedule
+     * @return Matches with a court assignment ordered by start time, then court
+     */
+    public List<Match> getSchedule(Long tournamentId) {
+        Tournament tournament = getTournament(tournamentId);
+        MatchGraph graph = buildMatchGraph(tournament);
+        return graph.matches.stream()
+            .filter(match -> match.getScheduledStart() != null)
+            .sorted(Comparator.comparing(Match::getScheduledStart)
+                .thenComparing(Match::getCourt, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+    }
+
+    /**
+     * Estimated length of a match in minutes, from the event's games per match
+     */
+    public int estimateDuration(Tournament tournament, BaseEvent event) {
+        return tournament.getMinutesPerGame() * Math.max(1, event.getGamesPerMatch());
+    }
+
+    /**
+     * Called after a result is recorded
+     * Moves the timeline forward from this match only, then (for tournaments with
+     * courts configured) shifts every unplayed match to account for the match
+     * finishing early or late and for newly known players.
+     */
+    public void onResultRecorded(Match match) {
+        Tournament tournament = match.getEvent().getTournament();
+        if (tournament == null) {
+            return;
+        }
+
+        Timeline timeline = timelines.get(tournament.getId());
+        if (timeline != null) {
+            Integer index = timeline.indexByMatchId.get(match.getId());
+            if (index == null || match.getCompletedAt() == null) {
+                timelines.remove(tournament.getId());
+            } else {
+                synchronized (timeline) {
+                    timeline.path.complete(index, toMinutes(match.getCompletedAt()));
+                    timeline.signature += COMPLETED_WEIGHT;
+                }
+            }
+        }
+
+        if (tournament.getCourtCount() >= 1) {
+            reschedule(tournament, LocalDateTime.now());
+        }
+    }
+
+    private void reschedule(Tournament tournament, LocalDateTime now) {
+        MatchGraph graph = buildMatchGraph(tournament);
+        int n = graph.matches.size();
+        long nowMinutes = toMinutes(now);
+
+        MatchScheduler.Problem problem = new MatchScheduler.Problem(n);
+        for (int i = 0; i < n; i++) {
+            Match match = graph.matches.get(i);
+            int duration = estimateDuration(tournament, graph.events.get(i));
+            problem.setMatch(i, duration,
+                graph.predecessors.get(i).stream().mapToInt(Integer::intValue).toArray(),
+                graph.participants(match));
+
+            // Played and on-court matches stay where they are
+            Long start = match.getScheduledStart() != null ? toMinutes(match.getScheduledStart()) : null;
+            int court = match.getCourt() != null ? match.getCourt() - 1 : -1;
+            if (match.isCompleted()) {
+                long end = match.getCompletedAt() != null ? toMinutes(match.getCompletedAt())
+                    : start != null ? start + duration : 0;
+                if (start != null) {
+                    problem.pin(i, start, Math.max(start, end), court);
+                } else {
+                    problem.pin(i, end, end, -1);
+                }
+            } else if (start != null && start <= nowMinutes && court >= 0) {
+                // Running late: it still holds the court until at least now
+                problem.pin(i, start, Math.max(start + duration, nowMinutes), court);
+            }
+        }
+
+        long[][] sessions = tournament.getSessions().stream()
+            .map(session -> new long[] {toMinutes(session.getStart()), toMinutes(session.getEnd())})
+            .toArray(long[][]::new);
+        MatchScheduler.Schedule schedule = MatchScheduler.schedule(problem, tournament.getCourtCount(),
+            tournament.getMinRestMinutes(), nowMinutes, sessions);
+
+        // Only write back matches whose slot actually moved
+        List<Match> changed = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (problem.isPinned(i)) {
+                continue;
+            }
+            Match match = graph.matches.get(i);
+            LocalDateTime start = schedule.isScheduled(i) ? fromMinutes(schedule.getStart(i)) : null;
+            Integer court = schedule.isScheduled(i) ? schedule.getCourt(i) + 1 : null;
+            if (!Objects.equals(start, match.getScheduledStart()) || !Objects.equals(court, match.getCourt())) {
+                match.setScheduledStart(start);
+                match.setCourt(court);
+                changed.add(match);
+            }
+        }
+        matchRepo.saveAll(changed);
+    }
+
+    // ==================== TIMELINE METHODS ====================
+
+    // Each completed match adds this to the signature, on top of the match ids
+    private static final long COMPLETED_WEIGHT = 1L << 40;
+
+    /**
+     * Projected finish of every event and of the whole tournament
+     * Uses critical-path analysis over the bracket dependencies, so the figures
+     * are the earliest possible finish with unlimited courts. Round robin and Swiss
+     * matches are chained per team, since a team plays one match at a time.
+     */
+    public TimelineDTO getTimeline(Long tournamentId) {
+        Tournament tournament = getTournament(tournamentId);
+        MatchGraph graph = buildMatchGraph(tournament);
+        long signature = signature(graph);
+
+        Timeline timeline = timelines.get(tournamentId);
+        if (timeline == null || timeline.signature != signature) {
+            timeline = buildTimeline(tournament, graph, signature);
+            timelines.put(tournamentId, timeline);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long nowMinutes = toMinutes(now);
+        Map<BaseEvent, EventTimelineDTO> byEvent = new LinkedHashMap<>();
+        Map<BaseEvent, Long> latestFinish = new HashMap<>();
+        Map<BaseEvent, Integer> latestMatch = new HashMap<>();
+
+        synchronized (timeline) {
+            for (int i = 0; i < graph.matches.size(); i++) {
+                Match match = graph.matches.get(i);
+                BaseEvent event = graph.events.get(i);
+                int index = timeline.indexByMatchId.get(match.getId());
+                EventTimelineDTO dto = byEvent.computeIfAbsent(event, e -> {
+                    EventTimelineDTO created = new EventTimelineDTO();
+                    created.setEventIndex(e.getIndex());
+                    created.setEventName(e.getName());
+                    created.setCriticalPath(new ArrayList<>());
+                    return created;
+                });
+
+                if (!match.isCompleted()) {
+                    dto.setRemainingMatches(dto.getRemainingMatches() + 1);
+                }
+                long finish = timeline.path.earliestFinish(index, nowMinutes);
+                if (finish != Long.MIN_VALUE && finish > latestFinish.getOrDefault(event, Long.MIN_VALUE)) {
+                    latestFinish.put(event, finish);
+                    latestMatch.put(event, index);
+                }
+                if (match.getScheduledStart() != null) {
+                    LocalDateTime end = match.getScheduledStart().plusMinutes(estimateDuration(tournament, event));
+                    if (dto.getScheduledFinish() == null || end.isAfter(dto.getScheduledFinish())) {
+                        dto.setScheduledFinish(end);
+                    }
+                }
+            }
+
+            for (Map.Entry<BaseEvent, EventTimelineDTO> entry : byEvent.entrySet()) {
+                Integer last = latestMatch.get(entry.getKey());
+                if (last == null) {
+                    continue;
+                }
+                entry.getValue().setEarliestFinish(fromMinutes(latestFinish.get(entry.getKey())));
+                for (int index : timeline.path.criticalPath(last, nowMinutes)) {
+                    entry.getValue().getCriticalPath().add(graph.matches.get(index).getId());
+                }
+            }
+        }
+
+        TimelineDTO response = new TimelineDTO();
+        response.setAsOf(now);
+        response.setEvents(new ArrayList<>(byEvent.values()));
+        for (EventTimelineDTO event : byEvent.values()) {
+            if (event.getRemainingMatches() > 0 && event.getEarliestFinish() != null
+                    && (response.getEarliestFinish() == null || event.getEarliestFinish().isAfter(response.getEarliestFinish()))) {
+                response.setEarliestFinish(event.getEarliestFinish());
+                response.setBottleneckEventIndex(event.getEventIndex());
+                response.setBottleneckEventName(event.getEventName());
+            }
+        }
+        return response;
+    }
+
+    private Timeline buildTimeline(Tournament tournament, MatchGraph graph, long signature) {
+        int n = graph.matches.size();
+        int[] duration = new int[n];
+        int[][] predecessors = new int[n][];
+        Long[] completedEnd = new Long[n];
+        Map<String, Integer> lastMatchOfTeam = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            Match match = graph.matches.get(i);
+            BaseEvent event = graph.events.get(i);
+            duration[i] = estimateDuration(tournament, event);
+            List<Integer> feeds = new ArrayList<>(graph.predecessors.get(i));
+
+            // Round robin and Swiss rounds: each team's matches happen one after another
+            if (event instanceof RoundRobinEvent || event instanceof SwissEvent) {
+                for (Team team : new Team[] {match.getTeamA(), match.getTeamB()}) {
+                    if (team == null) {
+                        continue;
+                    }
+                    Integer previous = lastMatchOfTeam.put(event.getId() + ":" + team.getId(), i);
+                    if (previous != null && !feeds.contains(previous)) {
+                        feeds.add(previous);
+                    }
+                }
+            }
+            predecessors[i] = feeds.stream().mapToInt(Integer::intValue).toArray();
+
+            if (match.isCompleted()) {
+                completedEnd[i] = match.getCompletedAt() != null ? toMinutes(match.getCompletedAt()) : Long.MIN_VALUE;
+            }
+        }
+
+        CriticalPath path = new CriticalPath(duration, predecessors, tournament.getMinRestMinutes(), completedEnd);
+        return new Timeline(path, new HashMap<>(graph.indexByMatchId), signature);
+    }
+
+    private long signature(MatchGraph graph) {
+        long signature = graph.matches.size();
+        for (Match match : graph.matches) {
+            signature += match.getId() * 31;
+            if (match.isCompleted()) {
+                signature += COMPLETED_WEIGHT;
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Collect every match of every initialized event along with bracket dependencies
+     * Single elim and the double elim winners bracket feed position j into j / 2 of the
+     * next round; losers bracket rounds are also fed by the winners round they take
+     * drop-downs from, and the bronze match by the winners semifinals. Round robin and
+     * Swiss matches have no dependencies (a Swiss round only exists once the previous
+     * one is complete), so player rest alone orders them.
+     */
+    private MatchGraph buildMatchGraph(Tournament tournament) {
+        MatchGraph graph = new MatchGraph();
+
+        for (BaseEvent event : tournament.getEvents()) {
+            if (!event.isEventInitialized()) {
+                continue;
+            }
+
+            if (event instanceof SingleElimEvent singleElim) {
+                List<List<Match>> rounds = new ArrayList<>();
+                for (Round round : singleElim.getRounds()) {
+                    rounds.add(round.getMatches());
+                }
+                addBracket(graph, event, rounds);
+            } else if (event instanceof DoubleElimEvent doubleElim) {
+                List<List<Match>> winners = new ArrayList<>();
+                for (DoubleElimRound round : doubleElim.getWinnersBracket()) {
+                    winners.add(round.getMatches());
+                }
+                List<List<Match>> losers = new ArrayList<>();
+                for (DoubleElimRound round : doubleElim.getLosersBracket()) {
+                    losers.add(round.getMatches());
+                }
+                addBracket(graph, event, winners);
+                addBracket(graph, event, losers);
+
+                for (DoubleElimRound round : doubleElim.getLosersBracket()) {
+                    int from = round.getFeedsFromWinnersRound();
+                    if (from < 0 || from >= winners.size()) {
+                        continue;
+                    }
+                    List<Match> feeding = winners.get(from);
+                    for (int j = 0; j < feeding.size(); j++) {
+                        if (j / 2 < round.getMatches().size()) {
+                            graph.feeds(feeding.get(j), round.getMatches().get(j / 2));
+                        }
+                    }
+                }
+
+                Match bronze = doubleElim.getBronzeMatch();
+                if (bronze != null) {
+                    graph.add(bronze, event);
+                    if (winners.size() >= 2) {
+                        for (Match semifinal : winners.get(winners.size() - 2)) {
+                            graph.feeds(semifinal, bronze);
+                        }
+                    }
+                }
+            } else if (event instanceof RoundRobinEvent roundRobin) {
+                for (TeamSchedule schedule : roundRobin.getTeamSchedules()) {
+                    for (Match match : schedule.getMatches()) {
+                        graph.add(match, event);
+                    }
+                }
+            } else if (event instanceof SwissEvent swiss) {
+                for (SwissRound round : swiss.getRounds()) {
+                    for (Match match : round.getMatches()) {
+                        graph.add(match, event);
+                    }
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    private void addBracket(MatchGraph graph, BaseEvent event, List<List<Match>> rounds) {
+        for (List<Match> round : rounds) {
+            for (Match match : round) {
+                graph.add(match, event);
+            }
+        }
+        for (int r = 1; r < rounds.size(); r++) {
+            List<Match> previous = rounds.get(r - 1);
+            List<Match> current = rounds.get(r);
+            for (int j = 0; j < previous.size(); j++) {
+                if (j / 2 < current.size()) {
+                    graph.feeds(previous.get(j), current.get(j / 2));
+                }
+            }
+        }
+    }
+
+    private Tournament getTournament(Long tournamentId) {
+        return tournamentRepo.findById(tournamentId)
+            .orElseThrow(() -> new IllegalArgumentException("Tournament not found"));
+    }
+
+    private static long toMinutes(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC) + 59, 60);
+    }
+
+    private static LocalDateTime fromMinutes(long minutes) {
+        return LocalDateTime.ofEpochSecond(minutes * 60, 0, ZoneOffset.UTC);
+    }
+}
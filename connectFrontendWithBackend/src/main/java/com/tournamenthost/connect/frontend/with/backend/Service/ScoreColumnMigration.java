@@ -0,0 +1,98 @@
+package com.tournamenthost.connect.frontend.with.backend.Service;
+
+import com.tournamenthost.connect.frontend.with.backend.util.ScoreBlobDecoder;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts matches.score from serialized Java blobs (bytea) to a native integer[] column
+ * Schemas created before the score mapping was pinned store each score as a bytea blob,
+ * which Hibernate can no longer read and SQL can't aggregate. ddl-auto=update never changes
+ * a column's type, so on startup, after the schema update, a bytea column is rebuilt: blobs
+ * are decoded batch by batch into a new integer[] column, then the old column is dropped and
+ * the new one renamed, all in one transaction. Schemas that already use integer[] are left alone.
+ */
+@Service
+@DependsOn("entityManagerFactory")
+public class ScoreColumnMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(ScoreColumnMigration.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        List<String> types = jdbcTemplate.queryForList(
+            "SELECT data_type FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = 'matches' AND column_name = 'score'",
+            String.class);
+        if (types.isEmpty() || !"bytea".equalsIgnoreCase(types.get(0))) {
+            return;
+        }
+
+        log.info("Converting matches.score from serialized blobs to integer[]");
+        int converted = transactionTemplate.execute(status -> convert());
+        log.info("Converted the scores of {} matches to integer[]", converted);
+    }
+
+    private int convert() {
+        jdbcTemplate.execute("ALTER TABLE matches ADD COLUMN score_converted integer[]");
+
+        // One id range at a time, so only a batch of decoded scores is held in memory
+        int converted = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> batch = new ArrayList<>();
+            List<Long> ids = new ArrayList<>();
+            jdbcTemplate.query("SELECT id, score FROM matches WHERE score IS NOT NULL AND id > ? ORDER BY id LIMIT ?",
+                rs -> {
+                    long id = rs.getLong("id");
+                    ids.add(id);
+                    List<Integer> score;
+                    try {
+                        score = ScoreBlobDecoder.decode(rs.getBytes("score"));
+                    } catch (IllegalArgumentException e) {
+                        // One bad row shouldn't block startup; its score is lost, the result isn't
+                        log.warn("Dropping unreadable score of match {}: {}", id, e.getMessage());
+                        score = null;
+                    }
+                    if (score != null) {
+                        batch.add(new Object[] {id, score.toArray(new Integer[0])});
+                    }
+                }, lastId, BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            jdbcTemplate.batchUpdate("UPDATE matches SET score_converted = ? WHERE id = ?", batch, batch.size(),
+                (PreparedStatement ps, Object[] row) -> {
+                    Array array = ps.getConnection().createArrayOf("integer", (Integer[]) row[1]);
+                    ps.setArray(1, array);
+                    ps.setLong(2, (Long) row[0]);
+                });
+            converted += batch.size();
+        }
+
+        jdbcTemplate.execute("ALTER TABLE matches DROP COLUMN score");
+        jdbcTemplate.execute("ALTER TABLE matches RENAME COLUMN score_converted TO score");
+        return converted;
+    }
+}
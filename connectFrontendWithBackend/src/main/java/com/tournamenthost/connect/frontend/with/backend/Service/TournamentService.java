@@ -1,21 +1,37 @@
 package com.tournamenthost.connect.frontend.with.backend.Service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
 
 import com.tournamenthost.connect.frontend.with.backend.Model.Match;
 import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
@@ -23,8 +39,10 @@ import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Model.PointsDistribution;
 import com.tournamenthost.connect.frontend.with.backend.Model.League;
 import com.tournamenthost.connect.frontend.with.backend.Model.LeaguePlayerRanking;
+import com.tournamenthost.connect.frontend.with.backend.Model.SeedingSource;
 import com.tournamenthost.connect.frontend.with.backend.Model.Team;
 import com.tournamenthost.connect.frontend.with.backend.Model.TeamType;
+import com.tournamenthost.connect.frontend.with.backend.Model.ResultLogEntry;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.EventRegistration;
 import com.tournamenthost.connect.frontend.with.backend.Repository.TournamentRepository;
@@ -44,13 +62,25 @@ import com.tournamenthost.connect.frontend.with.backend.Model.Event.DoubleElimRo
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.BracketType;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.TeamSchedule;
 import com.tournamenthost.connect.frontend.with.backend.Repository.TeamScheduleRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.SwissStandingRepository;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissRound;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissStanding;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TiebreakRule;
+import com.tournamenthost.connect.frontend.with.backend.DTO.DrawPreviewDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.RosterImportResultDTO;
+import com.tournamenthost.connect.frontend.with.backend.util.DTOConverter;
+import com.tournamenthost.connect.frontend.with.backend.util.RosterCsv;
+import com.tournamenthost.connect.frontend.with.backend.util.StandingsUtil;
+import com.tournamenthost.connect.frontend.with.backend.util.SwissPairingEngine;
 import com.tournamenthost.connect.frontend.with.backend.util.TournamentUtil;
 
 @Service
 public class TournamentService {
 
     private static final Logger log = LoggerFactory.getLogger(TournamentService.class);
-    private static final int MAX_RECURSION_DEPTH = 100;
+    private static final int ROSTER_BATCH_SIZE = 500;
+    public static final int MAX_DRAW_PREVIEWS = 20;
 
     @Autowired
     private TournamentRepository tournamentRepo;
@@ -79,6 +109,36 @@ public class TournamentService {
     @Autowired
     private TeamScheduleRepository teamScheduleRepo;
 
+    @Autowired
+    private SwissStandingRepository swissStandingRepo;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private ResultLogService resultLogService;
+
+    @Autowired
+    private BracketAdapter bracketAdapter;
+
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
+    @Autowired
+    private HeadToHeadService headToHeadService;
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public Tournament createTournament(String name, User owner, String message, Date begin, Date end, String location) {
         if (tournamentRepo.existsByNameIgnoreCaseAndSpaces(name)) {
             throw new IllegalArgumentException("Tournament with name '" + name + "' already exists");
@@ -309,6 +369,15 @@ public class TournamentService {
                     }
                 }
             }
+        } else if (event instanceof SwissEvent swiss) {
+            // Iterate through rounds in order (earliest round first)
+            for (SwissRound round : swiss.getRounds()) {
+                for (Match match : round.getMatches()) {
+                    if (isPlayerInMatch(match, player)) {
+                        playerMatches.add(match);
+                    }
+                }
+            }
         }
 
         return playerMatches;
@@ -335,6 +404,7 @@ public class TournamentService {
             case SINGLE_ELIM -> event = new SingleElimEvent();
             case ROUND_ROBIN -> event = new RoundRobinEvent();
             case DOUBLE_ELIM -> event = new DoubleElimEvent();
+            case SWISS -> event = new SwissEvent();
             default -> throw new IllegalArgumentException("Unsupported event type");
         }
         Tournament tournament = getTournament(tournamentId);
@@ -385,6 +455,14 @@ public class TournamentService {
 
         event.removePlayer(user);
         eventRepo.save(event);
+
+        // Their place (if they came in through signup) goes to the next player on the waitlist
+        Optional<EventRegistration> registration = eventRegistrationRepo.findByEventAndUser(event, user);
+        if (registration.isPresent()) {
+            EventRegistration.RegistrationStatus previousStatus = registration.get().getStatus();
+            eventRegistrationRepo.delete(registration.get());
+            releaseSlotFor(event, previousStatus);
+        }
     }
 
     public List<User> getPlayers(Long tournamentId, int eventIndex) {
@@ -425,6 +503,12 @@ public class TournamentService {
                 answer.add(doubleElim.getBronzeMatch());
             }
             return answer;
+        } else if (event instanceof SwissEvent swiss) {
+            List<Match> answer = new ArrayList<>();
+            for (SwissRound round : swiss.getRounds()) {
+                answer.addAll(round.getMatches());
+            }
+            return answer;
         } else {
             throw new IllegalArgumentException("Unsupported event type");
         }
@@ -467,6 +551,17 @@ public class TournamentService {
     }
 
     public void initializeEvent(Long tournamentId, int eventIndex) {
+        initializeEvent(tournamentId, eventIndex, null);
+    }
+
+    /**
+     * Initialize an event from a given draw seed
+     * Every random choice in the draw comes from this seed, so initializing with the seed of
+     * a draw preview materializes that preview exactly (as long as entrants, seeds and
+     * affiliations haven't changed since).
+     * @param drawSeed Seed of the draw, or null for a fresh random one; recorded on the event either way
+     */
+    public void initializeEvent(Long tournamentId, int eventIndex, Long drawSeed) {
         BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
         List<User> players = event.getPlayers();
 
@@ -502,6 +597,10 @@ public class TournamentService {
         // Validate seeding before initialization
         validateSeeding(event);
 
+        long seed = drawSeed != null ? drawSeed : ThreadLocalRandom.current().nextLong();
+        Random random = new Random(seed);
+        event.setDrawSeed(seed);
+
         event.initializeEvent();
         if (event instanceof SingleElimEvent singleElim) {
             // isDoubles already defined above
@@ -547,11 +646,7 @@ public class TournamentService {
 
             if (isDoubles) {
                 // Team-based initialization (teams already loaded above)
-                Map<Long, Integer> teamSeeds = event.getTeamSeeds();
-                if (teamSeeds == null) {
-                    teamSeeds = new HashMap<>();
-                }
-                ArrayList<Team> teamDraw = TournamentUtil.generateDrawUsingTeamSeeding(teams, matchAmount, teamSeeds);
+                ArrayList<Team> teamDraw = drawTeams(event, teams, matchAmount, random);
 
                 for (int i = 0; i < teamDraw.size(); i++) {
                     if (i % 2 == 0) {
@@ -592,11 +687,7 @@ public class TournamentService {
                 }
             } else {
                 // Player-based initialization (singles)
-                Map<Long, Integer> seeds = event.getPlayerSeeds();
-                if (seeds == null) {
-                    seeds = new HashMap<>();
-                }
-                ArrayList<User> draw = TournamentUtil.generateDrawUsingSeeding(players, matchAmount, seeds);
+                ArrayList<User> draw = drawPlayers(event, players, matchAmount, random);
 
                 for (int i = 0; i < draw.size(); i++) {
                     if (i % 2 == 0) {
@@ -651,150 +742,214 @@ public class TournamentService {
         } else if (event instanceof RoundRobinEvent roundRobin) {
             // isDoubles already defined above
 
-            List<Match> allMatches = new ArrayList<>();
-
-            if (isDoubles) {
-                // Team-based round robin: each team plays every other team (teams already loaded above)
+            Map<Long, Integer> entrantSeeds = new HashMap<>();
+            List<Team> entrants = resolveTeamEntrants(roundRobin, isDoubles, teams, players, entrantSeeds);
 
-                if (teams.size() <= 2) {
-                    throw new IllegalArgumentException("There are too few teams. Doubles round robin events require at least 3 teams");
-                }
-
-                // Create a TeamSchedule for each team
-                List<TeamSchedule> teamSchedules = new ArrayList<>();
-                for (Team team : teams) {
-                    TeamSchedule schedule = new TeamSchedule(team, roundRobin);
-                    teamSchedules.add(schedule);
-                }
-
-                // Generate matches: each team vs every other team
-                for (int i = 0; i < teams.size(); i++) {
-                    for (int j = i + 1; j < teams.size(); j++) {
-                        Team teamA = teams.get(i);
-                        Team teamB = teams.get(j);
-
-                        // Create the match
-                        Match match = new Match();
-                        match.setTeamA(teamA);
-                        match.setTeamB(teamB);
-                        match.setEvent(roundRobin);
-                        match.setMatchType(event.getMatchType());
-                        match.setGamesRequiredToWin(event.getGamesRequiredToWin());
-                        allMatches.add(match);
-
-                        // Add match to both teams' schedules
-                        teamSchedules.get(i).addMatch(match);
-                        teamSchedules.get(j).addMatch(match);
-                    }
+            // Split entrants into pools - a classic round robin is a single pool
+            int poolCount = roundRobin.getPoolCount();
+            List<List<Team>> pools;
+            if (roundRobin.isPoolPlay()) {
+                if (entrants.size() < poolCount * 2) {
+                    throw new IllegalArgumentException("Pool play with " + poolCount + " pools requires at least " +
+                        (poolCount * 2) + " entrants, found " + entrants.size());
                 }
+                pools = TournamentUtil.snakeSeedIntoPools(orderEntrantsBySeed(entrants, entrantSeeds, random), poolCount);
+            } else {
+                pools = List.of(entrants);
+            }
 
-                // Save matches first
-                matchRepo.saveAll(allMatches);
+            List<Match> allMatches = new ArrayList<>();
+            List<TeamSchedule> teamSchedules = new ArrayList<>();
 
-                // Add all team schedules to the event
-                roundRobin.addTeamSchedule(teamSchedules);
-                eventRepo.save(roundRobin);
-            } else {
-                // Player-based round robin: each player plays every other player
-                // Create single-player teams for each player
-                List<Team> singlePlayerTeams = new ArrayList<>();
-                for (User player : players) {
-                    Team team = new Team(player, TeamType.SINGLES, roundRobin);
-                    singlePlayerTeams.add(team);
-                }
-                teamRepo.saveAll(singlePlayerTeams);
+            for (int poolIndex = 0; poolIndex < pools.size(); poolIndex++) {
+                List<Team> pool = pools.get(poolIndex);
 
-                // Create a TeamSchedule for each team
-                List<TeamSchedule> teamSchedules = new ArrayList<>();
-                for (Team team : singlePlayerTeams) {
-                    TeamSchedule schedule = new TeamSchedule(team, roundRobin);
-                    teamSchedules.add(schedule);
+                // Create a TeamSchedule for each team in this pool
+                List<TeamSchedule> poolSchedules = new ArrayList<>();
+                for (Team team : pool) {
+                    poolSchedules.add(new TeamSchedule(team, roundRobin, poolIndex + 1));
                 }
 
-                // Generate matches: each team vs every other team
-                for (int i = 0; i < singlePlayerTeams.size(); i++) {
-                    for (int j = i + 1; j < singlePlayerTeams.size(); j++) {
-                        Team teamA = singlePlayerTeams.get(i);
-                        Team teamB = singlePlayerTeams.get(j);
-
-                        // Create the match
+                // Generate matches: each team vs every other team in the same pool
+                for (int i = 0; i < pool.size(); i++) {
+                    for (int j = i + 1; j < pool.size(); j++) {
                         Match match = new Match();
-                        match.setTeamA(teamA);
-                        match.setTeamB(teamB);
+                        match.setTeamA(pool.get(i));
+                        match.setTeamB(pool.get(j));
                         match.setEvent(roundRobin);
                         match.setMatchType(event.getMatchType());
                         match.setGamesRequiredToWin(event.getGamesRequiredToWin());
                         allMatches.add(match);
 
                         // Add this match to both teams' schedules
-                        teamSchedules.get(i).addMatch(match);
-                        teamSchedules.get(j).addMatch(match);
+                        poolSchedules.get(i).addMatch(match);
+                        poolSchedules.get(j).addMatch(match);
                     }
                 }
 
-                // Save matches first
-                matchRepo.saveAll(allMatches);
-
-                // Add schedules to the event and save
-                roundRobin.addTeamSchedule(teamSchedules);
-                eventRepo.save(roundRobin);
+                teamSchedules.addAll(poolSchedules);
             }
+
+            // Save matches first
+            matchRepo.saveAll(allMatches);
+
+            // Add schedules to the event and save
+            roundRobin.addTeamSchedule(teamSchedules);
+            eventRepo.save(roundRobin);
         } else if (event instanceof DoubleElimEvent doubleElim) {
-            initializeDoubleElimEvent(doubleElim, players);
+            initializeDoubleElimEvent(doubleElim, players, random);
+        } else if (event instanceof SwissEvent swiss) {
+            Map<Long, Integer> entrantSeeds = new HashMap<>();
+            List<Team> entrants = resolveTeamEntrants(swiss, isDoubles, teams, players, entrantSeeds);
+            initializeSwissEvent(swiss, entrants, entrantSeeds, random);
         } else {
             throw new IllegalArgumentException("Unsupported event type");
         }
     }
 
+    /**
+     * Tear down an event's bracket so it can be initialized again
+     * Everything hanging off the event's matches is removed with a handful of set-based
+     * deletes rather than loading and deleting each match, game and round through Hibernate.
+     */
+    @Transactional
     public void deinitializeEvent(Long tournamentId, int eventIndex) {
         BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
         if (!event.isEventInitialized()) {
             throw new IllegalArgumentException("This event was never initialized, nothing to deinitialize");
         }
+        if (!(event instanceof SingleElimEvent) && !(event instanceof RoundRobinEvent)
+                && !(event instanceof DoubleElimEvent) && !(event instanceof SwissEvent)) {
+            throw new IllegalArgumentException("Unsupported event type");
+        }
 
-        // Collect all matches to delete
-        List<Match> matchesToDelete = new ArrayList<>();
+        // Push pending changes, then drop the loaded bracket so nothing stale is flushed later
+        entityManager.flush();
+        entityManager.clear();
 
-        if (event instanceof SingleElimEvent singleElimEvent) {
-            for (Round round : singleElimEvent.getRounds()) {
-                matchesToDelete.addAll(round.getMatches());
-            }
-            singleElimEvent.getRounds().clear();
-        } else if (event instanceof RoundRobinEvent roundRobinEvent) {
-            for (TeamSchedule schedule : roundRobinEvent.getTeamSchedules()) {
-                matchesToDelete.addAll(schedule.getMatches());
-            }
-            // Use distinct to avoid deleting the same match multiple times
-            matchesToDelete = matchesToDelete.stream().distinct().toList();
-            roundRobinEvent.getTeamSchedules().clear();
-        } else if (event instanceof DoubleElimEvent doubleElimEvent) {
-            for (DoubleElimRound round : doubleElimEvent.getWinnersBracket()) {
-                matchesToDelete.addAll(round.getMatches());
-            }
-            for (DoubleElimRound round : doubleElimEvent.getLosersBracket()) {
-                matchesToDelete.addAll(round.getMatches());
-            }
-            // Add bronze match if it exists
-            if (doubleElimEvent.getBronzeMatch() != null) {
-                matchesToDelete.add(doubleElimEvent.getBronzeMatch());
+        List<Long> players = playersWithResults("= ?", event.getId());
+        deleteBrackets("= ?", event.getId());
+        playerStatsService.rebuildPlayers(players);
+
+        // Mark event as uninitialized, restart its result log numbering and forget its draw seed
+        jdbcTemplate.update("UPDATE base_event SET initialized = false, result_log_sequence = 0, draw_seed = NULL WHERE id = ?",
+            event.getId());
+    }
+
+    /**
+     * Delete the brackets of every event matching the predicate, children before parents
+     * Table and column names are the ones Hibernate generates for the bracket mappings
+     * (the round join tables keep their match_position order column).
+     * @param eventPredicate SQL applied to an event id, e.g. "= ?" or "IN (SELECT ...)"
+     */
+    private void deleteBrackets(String eventPredicate, Object... args) {
+        String[] statements = {
+            "DELETE FROM game WHERE match_id IN (SELECT id FROM matches WHERE event_id %s)",
+            "DELETE FROM round_matches WHERE round_id IN (SELECT id FROM round WHERE event_id %s)",
+            "DELETE FROM double_elim_round_matches WHERE double_elim_round_id IN " +
+                "(SELECT id FROM double_elim_round WHERE event_id %s)",
+            "DELETE FROM swiss_rounds_matches WHERE swiss_round_id IN (SELECT id FROM swiss_rounds WHERE event_id %s)",
+            "DELETE FROM team_schedule_matches WHERE schedule_id IN (SELECT id FROM team_schedules WHERE event_id %s)",
+            "UPDATE base_event SET bronze_match_id = NULL WHERE id %s AND bronze_match_id IS NOT NULL",
+            "DELETE FROM matches WHERE event_id %s",
+            "DELETE FROM round WHERE event_id %s",
+            "DELETE FROM double_elim_round WHERE event_id %s",
+            "DELETE FROM swiss_rounds WHERE event_id %s",
+            "DELETE FROM swiss_standing_opponents WHERE standing_id IN (SELECT id FROM swiss_standings WHERE event_id %s)",
+            "DELETE FROM swiss_standings WHERE event_id %s",
+            "DELETE FROM team_schedules WHERE event_id %s",
+            "DELETE FROM result_log WHERE event_id %s"
+        };
+        headToHeadService.removeMeetings("IN (SELECT id FROM matches WHERE event_id " + eventPredicate + ")", args);
+        int rows = 0;
+        for (String statement : statements) {
+            rows += jdbcTemplate.update(String.format(statement, eventPredicate), args);
+        }
+        log.debug("Bracket teardown for events {} {} removed {} rows", eventPredicate, Arrays.toString(args), rows);
+    }
+
+    /**
+     * Players (team members included) with a completed match in the events matching the predicate
+     * Their stats are rebuilt once those matches are deleted.
+     */
+    private List<Long> playersWithResults(String eventPredicate, Object... args) {
+        String sql = String.format(
+            "SELECT m.player_a_id, m.player_b_id, ta.player1_id, ta.player2_id, tb.player1_id, tb.player2_id " +
+            "FROM matches m LEFT JOIN team ta ON ta.id = m.team_a_id LEFT JOIN team tb ON tb.id = m.team_b_id " +
+            "WHERE m.completed AND m.event_id %s", eventPredicate);
+        Set<Long> players = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            for (int column = 1; column <= 6; column++) {
+                long id = rs.getLong(column);
+                if (!rs.wasNull()) {
+                    players.add(id);
+                }
             }
-            doubleElimEvent.getWinnersBracket().clear();
-            doubleElimEvent.getLosersBracket().clear();
-            doubleElimEvent.setBronzeMatch(null);
-        } else {
-            throw new IllegalArgumentException("Unsupported event type");
+        }, args);
+        return new ArrayList<>(players);
+    }
+
+    /**
+     * Delete a tournament with all its events, brackets, registrations and teams
+     * Only the owner can do this. Leagues that counted the tournament lose it; their
+     * rankings need recalculating afterwards.
+     * @return Ids of the leagues the tournament belonged to
+     */
+    @Transactional
+    public List<Long> deleteTournament(Long tournamentId, User currentUser) {
+        Tournament tournament = getTournament(tournamentId);
+        if (!tournament.getOwner().equals(currentUser)) {
+            throw new IllegalArgumentException("Only the tournament owner can delete the tournament");
         }
 
-        // Delete all matches from database
-        matchRepo.deleteAll(matchesToDelete);
+        List<Long> leagueIds = jdbcTemplate.queryForList(
+            "SELECT league_id FROM league_tournaments WHERE tournament_id = ?", Long.class, tournamentId);
 
-        // Mark event as uninitialized
-        event.unInitiateEvent();
-        eventRepo.save(event);
+        entityManager.flush();
+        entityManager.clear();
+
+        String events = "IN (SELECT id FROM base_event WHERE tournament_id = ?)";
+        List<Long> players = playersWithResults(events, tournamentId);
+        deleteBrackets(events, tournamentId);
+
+        String[] statements = {
+            "DELETE FROM points_mapping WHERE points_distribution_id IN (SELECT id FROM points_distribution " +
+                "WHERE tournament_id = ? OR event_id IN (SELECT id FROM base_event WHERE tournament_id = ?))",
+            "DELETE FROM points_distribution WHERE tournament_id = ? " +
+                "OR event_id IN (SELECT id FROM base_event WHERE tournament_id = ?)",
+            "DELETE FROM event_registrations WHERE event_id " + events,
+            "DELETE FROM user_events WHERE event_id " + events,
+            "DELETE FROM event_seeds WHERE event_id " + events,
+            "DELETE FROM event_team_seeds WHERE event_id " + events,
+            "DELETE FROM event_tiebreakers WHERE event_id " + events,
+            "DELETE FROM team WHERE event_id " + events,
+            "DELETE FROM base_event WHERE tournament_id = ?",
+            "DELETE FROM tournament_editors WHERE tournament_id = ?",
+            "DELETE FROM tournament_sessions WHERE tournament_id = ?",
+            "DELETE FROM league_tournaments WHERE tournament_id = ?",
+            "DELETE FROM users_tournaments WHERE tournaments_id = ?",
+            "DELETE FROM tournament WHERE id = ?"
+        };
+        for (String statement : statements) {
+            Object[] args = statement.contains(" OR ") ? new Object[] {tournamentId, tournamentId} : new Object[] {tournamentId};
+            jdbcTemplate.update(statement, args);
+        }
+
+        playerStatsService.rebuildPlayers(players);
+
+        log.info("Deleted tournament {} ({})", tournamentId, tournament.getName());
+        return leagueIds;
     }
 
     public Object getEventDraw(Long tournamentId, int eventIndex) {
-        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+        return getEventDraw(getEventsForTournament(tournamentId).get(eventIndex));
+    }
+
+    /**
+     * Draw of an already loaded event: rounds of matches, team schedules for round robin,
+     * or winners/losers brackets for double elim
+     */
+    public Object getEventDraw(BaseEvent event) {
         if (event instanceof SingleElimEvent singleElimEvent) {
             List<List<Match>> draw = new ArrayList<>();
             if (singleElimEvent.getRounds() != null) {
@@ -841,6 +996,13 @@ public class TournamentService {
             }
             draw.put("losers", losersDraw);
 
+            return draw;
+        } else if (event instanceof SwissEvent swissEvent) {
+            // For Swiss, return the rounds paired so far in order
+            List<List<Match>> draw = new ArrayList<>();
+            for (SwissRound round : swissEvent.getRounds()) {
+                draw.add(round.getMatches());
+            }
             return draw;
         } else {
             throw new IllegalArgumentException("Unsupported event type");
@@ -859,9 +1021,18 @@ public class TournamentService {
 
     /**
      * Record match result with tournament context validation
-     * This ensures the match belongs to the specified tournament before recording the result
+     * This ensures the match belongs to the specified tournament before recording the result.
+     * The bracket, the result log entry, standings, stats, head-to-head, ratings and schedule
+     * all commit in one transaction, so a failure part way leaves none of them changed.
      */
+    @Transactional
     public void recordMatchResult(Long tournamentId, Long matchId, Long winnerId, List<Integer> score) {
+        recordMatchResult(tournamentId, matchId, winnerId, score, ResultLogEntry.Kind.RESULT);
+    }
+
+    // Callers hold the transaction: the public overload above, or correctMatchResult
+    private void recordMatchResult(Long tournamentId, Long matchId, Long winnerId, List<Integer> score,
+                                   ResultLogEntry.Kind logKind) {
         // First verify the match belongs to this tournament
         verifyMatchBelongsToTournament(matchId, tournamentId);
 
@@ -895,23 +1066,25 @@ public class TournamentService {
             }
 
             // Handle bracket advancement for elimination events
-            if (event instanceof SingleElimEvent singleElim) {
-                advanceTeamInSingleElim(match, winnerTeam, singleElim);
-            } else if (event instanceof DoubleElimEvent doubleElim) {
-                advanceTeamInDoubleElim(match, winnerTeam, doubleElim);
-            }
+            advanceInBracket(match, winnerTeam, event);
 
             // Set match result
             match.setWinnerTeam(winnerTeam);
             match.setScore(score);
             match.setCompleted(true);
+            match.setCompletedAt(LocalDateTime.now());
 
             // Save the match
             matchRepo.save(match);
 
-            // For double elim, auto-advance any single teams in losers bracket after each result
-            if (event instanceof DoubleElimEvent doubleElim) {
-                autoAdvanceSingleTeamsInLosersBracket(doubleElim);
+            // For round robin, update the running standings of both teams
+            if (event instanceof RoundRobinEvent roundRobin) {
+                updateRoundRobinStandings(match, winnerTeam, roundRobin, false);
+            }
+
+            // For Swiss, update standings and pair the next round once this one is done
+            if (event instanceof SwissEvent swiss) {
+                updateSwissStandings(match, winnerTeam, swiss);
             }
         } else {
             // Handle player-based match (singles)
@@ -929,437 +1102,109 @@ public class TournamentService {
             }
 
             // Handle bracket advancement for elimination events
-            if (event instanceof SingleElimEvent singleElim) {
-                advanceWinnerInSingleElim(match, winner, singleElim);
-            } else if (event instanceof DoubleElimEvent doubleElim) {
-                advanceInDoubleElim(match, winner, doubleElim);
-            }
+            advanceInBracket(match, winner, event);
 
             // Set match result
             match.setWinner(winner);
             match.setScore(score);
             match.setCompleted(true);
+            match.setCompletedAt(LocalDateTime.now());
 
             // Save the match
             matchRepo.save(match);
-
-            // For double elim, auto-advance any single players in losers bracket after each result
-            if (event instanceof DoubleElimEvent doubleElim) {
-                autoAdvanceSinglePlayersInLosersBracket(doubleElim);
-            }
-        }
-    }
-
-    private void advanceWinnerInSingleElim(Match completedMatch, User winner, SingleElimEvent singleElim) {
-        List<Round> rounds = singleElim.getRounds();
-
-        // Find which round and position this match is in
-        Round currentRound = null;
-        int currentRoundIndex = -1;
-        int matchPositionInRound = -1;
-
-        for (int i = 0; i < rounds.size(); i++) {
-            Round round = rounds.get(i);
-            List<Match> matches = round.getMatches();
-            for (int j = 0; j < matches.size(); j++) {
-                if (matches.get(j).getId().equals(completedMatch.getId())) {
-                    currentRound = round;
-                    currentRoundIndex = i;
-                    matchPositionInRound = j;
-                    break;
-                }
-            }
-            if (currentRound != null) break;
-        }
-
-        if (currentRound == null) {
-            throw new IllegalArgumentException("Could not find the completed match in any round");
-        } else if ((completedMatch.getPlayerA() == null || completedMatch.getPlayerB() == null) && currentRoundIndex == 0) {
-            throw new IllegalStateException("The match doesn't have both of its players yet");
         }
 
-        // Check if there's a next round (not the final)
-        if (currentRoundIndex < rounds.size() - 1) {
-            Round nextRound = rounds.get(currentRoundIndex + 1);
-            List<Match> nextRoundMatches = nextRound.getMatches();
+        resultLogService.append(event, logKind, matchId, winnerId, score, null);
+        playerStatsService.recordResult(match);
 
-            // Calculate which match in the next round this winner advances to
-            // In a standard bracket, two adjacent matches feed into one match in the next round
-            int nextMatchIndex = matchPositionInRound / 2;
-
-            if (nextMatchIndex < nextRoundMatches.size()) {
-                Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-
-                // Don't overwrite players in an already-completed match
-                // This prevents issues when matches are completed out of order
-                if (!nextMatch.isCompleted()) {
-                    // Determine if winner goes to playerA or playerB slot
-                    // Even positioned matches (0, 2, 4...) feed playerA, odd positioned feed playerB
-                    if (matchPositionInRound % 2 == 0) {
-                        nextMatch.setPlayerA(winner);
-                    } else {
-                        nextMatch.setPlayerB(winner);
-                    }
-
-                    // Save the updated next round match
-                    matchRepo.save(nextMatch);
-                }
-            }
-        }
+        // Update the projected timeline and pull the rest of the day forward (or push it back)
+        scheduleService.onResultRecorded(match);
     }
 
-    private void advanceTeamInSingleElim(Match completedMatch, Team winnerTeam, SingleElimEvent singleElim) {
-        List<Round> rounds = singleElim.getRounds();
-
-        // Find which round and position this match is in
-        Round currentRound = null;
-        int currentRoundIndex = -1;
-        int matchPositionInRound = -1;
-
-        for (int i = 0; i < rounds.size(); i++) {
-            Round round = rounds.get(i);
-            List<Match> matches = round.getMatches();
-            for (int j = 0; j < matches.size(); j++) {
-                if (matches.get(j).getId().equals(completedMatch.getId())) {
-                    currentRound = round;
-                    currentRoundIndex = i;
-                    matchPositionInRound = j;
-                    break;
-                }
-            }
-            if (currentRound != null) break;
-        }
-
-        if (currentRound == null) {
-            throw new IllegalArgumentException("Could not find the completed match in any round");
-        } else if ((completedMatch.getTeamA() == null || completedMatch.getTeamB() == null) && currentRoundIndex == 0) {
-            throw new IllegalStateException("The match doesn't have both of its teams yet");
-        }
-
-        // Check if there's a next round (not the final)
-        if (currentRoundIndex < rounds.size() - 1) {
-            Round nextRound = rounds.get(currentRoundIndex + 1);
-            List<Match> nextRoundMatches = nextRound.getMatches();
-
-            // Calculate which match in the next round this winner advances to
-            // In a standard bracket, two adjacent matches feed into one match in the next round
-            int nextMatchIndex = matchPositionInRound / 2;
-
-            if (nextMatchIndex < nextRoundMatches.size()) {
-                Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-
-                // Don't overwrite teams in an already-completed match
-                // This prevents issues when matches are completed out of order
-                if (!nextMatch.isCompleted()) {
-                    // Determine if winner goes to teamA or teamB slot
-                    // Even positioned matches (0, 2, 4...) feed teamA, odd positioned feed teamB
-                    if (matchPositionInRound % 2 == 0) {
-                        nextMatch.setTeamA(winnerTeam);
-                    } else {
-                        nextMatch.setTeamB(winnerTeam);
-                    }
-
-                    // Save the updated next round match
-                    matchRepo.save(nextMatch);
-                }
-            }
-        }
-    }
-
-    // ==================== DOUBLE ELIMINATION METHODS ====================
-
     /**
-     * Advance winner and loser in double elimination
+     * Send the winner (and, in double elim, the loser) of a result on through the bracket
+     * The event is loaded into the bracket engine, which applies advancement and the losers
+     * bracket bye chain; only the matches that changed are saved. No-op outside elimination.
      */
-    private void advanceInDoubleElim(Match completedMatch, User winner, DoubleElimEvent doubleElim) {
-        List<DoubleElimRound> winnersRounds = doubleElim.getWinnersBracket();
-        List<DoubleElimRound> losersRounds = doubleElim.getLosersBracket();
-
-        // Determine the loser
-        User loser = completedMatch.getPlayerA().equals(winner) ?
-                     completedMatch.getPlayerB() : completedMatch.getPlayerA();
-
-        // Check if this is the bronze match (terminal match, no advancement needed)
-        if (doubleElim.getBronzeMatch() != null &&
-            completedMatch.getId().equals(doubleElim.getBronzeMatch().getId())) {
-            return; // Bronze match is terminal, no further advancement
-        }
-
-        // Find which bracket and round this match is in
-        boolean isWinnersBracket = false;
-        int currentRoundIndex = -1;
-        int matchPositionInRound = -1;
-
-        // Check winners bracket
-        for (int i = 0; i < winnersRounds.size(); i++) {
-            DoubleElimRound round = winnersRounds.get(i);
-            List<Match> matches = round.getMatches();
-            for (int j = 0; j < matches.size(); j++) {
-                if (matches.get(j).getId().equals(completedMatch.getId())) {
-                    isWinnersBracket = true;
-                    currentRoundIndex = i;
-                    matchPositionInRound = j;
-                    break;
-                }
-            }
-            if (isWinnersBracket) break;
-        }
-
-        // Check losers bracket if not found in winners
-        if (!isWinnersBracket) {
-            for (int i = 0; i < losersRounds.size(); i++) {
-                DoubleElimRound round = losersRounds.get(i);
-                List<Match> matches = round.getMatches();
-                for (int j = 0; j < matches.size(); j++) {
-                    if (matches.get(j).getId().equals(completedMatch.getId())) {
-                        currentRoundIndex = i;
-                        matchPositionInRound = j;
-                        break;
-                    }
-                }
-                if (currentRoundIndex != -1) break;
-            }
-        }
-
-        if (currentRoundIndex == -1) {
-            throw new IllegalArgumentException("Could not find the completed match in any round");
-        }
-
-        if (isWinnersBracket) {
-            // Advance winner to next winners round
-            if (currentRoundIndex < winnersRounds.size() - 1) {
-                DoubleElimRound nextWinnersRound = winnersRounds.get(currentRoundIndex + 1);
-                List<Match> nextRoundMatches = nextWinnersRound.getMatches();
-                int nextMatchIndex = matchPositionInRound / 2;
-
-                if (nextMatchIndex < nextRoundMatches.size()) {
-                    Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-                    if (!nextMatch.isCompleted()) {
-                        if (matchPositionInRound % 2 == 0) {
-                            nextMatch.setPlayerA(winner);
-                        } else {
-                            nextMatch.setPlayerB(winner);
-                        }
-                        matchRepo.save(nextMatch);
-                    }
-                }
-            }
-
-            // Feed loser to losers bracket (only if they've never won in winners bracket)
-            // This allows players who got byes and then lost to drop to losers
-            if (currentRoundIndex <= doubleElim.getFeedInCutoffRound() && !losersRounds.isEmpty()) {
-                // Check if loser has ever won in winners bracket
-                boolean loserHasWon = hasPlayerWonInWinnersBracket(loser, doubleElim);
-
-                // Only drop to losers if they've never won (first match loss or bye -> loss)
-                if (!loserHasWon) {
-                    // Find the corresponding losers bracket round that receives from this winners round
-                    for (DoubleElimRound losersRound : losersRounds) {
-                        Integer feedsFrom = losersRound.getFeedsFromWinnersRound();
-                        if (feedsFrom != null && feedsFrom.intValue() == currentRoundIndex) {
-                            List<Match> losersMatches = losersRound.getMatches();
-
-                            // Deterministic placement: Winners matches 0,1 → Losers match 0 (A,B)
-                            // Winners matches 2,3 → Losers match 1 (A,B), etc.
-                            int losersMatchIndex = matchPositionInRound / 2;
-                            boolean isPositionA = (matchPositionInRound % 2 == 0);
-
-                            if (losersMatchIndex < losersMatches.size()) {
-                                Match losersMatch = losersMatches.get(losersMatchIndex);
-                                if (isPositionA && losersMatch.getPlayerA() == null) {
-                                    losersMatch.setPlayerA(loser);
-                                    matchRepo.save(losersMatch);
-                                } else if (!isPositionA && losersMatch.getPlayerB() == null) {
-                                    losersMatch.setPlayerB(loser);
-                                    matchRepo.save(losersMatch);
-                                }
-                            }
-                            break;
-                        }
-                    }
-                }
-                // If loser HAS won before, they're eliminated (don't drop to losers)
-            } else if (currentRoundIndex == winnersRounds.size() - 2) {
-                // Semifinals losers go to bronze match (3rd/4th place)
-                Match bronzeMatch = doubleElim.getBronzeMatch();
-                if (bronzeMatch != null && !bronzeMatch.isCompleted()) {
-                    if (bronzeMatch.getPlayerA() == null) {
-                        bronzeMatch.setPlayerA(loser);
-                        matchRepo.save(bronzeMatch);
-                    } else if (bronzeMatch.getPlayerB() == null) {
-                        bronzeMatch.setPlayerB(loser);
-                        matchRepo.save(bronzeMatch);
-                    }
-                }
-            }
-        } else {
-            // In losers bracket - only advance winner (loser is eliminated)
-            if (currentRoundIndex < losersRounds.size() - 1) {
-                DoubleElimRound nextLosersRound = losersRounds.get(currentRoundIndex + 1);
-                List<Match> nextRoundMatches = nextLosersRound.getMatches();
-                int nextMatchIndex = matchPositionInRound / 2;
-
-                if (nextMatchIndex < nextRoundMatches.size()) {
-                    Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-                    if (!nextMatch.isCompleted()) {
-                        if (matchPositionInRound % 2 == 0) {
-                            nextMatch.setPlayerA(winner);
-                        } else {
-                            nextMatch.setPlayerB(winner);
-                        }
-                        matchRepo.save(nextMatch);
-                    }
-                }
-            }
+    private void advanceInBracket(Match match, Object winner, BaseEvent event) {
+        if (!(event instanceof SingleElimEvent) && !(event instanceof DoubleElimEvent)) {
+            return;
         }
+        BracketAdapter.LoadedBracket bracket = bracketAdapter.load(event);
+        bracket.record(match, winner);
+        bracketAdapter.save(bracket);
     }
 
+    // ==================== RESULT CORRECTION METHODS ====================
+
     /**
-     * Advance winner team and loser team in double elimination
+     * Correct a recorded result
+     * If the winner changes in an elimination event, the result is reversed and only the
+     * bracket slots it filled are cleared: the winner's next-round slot and, in double elim,
+     * the loser's drop into the losers bracket or bronze match. A downstream match that was
+     * already played from a cleared slot is reversed the same way, so the work follows one
+     * path through the bracket and every other result stays in place. The corrected match
+     * loses its old games and games-won counters with the old result, then the corrected
+     * result is recorded through the normal path, which re-runs advancement and bye chains.
      */
-    private void advanceTeamInDoubleElim(Match completedMatch, Team winnerTeam, DoubleElimEvent doubleElim) {
-        List<DoubleElimRound> winnersRounds = doubleElim.getWinnersBracket();
-        List<DoubleElimRound> losersRounds = doubleElim.getLosersBracket();
-
-        // Determine the loser team
-        Team loserTeam = completedMatch.getTeamA().equals(winnerTeam) ?
-                         completedMatch.getTeamB() : completedMatch.getTeamA();
+    @Transactional
+    public void correctMatchResult(Long tournamentId, Long matchId, Long winnerId, List<Integer> score) {
+        verifyMatchBelongsToTournament(matchId, tournamentId);
 
-        // Check if this is the bronze match (terminal match, no advancement needed)
-        if (doubleElim.getBronzeMatch() != null &&
-            completedMatch.getId().equals(doubleElim.getBronzeMatch().getId())) {
-            return; // Bronze match is terminal, no further advancement
+        Match match = matchRepo.findById(matchId)
+            .orElseThrow(() -> new IllegalArgumentException("Match with id " + matchId + " not found"));
+        if (!match.isCompleted()) {
+            throw new IllegalArgumentException("Match with id " + matchId + " has not been completed yet");
         }
 
-        // Find which bracket and round this match is in
-        boolean isWinnersBracket = false;
-        int currentRoundIndex = -1;
-        int matchPositionInRound = -1;
-
-        // Check winners bracket
-        for (int i = 0; i < winnersRounds.size(); i++) {
-            DoubleElimRound round = winnersRounds.get(i);
-            List<Match> matches = round.getMatches();
-            for (int j = 0; j < matches.size(); j++) {
-                if (matches.get(j).getId().equals(completedMatch.getId())) {
-                    isWinnersBracket = true;
-                    currentRoundIndex = i;
-                    matchPositionInRound = j;
-                    break;
-                }
+        boolean isTeamMatch = match.getTeamA() != null || match.getTeamB() != null;
+        boolean bye = isTeamMatch
+            ? match.getTeamA() == null || match.getTeamB() == null
+            : match.getPlayerA() == null || match.getPlayerB() == null;
+        if (bye) {
+            throw new IllegalStateException("Byes cannot be corrected");
+        }
+
+        Long currentWinnerId = isTeamMatch ? match.getWinnerTeam().getId() : match.getWinner().getId();
+        if (currentWinnerId.equals(winnerId)) {
+            // Same winner: only the score was wrong, nothing downstream changes. Round robin
+            // standings hold games and points, so the old score comes out and the new one goes in
+            RoundRobinEvent roundRobin = isTeamMatch && match.getEvent() instanceof RoundRobinEvent rr ? rr : null;
+            playerStatsService.retractResults(List.of(match));
+            if (roundRobin != null) {
+                updateRoundRobinStandings(match, match.getWinnerTeam(), roundRobin, true);
             }
-            if (isWinnersBracket) break;
-        }
-
-        // Check losers bracket if not found in winners
-        if (!isWinnersBracket) {
-            for (int i = 0; i < losersRounds.size(); i++) {
-                DoubleElimRound round = losersRounds.get(i);
-                List<Match> matches = round.getMatches();
-                for (int j = 0; j < matches.size(); j++) {
-                    if (matches.get(j).getId().equals(completedMatch.getId())) {
-                        currentRoundIndex = i;
-                        matchPositionInRound = j;
-                        break;
-                    }
-                }
-                if (currentRoundIndex != -1) break;
+            match.setScore(score);
+            matchRepo.save(match);
+            if (roundRobin != null) {
+                updateRoundRobinStandings(match, match.getWinnerTeam(), roundRobin, false);
             }
+            playerStatsService.recordResult(match);
+            resultLogService.append(match.getEvent(), ResultLogEntry.Kind.CORRECTION, matchId, winnerId, score, null);
+            return;
         }
 
-        if (currentRoundIndex == -1) {
-            throw new IllegalArgumentException("Could not find the completed match in any round");
+        Long sideA = isTeamMatch ? match.getTeamA().getId() : match.getPlayerA().getId();
+        Long sideB = isTeamMatch ? match.getTeamB().getId() : match.getPlayerB().getId();
+        if (!winnerId.equals(sideA) && !winnerId.equals(sideB)) {
+            throw new IllegalArgumentException((isTeamMatch ? "Team" : "Player") + " with id " + winnerId
+                + " is not participating in match " + matchId);
         }
 
-        if (isWinnersBracket) {
-            // Advance winner team to next winners round
-            if (currentRoundIndex < winnersRounds.size() - 1) {
-                DoubleElimRound nextWinnersRound = winnersRounds.get(currentRoundIndex + 1);
-                List<Match> nextRoundMatches = nextWinnersRound.getMatches();
-                int nextMatchIndex = matchPositionInRound / 2;
+        BaseEvent event = match.getEvent();
+        if (!(event instanceof SingleElimEvent) && !(event instanceof DoubleElimEvent)) {
+            throw new IllegalStateException("Changing the winner is only supported for elimination events");
+        }
 
-                if (nextMatchIndex < nextRoundMatches.size()) {
-                    Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-                    if (!nextMatch.isCompleted()) {
-                        if (matchPositionInRound % 2 == 0) {
-                            nextMatch.setTeamA(winnerTeam);
-                        } else {
-                            nextMatch.setTeamB(winnerTeam);
-                        }
-                        matchRepo.save(nextMatch);
-                    }
-                }
-            }
+        BracketAdapter.LoadedBracket bracket = bracketAdapter.load(event);
+        bracket.reverse(match);
+        bracketAdapter.save(bracket);
 
-            // Feed loser team to losers bracket (only if they've never won in winners bracket)
-            // This allows teams who got byes and then lost to drop to losers
-            if (currentRoundIndex <= doubleElim.getFeedInCutoffRound() && !losersRounds.isEmpty()) {
-                // Check if loser team has ever won in winners bracket
-                boolean loserHasWon = hasTeamWonInWinnersBracket(loserTeam, doubleElim);
-
-                // Only drop to losers if they've never won (first match loss or bye -> loss)
-                if (!loserHasWon) {
-                    // Find the corresponding losers bracket round that receives from this winners round
-                    for (DoubleElimRound losersRound : losersRounds) {
-                        Integer feedsFrom = losersRound.getFeedsFromWinnersRound();
-                        if (feedsFrom != null && feedsFrom.intValue() == currentRoundIndex) {
-                            List<Match> losersMatches = losersRound.getMatches();
-
-                            // Deterministic placement: Winners matches 0,1 → Losers match 0 (A,B)
-                            // Winners matches 2,3 → Losers match 1 (A,B), etc.
-                            int losersMatchIndex = matchPositionInRound / 2;
-                            boolean isPositionA = (matchPositionInRound % 2 == 0);
-
-                            if (losersMatchIndex < losersMatches.size()) {
-                                Match losersMatch = losersMatches.get(losersMatchIndex);
-                                if (isPositionA && losersMatch.getTeamA() == null) {
-                                    losersMatch.setTeamA(loserTeam);
-                                    matchRepo.save(losersMatch);
-                                } else if (!isPositionA && losersMatch.getTeamB() == null) {
-                                    losersMatch.setTeamB(loserTeam);
-                                    matchRepo.save(losersMatch);
-                                }
-                            }
-                            break;
-                        }
-                    }
-                }
-                // If loser HAS won before, they're eliminated (don't drop to losers)
-            } else if (currentRoundIndex == winnersRounds.size() - 2) {
-                // Semifinals losers go to bronze match (3rd/4th place)
-                Match bronzeMatch = doubleElim.getBronzeMatch();
-                if (bronzeMatch != null && !bronzeMatch.isCompleted()) {
-                    if (bronzeMatch.getTeamA() == null) {
-                        bronzeMatch.setTeamA(loserTeam);
-                        matchRepo.save(bronzeMatch);
-                    } else if (bronzeMatch.getTeamB() == null) {
-                        bronzeMatch.setTeamB(loserTeam);
-                        matchRepo.save(bronzeMatch);
-                    }
-                }
-            }
-        } else {
-            // In losers bracket - only advance winner team (loser team is eliminated)
-            if (currentRoundIndex < losersRounds.size() - 1) {
-                DoubleElimRound nextLosersRound = losersRounds.get(currentRoundIndex + 1);
-                List<Match> nextRoundMatches = nextLosersRound.getMatches();
-                int nextMatchIndex = matchPositionInRound / 2;
-
-                if (nextMatchIndex < nextRoundMatches.size()) {
-                    Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-                    if (!nextMatch.isCompleted()) {
-                        if (matchPositionInRound % 2 == 0) {
-                            nextMatch.setTeamA(winnerTeam);
-                        } else {
-                            nextMatch.setTeamB(winnerTeam);
-                        }
-                        matchRepo.save(nextMatch);
-                    }
-                }
-            }
-        }
+        recordMatchResult(tournamentId, matchId, winnerId, score, ResultLogEntry.Kind.CORRECTION);
     }
 
+    // ==================== DOUBLE ELIMINATION METHODS ====================
+
     /**
      * Initialize a Double Elimination event
      *
@@ -1369,7 +1214,7 @@ public class TournamentService {
      * - Bronze match: Semifinal losers from winners bracket play for 3rd/4th place
      * - Feed-ins stop BEFORE semifinals (semifinals and finals don't feed losers)
      */
-    private void initializeDoubleElimEvent(DoubleElimEvent doubleElim, List<User> players) {
+    private void initializeDoubleElimEvent(DoubleElimEvent doubleElim, List<User> players, Random random) {
         // Check if this is a doubles event
         boolean isDoubles = doubleElim.getMatchType() == com.tournamenthost.connect.frontend.with.backend.Model.MatchType.DOUBLES;
 
@@ -1390,9 +1235,9 @@ public class TournamentService {
         List<DoubleElimRound> winnersRounds;
         if (isDoubles) {
             List<Team> teams = teamRepo.findByEvent(doubleElim);
-            winnersRounds = createWinnersBracketForTeams(doubleElim, teams, bracketSize, allMatches);
+            winnersRounds = createWinnersBracketForTeams(doubleElim, teams, bracketSize, allMatches, random);
         } else {
-            winnersRounds = createWinnersBracket(doubleElim, players, bracketSize, allMatches);
+            winnersRounds = createWinnersBracket(doubleElim, players, bracketSize, allMatches, random);
         }
         doubleElim.addWinnersRounds(winnersRounds);
 
@@ -1423,25 +1268,165 @@ public class TournamentService {
 
         // Auto-advance any players/teams in losers bracket who are alone in their match (only if losers bracket exists)
         if (bracketSize > 4) {
-            if (isDoubles) {
-                autoAdvanceSingleTeamsInLosersBracket(doubleElim);
-            } else {
-                autoAdvanceSinglePlayersInLosersBracket(doubleElim);
+            BracketAdapter.LoadedBracket bracket = bracketAdapter.load(doubleElim);
+            bracket.getEngine().propagateByes();
+            bracketAdapter.save(bracket);
+        }
+    }
+
+    /**
+     * Seeded first-round draw of an event's players
+     * Players are taken in id order so the draw depends only on who is entered and the random
+     * stream, not on the order the event's player list was loaded in.
+     */
+    private ArrayList<User> drawPlayers(BaseEvent event, List<User> players, int matchAmount, Random random) {
+        return TournamentUtil.generateDraw(sortedById(players, User::getId), matchAmount,
+            seedsOrEmpty(event.getPlayerSeeds()), User::getId, separationKeys(event, players), random);
+    }
+
+    /**
+     * Seeded first-round draw of an event's teams, taken in id order as for players
+     */
+    private ArrayList<Team> drawTeams(BaseEvent event, List<Team> teams, int matchAmount, Random random) {
+        return TournamentUtil.generateDraw(sortedById(teams, Team::getId), matchAmount,
+            seedsOrEmpty(event.getTeamSeeds()), Team::getId, teamSeparationKeys(teams), random);
+    }
+
+    private <T> List<T> sortedById(List<T> entrants, ToLongFunction<T> id) {
+        List<T> sorted = new ArrayList<>(entrants);
+        sorted.sort(Comparator.comparingLong(id));
+        return sorted;
+    }
+
+    private Map<Long, Integer> seedsOrEmpty(Map<Long, Integer> seeds) {
+        return seeds != null ? seeds : Map.of();
+    }
+
+    /**
+     * Compute first-round draws of an elimination event without saving anything
+     * Entrants, seeds and separation keys are loaded once; each draw is then a pure function
+     * of its seed, so they are built in parallel. Initializing the event with one of the
+     * returned seeds gives that draw.
+     * @param seeds Draw seeds to preview (at most MAX_DRAW_PREVIEWS)
+     */
+    public List<DrawPreviewDTO> previewDraws(Long tournamentId, int eventIndex, List<Long> seeds) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+        if (!(event instanceof SingleElimEvent) && !(event instanceof DoubleElimEvent)) {
+            throw new IllegalArgumentException("Draw previews are only available for single and double elimination events");
+        }
+        if (event.isEventInitialized()) {
+            throw new IllegalArgumentException("This event has already been initialized, please deinitialize it first");
+        }
+        if (seeds.isEmpty() || seeds.size() > MAX_DRAW_PREVIEWS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_DRAW_PREVIEWS + " draws can be previewed at once");
+        }
+
+        // Same entrant rules as initializeEvent
+        List<Team> teams = teamRepo.findByEvent(event);
+        boolean isDoubles = !teams.isEmpty()
+            || event.getMatchType() == com.tournamenthost.connect.frontend.with.backend.Model.MatchType.DOUBLES;
+        List<User> players = event.getPlayers();
+        if (isDoubles && teams.size() <= 2) {
+            throw new IllegalArgumentException("There are too few teams. Doubles events require at least 3 teams");
+        }
+        if (!isDoubles && players.size() <= 2) {
+            throw new IllegalArgumentException("There are too few players. Singles events require at least 3 players");
+        }
+        validateSeeding(event);
+
+        int bracketSize = TournamentUtil.nextPowerOfTwo(isDoubles ? teams.size() : players.size());
+        List<DrawPreviewDTO> previews;
+        if (isDoubles) {
+            List<Team> sortedTeams = sortedById(teams, Team::getId);
+            Map<Long, Integer> teamSeeds = seedsOrEmpty(event.getTeamSeeds());
+            Map<Long, Set<String>> keys = teamSeparationKeys(teams);
+            List<ArrayList<Team>> draws = seeds.parallelStream()
+                .map(seed -> TournamentUtil.generateDraw(sortedTeams, bracketSize / 2, teamSeeds, Team::getId, keys,
+                    new Random(seed)))
+                .toList();
+            previews = new ArrayList<>();
+            for (int i = 0; i < seeds.size(); i++) {
+                previews.add(new DrawPreviewDTO(seeds.get(i), bracketSize, null,
+                    draws.get(i).stream().map(DTOConverter::convertToTeamDTO).toList()));
+            }
+        } else {
+            List<User> sortedPlayers = sortedById(players, User::getId);
+            Map<Long, Integer> playerSeeds = seedsOrEmpty(event.getPlayerSeeds());
+            Map<Long, Set<String>> keys = separationKeys(event, players);
+            List<ArrayList<User>> draws = seeds.parallelStream()
+                .map(seed -> TournamentUtil.generateDraw(sortedPlayers, bracketSize / 2, playerSeeds, User::getId, keys,
+                    new Random(seed)))
+                .toList();
+            previews = new ArrayList<>();
+            for (int i = 0; i < seeds.size(); i++) {
+                previews.add(new DrawPreviewDTO(seeds.get(i), bracketSize,
+                    draws.get(i).stream().map(DTOConverter::convertToUserDTO).toList(), null));
             }
-            matchRepo.saveAll(allMatches);
         }
+        return previews;
+    }
+
+    /**
+     * What players in a draw should be kept apart by: their club, their region, and being
+     * doubles partners in another event of the same tournament
+     * @return Map of user ID to separation keys
+     */
+    private Map<Long, Set<String>> separationKeys(BaseEvent event, List<User> players) {
+        Map<Long, Set<String>> keys = new HashMap<>();
+        for (User player : players) {
+            keys.put(player.getId(), affiliationKeys(player));
+        }
+        if (event.getTournament() != null) {
+            for (Team pair : teamRepo.findPairsInOtherEvents(event.getTournament(), event)) {
+                Set<String> first = keys.get(pair.getPlayer1().getId());
+                Set<String> second = keys.get(pair.getPlayer2().getId());
+                if (first != null && second != null) {
+                    first.add("partner:" + pair.getId());
+                    second.add("partner:" + pair.getId());
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Separation keys of teams in a draw: the clubs and regions of their players
+     * @return Map of team ID to separation keys
+     */
+    private Map<Long, Set<String>> teamSeparationKeys(List<Team> teams) {
+        Map<Long, Set<String>> keys = new HashMap<>();
+        for (Team team : teams) {
+            Set<String> teamKeys = affiliationKeys(team.getPlayer1());
+            if (team.getPlayer2() != null) {
+                teamKeys.addAll(affiliationKeys(team.getPlayer2()));
+            }
+            keys.put(team.getId(), teamKeys);
+        }
+        return keys;
+    }
+
+    // Club and region keys, compared case-insensitively
+    private Set<String> affiliationKeys(User player) {
+        Set<String> keys = new HashSet<>();
+        if (player.getClub() != null) {
+            keys.add("club:" + player.getClub().trim().toLowerCase());
+        }
+        if (player.getRegion() != null) {
+            keys.add("region:" + player.getRegion().trim().toLowerCase());
+        }
+        return keys;
     }
 
     /**
      * Create the winners bracket structure
      */
     private List<DoubleElimRound> createWinnersBracket(DoubleElimEvent event, List<User> players,
-                                                        int bracketSize, List<Match> allMatches) {
+                                                        int bracketSize, List<Match> allMatches, Random random) {
         List<DoubleElimRound> winnersRounds = new ArrayList<>();
         int matchCount = bracketSize / 2;
 
         // Generate seeded draw
-        ArrayList<User> draw = TournamentUtil.generateDrawUsingSeeding(players, matchCount, event.getPlayerSeeds());
+        ArrayList<User> draw = drawPlayers(event, players, matchCount, random);
 
         // Create rounds from bottom to top
         for (int round = 0; round < Math.log(bracketSize) / Math.log(2); round++) {
@@ -1513,16 +1498,12 @@ public class TournamentService {
      * Create the winners bracket structure for teams
      */
     private List<DoubleElimRound> createWinnersBracketForTeams(DoubleElimEvent event, List<Team> teams,
-                                                                int bracketSize, List<Match> allMatches) {
+                                                                int bracketSize, List<Match> allMatches, Random random) {
         List<DoubleElimRound> winnersRounds = new ArrayList<>();
         int matchCount = bracketSize / 2;
 
         // Generate seeded draw for teams
-        Map<Long, Integer> teamSeeds = event.getTeamSeeds();
-        if (teamSeeds == null) {
-            teamSeeds = new HashMap<>();
-        }
-        ArrayList<Team> draw = TournamentUtil.generateDrawUsingTeamSeeding(teams, matchCount, teamSeeds);
+        ArrayList<Team> draw = drawTeams(event, teams, matchCount, random);
 
         // Create rounds from bottom to top
         for (int round = 0; round < Math.log(bracketSize) / Math.log(2); round++) {
@@ -1679,200 +1660,540 @@ public class TournamentService {
                 throw new IllegalStateException("Tournament bracket generation exceeded safe iteration limit.");
             }
 
-            progressionMatchCount = progressionMatchCount / 2;
+            progressionMatchCount = progressionMatchCount / 2;
+
+            DoubleElimRound progressionRound = new DoubleElimRound(round, BracketType.LOSERS);
+            progressionRound.setEvent(event);
+
+            List<Match> progressionMatches = new ArrayList<>();
+            for (int i = 0; i < progressionMatchCount; i++) {
+                Match match = new Match();
+                match.setEvent(event);
+                progressionMatches.add(match);
+                allMatches.add(match);
+            }
+            progressionRound.setMatches(progressionMatches);
+            losersRounds.add(progressionRound);
+            round++;
+        }
+
+        return losersRounds;
+    }
+
+    // ==================== POOL PLAY METHODS ====================
+
+    /**
+     * Configure pool play for a round robin event.
+     * Must be called before event initialization.
+     * @param poolCount Number of pools to split entrants into (1 = classic round robin)
+     * @param qualifiersPerPool Top finishers of every pool that advance to the playoff (0 = no playoff)
+     */
+    public void configurePoolPlay(Long tournamentId, int eventIndex, int poolCount, int qualifiersPerPool) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (!(event instanceof RoundRobinEvent roundRobin)) {
+            throw new IllegalArgumentException("Pool play is only available for round robin events");
+        }
+        if (event.isEventInitialized()) {
+            throw new IllegalStateException("Cannot configure pool play after event has been initialized");
+        }
+        if (poolCount < 1) {
+            throw new IllegalArgumentException("Pool count must be at least 1");
+        }
+        if (qualifiersPerPool < 0) {
+            throw new IllegalArgumentException("Qualifiers per pool cannot be negative");
+        }
+        if (qualifiersPerPool > 0 && poolCount * qualifiersPerPool < 3) {
+            throw new IllegalArgumentException("A playoff needs at least 3 qualifiers in total");
+        }
+
+        roundRobin.setPoolCount(poolCount);
+        roundRobin.setPlayoffQualifiersPerPool(qualifiersPerPool);
+
+        // Seeds only make sense once entrants are split into pools
+        if (!roundRobin.isPoolPlay()) {
+            roundRobin.clearSeeds();
+        }
+
+        eventRepo.save(roundRobin);
+    }
+
+    /**
+     * Get live standings for every pool of a round robin event.
+     * Standings are read from the running counters on each TeamSchedule,
+     * so no match needs to be revisited.
+     * @return Map of pool number to that pool's schedules, best first
+     */
+    public Map<Integer, List<TeamSchedule>> getPoolStandings(Long tournamentId, int eventIndex) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (!(event instanceof RoundRobinEvent roundRobin)) {
+            throw new IllegalArgumentException("Standings are only available for round robin events");
+        }
+        if (!event.isEventInitialized()) {
+            throw new IllegalArgumentException("This event hasn't been initialized, please initialize it first");
+        }
+
+        Map<Integer, List<TeamSchedule>> standings = new TreeMap<>();
+        for (TeamSchedule schedule : roundRobin.getTeamSchedules()) {
+            standings.computeIfAbsent(schedule.getPoolNumber(), k -> new ArrayList<>()).add(schedule);
+        }
+        for (Map.Entry<Integer, List<TeamSchedule>> pool : standings.entrySet()) {
+            pool.setValue(StandingsUtil.rank(pool.getValue(), roundRobin.getTiebreakers()));
+        }
+
+        return standings;
+    }
+
+    /**
+     * Get live standings for a whole round robin event, ranked with the event's tiebreak cascade.
+     * For pool play this ranks every team across all pools.
+     * @return Standings rows, best first
+     */
+    public List<TeamSchedule> getStandings(Long tournamentId, int eventIndex) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (!(event instanceof RoundRobinEvent roundRobin)) {
+            throw new IllegalArgumentException("Standings are only available for round robin events");
+        }
+        if (!event.isEventInitialized()) {
+            throw new IllegalArgumentException("This event hasn't been initialized, please initialize it first");
+        }
+
+        return StandingsUtil.rank(roundRobin.getTeamSchedules(), roundRobin.getTiebreakers());
+    }
+
+    /**
+     * Rebuild the running standings of a round robin event from its completed matches.
+     * Only needed for events whose results were recorded before standings were persisted.
+     * Done as one set-based update: the score arrays are summed in SQL, so no match is loaded.
+     */
+    @Transactional
+    public void recalculateStandings(Long tournamentId, int eventIndex) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (!(event instanceof RoundRobinEvent roundRobin)) {
+            throw new IllegalArgumentException("Standings are only available for round robin events");
+        }
+
+        entityManager.flush();
+        jdbcTemplate.update(
+            "UPDATE team_schedules SET wins = 0, losses = 0, games_won = 0, games_lost = 0, " +
+            "points_for = 0, points_against = 0 WHERE event_id = ?", roundRobin.getId());
+        int updated = jdbcTemplate.update(
+            "UPDATE team_schedules ts SET wins = totals.wins, losses = totals.losses, " +
+            "games_won = totals.games_won, games_lost = totals.games_lost, " +
+            "points_for = totals.points_for, points_against = totals.points_against " +
+            "FROM (SELECT own.id AS schedule_id, " +
+            "  COUNT(*) FILTER (WHERE m.winner_team_id = own.team_id) AS wins, " +
+            "  COUNT(*) FILTER (WHERE m.winner_team_id <> own.team_id) AS losses, " +
+            "  SUM(CASE WHEN m.team_a_id = own.team_id THEN s.games_a ELSE s.games_b END) AS games_won, " +
+            "  SUM(CASE WHEN m.team_a_id = own.team_id THEN s.games_b ELSE s.games_a END) AS games_lost, " +
+            "  SUM(CASE WHEN m.team_a_id = own.team_id THEN s.points_a ELSE s.points_b END) AS points_for, " +
+            "  SUM(CASE WHEN m.team_a_id = own.team_id THEN s.points_b ELSE s.points_a END) AS points_against " +
+            "  FROM team_schedules own " +
+            "  JOIN team_schedule_matches tsm ON tsm.schedule_id = own.id " +
+            "  JOIN matches m ON m.id = tsm.match_id " +
+            "  CROSS JOIN LATERAL (" + MatchRepository.SCORE_TOTALS + ") s " +
+            "  WHERE own.event_id = ? AND m.completed AND m.winner_team_id IS NOT NULL " +
+            "  GROUP BY own.id) totals " +
+            "WHERE ts.id = totals.schedule_id", roundRobin.getId());
+        log.debug("Recalculated standings of {} teams in event {}", updated, roundRobin.getId());
+
+        // The schedules in memory still hold the old totals
+        for (TeamSchedule schedule : roundRobin.getTeamSchedules()) {
+            entityManager.refresh(schedule);
+        }
+    }
+
+    /**
+     * Set the tiebreak cascade for a round robin event.
+     * Only affects ordering, so it can be changed at any time.
+     * @param tiebreakers Rule names in priority order, e.g. ["HEAD_TO_HEAD", "GAME_DIFFERENTIAL"]
+     */
+    public void setTiebreakers(Long tournamentId, int eventIndex, List<String> tiebreakers) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (!(event instanceof RoundRobinEvent roundRobin)) {
+            throw new IllegalArgumentException("Tiebreakers can only be configured for round robin events");
+        }
+        if (tiebreakers == null) {
+            throw new IllegalArgumentException("Tiebreakers are required");
+        }
+
+        List<TiebreakRule> rules = new ArrayList<>();
+        for (String name : tiebreakers) {
+            TiebreakRule rule;
+            try {
+                rule = TiebreakRule.valueOf(name);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Invalid tiebreaker: " + name +
+                    ". Must be HEAD_TO_HEAD, GAME_DIFFERENTIAL or POINT_DIFFERENTIAL");
+            }
+            if (rules.contains(rule)) {
+                throw new IllegalArgumentException("Duplicate tiebreaker: " + name);
+            }
+            rules.add(rule);
+        }
+
+        roundRobin.setTiebreakers(rules);
+        eventRepo.save(roundRobin);
+    }
+
+    /**
+     * Generate a single elimination playoff from the top finishers of each pool.
+     * Qualifiers are seeded across pools: every pool winner first, then every
+     * runner-up, and so on, so teams from the same pool meet as late as possible.
+     * @return The newly created and initialized playoff event
+     */
+    public SingleElimEvent generatePoolPlayoff(Long tournamentId, int eventIndex) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (!(event instanceof RoundRobinEvent roundRobin)) {
+            throw new IllegalArgumentException("Playoffs can only be generated from round robin events");
+        }
+        if (roundRobin.getPlayoffQualifiersPerPool() <= 0) {
+            throw new IllegalArgumentException("This event is not configured with playoff qualifiers");
+        }
+        if (roundRobin.getPlayoffEventIndex() != null) {
+            throw new IllegalStateException("A playoff has already been generated for this event");
+        }
+        if (!isEventComplete(tournamentId, eventIndex)) {
+            throw new IllegalArgumentException("Cannot generate playoff - pool play is not yet complete");
+        }
+
+        int qualifiersPerPool = roundRobin.getPlayoffQualifiersPerPool();
+        Map<Integer, List<TeamSchedule>> standings = getPoolStandings(tournamentId, eventIndex);
+
+        List<Team> qualified = new ArrayList<>();
+        for (int place = 0; place < qualifiersPerPool; place++) {
+            for (Map.Entry<Integer, List<TeamSchedule>> pool : standings.entrySet()) {
+                if (place >= pool.getValue().size()) {
+                    throw new IllegalArgumentException("Pool " + pool.getKey() + " has fewer than " +
+                        qualifiersPerPool + " teams");
+                }
+                qualified.add(pool.getValue().get(place).getTeam());
+            }
+        }
+
+        SingleElimEvent playoff = (SingleElimEvent) addEvent(roundRobin.getName() + " Playoff", EventType.SINGLE_ELIM, tournamentId);
+        playoff.setMatchType(roundRobin.getMatchType());
+        playoff.setGamesPerMatch(roundRobin.getGamesPerMatch());
+
+        boolean isDoubles = roundRobin.getMatchType() == com.tournamenthost.connect.frontend.with.backend.Model.MatchType.DOUBLES;
+        for (int i = 0; i < qualified.size(); i++) {
+            Team team = qualified.get(i);
+            playoff.addPlayer(team.getPlayer1());
+            if (team.getPlayer2() != null) {
+                playoff.addPlayer(team.getPlayer2());
+            }
+
+            if (isDoubles) {
+                Team playoffTeam = teamRepo.save(new Team(team.getPlayer1(), team.getPlayer2(), TeamType.DOUBLES, playoff));
+                playoff.setTeamSeed(playoffTeam.getId(), i + 1);
+            } else {
+                playoff.setPlayerSeed(team.getPlayer1().getId(), i + 1);
+            }
+        }
+        eventRepo.save(playoff);
+
+        roundRobin.setPlayoffEventIndex(playoff.getIndex());
+        eventRepo.save(roundRobin);
+
+        initializeEvent(tournamentId, playoff.getIndex());
+        return playoff;
+    }
+
+    /**
+     * Resolve the entrants of a team-based event (round robin, Swiss).
+     * Doubles use the registered teams; singles get a single-player team per player.
+     * @param entrantSeeds Filled with team ID to seed number, carried over from player seeds for singles
+     */
+    private List<Team> resolveTeamEntrants(BaseEvent event, boolean isDoubles, List<Team> teams,
+                                           List<User> players, Map<Long, Integer> entrantSeeds) {
+        if (isDoubles) {
+            if (teams.size() <= 2) {
+                throw new IllegalArgumentException("There are too few teams. Doubles events require at least 3 teams");
+            }
+            if (event.getTeamSeeds() != null) {
+                entrantSeeds.putAll(event.getTeamSeeds());
+            }
+            return teams;
+        }
+
+        // Player-based event: create single-player teams for each player
+        List<Team> singlePlayerTeams = new ArrayList<>();
+        for (User player : players) {
+            Team team = new Team(player, TeamType.SINGLES, event);
+            singlePlayerTeams.add(team);
+        }
+        teamRepo.saveAll(singlePlayerTeams);
+
+        // Carry player seeds over to their single-player teams
+        Map<Long, Integer> playerSeeds = event.getPlayerSeeds();
+        if (playerSeeds != null) {
+            for (Team team : singlePlayerTeams) {
+                Integer seed = playerSeeds.get(team.getPlayer1().getId());
+                if (seed != null) {
+                    entrantSeeds.put(team.getId(), seed);
+                }
+            }
+        }
+        return singlePlayerTeams;
+    }
+
+    /**
+     * Order entrants for snake seeding: seeded entrants by seed number,
+     * followed by unseeded entrants in random order
+     */
+    private List<Team> orderEntrantsBySeed(List<Team> entrants, Map<Long, Integer> seeds, Random random) {
+        List<Team> seeded = new ArrayList<>();
+        List<Team> unseeded = new ArrayList<>();
+        for (Team team : entrants) {
+            if (seeds.containsKey(team.getId())) {
+                seeded.add(team);
+            } else {
+                unseeded.add(team);
+            }
+        }
+        seeded.sort(Comparator.comparingInt(team -> seeds.get(team.getId())));
+        Collections.shuffle(unseeded, random);
+
+        List<Team> ordered = new ArrayList<>(seeded);
+        ordered.addAll(unseeded);
+        return ordered;
+    }
+
+    /**
+     * Apply a recorded result to the running standings of both teams in O(1):
+     * wins/losses, games won/lost and points for/against
+     * @param retract Take the match's current result back out instead
+     */
+    private void updateRoundRobinStandings(Match match, Team winnerTeam, RoundRobinEvent roundRobin, boolean retract) {
+        Team loserTeam = winnerTeam.equals(match.getTeamA()) ? match.getTeamB() : match.getTeamA();
+
+        TeamSchedule winnerSchedule = teamScheduleRepo.findByTeamAndEvent(winnerTeam, roundRobin)
+            .orElseThrow(() -> new IllegalStateException("No schedule found for team " + winnerTeam.getId()));
+        TeamSchedule loserSchedule = teamScheduleRepo.findByTeamAndEvent(loserTeam, roundRobin)
+            .orElseThrow(() -> new IllegalStateException("No schedule found for team " + loserTeam.getId()));
+
+        // Score is one [teamA, teamB] pair per game
+        int[] summary = StandingsUtil.summarizeScore(match.getScore());
+        boolean winnerIsTeamA = winnerTeam.equals(match.getTeamA());
+        int winnerGames = winnerIsTeamA ? summary[0] : summary[1];
+        int loserGames = winnerIsTeamA ? summary[1] : summary[0];
+        int winnerPoints = winnerIsTeamA ? summary[2] : summary[3];
+        int loserPoints = winnerIsTeamA ? summary[3] : summary[2];
+
+        if (retract) {
+            winnerSchedule.removeResult(true, winnerGames, loserGames, winnerPoints, loserPoints);
+            loserSchedule.removeResult(false, loserGames, winnerGames, loserPoints, winnerPoints);
+        } else {
+            winnerSchedule.recordResult(true, winnerGames, loserGames, winnerPoints, loserPoints);
+            loserSchedule.recordResult(false, loserGames, winnerGames, loserPoints, winnerPoints);
+        }
+        teamScheduleRepo.saveAll(List.of(winnerSchedule, loserSchedule));
+    }
+
+    // ==================== SWISS METHODS ====================
+
+    /**
+     * Configure the number of rounds for a Swiss event.
+     * Must be called before event initialization.
+     * @param numberOfRounds Rounds to play, or 0 for ceil(log2(entrants))
+     */
+    public void configureSwissRounds(Long tournamentId, int eventIndex, int numberOfRounds) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (!(event instanceof SwissEvent swiss)) {
+            throw new IllegalArgumentException("Number of rounds can only be configured for Swiss events");
+        }
+        if (event.isEventInitialized()) {
+            throw new IllegalStateException("Cannot change number of rounds after event has been initialized");
+        }
+        if (numberOfRounds < 0) {
+            throw new IllegalArgumentException("Number of rounds cannot be negative");
+        }
+
+        swiss.setNumberOfRounds(numberOfRounds);
+        eventRepo.save(swiss);
+    }
 
-            DoubleElimRound progressionRound = new DoubleElimRound(round, BracketType.LOSERS);
-            progressionRound.setEvent(event);
+    /**
+     * Get live Swiss standings, ordered by score, then Buchholz, then starting rank
+     */
+    public List<SwissStanding> getSwissStandings(Long tournamentId, int eventIndex) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
 
-            List<Match> progressionMatches = new ArrayList<>();
-            for (int i = 0; i < progressionMatchCount; i++) {
-                Match match = new Match();
-                match.setEvent(event);
-                progressionMatches.add(match);
-                allMatches.add(match);
-            }
-            progressionRound.setMatches(progressionMatches);
-            losersRounds.add(progressionRound);
-            round++;
+        if (!(event instanceof SwissEvent swiss)) {
+            throw new IllegalArgumentException("Swiss standings are only available for Swiss events");
+        }
+        if (!event.isEventInitialized()) {
+            throw new IllegalArgumentException("This event hasn't been initialized, please initialize it first");
         }
 
-        return losersRounds;
+        return StandingsUtil.rankSwiss(swiss.getStandings());
     }
 
     /**
-     * Auto-advance players in losers bracket who are alone in their match
-     * This handles cases where odd numbers of players feed into losers bracket
+     * Number of rounds a Swiss event plays - configured, or enough to leave one unbeaten entrant
      */
-    private void autoAdvanceSinglePlayersInLosersBracket(DoubleElimEvent event) {
-        autoAdvanceSinglePlayersInLosersBracket(event, 0);
+    private int getSwissRoundCount(SwissEvent swiss) {
+        if (swiss.getNumberOfRounds() > 0) {
+            return swiss.getNumberOfRounds();
+        }
+        return Integer.numberOfTrailingZeros(TournamentUtil.nextPowerOfTwo(swiss.getStandings().size()));
     }
 
-    private void autoAdvanceSinglePlayersInLosersBracket(DoubleElimEvent event, int depth) {
-        if (depth > MAX_RECURSION_DEPTH) {
-            log.error("Max recursion depth ({}) reached for autoAdvanceSinglePlayersInLosersBracket in event {}. " +
-                      "This indicates a potential infinite loop in bracket logic.", MAX_RECURSION_DEPTH, event.getId());
-            throw new IllegalStateException("Tournament bracket logic exceeded safe recursion limit. Please contact support.");
+    private void initializeSwissEvent(SwissEvent swiss, List<Team> entrants, Map<Long, Integer> entrantSeeds,
+                                      Random random) {
+        if (swiss.getNumberOfRounds() >= entrants.size()) {
+            throw new IllegalArgumentException("A Swiss event with " + entrants.size() +
+                " entrants can have at most " + (entrants.size() - 1) + " rounds");
         }
-        List<DoubleElimRound> losersRounds = event.getLosersBracket();
-
-        for (int roundIndex = 0; roundIndex < losersRounds.size(); roundIndex++) {
-            DoubleElimRound currentRound = losersRounds.get(roundIndex);
-            List<Match> matches = currentRound.getMatches();
 
-            for (int matchIndex = 0; matchIndex < matches.size(); matchIndex++) {
-                Match match = matches.get(matchIndex);
-                User playerA = match.getPlayerA();
-                User playerB = match.getPlayerB();
+        // Starting rank comes from seeding, unseeded entrants are drawn at random
+        List<Team> ordered = orderEntrantsBySeed(entrants, entrantSeeds, random);
+        for (int i = 0; i < ordered.size(); i++) {
+            swiss.addStanding(new SwissStanding(ordered.get(i), swiss, i + 1));
+        }
+        swissStandingRepo.saveAll(swiss.getStandings());
 
-                // If match already completed, skip
-                if (match.isCompleted()) {
-                    continue;
-                }
+        pairNextSwissRound(swiss);
+    }
 
-                // If one player has a bye (is null), auto-advance the other
-                User advancingPlayer = null;
-                if (playerA != null && playerB == null) {
-                    advancingPlayer = playerA;
-                } else if (playerB != null && playerA == null) {
-                    advancingPlayer = playerB;
-                }
+    /**
+     * Pair the next Swiss round from the current standings and persist it.
+     * Rematches are avoided and sides balanced by SwissPairingEngine.
+     */
+    private void pairNextSwissRound(SwissEvent swiss) {
+        List<SwissStanding> ranked = StandingsUtil.rankSwissForPairing(swiss.getStandings());
+        int n = ranked.size();
 
-                if (advancingPlayer != null) {
-                    // Mark match as completed with the single player as winner
-                    match.setWinner(advancingPlayer);
-                    match.setCompleted(true);
-
-                    // Advance to next round if not the final
-                    if (roundIndex < losersRounds.size() - 1) {
-                        DoubleElimRound nextRound = losersRounds.get(roundIndex + 1);
-                        List<Match> nextRoundMatches = nextRound.getMatches();
-
-                        // Determine which match in next round this player advances to
-                        int nextMatchIndex = matchIndex / 2;
-                        if (nextMatchIndex < nextRoundMatches.size()) {
-                            Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-
-                            // Assign to playerA or playerB slot based on position
-                            if (matchIndex % 2 == 0) {
-                                if (nextMatch.getPlayerA() == null) {
-                                    nextMatch.setPlayerA(advancingPlayer);
-                                }
-                            } else {
-                                if (nextMatch.getPlayerB() == null) {
-                                    nextMatch.setPlayerB(advancingPlayer);
-                                }
-                            }
-                        }
-                    }
+        // Flatten standings into primitive arrays indexed by pairing rank
+        Map<Long, Integer> indexByTeamId = new HashMap<>();
+        int[] scores = new int[n];
+        int[] sideBalance = new int[n];
+        boolean[] hadBye = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            SwissStanding standing = ranked.get(i);
+            indexByTeamId.put(standing.getTeam().getId(), i);
+            scores[i] = standing.getScore();
+            sideBalance[i] = standing.getSideBalance();
+            hadBye[i] = standing.hasHadBye();
+        }
+        BitSet[] played = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            played[i] = new BitSet(n);
+            for (Long opponentId : ranked.get(i).getOpponentTeamIds()) {
+                Integer j = indexByTeamId.get(opponentId);
+                if (j != null) {
+                    played[i].set(j);
                 }
             }
         }
 
-        // Recursively check again in case advancing created more single-player matches
-        boolean hasMoreSinglePlayerMatches = false;
-        for (DoubleElimRound round : losersRounds) {
-            for (Match match : round.getMatches()) {
-                if (!match.isCompleted() &&
-                    ((match.getPlayerA() != null && match.getPlayerB() == null) ||
-                     (match.getPlayerA() == null && match.getPlayerB() != null))) {
-                    hasMoreSinglePlayerMatches = true;
-                    break;
-                }
-            }
-            if (hasMoreSinglePlayerMatches) break;
+        SwissPairingEngine.Pairing pairing = SwissPairingEngine.pair(scores, sideBalance, hadBye, played);
+
+        SwissRound round = new SwissRound(swiss, swiss.getRounds().size() + 1);
+        for (int k = 0; k < pairing.size(); k++) {
+            SwissStanding a = ranked.get(pairing.getSideA()[k]);
+            SwissStanding b = ranked.get(pairing.getSideB()[k]);
+
+            Match match = new Match();
+            match.setTeamA(a.getTeam());
+            match.setTeamB(b.getTeam());
+            match.setEvent(swiss);
+            match.setMatchType(swiss.getMatchType());
+            match.setGamesRequiredToWin(swiss.getGamesRequiredToWin());
+            round.getMatches().add(match);
+
+            a.recordPairing(b, true);
+            b.recordPairing(a, false);
         }
 
-        if (hasMoreSinglePlayerMatches) {
-            autoAdvanceSinglePlayersInLosersBracket(event, depth + 1);
+        // A bye is a completed walkover worth a win
+        if (pairing.getBye() >= 0) {
+            SwissStanding byeStanding = ranked.get(pairing.getBye());
+
+            Match byeMatch = new Match();
+            byeMatch.setTeamA(byeStanding.getTeam());
+            byeMatch.setWinnerTeam(byeStanding.getTeam());
+            byeMatch.setCompleted(true);
+            byeMatch.setEvent(swiss);
+            byeMatch.setMatchType(swiss.getMatchType());
+            byeMatch.setGamesRequiredToWin(swiss.getGamesRequiredToWin());
+            round.getMatches().add(byeMatch);
+
+            byeStanding.recordBye();
+            propagateSwissScoreChange(byeStanding, swiss);
         }
+
+        matchRepo.saveAll(round.getMatches());
+        swiss.addRound(round);
+        swissStandingRepo.saveAll(ranked);
+        eventRepo.save(swiss);
     }
 
     /**
-     * Auto-advance teams in losers bracket who are alone in their match
-     * This handles cases where odd numbers of teams feed into losers bracket
+     * Apply a recorded result to the Swiss standings, then pair the next round
+     * once every match of the current round is complete
      */
-    private void autoAdvanceSingleTeamsInLosersBracket(DoubleElimEvent event) {
-        autoAdvanceSingleTeamsInLosersBracket(event, 0);
-    }
+    private void updateSwissStandings(Match match, Team winnerTeam, SwissEvent swiss) {
+        Team loserTeam = winnerTeam.equals(match.getTeamA()) ? match.getTeamB() : match.getTeamA();
 
-    private void autoAdvanceSingleTeamsInLosersBracket(DoubleElimEvent event, int depth) {
-        if (depth > MAX_RECURSION_DEPTH) {
-            log.error("Max recursion depth ({}) reached for autoAdvanceSingleTeamsInLosersBracket in event {}. " +
-                      "This indicates a potential infinite loop in bracket logic.", MAX_RECURSION_DEPTH, event.getId());
-            throw new IllegalStateException("Tournament bracket logic exceeded safe recursion limit. Please contact support.");
-        }
-        List<DoubleElimRound> losersRounds = event.getLosersBracket();
+        SwissStanding winnerStanding = swissStandingRepo.findByTeamAndEvent(winnerTeam, swiss)
+            .orElseThrow(() -> new IllegalStateException("No standing found for team " + winnerTeam.getId()));
+        SwissStanding loserStanding = swissStandingRepo.findByTeamAndEvent(loserTeam, swiss)
+            .orElseThrow(() -> new IllegalStateException("No standing found for team " + loserTeam.getId()));
 
-        for (int roundIndex = 0; roundIndex < losersRounds.size(); roundIndex++) {
-            DoubleElimRound currentRound = losersRounds.get(roundIndex);
-            List<Match> matches = currentRound.getMatches();
+        winnerStanding.recordWin();
+        loserStanding.recordLoss();
+        swissStandingRepo.saveAll(List.of(winnerStanding, loserStanding));
+        propagateSwissScoreChange(winnerStanding, swiss);
 
-            for (int matchIndex = 0; matchIndex < matches.size(); matchIndex++) {
-                Match match = matches.get(matchIndex);
-                Team teamA = match.getTeamA();
-                Team teamB = match.getTeamB();
+        SwissRound currentRound = swiss.getCurrentRound();
+        if (currentRound != null && currentRound.isComplete() && swiss.getRounds().size() < getSwissRoundCount(swiss)) {
+            pairNextSwissRound(swiss);
+        }
+    }
 
-                // If match already completed, skip
-                if (match.isCompleted()) {
-                    continue;
-                }
+    /**
+     * A standing's score went up by one point: every opponent it has faced gains one Buchholz.
+     * Keeps Buchholz current in O(rounds) instead of recomputing it for the whole field.
+     */
+    private void propagateSwissScoreChange(SwissStanding standing, SwissEvent swiss) {
+        if (standing.getOpponentTeamIds().isEmpty()) {
+            return;
+        }
+        List<SwissStanding> opponents = swissStandingRepo.findByEventAndTeamIdIn(swiss, standing.getOpponentTeamIds());
+        for (SwissStanding opponent : opponents) {
+            opponent.adjustBuchholz(1);
+        }
+        swissStandingRepo.saveAll(opponents);
+    }
 
-                // If one team has a bye (is null), auto-advance the other
-                Team advancingTeam = null;
-                if (teamA != null && teamB == null) {
-                    advancingTeam = teamA;
-                } else if (teamB != null && teamA == null) {
-                    advancingTeam = teamB;
-                }
+    /**
+     * Calculate points for Swiss events from the final standings
+     * Supports both singles and doubles matches
+     */
+    private Map<User, Integer> calculateSwissPoints(SwissEvent event, PointsDistribution pointsDistribution) {
+        Map<User, Integer> userPoints = new TreeMap<>();
 
-                if (advancingTeam != null) {
-                    // Mark match as completed with the single team as winner
-                    match.setWinnerTeam(advancingTeam);
-                    match.setCompleted(true);
-
-                    // Advance to next round if not the final
-                    if (roundIndex < losersRounds.size() - 1) {
-                        DoubleElimRound nextRound = losersRounds.get(roundIndex + 1);
-                        List<Match> nextRoundMatches = nextRound.getMatches();
-
-                        // Determine which match in next round this team advances to
-                        int nextMatchIndex = matchIndex / 2;
-                        if (nextMatchIndex < nextRoundMatches.size()) {
-                            Match nextMatch = nextRoundMatches.get(nextMatchIndex);
-
-                            // Assign to teamA or teamB slot based on position
-                            if (matchIndex % 2 == 0) {
-                                if (nextMatch.getTeamA() == null) {
-                                    nextMatch.setTeamA(advancingTeam);
-                                }
-                            } else {
-                                if (nextMatch.getTeamB() == null) {
-                                    nextMatch.setTeamB(advancingTeam);
-                                }
-                            }
-                        }
-                    }
-                }
+        List<SwissStanding> standings = StandingsUtil.rankSwiss(event.getStandings());
+        for (int i = 0; i < standings.size(); i++) {
+            Team team = standings.get(i).getTeam();
+            String placement = String.valueOf(i + 1);
+            Integer points = pointsDistribution.getPointsForPlacement(placement);
+            if (team.getPlayer1() != null) {
+                userPoints.put(team.getPlayer1(), points);
             }
-        }
-
-        // Recursively check again in case advancing created more single-team matches
-        boolean hasMoreSingleTeamMatches = false;
-        for (DoubleElimRound round : losersRounds) {
-            for (Match match : round.getMatches()) {
-                if (!match.isCompleted() &&
-                    ((match.getTeamA() != null && match.getTeamB() == null) ||
-                     (match.getTeamA() == null && match.getTeamB() != null))) {
-                    hasMoreSingleTeamMatches = true;
-                    break;
-                }
+            if (team.getPlayer2() != null) {
+                userPoints.put(team.getPlayer2(), points);
             }
-            if (hasMoreSingleTeamMatches) break;
         }
 
-        if (hasMoreSingleTeamMatches) {
-            autoAdvanceSingleTeamsInLosersBracket(event, depth + 1);
-        }
+        return userPoints;
     }
 
     // ==================== AUTHORIZATION METHODS ====================
@@ -2031,6 +2352,11 @@ public class TournamentService {
             return false;
         }
 
+        // A Swiss event is only complete once its last round has been paired
+        if (event instanceof SwissEvent swiss && swiss.getRounds().size() < getSwissRoundCount(swiss)) {
+            return false;
+        }
+
         List<Match> matches = getMatchesForEvent(tournamentId, eventIndex);
 
         // Event is complete if all matches are completed
@@ -2094,6 +2420,8 @@ public class TournamentService {
             userPoints = calculateRoundRobinPoints(roundRobin, pointsDistribution);
         } else if (event instanceof DoubleElimEvent doubleElim) {
             userPoints = calculateDoubleElimPoints(doubleElim, pointsDistribution);
+        } else if (event instanceof SwissEvent swiss) {
+            userPoints = calculateSwissPoints(swiss, pointsDistribution);
         }
 
         return userPoints;
@@ -2196,68 +2524,21 @@ public class TournamentService {
      */
     private Map<User, Integer> calculateRoundRobinPoints(RoundRobinEvent event, PointsDistribution pointsDistribution) {
         Map<User, Integer> userPoints = new TreeMap<>();
-        Map<User, Integer> userWins = new TreeMap<>();
-        Map<User, Integer> userTotalScore = new TreeMap<>();
-
-        // Initialize all players
-        for (User player : event.getPlayers()) {
-            userWins.put(player, 0);
-            userTotalScore.put(player, 0);
-        }
-
-        // Count wins and total scores for each player
-        for (TeamSchedule schedule : event.getTeamSchedules()) {
-            Team team = schedule.getTeam();
-
-            // Get all players in this team
-            List<User> teamPlayers = new ArrayList<>();
-            if (team.getPlayer1() != null) teamPlayers.add(team.getPlayer1());
-            if (team.getPlayer2() != null) teamPlayers.add(team.getPlayer2());
-
-            int wins = 0;
-            int totalScore = 0;
-
-            for (Match match : schedule.getMatches()) {
-                if (match.isCompleted()) {
-                    // Check if this team won
-                    boolean teamWon = false;
-
-                    if (match.getWinnerTeam() != null && match.getWinnerTeam().equals(team)) {
-                        teamWon = true;
-                    }
-
-                    if (teamWon) {
-                        wins++;
-                    }
-
-                    // Calculate team's score in this match
-                    if (match.getScore() != null && !match.getScore().isEmpty()) {
-                        totalScore += getTeamScoreInMatch(match, team);
-                    }
-                }
-            }
-
-            // Update wins and scores for all players in this team
-            for (User player : teamPlayers) {
-                userWins.put(player, userWins.getOrDefault(player, 0) + wins);
-                userTotalScore.put(player, userTotalScore.getOrDefault(player, 0) + totalScore);
-            }
-        }
 
-        // Sort players by wins (then by total score as tiebreaker)
-        List<User> sortedPlayers = new ArrayList<>(event.getPlayers());
-        sortedPlayers.sort((u1, u2) -> {
-            int winsCompare = Integer.compare(userWins.get(u2), userWins.get(u1));
-            if (winsCompare != 0) return winsCompare;
-            return Integer.compare(userTotalScore.get(u2), userTotalScore.get(u1));
-        });
+        // Standings are kept up to date as results are recorded, so only ranking is left
+        List<TeamSchedule> standings = StandingsUtil.rank(event.getTeamSchedules(), event.getTiebreakers());
 
-        // Assign points based on placement
-        for (int i = 0; i < sortedPlayers.size(); i++) {
-            User player = sortedPlayers.get(i);
+        // Assign points based on placement - both players of a team share its placement
+        for (int i = 0; i < standings.size(); i++) {
+            Team team = standings.get(i).getTeam();
             String placement = String.valueOf(i + 1);
             Integer points = pointsDistribution.getPointsForPlacement(placement);
-            userPoints.put(player, points);
+            if (team.getPlayer1() != null) {
+                userPoints.put(team.getPlayer1(), points);
+            }
+            if (team.getPlayer2() != null) {
+                userPoints.put(team.getPlayer2(), points);
+            }
         }
 
         return userPoints;
@@ -2332,7 +2613,7 @@ public class TournamentService {
      * Helper: Get placement string for losers of a single elim round
      * totalRounds=3 (8 players): roundIndex 2="2" (finals loser), 1="3" (semis losers), 0="5" (quarters losers)
      */
-    private String getPlacementForSingleElimRound(int totalRounds, int roundIndex) {
+    String getPlacementForSingleElimRound(int totalRounds, int roundIndex) {
         if (roundIndex == totalRounds - 1) return "2";  // Finals loser gets 2nd place
         if (roundIndex == totalRounds - 2) return "3";  // Semifinals losers get 3rd place
 
@@ -2355,7 +2636,7 @@ public class TournamentService {
      *
      * The placement is based on how many players were eliminated in later rounds.
      */
-    private String getPlacementForDoubleElimLosersRound(int totalLosersRounds, int roundIndex, List<DoubleElimRound> losersRounds) {
+    String getPlacementForDoubleElimLosersRound(int totalLosersRounds, int roundIndex, List<DoubleElimRound> losersRounds) {
         if (roundIndex == totalLosersRounds - 1) return "2";  // Grand finals loser (2nd place)
         if (roundIndex == totalLosersRounds - 2) return "3";  // Losers finals loser (3rd place)
 
@@ -2468,24 +2749,6 @@ public class TournamentService {
         return 0;
     }
 
-    /**
-     * Helper: Get team's score in a specific match
-     */
-    private int getTeamScoreInMatch(Match match, Team team) {
-        if (match.getScore() == null || match.getScore().isEmpty()) {
-            return 0;
-        }
-
-        // Assume score list has [teamA score, teamB score]
-        if (match.getTeamA() != null && match.getTeamA().equals(team)) {
-            return match.getScore().get(0);
-        } else if (match.getTeamB() != null && match.getTeamB().equals(team)) {
-            return match.getScore().size() > 1 ? match.getScore().get(1) : 0;
-        }
-
-        return 0;
-    }
-
     // ==================== SEEDING METHODS ====================
 
     /**
@@ -2496,11 +2759,11 @@ public class TournamentService {
         Map<Long, Integer> playerSeeds = event.getPlayerSeeds();
         Map<Long, Integer> teamSeeds = event.getTeamSeeds();
 
-        // Validate: Only Single Elim and Double Elim can be seeded
-        if (event instanceof RoundRobinEvent) {
+        // Validate: Only Single Elim, Double Elim and pool play Round Robin can be seeded
+        if (event instanceof RoundRobinEvent roundRobin && !roundRobin.isPoolPlay()) {
             if ((playerSeeds != null && !playerSeeds.isEmpty()) ||
                 (teamSeeds != null && !teamSeeds.isEmpty())) {
-                throw new IllegalArgumentException("Round Robin events cannot use seeding");
+                throw new IllegalArgumentException("Round Robin events can only be seeded when split into pools");
             }
         }
 
@@ -2597,52 +2860,6 @@ public class TournamentService {
         return seeds != null ? seeds : new HashMap<>();
     }
 
-    /**
-     * Check if a player has ever won a REAL match (not a bye) in the winners bracket
-     * @param player The player to check
-     * @param doubleElim The double elimination event
-     * @return true if player has won at least one non-bye match in winners bracket
-     */
-    private boolean hasPlayerWonInWinnersBracket(User player, DoubleElimEvent doubleElim) {
-        if (player == null) return false;
-
-        for (DoubleElimRound round : doubleElim.getWinnersBracket()) {
-            for (Match match : round.getMatches()) {
-                if (match.isCompleted() && match.getWinner() != null && match.getWinner().equals(player)) {
-                    // Check if this was a real match (both players present) or just a bye
-                    boolean isByeMatch = (match.getPlayerA() == null || match.getPlayerB() == null);
-                    if (!isByeMatch) {
-                        return true; // Player won a real match
-                    }
-                }
-            }
-        }
-        return false; // Player only won bye matches (or no matches)
-    }
-
-    /**
-     * Check if a team has ever won a REAL match (not a bye) in the winners bracket
-     * @param team The team to check
-     * @param doubleElim The double elimination event
-     * @return true if team has won at least one non-bye match in winners bracket
-     */
-    private boolean hasTeamWonInWinnersBracket(Team team, DoubleElimEvent doubleElim) {
-        if (team == null) return false;
-
-        for (DoubleElimRound round : doubleElim.getWinnersBracket()) {
-            for (Match match : round.getMatches()) {
-                if (match.isCompleted() && match.getWinnerTeam() != null && match.getWinnerTeam().equals(team)) {
-                    // Check if this was a real match (both teams present) or just a bye
-                    boolean isByeMatch = (match.getTeamA() == null || match.getTeamB() == null);
-                    if (!isByeMatch) {
-                        return true; // Team won a real match
-                    }
-                }
-            }
-        }
-        return false; // Team only won bye matches (or no matches)
-    }
-
     /**
      * Manually set seeds for players in an event
      * @param tournamentId Tournament ID
@@ -2692,12 +2909,23 @@ public class TournamentService {
     }
 
     /**
-     * Automatically set seeds from league rankings
+     * Automatically set seeds from league rankings, or from ratings outside a league
      * @param tournamentId Tournament ID
      * @param eventIndex Event index
      * @param numberOfSeeds Number of top players to seed
      */
     public void setAutoSeeds(Long tournamentId, int eventIndex, int numberOfSeeds) {
+        setAutoSeeds(tournamentId, eventIndex, numberOfSeeds, null);
+    }
+
+    /**
+     * Automatically set seeds from league rankings or player ratings
+     * @param tournamentId Tournament ID
+     * @param eventIndex Event index
+     * @param numberOfSeeds Number of top players to seed
+     * @param source LEAGUE or RATING; null picks LEAGUE when the tournament is in a league, else RATING
+     */
+    public void setAutoSeeds(Long tournamentId, int eventIndex, int numberOfSeeds, SeedingSource source) {
         BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
         Tournament tournament = getTournament(tournamentId);
 
@@ -2719,35 +2947,53 @@ public class TournamentService {
 
         // Find leagues this tournament belongs to
         List<League> leagues = leagueRepo.findByTournamentsContaining(tournament);
-
-        if (leagues.isEmpty()) {
-            throw new IllegalArgumentException("Tournament is not part of any league. Cannot auto-seed from rankings.");
+        if (source == null) {
+            source = leagues.isEmpty() ? SeedingSource.RATING : SeedingSource.LEAGUE;
         }
 
-        // Use the first league (in practice, a tournament might be in multiple leagues)
-        League league = leagues.get(0);
+        List<User> rankedPlayers;
+        if (source == SeedingSource.RATING) {
+            // Highest conservative rating first; unrated players stay unseeded
+            Map<Long, Double> ratings = ratingService.getSeedingRatings(
+                event.getPlayers().stream().map(User::getId).toList());
+            rankedPlayers = event.getPlayers().stream()
+                .filter(player -> ratings.containsKey(player.getId()))
+                .sorted((p1, p2) -> Double.compare(ratings.get(p2.getId()), ratings.get(p1.getId())))
+                .toList();
+
+            if (rankedPlayers.isEmpty()) {
+                throw new IllegalArgumentException("No players in this event have a rating");
+            }
+        } else {
+            if (leagues.isEmpty()) {
+                throw new IllegalArgumentException("Tournament is not part of any league. Cannot auto-seed from rankings.");
+            }
+
+            // Use the first league (in practice, a tournament might be in multiple leagues)
+            League league = leagues.get(0);
 
-        // Get all rankings for this league, sorted by rank
-        List<LeaguePlayerRanking> rankings = league.getPlayerRankings();
+            // Get all rankings for this league, sorted by rank
+            List<LeaguePlayerRanking> rankings = league.getPlayerRankings();
 
-        // Create a map of user ID to their league rank
-        Map<Long, Integer> userRankMap = new HashMap<>();
-        for (LeaguePlayerRanking ranking : rankings) {
-            userRankMap.put(ranking.getPlayer().getId(), ranking.getRank());
-        }
+            // Create a map of user ID to their league rank
+            Map<Long, Integer> userRankMap = new HashMap<>();
+            for (LeaguePlayerRanking ranking : rankings) {
+                userRankMap.put(ranking.getPlayer().getId(), ranking.getRank());
+            }
 
-        // Filter event players who have rankings, and sort by their rank
-        List<User> rankedPlayers = event.getPlayers().stream()
-            .filter(player -> userRankMap.containsKey(player.getId()))
-            .sorted((p1, p2) -> {
-                int rank1 = userRankMap.get(p1.getId());
-                int rank2 = userRankMap.get(p2.getId());
-                return Integer.compare(rank1, rank2);
-            })
-            .toList();
+            // Filter event players who have rankings, and sort by their rank
+            rankedPlayers = event.getPlayers().stream()
+                .filter(player -> userRankMap.containsKey(player.getId()))
+                .sorted((p1, p2) -> {
+                    int rank1 = userRankMap.get(p1.getId());
+                    int rank2 = userRankMap.get(p2.getId());
+                    return Integer.compare(rank1, rank2);
+                })
+                .toList();
 
-        if (rankedPlayers.isEmpty()) {
-            throw new IllegalArgumentException("No players in this event have rankings in the league");
+            if (rankedPlayers.isEmpty()) {
+                throw new IllegalArgumentException("No players in this event have rankings in the league");
+            }
         }
 
         // Take the top N ranked players and assign seeds
@@ -2821,12 +3067,24 @@ public class TournamentService {
     }
 
     /**
-     * Automatically set team seeds from league rankings (averaged from both players)
+     * Automatically set team seeds from league rankings (averaged from both players), or from
+     * ratings outside a league
      * @param tournamentId Tournament ID
      * @param eventIndex Event index
      * @param numberOfSeeds Number of top teams to seed
      */
     public void setAutoTeamSeeds(Long tournamentId, int eventIndex, int numberOfSeeds) {
+        setAutoTeamSeeds(tournamentId, eventIndex, numberOfSeeds, null);
+    }
+
+    /**
+     * Automatically set team seeds from league rankings or player ratings, averaged over both players
+     * @param tournamentId Tournament ID
+     * @param eventIndex Event index
+     * @param numberOfSeeds Number of top teams to seed
+     * @param source LEAGUE or RATING; null picks LEAGUE when the tournament is in a league, else RATING
+     */
+    public void setAutoTeamSeeds(Long tournamentId, int eventIndex, int numberOfSeeds, SeedingSource source) {
         BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
         Tournament tournament = getTournament(tournamentId);
 
@@ -2856,38 +3114,66 @@ public class TournamentService {
 
         // Find leagues this tournament belongs to
         List<League> leagues = leagueRepo.findByTournamentsContaining(tournament);
-
-        if (leagues.isEmpty()) {
-            throw new IllegalArgumentException("Tournament is not part of any league. Cannot auto-seed from rankings.");
+        if (source == null) {
+            source = leagues.isEmpty() ? SeedingSource.RATING : SeedingSource.LEAGUE;
         }
 
-        // Use the first league (in practice, a tournament might be in multiple leagues)
-        League league = leagues.get(0);
+        // Calculate average rank for each team
+        Map<Team, Double> teamAverageRanks = new HashMap<>();
+        if (source == SeedingSource.RATING) {
+            List<Long> playerIds = new ArrayList<>();
+            for (Team team : teams) {
+                playerIds.add(team.getPlayer1().getId());
+                if (team.getPlayer2() != null) {
+                    playerIds.add(team.getPlayer2().getId());
+                }
+            }
+            Map<Long, Double> ratings = ratingService.getSeedingRatings(playerIds);
+
+            for (Team team : teams) {
+                Double rating1 = ratings.get(team.getPlayer1().getId());
+                Double rating2 = team.getPlayer2() == null ? rating1 : ratings.get(team.getPlayer2().getId());
 
-        // Get all rankings for this league, sorted by rank
-        List<LeaguePlayerRanking> rankings = league.getPlayerRankings();
+                // Only include teams where every player is rated; negated so lower is better as with ranks
+                if (rating1 != null && rating2 != null) {
+                    teamAverageRanks.put(team, -(rating1 + rating2) / 2.0);
+                }
+            }
 
-        // Create a map of user ID to their league rank
-        Map<Long, Integer> userRankMap = new HashMap<>();
-        for (LeaguePlayerRanking ranking : rankings) {
-            userRankMap.put(ranking.getPlayer().getId(), ranking.getRank());
-        }
+            if (teamAverageRanks.isEmpty()) {
+                throw new IllegalArgumentException("No teams have both players rated");
+            }
+        } else {
+            if (leagues.isEmpty()) {
+                throw new IllegalArgumentException("Tournament is not part of any league. Cannot auto-seed from rankings.");
+            }
 
-        // Calculate average rank for each team
-        Map<Team, Double> teamAverageRanks = new HashMap<>();
-        for (Team team : teams) {
-            Integer rank1 = userRankMap.get(team.getPlayer1().getId());
-            Integer rank2 = userRankMap.get(team.getPlayer2().getId());
+            // Use the first league (in practice, a tournament might be in multiple leagues)
+            League league = leagues.get(0);
+
+            // Get all rankings for this league, sorted by rank
+            List<LeaguePlayerRanking> rankings = league.getPlayerRankings();
 
-            // Only include teams where both players have rankings
-            if (rank1 != null && rank2 != null) {
-                double averageRank = (rank1 + rank2) / 2.0;
-                teamAverageRanks.put(team, averageRank);
+            // Create a map of user ID to their league rank
+            Map<Long, Integer> userRankMap = new HashMap<>();
+            for (LeaguePlayerRanking ranking : rankings) {
+                userRankMap.put(ranking.getPlayer().getId(), ranking.getRank());
+            }
+
+            for (Team team : teams) {
+                Integer rank1 = userRankMap.get(team.getPlayer1().getId());
+                Integer rank2 = userRankMap.get(team.getPlayer2().getId());
+
+                // Only include teams where both players have rankings
+                if (rank1 != null && rank2 != null) {
+                    double averageRank = (rank1 + rank2) / 2.0;
+                    teamAverageRanks.put(team, averageRank);
+                }
             }
-        }
 
-        if (teamAverageRanks.isEmpty()) {
-            throw new IllegalArgumentException("No teams have both players with rankings in the league");
+            if (teamAverageRanks.isEmpty()) {
+                throw new IllegalArgumentException("No teams have both players with rankings in the league");
+            }
         }
 
         // Sort teams by their average rank (lower is better)
@@ -2916,8 +3202,22 @@ public class TournamentService {
 
     /**
      * Player signs up for an event (creates pending registration)
+     * Signing up again returns the existing registration. When the event has a
+     * capacity, the registration only becomes PENDING if it wins a slot; otherwise
+     * it joins the waitlist and is promoted in signup order as slots free up.
+     * The slot claim and the insert share one transaction, so a failed insert gives the slot back.
      */
     public EventRegistration signUpForEvent(Long tournamentId, int eventIndex, User user, String desiredPartner) {
+        try {
+            return transactionTemplate.execute(status -> signUp(tournamentId, eventIndex, user, desiredPartner));
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent signup by the same user; that one keeps its place
+            BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+            return eventRegistrationRepo.findByEventAndUser(event, user).orElseThrow(() -> e);
+        }
+    }
+
+    private EventRegistration signUp(Long tournamentId, int eventIndex, User user, String desiredPartner) {
         BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
 
         // Validate: Event must not be initialized yet
@@ -2925,22 +3225,90 @@ public class TournamentService {
             throw new IllegalStateException("Cannot sign up for an event that has already been initialized");
         }
 
-        // Validate: User not already registered
-        if (eventRegistrationRepo.existsByEventAndUser(event, user)) {
-            throw new IllegalArgumentException("You have already signed up for this event");
+        // Idempotent: a repeated signup (double click, client retry) gets the same registration back
+        Optional<EventRegistration> existing = eventRegistrationRepo.findByEventAndUser(event, user);
+        if (existing.isPresent()) {
+            return existing.get();
         }
 
         // Validate: User not already a player
-        if (event.getPlayers().contains(user)) {
+        if (eventRepo.existsPlayer(event.getId(), user.getId())) {
             throw new IllegalArgumentException("You are already a player in this event");
         }
 
-        // Create and save registration
         EventRegistration registration = new EventRegistration(event, user);
         registration.setDesiredPartner(desiredPartner);
+        registration.setStatus(eventRepo.claimSlot(event.getId()) == 1
+            ? EventRegistration.RegistrationStatus.PENDING
+            : EventRegistration.RegistrationStatus.WAITLISTED);
         return eventRegistrationRepo.save(registration);
     }
 
+    /**
+     * Set the maximum number of entrants that can hold a place through signup (0 = unlimited)
+     * Raising the capacity promotes waitlisted players straight away.
+     */
+    public void setEventCapacity(Long tournamentId, int eventIndex, int capacity) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        event.setCapacity(capacity);
+        eventRepo.save(event);
+
+        // Events created before capacity existed start from an accurate count
+        eventRepo.recountSlots(event.getId());
+        promoteWaitlist(event);
+    }
+
+    /**
+     * Position of a registration on its event's waitlist (1 = next to be promoted), or null if not waitlisted
+     */
+    public Integer getWaitlistPosition(EventRegistration registration) {
+        if (registration.getStatus() != EventRegistration.RegistrationStatus.WAITLISTED) {
+            return null;
+        }
+        return (int) eventRegistrationRepo.findWaitlistPosition(registration.getEvent(), registration.getId());
+    }
+
+    /**
+     * Give back a slot freed outside the normal registration flow (such as a merged guest entry)
+     */
+    public void releaseEventSlot(Long eventId) {
+        BaseEvent event = eventRepo.findById(eventId)
+            .orElseThrow(() -> new IllegalArgumentException("Event with id " + eventId + " not found"));
+        eventRepo.releaseSlot(eventId);
+        promoteWaitlist(event);
+    }
+
+    /**
+     * Fill free capacity from the front of the waitlist
+     */
+    private void promoteWaitlist(BaseEvent event) {
+        while (true) {
+            Optional<EventRegistration> next = eventRegistrationRepo.findFirstByEventAndStatusOrderByIdAsc(
+                event, EventRegistration.RegistrationStatus.WAITLISTED);
+            if (next.isEmpty() || eventRepo.claimSlot(event.getId()) == 0) {
+                return;
+            }
+            if (eventRegistrationRepo.promoteFromWaitlist(next.get().getId()) == 0) {
+                // Someone else promoted or cancelled it first; give the slot back and try the next one
+                eventRepo.releaseSlot(event.getId());
+            }
+        }
+    }
+
+    /**
+     * Give back the slot held by a registration that is leaving, and promote the next in line
+     */
+    private void releaseSlotFor(BaseEvent event, EventRegistration.RegistrationStatus previousStatus) {
+        if (previousStatus.holdsSlot()) {
+            eventRepo.releaseSlot(event.getId());
+            promoteWaitlist(event);
+        }
+    }
+
     /**
      * Get all registrations for an event (for moderators)
      */
@@ -2968,7 +3336,10 @@ public class TournamentService {
 
     /**
      * Approve multiple registrations at once
+     * Loads and validates every registration in one query, approves them with a
+     * single update and adds the players with batched user_events inserts.
      */
+    @Transactional
     public void approveRegistrations(Long tournamentId, int eventIndex, List<Long> registrationIds, User reviewer) {
         BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
 
@@ -2976,32 +3347,147 @@ public class TournamentService {
         if (event.isEventInitialized()) {
             throw new IllegalStateException("Cannot approve registrations after event has been initialized");
         }
+        if (registrationIds == null || registrationIds.isEmpty()) {
+            return;
+        }
 
-        for (Long registrationId : registrationIds) {
-            EventRegistration registration = eventRegistrationRepo.findById(registrationId)
-                .orElseThrow(() -> new IllegalArgumentException("Registration not found: " + registrationId));
+        Set<Long> ids = new LinkedHashSet<>(registrationIds);
+        List<EventRegistration> registrations = eventRegistrationRepo.findAllWithUserByIdIn(ids);
+        if (registrations.size() != ids.size()) {
+            Set<Long> found = new HashSet<>();
+            for (EventRegistration registration : registrations) {
+                found.add(registration.getId());
+            }
+            for (Long registrationId : ids) {
+                if (!found.contains(registrationId)) {
+                    throw new IllegalArgumentException("Registration not found: " + registrationId);
+                }
+            }
+        }
 
+        List<Long> toApprove = new ArrayList<>();
+        List<User> players = new ArrayList<>();
+        int fromWaitlist = 0;
+        for (EventRegistration registration : registrations) {
             // Verify registration belongs to this event
             if (!registration.getEvent().getId().equals(event.getId())) {
-                throw new IllegalArgumentException("Registration " + registrationId + " does not belong to this event");
+                throw new IllegalArgumentException("Registration " + registration.getId() + " does not belong to this event");
             }
 
             // Skip if already approved
             if (registration.getStatus() == EventRegistration.RegistrationStatus.APPROVED) {
                 continue;
             }
+            if (registration.getStatus() == EventRegistration.RegistrationStatus.WAITLISTED) {
+                fromWaitlist++;
+            }
+            toApprove.add(registration.getId());
+            players.add(registration.getUser());
+        }
 
-            // Approve the registration
-            registration.setStatus(EventRegistration.RegistrationStatus.APPROVED);
-            registration.setReviewedAt(new Date());
-            registration.setReviewedBy(reviewer);
-            eventRegistrationRepo.save(registration);
+        if (toApprove.isEmpty()) {
+            return;
+        }
+        eventRegistrationRepo.updateStatus(toApprove, EventRegistration.RegistrationStatus.APPROVED, new Date(), reviewer);
 
-            // Add player to event
-            event.addPlayer(registration.getUser());
+        // Approving straight off the waitlist is a moderator override of the capacity
+        if (fromWaitlist > 0) {
+            eventRepo.forceClaimSlots(event.getId(), fromWaitlist);
         }
+        addPlayersInBulk(event, players);
+    }
 
-        eventRepo.save(event);
+    /**
+     * Add a roster of entrants to an event from CSV (one username per line, or a
+     * "username"/"email" column). Uses the same batched path as bulk approval;
+     * any pending registrations for the imported players are approved along the way.
+     * Waitlisted players are admitted by the signup rules: each needs a free slot, and
+     * those that don't get one stay on the waitlist and are not entered.
+     */
+    @Transactional
+    public RosterImportResultDTO importRoster(Long tournamentId, int eventIndex, String csv, User reviewer) {
+        BaseEvent event = getEventsForTournament(tournamentId).get(eventIndex);
+
+        if (event.isEventInitialized()) {
+            throw new IllegalStateException("Cannot import a roster after event has been initialized");
+        }
+
+        List<String> usernames = RosterCsv.parseUsernames(csv);
+        if (usernames.isEmpty()) {
+            throw new IllegalArgumentException("The roster contains no usernames");
+        }
+
+        // Resolve accounts in chunks to keep the IN list bounded
+        Map<String, User> usersByName = new HashMap<>();
+        for (int from = 0; from < usernames.size(); from += ROSTER_BATCH_SIZE) {
+            List<String> chunk = usernames.subList(from, Math.min(from + ROSTER_BATCH_SIZE, usernames.size()));
+            for (User user : userRepo.findByLowerUsernameIn(chunk)) {
+                usersByName.put(user.getUsername().toLowerCase(Locale.ROOT), user);
+            }
+        }
+
+        List<User> users = new ArrayList<>();
+        List<String> notFound = new ArrayList<>();
+        for (String username : usernames) {
+            User user = usersByName.get(username);
+            if (user != null) {
+                users.add(user);
+            } else {
+                notFound.add(username);
+            }
+        }
+
+        int added = 0;
+        List<String> waitlisted = new ArrayList<>();
+        if (!users.isEmpty()) {
+            List<Long> userIds = users.stream().map(User::getId).toList();
+            Set<Long> leftWaiting = new HashSet<>();
+            for (EventRegistration registration : eventRegistrationRepo.findWaitlistedForUsers(event, userIds)) {
+                if (eventRepo.claimSlot(event.getId()) == 0) {
+                    leftWaiting.add(registration.getUser().getId());
+                    waitlisted.add(registration.getUser().getUsername());
+                } else if (eventRegistrationRepo.promoteFromWaitlist(registration.getId()) == 0) {
+                    // Promoted or cancelled meanwhile; either way this import doesn't need the slot
+                    eventRepo.releaseSlot(event.getId());
+                }
+            }
+            users.removeIf(user -> leftWaiting.contains(user.getId()));
+
+            eventRegistrationRepo.approvePendingForUsers(event, userIds, new Date(), reviewer);
+            added = addPlayersInBulk(event, users);
+        }
+
+        return new RosterImportResultDTO(added, users.size() - added, notFound, waitlisted);
+    }
+
+    /**
+     * Enter many players into an event with batched user_events inserts
+     * Players already in the event are skipped. The event's players list is
+     * reloaded afterwards so the rest of the request sees the new entrants.
+     * @return Number of players actually added
+     */
+    private int addPlayersInBulk(BaseEvent event, Collection<User> users) {
+        // Push any pending entity changes before writing around the persistence context
+        entityManager.flush();
+
+        Set<Long> existing = eventRepo.findPlayerIds(event.getId());
+        List<Object[]> rows = new ArrayList<>();
+        for (User user : users) {
+            if (existing.add(user.getId())) {
+                rows.add(new Object[] {event.getId(), user.getId()});
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        for (int from = 0; from < rows.size(); from += ROSTER_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("INSERT INTO user_events (event_id, user_id) VALUES (?, ?)",
+                rows.subList(from, Math.min(from + ROSTER_BATCH_SIZE, rows.size())));
+        }
+
+        entityManager.refresh(event);
+        return rows.size();
     }
 
     /**
@@ -3019,10 +3505,13 @@ public class TournamentService {
         }
 
         // Reject the registration
+        EventRegistration.RegistrationStatus previousStatus = registration.getStatus();
         registration.setStatus(EventRegistration.RegistrationStatus.REJECTED);
         registration.setReviewedAt(new Date());
         registration.setReviewedBy(reviewer);
         eventRegistrationRepo.save(registration);
+
+        releaseSlotFor(event, previousStatus);
     }
 
     /**
@@ -3034,12 +3523,15 @@ public class TournamentService {
         EventRegistration registration = eventRegistrationRepo.findByEventAndUser(event, user)
             .orElseThrow(() -> new IllegalArgumentException("Registration not found"));
 
-        // Can only cancel if still pending
-        if (registration.getStatus() != EventRegistration.RegistrationStatus.PENDING) {
+        // Can only cancel if still pending or waiting for a place
+        EventRegistration.RegistrationStatus previousStatus = registration.getStatus();
+        if (previousStatus != EventRegistration.RegistrationStatus.PENDING
+                && previousStatus != EventRegistration.RegistrationStatus.WAITLISTED) {
             throw new IllegalStateException("Can only cancel pending registrations");
         }
 
         eventRegistrationRepo.delete(registration);
+        releaseSlotFor(event, previousStatus);
     }
 
     /**
@@ -8,27 +8,35 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.tournamenthost.connect.frontend.with.backend.DTO.EventDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.MatchDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.PlayerStatsDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.TeamDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.TournamentDTO;
 import com.tournamenthost.connect.frontend.with.backend.DTO.UserDTO;
+import com.tournamenthost.connect.frontend.with.backend.Model.League;
 import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.PlayerStats;
 import com.tournamenthost.connect.frontend.with.backend.Model.Team;
 import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
+import com.tournamenthost.connect.frontend.with.backend.Repository.LeagueRepository;
 import com.tournamenthost.connect.frontend.with.backend.Repository.TournamentRepository;
 import com.tournamenthost.connect.frontend.with.backend.Repository.UserRepository;
+import com.tournamenthost.connect.frontend.with.backend.Security.PasswordHashingExecutor;
 
 @Service
 public class UserService {
 
     @Autowired
-    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PasswordHashingExecutor passwordHashingExecutor;
 
     @Autowired
     private UserRepository userRepo;
@@ -39,7 +47,25 @@ public class UserService {
     @Autowired
     private TournamentService tournamentService;
 
+    @Autowired
+    private LeagueRepository leagueRepo;
+
+    @Autowired
+    private PlayerStatsService playerStatsService;
+
+    @Autowired
+    private PageVersionService pageVersionService;
+
     public User setUser(User user, String username, String name, String password) {
+        return setUser(user, username, name, password, null, null);
+    }
+
+    /**
+     * Update a user's profile; null leaves a field unchanged, and a blank club or region clears it
+     */
+    public User setUser(User user, String username, String name, String password, String club, String region) {
+        boolean renamed = (username != null && !username.equals(user.getUsername()))
+            || (name != null && !name.equals(user.getName()));
         if (username != null && !username.equals(user.getUsername())) {
             if (userRepo.existsByUsername(username)) {
                 throw new IllegalArgumentException("User with username " + username + " already exists");
@@ -52,10 +78,45 @@ public class UserService {
         }
 
         if (password != null && !password.isEmpty()) {
-            user.setPassword(bCryptPasswordEncoder.encode(password));
+            user.setPassword(passwordHashingExecutor.call(() -> passwordEncoder.encode(password)));
+        }
+
+        if (club != null) {
+            user.setClub(club.isBlank() ? null : club.trim());
+        }
+
+        if (region != null) {
+            user.setRegion(region.isBlank() ? null : region.trim());
+        }
+
+        User saved = userRepo.save(user);
+        if (renamed) {
+            // Tournament pages show names
+            pageVersionService.bumpForUsers(List.of(saved.getId()));
+        }
+        return saved;
+    }
+
+    /**
+     * Win/loss record of a player, across their career or within one league
+     * @param leagueId League to limit the stats to, or null for career totals
+     */
+    public PlayerStatsDTO getPlayerStats(Long userId, Long leagueId) {
+        User user = userRepo.findById(userId)
+            .orElseThrow(() -> new IllegalArgumentException("User with id " + userId + " not found"));
+
+        PlayerStats stats;
+        if (leagueId == null) {
+            stats = playerStatsService.getCareerStats(user);
+        } else {
+            League league = leagueRepo.findById(leagueId)
+                .orElseThrow(() -> new IllegalArgumentException("League with id " + leagueId + " not found"));
+            stats = playerStatsService.getLeagueStats(league, user);
         }
 
-        return userRepo.save(user);
+        return new PlayerStatsDTO(userId, leagueId, stats.getMatchesPlayed(), stats.getMatchesWon(),
+            stats.getMatchesLost(), stats.getGamesWon(), stats.getGamesLost(), stats.getPointsWon(),
+            stats.getPointsLost(), stats.getCurrentStreak(), stats.getLongestWinStreak(), stats.getTitles());
     }
 
     /**
@@ -105,6 +166,8 @@ public class UserService {
                     eventDTO.setEventType("DOUBLE_ELIM");
                 } else if (event instanceof com.tournamenthost.connect.frontend.with.backend.Model.Event.RoundRobinEvent) {
                     eventDTO.setEventType("ROUND_ROBIN");
+                } else if (event instanceof com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissEvent) {
+                    eventDTO.setEventType("SWISS");
                 }
 
                 // Create MatchDTOs
@@ -152,6 +215,8 @@ public class UserService {
             matchDTO.setMatchType(match.getMatchType().toString());
         }
         matchDTO.setGamesRequiredToWin(match.getGamesRequiredToWin());
+        matchDTO.setScheduledStart(match.getScheduledStart());
+        matchDTO.setCourt(match.getCourt());
 
         // OLD: Convert players to simple UserDTOs (kept for backward compatibility)
         if (match.getPlayerA() != null) {
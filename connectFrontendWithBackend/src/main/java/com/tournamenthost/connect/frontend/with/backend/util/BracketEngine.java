@@ -0,0 +1,568 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * In-memory bracket engine for single elim, double elim and round robin events
+ * Works on primitive arrays indexed by match and entrant so it has no dependency on entities;
+ * TournamentService reaches it through BracketAdapter, which loads an event into the engine
+ * and writes back only the matches that changed. The result log replays through it too.
+ *
+ * Matches are numbered in the order the event stores them (single elim rounds in order;
+ * double elim winners rounds, losers rounds, then the bronze match). Entrants are numbered
+ * from 1; 0 means an empty slot. The rules cover first-round byes, drops into the losers
+ * bracket, the bronze match and the losers bracket bye chain. Every step is O(1) apart from
+ * the losers bye chain and allocates nothing, so a 512-entrant double elim replays in a few
+ * milliseconds.
+ */
+public class BracketEngine {
+
+    public static final int MAIN = 0;
+    public static final int LOSERS = 1;
+    public static final int BRONZE = 2;
+
+    private static final int NONE = -1;
+
+    // Structure, fixed once built
+    private final int[] bracket;
+    private final int[] round;
+    private final int[] winnerTo;
+    private final boolean[] winnerToA;
+    private final int[] loserTo;
+    private final boolean[] loserToA;
+    private final boolean[] loserToBronze;
+    private final int[][] losersRounds;
+    private final int[] firstRound;
+    private final boolean firstRoundByes;
+    private final int bronze;
+    private final boolean doubleElim;
+
+    // State
+    private final int[] slotA;
+    private final int[] slotB;
+    private final int[] winner;
+    private final boolean[] completed;
+    private int[] realWins = new int[16];
+
+    // Same structure as source, with its state copied
+    private BracketEngine(BracketEngine source) {
+        this.bracket = source.bracket;
+        this.round = source.round;
+        this.winnerTo = source.winnerTo;
+        this.winnerToA = source.winnerToA;
+        this.loserTo = source.loserTo;
+        this.loserToA = source.loserToA;
+        this.loserToBronze = source.loserToBronze;
+        this.losersRounds = source.losersRounds;
+        this.firstRound = source.firstRound;
+        this.firstRoundByes = source.firstRoundByes;
+        this.bronze = source.bronze;
+        this.doubleElim = source.doubleElim;
+        this.slotA = source.slotA.clone();
+        this.slotB = source.slotB.clone();
+        this.winner = source.winner.clone();
+        this.completed = source.completed.clone();
+        this.realWins = source.realWins.clone();
+    }
+
+    private BracketEngine(int matchCount, boolean doubleElim, int bronze, int[] firstRound,
+                          boolean firstRoundByes, int[][] losersRounds) {
+        this.bracket = new int[matchCount];
+        this.round = new int[matchCount];
+        this.winnerTo = new int[matchCount];
+        this.winnerToA = new boolean[matchCount];
+        this.loserTo = new int[matchCount];
+        this.loserToA = new boolean[matchCount];
+        this.loserToBronze = new boolean[matchCount];
+        this.slotA = new int[matchCount];
+        this.slotB = new int[matchCount];
+        this.winner = new int[matchCount];
+        this.completed = new boolean[matchCount];
+        this.doubleElim = doubleElim;
+        this.bronze = bronze;
+        this.firstRound = firstRound;
+        this.firstRoundByes = firstRoundByes;
+        this.losersRounds = losersRounds;
+        Arrays.fill(winnerTo, NONE);
+        Arrays.fill(loserTo, NONE);
+    }
+
+    /**
+     * Single elimination bracket
+     * @param roundSizes Number of matches in each round, first round first
+     */
+    public static BracketEngine singleElim(int[] roundSizes) {
+        int total = Arrays.stream(roundSizes).sum();
+        int[] firstRound = range(0, roundSizes.length > 0 ? roundSizes[0] : 0);
+        BracketEngine replay = new BracketEngine(total, false, NONE, firstRound, roundSizes.length > 1, new int[0][]);
+        link(replay, roundSizes, 0, MAIN);
+        return replay;
+    }
+
+    /**
+     * Double elimination bracket
+     * @param winnersRoundSizes Number of matches in each winners round
+     * @param losersRoundSizes Number of matches in each losers round
+     * @param losersFeedsFrom Winners round each losers round takes losers from, or -1
+     * @param feedInCutoff Last winners round whose losers drop into the losers bracket
+     * @param hasBronze Whether a bronze match follows the losers rounds
+     */
+    public static BracketEngine doubleElim(int[] winnersRoundSizes, int[] losersRoundSizes,
+                                           int[] losersFeedsFrom, int feedInCutoff, boolean hasBronze) {
+        int winnersTotal = Arrays.stream(winnersRoundSizes).sum();
+        int losersTotal = Arrays.stream(losersRoundSizes).sum();
+        int total = winnersTotal + losersTotal + (hasBronze ? 1 : 0);
+        int bronze = hasBronze ? total - 1 : NONE;
+
+        int[][] losersRounds = new int[losersRoundSizes.length][];
+        int[] losersRoundStart = new int[losersRoundSizes.length];
+        int start = winnersTotal;
+        for (int r = 0; r < losersRoundSizes.length; r++) {
+            losersRoundStart[r] = start;
+            losersRounds[r] = range(start, losersRoundSizes[r]);
+            start += losersRoundSizes[r];
+        }
+
+        int[] firstRound = range(0, winnersRoundSizes.length > 0 ? winnersRoundSizes[0] : 0);
+        BracketEngine replay = new BracketEngine(total, true, bronze, firstRound,
+            winnersRoundSizes.length > 1, losersRounds);
+        link(replay, winnersRoundSizes, 0, MAIN);
+        link(replay, losersRoundSizes, winnersTotal, LOSERS);
+        if (hasBronze) {
+            replay.bracket[bronze] = BRONZE;
+        }
+
+        // Where each winners bracket loser goes
+        int matchStart = 0;
+        for (int r = 0; r < winnersRoundSizes.length; r++) {
+            for (int i = 0; i < winnersRoundSizes[r]; i++) {
+                int match = matchStart + i;
+                if (r <= feedInCutoff && losersRoundSizes.length > 0) {
+                    for (int l = 0; l < losersRoundSizes.length; l++) {
+                        if (losersFeedsFrom[l] == r) {
+                            if (i / 2 < losersRoundSizes[l]) {
+                                replay.loserTo[match] = losersRoundStart[l] + i / 2;
+                                replay.loserToA[match] = i % 2 == 0;
+                            }
+                            break;
+                        }
+                    }
+                } else if (r == winnersRoundSizes.length - 2) {
+                    replay.loserToBronze[match] = hasBronze;
+                }
+            }
+            matchStart += winnersRoundSizes[r];
+        }
+        return replay;
+    }
+
+    /**
+     * Matches with no bracket between them (round robin, Swiss)
+     */
+    public static BracketEngine standalone(int matchCount) {
+        return new BracketEngine(matchCount, false, NONE, new int[0], false, new int[0][]);
+    }
+
+    /**
+     * Full round robin between entrants 1..n, already seeded, using the circle method
+     * Each round pairs every entrant once; with an odd count one entrant sits out each round.
+     */
+    public static BracketEngine roundRobin(int entrants) {
+        int slots = entrants % 2 == 0 ? entrants : entrants + 1;
+        int rounds = slots - 1;
+        int perRound = slots / 2;
+        int[] rotation = range(1, slots);
+        int[] a = new int[rounds * perRound];
+        int[] b = new int[a.length];
+        int[] roundOf = new int[a.length];
+        int count = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (int i = 0; i < perRound; i++) {
+                int home = rotation[i];
+                int away = rotation[slots - 1 - i];
+                // The phantom entrant past the end means a sit-out, not a match
+                if (home <= entrants && away <= entrants) {
+                    a[count] = home;
+                    b[count] = away;
+                    roundOf[count] = r;
+                    count++;
+                }
+            }
+            // Keep the first entrant fixed and rotate the rest one place
+            int last = rotation[slots - 1];
+            System.arraycopy(rotation, 1, rotation, 2, slots - 2);
+            rotation[1] = last;
+        }
+
+        BracketEngine engine = standalone(count);
+        for (int match = 0; match < count; match++) {
+            engine.round[match] = roundOf[match];
+            engine.seed(match, a[match], b[match]);
+        }
+        return engine;
+    }
+
+    /**
+     * Winners of adjacent matches meet in the next round: match i feeds i / 2, slot A when i is even
+     */
+    private static void link(BracketEngine replay, int[] roundSizes, int offset, int bracketKind) {
+        int start = offset;
+        for (int r = 0; r < roundSizes.length; r++) {
+            int nextStart = start + roundSizes[r];
+            for (int i = 0; i < roundSizes[r]; i++) {
+                int match = start + i;
+                replay.bracket[match] = bracketKind;
+                replay.round[match] = r;
+                if (r + 1 < roundSizes.length && i / 2 < roundSizes[r + 1]) {
+                    replay.winnerTo[match] = nextStart + i / 2;
+                    replay.winnerToA[match] = i % 2 == 0;
+                }
+            }
+            start = nextStart;
+        }
+    }
+
+    private static int[] range(int start, int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = start + i;
+        }
+        return values;
+    }
+
+    /**
+     * Independent copy sharing this engine's (immutable) structure
+     */
+    public BracketEngine copy() {
+        return new BracketEngine(this);
+    }
+
+    /**
+     * Overwrite this engine's state with another's; both must come from copy() of the same engine
+     * Lets a simulation reuse one engine per worker instead of allocating a copy per run.
+     */
+    public void resetTo(BracketEngine source) {
+        System.arraycopy(source.slotA, 0, slotA, 0, slotA.length);
+        System.arraycopy(source.slotB, 0, slotB, 0, slotB.length);
+        System.arraycopy(source.winner, 0, winner, 0, winner.length);
+        System.arraycopy(source.completed, 0, completed, 0, completed.length);
+        if (realWins.length != source.realWins.length) {
+            realWins = new int[source.realWins.length];
+        }
+        System.arraycopy(source.realWins, 0, realWins, 0, realWins.length);
+    }
+
+    /**
+     * Place entrants in a match before start(); for brackets only the first round is drawn
+     */
+    public void seed(int match, int entrantA, int entrantB) {
+        slotA[match] = entrantA;
+        slotB[match] = entrantB;
+        ensureEntrant(Math.max(entrantA, entrantB));
+    }
+
+    /**
+     * Load a match exactly as it is stored, instead of seeding and replaying
+     * Used to pick up an event mid-way; call it for every match, then record results as usual.
+     */
+    public void restore(int match, int entrantA, int entrantB, int matchWinner, boolean isCompleted) {
+        seed(match, entrantA, entrantB);
+        winner[match] = matchWinner;
+        completed[match] = isCompleted;
+        if (doubleElim && bracket[match] == MAIN && isCompleted && entrantA != 0 && entrantB != 0 && matchWinner != 0) {
+            realWins[matchWinner]++;
+        }
+    }
+
+    /**
+     * Apply the byes created when the event is initialized
+     */
+    public void start() {
+        if (firstRound.length > 0 && firstRoundByes) {
+            for (int match : firstRound) {
+                int lone = loneOccupant(match);
+                if (lone != 0) {
+                    winner[match] = lone;
+                    completed[match] = true;
+                    fill(winnerTo[match], winnerToA[match], lone);
+                }
+            }
+        } else if (firstRound.length == 0 && losersRounds.length == 0) {
+            // Round robin and Swiss byes are completed when they are paired
+            for (int match = 0; match < slotA.length; match++) {
+                int lone = loneOccupant(match);
+                if (lone != 0) {
+                    winner[match] = lone;
+                    completed[match] = true;
+                }
+            }
+        }
+        if (losersRounds.length > 0) {
+            advanceLosersByes();
+        }
+    }
+
+    /**
+     * Record a result: the winner moves on and, in double elim, the loser drops or goes to bronze
+     */
+    public void record(int match, int entrant) {
+        if (completed[match]) {
+            throw new IllegalArgumentException("Match " + match + " has already been completed");
+        }
+        if (entrant == 0 || (entrant != slotA[match] && entrant != slotB[match])) {
+            throw new IllegalArgumentException("Entrant " + entrant + " is not participating in match " + match);
+        }
+        if (slotA[match] == 0 || slotB[match] == 0) {
+            throw new IllegalStateException("Match " + match + " doesn't have both of its entrants yet");
+        }
+        advance(match, entrant);
+
+        if (losersRounds.length > 0) {
+            advanceLosersByes();
+        }
+    }
+
+    /**
+     * Play every remaining match, in match order, with winners chosen by pick(entrantA, entrantB)
+     * Ends exactly where recording the same results one by one in match order would, but
+     * instead of record()'s sweep of the whole losers bracket after each result it only follows
+     * the bye chain from the slots the result filled, so a play-out stays linear. Every match
+     * comes after the ones feeding it, so one pass is enough. Used by simulations.
+     */
+    public void playOut(IntBinaryOperator pick) {
+        for (int match = 0; match < slotA.length; match++) {
+            if (!completed[match] && slotA[match] != 0 && slotB[match] != 0) {
+                advance(match, pick.applyAsInt(slotA[match], slotB[match]));
+                if (losersRounds.length > 0) {
+                    advanceLosersByes(winnerTo[match]);
+                    advanceLosersByes(loserTo[match]);
+                }
+            }
+        }
+    }
+
+    // Complete a losers bracket match holding a single entrant, and each one that leaves alone after it
+    private void advanceLosersByes(int match) {
+        while (match != NONE && bracket[match] == LOSERS && !completed[match]) {
+            int lone = loneOccupant(match);
+            if (lone == 0) {
+                return;
+            }
+            winner[match] = lone;
+            completed[match] = true;
+            fill(winnerTo[match], winnerToA[match], lone);
+            match = winnerTo[match];
+        }
+    }
+
+    // Send the winner on and the loser down or to bronze, and mark the match complete
+    private void advance(int match, int entrant) {
+        int loser = entrant == slotA[match] ? slotB[match] : slotA[match];
+
+        if (winnerTo[match] != NONE && !completed[winnerTo[match]]) {
+            set(winnerTo[match], winnerToA[match], entrant);
+        }
+        if (doubleElim && bracket[match] == MAIN) {
+            // Only entrants who have never won a real winners bracket match drop down
+            if (loserTo[match] != NONE && realWins[loser] == 0) {
+                fill(loserTo[match], loserToA[match], loser);
+            } else if (loserToBronze[match] && !completed[bronze]) {
+                if (slotA[bronze] == 0) {
+                    slotA[bronze] = loser;
+                } else if (slotB[bronze] == 0) {
+                    slotB[bronze] = loser;
+                }
+            }
+            realWins[entrant]++;
+        }
+
+        winner[match] = entrant;
+        completed[match] = true;
+    }
+
+    /**
+     * Correct a result: reverse the old result
+     * along the path it was sent down, then record the new one
+     */
+    public void correct(int match, int entrant) {
+        if (!completed[match]) {
+            throw new IllegalArgumentException("Match " + match + " has not been completed yet");
+        }
+        if (slotA[match] == 0 || slotB[match] == 0) {
+            throw new IllegalStateException("Byes cannot be corrected");
+        }
+        if (winner[match] == entrant) {
+            return;
+        }
+        if (entrant != slotA[match] && entrant != slotB[match]) {
+            throw new IllegalArgumentException("Entrant " + entrant + " is not participating in match " + match);
+        }
+        unadvance(match);
+        record(match, entrant);
+    }
+
+    /**
+     * Reverse a completed result without recording a new one
+     * The slots its winner and loser were sent to are emptied, and any match already played
+     * from one of those slots is reversed the same way, so only one path through the bracket
+     * is touched.
+     */
+    public void reverse(int match) {
+        if (!completed[match]) {
+            throw new IllegalArgumentException("Match " + match + " has not been completed yet");
+        }
+        if (slotA[match] == 0 || slotB[match] == 0) {
+            throw new IllegalStateException("Byes cannot be corrected");
+        }
+        unadvance(match);
+    }
+
+    /**
+     * Complete every losers bracket match holding a single entrant and send it on
+     * record() does this after each result; call it directly after restoring or building an event.
+     */
+    public void propagateByes() {
+        if (losersRounds.length > 0) {
+            advanceLosersByes();
+        }
+    }
+
+    /**
+     * Where each entrant finished: the match of their most recent real loss, or -1 if they
+     * have not lost (the champion, or an entrant still alive)
+     * Index 0 is unused. Combine with getBracket/getRound to turn a match into a placement.
+     */
+    public int[] lastLosses() {
+        int[] lastLoss = new int[realWins.length];
+        Arrays.fill(lastLoss, NONE);
+        for (int match = 0; match < slotA.length; match++) {
+            if (!completed[match] || slotA[match] == 0 || slotB[match] == 0) {
+                continue;
+            }
+            int loser = winner[match] == slotA[match] ? slotB[match] : slotA[match];
+            // Matches are numbered in bracket order, so a later match is a later loss
+            lastLoss[loser] = match;
+        }
+        return lastLoss;
+    }
+
+    private void unadvance(int match) {
+        int won = winner[match];
+        int lost = won == 0 ? 0 : (won == slotA[match] ? slotB[match] : slotA[match]);
+
+        if (winnerTo[match] != NONE) {
+            clearSlot(winnerTo[match], winnerToA[match], won);
+        }
+        if (loserTo[match] != NONE) {
+            clearSlot(loserTo[match], loserToA[match], lost);
+        } else if (loserToBronze[match]) {
+            clearSlot(bronze, true, lost);
+            clearSlot(bronze, false, lost);
+        }
+        if (doubleElim && bracket[match] == MAIN && won != 0 && lost != 0) {
+            realWins[won]--;
+        }
+
+        winner[match] = 0;
+        completed[match] = false;
+    }
+
+    private void clearSlot(int target, boolean a, int entrant) {
+        int occupant = a ? slotA[target] : slotB[target];
+        if (entrant == 0 || occupant != entrant) {
+            return;
+        }
+        if (completed[target]) {
+            unadvance(target);
+        }
+        set(target, a, 0);
+    }
+
+    /**
+     * Complete every losers bracket match holding a single entrant, round by round
+     * Advancing only moves forward, so one pass in round order reaches a fixed point.
+     */
+    private void advanceLosersByes() {
+        for (int r = 0; r < losersRounds.length; r++) {
+            int[] round = losersRounds[r];
+            for (int i = 0; i < round.length; i++) {
+                int match = round[i];
+                if (completed[match]) {
+                    continue;
+                }
+                int lone = loneOccupant(match);
+                if (lone != 0) {
+                    winner[match] = lone;
+                    completed[match] = true;
+                    if (winnerTo[match] != NONE) {
+                        fill(winnerTo[match], winnerToA[match], lone);
+                    }
+                }
+            }
+        }
+    }
+
+    private int loneOccupant(int match) {
+        if (slotA[match] != 0 && slotB[match] == 0) {
+            return slotA[match];
+        }
+        if (slotB[match] != 0 && slotA[match] == 0) {
+            return slotB[match];
+        }
+        return 0;
+    }
+
+    private void set(int match, boolean a, int entrant) {
+        if (a) {
+            slotA[match] = entrant;
+        } else {
+            slotB[match] = entrant;
+        }
+    }
+
+    // Place an entrant only if the slot is still empty
+    private void fill(int match, boolean a, int entrant) {
+        if (match == NONE) {
+            return;
+        }
+        if (a ? slotA[match] == 0 : slotB[match] == 0) {
+            set(match, a, entrant);
+        }
+    }
+
+    private void ensureEntrant(int entrant) {
+        if (entrant >= realWins.length) {
+            realWins = Arrays.copyOf(realWins, Math.max(entrant + 1, realWins.length * 2));
+        }
+    }
+
+    public int size() {
+        return slotA.length;
+    }
+
+    public int getSlotA(int match) {
+        return slotA[match];
+    }
+
+    public int getSlotB(int match) {
+        return slotB[match];
+    }
+
+    public int getWinner(int match) {
+        return winner[match];
+    }
+
+    public boolean isCompleted(int match) {
+        return completed[match];
+    }
+
+    public int getBracket(int match) {
+        return bracket[match];
+    }
+
+    // Round within the match's own bracket (winners and losers rounds count separately)
+    public int getRound(int match) {
+        return round[match];
+    }
+}
@@ -0,0 +1,180 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo forecast of how a bracket finishes
+ * Plays the rest of a BracketEngine out many times from its current state, picking each winner
+ * from a precomputed win probability table, and counts how often each entrant reaches each
+ * stage, finishes in each placement, and what that placement is worth. Completed matches are
+ * part of the starting state, so each new result only narrows what is left to simulate.
+ *
+ * Simulations run in fixed-size chunks on the calling thread; callers bound how many run at
+ * once (ForecastExecutor). Each chunk has its own engine, random stream and counters, summed
+ * at the end, so a seed gives the same forecast however the chunks are scheduled. Like the engine, everything is primitive arrays indexed
+ * by match and entrant number (from 1).
+ */
+public class BracketSimulator {
+
+    private static final int CHUNK = 2048;
+
+    private final BracketEngine base;
+    private final int entrants;
+    private final double[] winProbability;
+    private final int[] stageOf;
+    private final int stageCount;
+    private final int[] loserPlacement;
+    private final int[] winnerPlacement;
+    private final int[] placementPoints;
+
+    /**
+     * Results, indexed by entrant number (index 0 unused)
+     * @param reach Probability of playing in each stage
+     * @param placement Probability of finishing in each placement (may sum to less than 1:
+     *                  some finishes carry no placement)
+     * @param expectedPoints Mean points earned over all simulations
+     */
+    public record Forecast(int simulations, double[][] reach, double[][] placement, double[] expectedPoints) {
+    }
+
+    /**
+     * @param base Engine holding the current state; not modified
+     * @param entrants Number of entrants (numbered 1..entrants)
+     * @param winProbability (entrants + 1)^2 table: entry a * (entrants + 1) + b is P(a beats b)
+     * @param stageOf Stage of each match, 0..stageCount-1
+     * @param loserPlacement Placement given to the loser of each match, or -1
+     * @param winnerPlacement Placement given to the winner of each match, or -1; overrides any
+     *                        placement the entrant got from a loss
+     * @param placementPoints Points for each placement
+     */
+    public BracketSimulator(BracketEngine base, int entrants, double[] winProbability, int[] stageOf, int stageCount,
+                            int[] loserPlacement, int[] winnerPlacement, int[] placementPoints) {
+        this.base = base;
+        this.entrants = entrants;
+        this.winProbability = winProbability;
+        this.stageOf = stageOf;
+        this.stageCount = stageCount;
+        this.loserPlacement = loserPlacement;
+        this.winnerPlacement = winnerPlacement;
+        this.placementPoints = placementPoints;
+    }
+
+    /**
+     * Win probability table from each entrant's rating and deviation (index 0 unused)
+     */
+    public static double[] winProbabilities(double[] rating, double[] deviation) {
+        int stride = rating.length;
+        double[] table = new double[stride * stride];
+        for (int a = 1; a < stride; a++) {
+            for (int b = 1; b < stride; b++) {
+                table[a * stride + b] = a == b ? 0.5
+                    : RatingEngine.winProbability(rating[a], deviation[a], rating[b], deviation[b]);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Play the bracket out the given number of times
+     * @param seed Seed of the random streams; the same seed and state give the same forecast
+     */
+    public Forecast run(int simulations, long seed) {
+        int chunks = (simulations + CHUNK - 1) / CHUNK;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = root.split();
+        }
+
+        Counts total = IntStream.range(0, chunks)
+            .mapToObj(c -> simulate(Math.min(CHUNK, simulations - c * CHUNK), randoms[c]))
+            .reduce(Counts::add)
+            .orElseGet(Counts::new);
+
+        int placements = placementPoints.length;
+        double[][] reach = new double[entrants + 1][stageCount];
+        double[][] placement = new double[entrants + 1][placements];
+        double[] expectedPoints = new double[entrants + 1];
+        for (int e = 1; e <= entrants && simulations > 0; e++) {
+            for (int s = 0; s < stageCount; s++) {
+                reach[e][s] = (double) total.reach[e * stageCount + s] / simulations;
+            }
+            for (int p = 0; p < placements; p++) {
+                placement[e][p] = (double) total.placed[e * placements + p] / simulations;
+            }
+            expectedPoints[e] = (double) total.points[e] / simulations;
+        }
+        return new Forecast(simulations, reach, placement, expectedPoints);
+    }
+
+    /**
+     * Counters of one chunk of simulations
+     */
+    private class Counts {
+        private final long[] reach = new long[(entrants + 1) * stageCount];
+        private final long[] placed = new long[(entrants + 1) * placementPoints.length];
+        private final long[] points = new long[entrants + 1];
+
+        private Counts add(Counts other) {
+            for (int i = 0; i < reach.length; i++) {
+                reach[i] += other.reach[i];
+            }
+            for (int i = 0; i < placed.length; i++) {
+                placed[i] += other.placed[i];
+            }
+            for (int i = 0; i < points.length; i++) {
+                points[i] += other.points[i];
+            }
+            return this;
+        }
+    }
+
+    private Counts simulate(int runs, SplittableRandom random) {
+        Counts counts = new Counts();
+        BracketEngine engine = base.copy();
+        int[] place = new int[entrants + 1];
+        int stride = entrants + 1;
+        IntBinaryOperator pick = (a, b) -> random.nextDouble() < winProbability[a * stride + b] ? a : b;
+
+        for (int run = 0; run < runs; run++) {
+            engine.resetTo(base);
+            engine.playOut(pick);
+            tally(engine, place, counts);
+        }
+        return counts;
+    }
+
+    private void tally(BracketEngine engine, int[] place, Counts counts) {
+        Arrays.fill(place, -1);
+        int matches = engine.size();
+        for (int match = 0; match < matches; match++) {
+            int a = engine.getSlotA(match);
+            int b = engine.getSlotB(match);
+            if (a != 0) {
+                counts.reach[a * stageCount + stageOf[match]]++;
+            }
+            if (b != 0) {
+                counts.reach[b * stageCount + stageOf[match]]++;
+            }
+            if (loserPlacement[match] >= 0 && engine.isCompleted(match) && a != 0 && b != 0) {
+                place[engine.getWinner(match) == a ? b : a] = loserPlacement[match];
+            }
+        }
+        for (int match = 0; match < matches; match++) {
+            if (winnerPlacement[match] >= 0 && engine.isCompleted(match) && engine.getWinner(match) != 0) {
+                place[engine.getWinner(match)] = winnerPlacement[match];
+            }
+        }
+
+        int placements = placementPoints.length;
+        for (int e = 1; e <= entrants; e++) {
+            if (place[e] >= 0) {
+                counts.placed[e * placements + place[e]]++;
+                counts.points[e] += placementPoints[place[e]];
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Critical-path estimate of when each match can finish at the earliest
+ * Works on the same primitive match graph as the court scheduler, but ignores
+ * court capacity, so every figure is a lower bound on the real finish time.
+ *
+ * Each match keeps two values so "now" can be applied when reading rather than
+ * when computing:
+ *   fixed[i]   earliest finish forced by completed results alone
+ *   pending[i] longest chain of unplayed matches (plus rest) ending at i
+ * The earliest finish at time t is max(fixed[i], t + pending[i]). Recording a
+ * result only changes the matches downstream of it, so complete() walks forward
+ * from that match and stops wherever both values are unchanged.
+ */
+public class CriticalPath {
+
+    // Stand-in for minus infinity that can still have durations added to it
+    private static final long NONE = Long.MIN_VALUE / 4;
+
+    private final int size;
+    private final int[] duration;
+    private final int[][] predecessors;
+    private final int[][] successors;
+    private final int[] position;
+    private final int rest;
+    private final boolean[] completed;
+    private final long[] completedEnd;
+    private final long[] fixed;
+    private final long[] pending;
+
+    /**
+     * @param duration Estimated length of each match in minutes
+     * @param predecessors Matches that must finish before each match can start
+     * @param rest Minutes between a match and any match depending on it
+     * @param completedEnd Finish time of each completed match, or null if it is still to be played
+     *                     (Long.MIN_VALUE for completed matches with no known finish, such as byes)
+     */
+    public CriticalPath(int[] duration, int[][] predecessors, int rest, Long[] completedEnd) {
+        this.size = duration.length;
+        this.duration = duration;
+        this.predecessors = predecessors;
+        this.rest = rest;
+        this.completed = new boolean[size];
+        this.completedEnd = new long[size];
+        this.fixed = new long[size];
+        this.pending = new long[size];
+
+        // Reuse the scheduler's graph helpers for successor lists and ordering
+        MatchScheduler.Problem problem = new MatchScheduler.Problem(size);
+        for (int i = 0; i < size; i++) {
+            problem.setMatch(i, duration[i], predecessors[i], null);
+        }
+        this.successors = MatchScheduler.successors(problem);
+        int[] order = MatchScheduler.topologicalOrder(problem, successors);
+        this.position = new int[size];
+        for (int k = 0; k < size; k++) {
+            position[order[k]] = k;
+        }
+        for (int i = 0; i < size; i++) {
+            if (completedEnd[i] != null) {
+                completed[i] = true;
+                this.completedEnd[i] = Math.max(NONE, completedEnd[i]);
+            }
+        }
+
+        for (int i : order) {
+            recompute(i);
+        }
+    }
+
+    /**
+     * Record that match i finished at the given time and update everything downstream
+     */
+    public void complete(int i, long end) {
+        completed[i] = true;
+        completedEnd[i] = end;
+        propagate(i);
+    }
+
+    /**
+     * Earliest time match i can be finished, as seen at time now
+     * Completed matches return their recorded end, or Long.MIN_VALUE if it is unknown.
+     */
+    public long earliestFinish(int i, long now) {
+        if (completed[i]) {
+            return fixed[i] <= NONE ? Long.MIN_VALUE : fixed[i];
+        }
+        return Math.max(fixed[i], now + pending[i]);
+    }
+
+    public boolean isCompleted(int i) {
+        return completed[i];
+    }
+
+    /**
+     * Chain of unplayed matches that decides when match i can finish, first match first
+     */
+    public List<Integer> criticalPath(int i, long now) {
+        List<Integer> path = new ArrayList<>();
+        int current = i;
+        while (current >= 0 && !completed[current]) {
+            path.add(current);
+            long start = earliestFinish(current, now) - duration[current];
+            int next = -1;
+            for (int p : predecessors[current]) {
+                if (earliestFinish(p, now) + rest == start) {
+                    next = p;
+                    break;
+                }
+            }
+            current = next;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Walk forward from match i in topological order, stopping where nothing changes
+     */
+    private void propagate(int from) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>((a, b) -> Integer.compare(position[a], position[b]));
+        boolean[] queued = new boolean[size];
+        queue.add(from);
+        queued[from] = true;
+
+        while (!queue.isEmpty()) {
+            int i = queue.poll();
+            queued[i] = false;
+            if (recompute(i) || i == from) {
+                for (int s : successors[i]) {
+                    if (!queued[s]) {
+                        queue.add(s);
+                        queued[s] = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Recompute both values of match i from its predecessors
+     * @return Whether either value changed
+     */
+    private boolean recompute(int i) {
+        long newFixed;
+        long newPending;
+        if (completed[i]) {
+            newFixed = completedEnd[i];
+            newPending = NONE;
+        } else {
+            long fixedStart = NONE;
+            long pendingStart = 0;
+            for (int p : predecessors[i]) {
+                fixedStart = Math.max(fixedStart, fixed[p] + rest);
+                pendingStart = Math.max(pendingStart, pending[p] + rest);
+            }
+            newFixed = fixedStart <= NONE / 2 ? NONE : fixedStart + duration[i];
+            newPending = pendingStart + duration[i];
+        }
+
+        boolean changed = newFixed != fixed[i] || newPending != pending[i];
+        fixed[i] = newFixed;
+        pending[i] = newPending;
+        return changed;
+    }
+}
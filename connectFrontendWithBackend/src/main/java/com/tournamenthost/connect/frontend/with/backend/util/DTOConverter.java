@@ -76,6 +76,8 @@ public class DTOConverter {
         dto.setWinnerTeam(convertToTeamDTO(match.getWinnerTeam()));
         dto.setMatchType(match.getMatchType().name());
         dto.setGamesRequiredToWin(match.getGamesRequiredToWin());
+        dto.setScheduledStart(match.getScheduledStart());
+        dto.setCourt(match.getCourt());
 
         // Convert games
         if (match.getGames() != null) {
@@ -0,0 +1,226 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.Random;
+
+/**
+ * Keeps entrants who share an attribute (club, region, doubles partner) apart in a draw
+ * Works on primitive arrays: a draw is positions 0..size-1 (a power of two) holding entrant
+ * numbers from 1, with 0 for a bye. Two positions p and q meet in round
+ * floor(log2(p xor q)), so the cost of a pair sharing a group is 2^(rounds - 1 - round):
+ * a first-round meeting costs half the draw, a meeting in the final costs 1. Minimising the
+ * sum pushes every shared pair as late in the bracket as the draw allows.
+ *
+ * Rather than re-rolling whole draws, this repairs one: each conflicted movable entrant tries
+ * a random sample of swaps with other movable entrants and takes the best improving one.
+ * Swaps only exchange occupied, movable positions, so seeds and the bye layout stay put.
+ * Large groups keep a count of their members in every bracket section (one per match at
+ * each round), so scoring a swap costs O(rounds) per group however big the group is, and a
+ * 1,024 draw repairs in milliseconds.
+ */
+public class DrawSeparator {
+
+    private static final int SAMPLES = 32;
+    private static final int MAX_PASSES = 16;
+    // Groups larger than this keep section counts; smaller ones just scan their members
+    private static final int COUNTED_GROUP = 8;
+
+    private final int[] entrantAt;
+    private final boolean[] movable;
+    private final int[][] groupsOf;
+    private final int[][] members;
+    private final int[][] sectionCounts;
+    private final int[] levelOffset;
+    private final int[] positionOf;
+    private final int rounds;
+
+    /**
+     * @param entrantAt Entrant number at each position (0 for a bye); rearranged in place
+     * @param movable Whether the entrant at each position may be moved (seeds may not)
+     * @param groupsOf Distinct group numbers (0..groupCount-1) of each entrant number; index 0 unused
+     */
+    public DrawSeparator(int[] entrantAt, boolean[] movable, int[][] groupsOf, int groupCount) {
+        this.entrantAt = entrantAt;
+        this.movable = movable;
+        this.groupsOf = groupsOf;
+        this.rounds = Integer.numberOfTrailingZeros(Integer.highestOneBit(Math.max(entrantAt.length, 1)));
+        this.positionOf = new int[groupsOf.length];
+        for (int position = 0; position < entrantAt.length; position++) {
+            positionOf[entrantAt[position]] = position;
+        }
+
+        int[] sizes = new int[groupCount];
+        for (int[] groups : groupsOf) {
+            for (int group : groups) {
+                sizes[group]++;
+            }
+        }
+        this.members = new int[groupCount][];
+        for (int group = 0; group < groupCount; group++) {
+            members[group] = new int[sizes[group]];
+            sizes[group] = 0;
+        }
+        for (int entrant = 1; entrant < groupsOf.length; entrant++) {
+            for (int group : groupsOf[entrant]) {
+                members[group][sizes[group]++] = entrant;
+            }
+        }
+
+        // Section r of a position p is p >> r; level r's counts start at levelOffset[r]
+        this.levelOffset = new int[rounds + 1];
+        for (int r = 1; r <= rounds; r++) {
+            levelOffset[r] = levelOffset[r - 1] + (entrantAt.length >> (r - 1));
+        }
+        this.sectionCounts = new int[groupCount][];
+        for (int group = 0; group < groupCount; group++) {
+            if (members[group].length > COUNTED_GROUP) {
+                sectionCounts[group] = new int[levelOffset[rounds]];
+                for (int entrant : members[group]) {
+                    count(group, positionOf[entrant], 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cost of two positions meeting: 2^(rounds - 1 - meeting round)
+     */
+    public static long penalty(int p, int q, int rounds) {
+        int round = 31 - Integer.numberOfLeadingZeros(p ^ q);
+        return 1L << (rounds - 1 - round);
+    }
+
+    /**
+     * Total cost of every pair sharing a group
+     */
+    public long cost() {
+        long total = 0;
+        for (int entrant = 1; entrant < groupsOf.length; entrant++) {
+            total += cost(entrant, positionOf[entrant]);
+        }
+        return total / 2;
+    }
+
+    /**
+     * Repair the draw until a pass finds no improving swap
+     * @return The remaining cost
+     */
+    public long separate(Random random) {
+        int[] candidates = new int[entrantAt.length];
+        int count = 0;
+        for (int position = 0; position < entrantAt.length; position++) {
+            if (movable[position] && entrantAt[position] != 0) {
+                candidates[count++] = position;
+            }
+        }
+        if (count < 2) {
+            return cost();
+        }
+
+        long total = cost();
+        for (int pass = 0; pass < MAX_PASSES && total > 0; pass++) {
+            long saved = 0;
+            // Visit movable positions in a fresh random order each pass
+            for (int i = count - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = candidates[i];
+                candidates[i] = candidates[j];
+                candidates[j] = swap;
+            }
+            for (int i = 0; i < count; i++) {
+                int p1 = candidates[i];
+                int e1 = entrantAt[p1];
+                if (groupsOf[e1].length == 0) {
+                    continue;
+                }
+                long here1 = cost(e1, p1);
+                if (here1 == 0) {
+                    continue;
+                }
+                long bestDelta = 0;
+                int bestPosition = -1;
+                for (int s = 0; s < SAMPLES; s++) {
+                    int p2 = candidates[random.nextInt(count)];
+                    if (p2 == p1) {
+                        continue;
+                    }
+                    int e2 = entrantAt[p2];
+                    // The pair's own meeting is the same either way, so it's left out of both sides
+                    long pair = shared(e1, e2) * penalty(p1, p2, rounds);
+                    long delta = cost(e1, p2) - (here1 - pair) + cost(e2, p1) - (cost(e2, p2) - pair);
+                    if (delta < bestDelta) {
+                        bestDelta = delta;
+                        bestPosition = p2;
+                    }
+                }
+                if (bestPosition >= 0) {
+                    move(e1, bestPosition);
+                    move(entrantAt[bestPosition], p1);
+                    entrantAt[p1] = entrantAt[bestPosition];
+                    entrantAt[bestPosition] = e1;
+                    saved -= bestDelta;
+                }
+            }
+            total -= saved;
+            // Stop once a pass buys back less than half a percent
+            if (saved * 200 < total) {
+                break;
+            }
+        }
+        return cost();
+    }
+
+    // Cost of entrant if it stood at position, against every other member of its groups
+    private long cost(int entrant, int position) {
+        long total = 0;
+        int home = positionOf[entrant];
+        for (int group : groupsOf[entrant]) {
+            int[] counts = sectionCounts[group];
+            if (counts != null) {
+                for (int r = 0; r < rounds; r++) {
+                    total += (long) counts[levelOffset[r] + ((position >> r) ^ 1)] << (rounds - 1 - r);
+                }
+                // The counts include the entrant itself at its real position
+                if (home != position) {
+                    total -= penalty(position, home, rounds);
+                }
+            } else {
+                for (int other : members[group]) {
+                    int at = positionOf[other];
+                    if (other != entrant && at != position) {
+                        total += penalty(position, at, rounds);
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    // Number of groups two entrants share
+    private int shared(int e1, int e2) {
+        int count = 0;
+        for (int g1 : groupsOf[e1]) {
+            for (int g2 : groupsOf[e2]) {
+                if (g1 == g2) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void move(int entrant, int position) {
+        for (int group : groupsOf[entrant]) {
+            if (sectionCounts[group] != null) {
+                count(group, positionOf[entrant], -1);
+                count(group, position, 1);
+            }
+        }
+        positionOf[entrant] = position;
+    }
+
+    private void count(int group, int position, int change) {
+        for (int r = 0; r < rounds; r++) {
+            sectionCounts[group][levelOffset[r] + (position >> r)] += change;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Court and time-slot scheduler for all matches of a tournament
+ * Works on primitive arrays indexed by match so it has no dependency on entities.
+ * Times are whole minutes on any consistent clock (the service uses epoch minutes).
+ *
+ * Matches are placed one at a time in dependency order (serial list scheduling).
+ * A match becomes ready once every match feeding it has finished; among ready
+ * matches the one that can start earliest goes first, and ties go to the match
+ * with the longest chain of dependent matches behind it so bracket finals are not
+ * starved by early-round filler. Each match then takes whichever court lets it
+ * start soonest, after every participant has had the minimum rest and inside a
+ * session window it fits in completely.
+ *
+ * Matches already played or on court are pinned and only block courts and
+ * players, so rescheduling after each result is a single O(n log n + n * courts)
+ * pass (a few milliseconds for 2,000 matches).
+ */
+public class MatchScheduler {
+
+    /** Start value for matches that do not fit in any session window */
+    public static final long UNSCHEDULED = -1;
+
+    /**
+     * Matches to schedule with their dependencies and participants
+     */
+    public static class Problem {
+        private final int size;
+        private final int[] duration;
+        private final int[][] predecessors;
+        private final int[][] participants;
+        private final long[] pinnedStart;
+        private final long[] pinnedEnd;
+        private final int[] pinnedCourt;
+        private final boolean[] pinned;
+
+        public Problem(int size) {
+            this.size = size;
+            this.duration = new int[size];
+            this.predecessors = new int[size][];
+            this.participants = new int[size][];
+            this.pinnedStart = new long[size];
+            this.pinnedEnd = new long[size];
+            this.pinnedCourt = new int[size];
+            this.pinned = new boolean[size];
+            Arrays.fill(pinnedCourt, -1);
+        }
+
+        /**
+         * Describe match i
+         * @param duration Estimated length in minutes
+         * @param predecessors Matches whose result decides who plays match i
+         * @param participants Dense ids of the players already known to be in match i
+         */
+        public void setMatch(int i, int duration, int[] predecessors, int[] participants) {
+            this.duration[i] = duration;
+            this.predecessors[i] = predecessors != null ? predecessors : new int[0];
+            this.participants[i] = participants != null ? participants : new int[0];
+        }
+
+        /**
+         * Fix match i in place because it has been played or is on court
+         * @param court Court it occupies, or -1 if it never used one (walkovers and byes)
+         */
+        public void pin(int i, long start, long end, int court) {
+            this.pinned[i] = true;
+            this.pinnedStart[i] = start;
+            this.pinnedEnd[i] = end;
+            this.pinnedCourt[i] = court;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int getDuration(int i) {
+            return duration[i];
+        }
+
+        public int[] getPredecessors(int i) {
+            return predecessors[i];
+        }
+
+        public boolean isPinned(int i) {
+            return pinned[i];
+        }
+
+        public long getPinnedEnd(int i) {
+            return pinnedEnd[i];
+        }
+    }
+
+    /**
+     * Result of scheduling: start time and court per match
+     */
+    public static class Schedule {
+        private final long[] start;
+        private final long[] end;
+        private final int[] court;
+
+        public Schedule(long[] start, long[] end, int[] court) {
+            this.start = start;
+            this.end = end;
+            this.court = court;
+        }
+
+        public long getStart(int i) {
+            return start[i];
+        }
+
+        public long getEnd(int i) {
+            return end[i];
+        }
+
+        public int getCourt(int i) {
+            return court[i];
+        }
+
+        public boolean isScheduled(int i) {
+            return start[i] != UNSCHEDULED;
+        }
+    }
+
+    /**
+     * Schedule every unpinned match
+     * @param problem Matches, dependencies and pinned results
+     * @param courts Number of courts available
+     * @param minRest Minimum minutes between two matches of the same player
+     * @param notBefore Nothing new may start earlier than this (usually now)
+     * @param sessions Session windows as {start, end} pairs sorted by start; empty means no limit
+     * @return Start, end and court per match; unschedulable matches get UNSCHEDULED
+     */
+    public static Schedule schedule(Problem problem, int courts, int minRest, long notBefore, long[][] sessions) {
+        if (courts < 1) {
+            throw new IllegalArgumentException("At least one court is required");
+        }
+
+        int n = problem.size;
+        int[][] successors = successors(problem);
+        int[] order = topologicalOrder(problem, successors);
+        long[] tail = longestTail(problem, successors, order);
+
+        long[] start = new long[n];
+        long[] end = new long[n];
+        int[] court = new int[n];
+        Arrays.fill(start, UNSCHEDULED);
+        Arrays.fill(court, -1);
+
+        long[] courtFree = new long[courts];
+        Arrays.fill(courtFree, notBefore);
+        int players = 0;
+        for (int i = 0; i < n; i++) {
+            for (int p : problem.participants[i]) {
+                players = Math.max(players, p + 1);
+            }
+        }
+        long[] playerFree = new long[players];
+        Arrays.fill(playerFree, Long.MIN_VALUE);
+
+        // Pinned matches hold their court and players where they are
+        for (int i = 0; i < n; i++) {
+            if (!problem.pinned[i]) {
+                continue;
+            }
+            start[i] = problem.pinnedStart[i];
+            end[i] = problem.pinnedEnd[i];
+            court[i] = problem.pinnedCourt[i];
+            if (court[i] >= 0 && court[i] < courts) {
+                courtFree[court[i]] = Math.max(courtFree[court[i]], end[i]);
+            }
+            for (int p : problem.participants[i]) {
+                playerFree[p] = Math.max(playerFree[p], end[i]);
+            }
+        }
+
+        // Ready time of each match: latest predecessor finish plus rest for whoever advances
+        long[] ready = new long[n];
+        int[] waiting = new int[n];
+        boolean[] blocked = new boolean[n];
+        PriorityQueue<Integer> queue = new PriorityQueue<>((a, b) -> {
+            if (ready[a] != ready[b]) {
+                return Long.compare(ready[a], ready[b]);
+            }
+            if (tail[a] != tail[b]) {
+                return Long.compare(tail[b], tail[a]);
+            }
+            return Integer.compare(a, b);
+        });
+
+        for (int i = 0; i < n; i++) {
+            ready[i] = notBefore;
+            waiting[i] = problem.predecessors[i].length;
+        }
+        for (int i : order) {
+            if (problem.pinned[i]) {
+                release(i, end[i], minRest, successors, ready, waiting, blocked, problem, queue);
+            } else if (problem.predecessors[i].length == 0) {
+                queue.add(i);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int i = queue.poll();
+            if (blocked[i]) {
+                // A predecessor could not be placed, so neither can this match
+                release(i, Long.MAX_VALUE, minRest, successors, ready, waiting, blocked, problem, queue);
+                continue;
+            }
+
+            long earliest = ready[i];
+            for (int p : problem.participants[i]) {
+                if (playerFree[p] != Long.MIN_VALUE) {
+                    earliest = Math.max(earliest, playerFree[p] + minRest);
+                }
+            }
+
+            int bestCourt = -1;
+            long bestStart = UNSCHEDULED;
+            for (int c = 0; c < courts; c++) {
+                long candidate = fit(Math.max(courtFree[c], earliest), problem.duration[i], sessions);
+                if (candidate != UNSCHEDULED && (bestStart == UNSCHEDULED || candidate < bestStart)) {
+                    bestStart = candidate;
+                    bestCourt = c;
+                }
+            }
+
+            if (bestCourt == -1) {
+                blocked[i] = true;
+                release(i, Long.MAX_VALUE, minRest, successors, ready, waiting, blocked, problem, queue);
+                continue;
+            }
+
+            start[i] = bestStart;
+            end[i] = bestStart + problem.duration[i];
+            court[i] = bestCourt;
+            courtFree[bestCourt] = end[i];
+            for (int p : problem.participants[i]) {
+                playerFree[p] = end[i];
+            }
+            release(i, end[i], minRest, successors, ready, waiting, blocked, problem, queue);
+        }
+
+        return new Schedule(start, end, court);
+    }
+
+    private static void release(int i, long finish, int minRest, int[][] successors, long[] ready, int[] waiting,
+                                boolean[] blocked, Problem problem, PriorityQueue<Integer> queue) {
+        for (int s : successors[i]) {
+            if (finish == Long.MAX_VALUE) {
+                blocked[s] = true;
+            } else {
+                ready[s] = Math.max(ready[s], finish + minRest);
+            }
+            if (--waiting[s] == 0 && !problem.pinned[s]) {
+                queue.add(s);
+            }
+        }
+    }
+
+    /**
+     * Earliest start at or after t where a match of the given length fits inside one session
+     */
+    private static long fit(long t, int duration, long[][] sessions) {
+        if (sessions == null || sessions.length == 0) {
+            return t;
+        }
+        for (long[] session : sessions) {
+            if (session[1] <= t) {
+                continue;
+            }
+            long candidate = Math.max(t, session[0]);
+            if (candidate + duration <= session[1]) {
+                return candidate;
+            }
+        }
+        return UNSCHEDULED;
+    }
+
+    /**
+     * Reverse the predecessor lists
+     */
+    public static int[][] successors(Problem problem) {
+        int n = problem.size;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (int p : problem.predecessors[i]) {
+                counts[p]++;
+            }
+        }
+        int[][] successors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            successors[i] = new int[counts[i]];
+        }
+        int[] filled = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (int p : problem.predecessors[i]) {
+                successors[p][filled[p]++] = i;
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Order matches so every match comes after the matches feeding it (Kahn's algorithm)
+     */
+    public static int[] topologicalOrder(Problem problem, int[][] successors) {
+        int n = problem.size;
+        int[] remaining = new int[n];
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            remaining[i] = problem.predecessors[i].length;
+            if (remaining[i] == 0) {
+                ready.add(i);
+            }
+        }
+
+        int[] order = new int[n];
+        int k = 0;
+        while (!ready.isEmpty()) {
+            int i = ready.poll();
+            order[k++] = i;
+            for (int s : successors[i]) {
+                if (--remaining[s] == 0) {
+                    ready.add(s);
+                }
+            }
+        }
+        if (k != n) {
+            throw new IllegalArgumentException("Match dependencies contain a cycle");
+        }
+        return order;
+    }
+
+    /**
+     * Longest chain of match durations from each match to the end of its bracket, inclusive
+     */
+    private static long[] longestTail(Problem problem, int[][] successors, int[] order) {
+        long[] tail = new long[problem.size];
+        for (int k = order.length - 1; k >= 0; k--) {
+            int i = order[k];
+            long longest = 0;
+            for (int s : successors[i]) {
+                longest = Math.max(longest, tail[s]);
+            }
+            tail[i] = problem.duration[i] + longest;
+        }
+        return tail;
+    }
+}
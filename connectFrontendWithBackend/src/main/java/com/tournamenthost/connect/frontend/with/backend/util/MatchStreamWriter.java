@@ -0,0 +1,178 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournamenthost.connect.frontend.with.backend.DTO.MatchDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.TeamDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.UserDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes matches to an output stream one at a time
+ * JSON is a single array of MatchDTOs, NDJSON one MatchDTO per line and CSV one flat row per
+ * match for spreadsheets. Nothing is held beyond the match being written, and the caller
+ * decides when to flush so the first rows reach the client while the rest are still read.
+ */
+public class MatchStreamWriter {
+
+    public enum Format {
+        JSON("application/json"),
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public static Format parse(String format) {
+            if (format == null || format.isBlank()) {
+                return JSON;
+            }
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown format '" + format + "'; expected json, ndjson or csv");
+            }
+        }
+    }
+
+    static final String CSV_HEADER =
+        "match_id,event_index,event,match_type,side_a,side_b,winner,score,completed,scheduled_start,court\n";
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final Format format;
+    private final OutputStream out;
+    private final ObjectMapper objectMapper;
+    private int written;
+
+    public MatchStreamWriter(Format format, OutputStream out, ObjectMapper objectMapper) {
+        this.format = format;
+        this.out = out;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write the opening bracket or header row
+     */
+    public void start() throws IOException {
+        if (format == Format.JSON) {
+            out.write('[');
+        } else if (format == Format.CSV) {
+            out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Write one match; the event is only used by CSV, whose rows carry no nesting
+     */
+    public void write(MatchDTO match, int eventIndex, String eventName) throws IOException {
+        switch (format) {
+            case JSON -> {
+                if (written > 0) {
+                    out.write(',');
+                }
+                out.write(objectMapper.writeValueAsBytes(match));
+            }
+            case NDJSON -> {
+                out.write(objectMapper.writeValueAsBytes(match));
+                out.write(NEWLINE);
+            }
+            case CSV -> out.write(csvRow(match, eventIndex, eventName).getBytes(StandardCharsets.UTF_8));
+        }
+        written++;
+    }
+
+    /**
+     * Close the array and flush what's left
+     */
+    public void finish() throws IOException {
+        if (format == Format.JSON) {
+            out.write(']');
+        }
+        out.flush();
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    public int getWritten() {
+        return written;
+    }
+
+    static String csvRow(MatchDTO match, int eventIndex, String eventName) {
+        boolean teams = match.getTeamA() != null || match.getTeamB() != null;
+        String sideA = teams ? sideName(match.getTeamA()) : sideName(match.getPlayerA());
+        String sideB = teams ? sideName(match.getTeamB()) : sideName(match.getPlayerB());
+        String winner = teams ? sideName(match.getWinnerTeam()) : sideName(match.getWinner());
+
+        StringBuilder row = new StringBuilder(128);
+        row.append(match.getId()).append(',')
+            .append(eventIndex).append(',')
+            .append(escape(eventName)).append(',')
+            .append(match.getMatchType()).append(',')
+            .append(escape(sideA)).append(',')
+            .append(escape(sideB)).append(',')
+            .append(escape(winner)).append(',')
+            .append(formatScore(match.getScore())).append(',')
+            .append(match.isCompleted()).append(',')
+            .append(match.getScheduledStart() != null ? match.getScheduledStart().toString() : "").append(',')
+            .append(match.getCourt() != null ? match.getCourt().toString() : "")
+            .append('\n');
+        return row.toString();
+    }
+
+    // Score pairs [a1, b1, a2, b2, ...] as "a1-b1 a2-b2"
+    static String formatScore(List<Integer> score) {
+        if (score == null || score.isEmpty()) {
+            return "";
+        }
+        StringBuilder games = new StringBuilder();
+        for (int i = 0; i + 1 < score.size(); i += 2) {
+            if (i > 0) {
+                games.append(' ');
+            }
+            games.append(score.get(i)).append('-').append(score.get(i + 1));
+        }
+        return games.toString();
+    }
+
+    static String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        // Leading formula characters are neutralised so spreadsheets don't evaluate names
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static String sideName(TeamDTO team) {
+        return team != null ? team.getTeamName() : null;
+    }
+
+    private static String sideName(UserDTO user) {
+        if (user == null || user.getUsername() == null) {
+            return null;
+        }
+        return user.getName() != null && !user.getName().isEmpty() ? user.getName() : user.getUsername();
+    }
+}
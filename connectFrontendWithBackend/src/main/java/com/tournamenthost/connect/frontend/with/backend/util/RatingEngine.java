@@ -0,0 +1,214 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Glicko rating engine
+ * Works on primitive arrays indexed by entrant number so it has no dependency on entities.
+ *
+ * Each entrant has a rating and a rating deviation (RD, how unsure the rating is). Results
+ * are applied in rating periods: every entrant who played in a period is updated against
+ * the ratings everyone had at its start, so within one period the updates are independent
+ * and replay() computes them in parallel; periods themselves run in order. rate() applies a
+ * single match as its own period, for incremental updates between replays.
+ *
+ * Doubles use the partners' composite (mean rating, root mean square RD) as the opponent
+ * each side faced; each partner is then updated from their own rating.
+ */
+public class RatingEngine {
+
+    public static final double DEFAULT_RATING = 1500;
+    public static final double DEFAULT_DEVIATION = 350;
+    public static final double MIN_DEVIATION = 30;
+
+    // RD growth per idle day: a settled player (RD 50) is back to unrated after two idle years
+    private static final double C_SQUARED = (DEFAULT_DEVIATION * DEFAULT_DEVIATION - 50 * 50) / 730.0;
+    private static final double Q = Math.log(10) / 400;
+
+    // Marks an entrant who has never played
+    public static final long NEVER = Long.MIN_VALUE;
+
+    private final double[] rating;
+    private final double[] deviation;
+    private final long[] lastDay;
+
+    /**
+     * One match: entrant numbers of each side (one for singles, two for doubles)
+     * @param day Day the match was completed (epoch day); results of the same day form one period
+     */
+    public record Result(int[] sideA, int[] sideB, boolean sideAWon, long day) {
+    }
+
+    /**
+     * Engine with every entrant unrated
+     */
+    public RatingEngine(int entrants) {
+        this.rating = new double[entrants];
+        this.deviation = new double[entrants];
+        this.lastDay = new long[entrants];
+        Arrays.fill(rating, DEFAULT_RATING);
+        Arrays.fill(deviation, DEFAULT_DEVIATION);
+        Arrays.fill(lastDay, NEVER);
+    }
+
+    /**
+     * Engine starting from stored ratings (the arrays are used directly and updated in place)
+     */
+    public RatingEngine(double[] rating, double[] deviation, long[] lastDay) {
+        this.rating = rating;
+        this.deviation = deviation;
+        this.lastDay = lastDay;
+    }
+
+    public double getRating(int entrant) {
+        return rating[entrant];
+    }
+
+    public double getDeviation(int entrant) {
+        return deviation[entrant];
+    }
+
+    public long getLastDay(int entrant) {
+        return lastDay[entrant];
+    }
+
+    /**
+     * Apply one match as its own rating period
+     */
+    public void rate(Result result) {
+        ratePeriod(List.of(result), false);
+    }
+
+    /**
+     * Apply results in chronological order, one rating period per day
+     */
+    public void replay(List<Result> results) {
+        int start = 0;
+        while (start < results.size()) {
+            int end = start + 1;
+            while (end < results.size() && results.get(end).day == results.get(start).day) {
+                end++;
+            }
+            ratePeriod(results.subList(start, end), true);
+            start = end;
+        }
+    }
+
+    /**
+     * Rating minus two deviations: the rating the entrant is very likely to be at least as good as
+     * Used for seeding so a barely-rated newcomer isn't seeded above a proven player.
+     * @param today Epoch day to age the deviation to
+     */
+    public static double conservativeRating(double rating, double deviation, long lastDay, long today) {
+        return rating - 2 * agedDeviation(deviation, lastDay, today);
+    }
+
+    /**
+     * Deviation after the entrant has been idle from lastDay until today
+     */
+    public static double agedDeviation(double deviation, long lastDay, long today) {
+        if (lastDay == NEVER || today <= lastDay) {
+            return deviation;
+        }
+        return Math.min(Math.sqrt(deviation * deviation + C_SQUARED * (today - lastDay)), DEFAULT_DEVIATION);
+    }
+
+    /**
+     * Probability that a side rated rA (deviation rdA) beats one rated rB (deviation rdB)
+     * Both deviations flatten the curve, so an uncertain favourite is less of a favourite.
+     */
+    public static double winProbability(double rA, double rdA, double rB, double rdB) {
+        return 1 / (1 + Math.pow(10, -g(Math.sqrt(rdA * rdA + rdB * rdB)) * (rA - rB) / 400));
+    }
+
+    /**
+     * Glicko update of one entrant over one rating period
+     * @param scores 1 for a win, 0 for a loss, per game played
+     * @return {new rating, new deviation}
+     */
+    public static double[] update(double r, double rd, double[] opponentRating, double[] opponentDeviation,
+                                  double[] scores) {
+        if (scores.length == 0) {
+            return new double[] {r, rd};
+        }
+        double dInverse = 0;
+        double change = 0;
+        for (int j = 0; j < scores.length; j++) {
+            double g = g(opponentDeviation[j]);
+            double expected = 1 / (1 + Math.pow(10, -g * (r - opponentRating[j]) / 400));
+            dInverse += Q * Q * g * g * expected * (1 - expected);
+            change += g * (scores[j] - expected);
+        }
+        double precision = 1 / (rd * rd) + dInverse;
+        double newRating = r + Q / precision * change;
+        double newDeviation = Math.max(Math.sqrt(1 / precision), MIN_DEVIATION);
+        return new double[] {newRating, newDeviation};
+    }
+
+    private static double g(double rd) {
+        return 1 / Math.sqrt(1 + 3 * Q * Q * rd * rd / (Math.PI * Math.PI));
+    }
+
+    private void ratePeriod(List<Result> period, boolean parallel) {
+        long day = period.get(0).day;
+
+        // Games each entrant played this period, against opponents as they stood at its start
+        Map<Integer, List<double[]>> games = new LinkedHashMap<>();
+        for (Result result : period) {
+            double[] compositeA = composite(result.sideA, day);
+            double[] compositeB = composite(result.sideB, day);
+            for (int entrant : result.sideA) {
+                addGame(games, entrant, compositeB, result.sideAWon ? 1 : 0);
+            }
+            for (int entrant : result.sideB) {
+                addGame(games, entrant, compositeA, result.sideAWon ? 0 : 1);
+            }
+        }
+
+        int[] played = games.keySet().stream().mapToInt(Integer::intValue).toArray();
+        double[][] updated = new double[played.length][];
+        IntStream indices = IntStream.range(0, played.length);
+        (parallel ? indices.parallel() : indices).forEach(k -> {
+            int entrant = played[k];
+            List<double[]> opponents = games.get(entrant);
+            double[] opponentRating = new double[opponents.size()];
+            double[] opponentDeviation = new double[opponents.size()];
+            double[] scores = new double[opponents.size()];
+            for (int j = 0; j < opponents.size(); j++) {
+                opponentRating[j] = opponents.get(j)[0];
+                opponentDeviation[j] = opponents.get(j)[1];
+                scores[j] = opponents.get(j)[2];
+            }
+            double rd = agedDeviation(deviation[entrant], lastDay[entrant], day);
+            updated[k] = update(rating[entrant], rd, opponentRating, opponentDeviation, scores);
+        });
+
+        // Only write back once every update has read the period-start ratings
+        for (int k = 0; k < played.length; k++) {
+            rating[played[k]] = updated[k][0];
+            deviation[played[k]] = updated[k][1];
+            lastDay[played[k]] = day;
+        }
+    }
+
+    private void addGame(Map<Integer, List<double[]>> games, int entrant, double[] opponent, double score) {
+        games.computeIfAbsent(entrant, e -> new ArrayList<>()).add(new double[] {opponent[0], opponent[1], score});
+    }
+
+    // {rating, deviation} of a side: the mean rating and root mean square deviation of its players
+    private double[] composite(int[] side, long day) {
+        double ratingSum = 0;
+        double varianceSum = 0;
+        for (int entrant : side) {
+            double rd = agedDeviation(deviation[entrant], lastDay[entrant], day);
+            ratingSum += rating[entrant];
+            varianceSum += rd * rd;
+        }
+        return new double[] {ratingSum / side.length, Math.sqrt(varianceSum / side.length)};
+    }
+}
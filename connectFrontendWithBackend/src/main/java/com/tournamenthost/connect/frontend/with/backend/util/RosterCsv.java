@@ -0,0 +1,79 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Parser for roster imports
+ * Accepts one entrant per line. If the first line is a header, the "username" or
+ * "email" column is used; otherwise the first column is. Usernames are returned
+ * lower-cased, de-duplicated and in file order.
+ */
+public class RosterCsv {
+
+    public static List<String> parseUsernames(String csv) {
+        Set<String> usernames = new LinkedHashSet<>();
+        if (csv == null || csv.isBlank()) {
+            return new ArrayList<>();
+        }
+
+        String[] lines = csv.split("\\r?\\n");
+        int column = 0;
+        int first = 0;
+
+        // Header row: pick the identifying column by name
+        List<String> header = splitLine(lines[0]);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).toLowerCase(Locale.ROOT);
+            if (name.equals("username") || name.equals("email")) {
+                column = i;
+                first = 1;
+                break;
+            }
+        }
+
+        for (int l = first; l < lines.length; l++) {
+            String line = lines[l];
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            List<String> cells = splitLine(line);
+            if (column < cells.size() && !cells.get(column).isEmpty()) {
+                usernames.add(cells.get(column).toLowerCase(Locale.ROOT));
+            }
+        }
+
+        return new ArrayList<>(usernames);
+    }
+
+    /**
+     * Split one CSV line, honouring double-quoted cells
+     */
+    private static List<String> splitLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == ',' && !quoted) {
+                cells.add(cell.toString().trim());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString().trim());
+        return cells;
+    }
+}
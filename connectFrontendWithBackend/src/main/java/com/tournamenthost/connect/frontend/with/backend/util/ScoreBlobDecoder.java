@@ -0,0 +1,53 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads match scores written as Java-serialized lists, the way older schemas stored them
+ * Only lists of integers are accepted; any other class in the stream is rejected before it
+ * is instantiated, so a tampered row can't be used to run code.
+ */
+public class ScoreBlobDecoder {
+
+    private static final ObjectInputFilter LIST_OF_INTEGERS = ObjectInputFilter.Config.createFilter(
+        "java.util.ArrayList;java.util.Arrays$ArrayList;java.util.LinkedList;java.util.CollSer;"
+            + "java.util.ImmutableCollections$*;java.lang.Integer;java.lang.Number;"
+            // Arrays are matched by element type: lists keep their elements in an Object[]
+            + "java.lang.Object;maxdepth=5;maxarray=100000;!*");
+
+    private ScoreBlobDecoder() {
+    }
+
+    /**
+     * Decode one serialized score
+     * @return The points per game, or null for a null or empty blob
+     * @throws IllegalArgumentException If the blob isn't a serialized list of integers
+     */
+    public static List<Integer> decode(byte[] blob) {
+        if (blob == null || blob.length == 0) {
+            return null;
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(blob))) {
+            in.setObjectInputFilter(LIST_OF_INTEGERS);
+            Object value = in.readObject();
+            if (!(value instanceof List<?> list)) {
+                throw new IllegalArgumentException("Score blob holds a " + value.getClass().getName() + ", not a list");
+            }
+            List<Integer> points = new ArrayList<>(list.size());
+            for (Object element : list) {
+                if (element != null && !(element instanceof Integer)) {
+                    throw new IllegalArgumentException("Score blob holds a non-integer value");
+                }
+                points.add((Integer) element);
+            }
+            return points;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalArgumentException("Score blob can't be read: " + e.getMessage(), e);
+        }
+    }
+}
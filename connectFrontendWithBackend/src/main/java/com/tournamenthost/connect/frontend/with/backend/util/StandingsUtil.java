@@ -0,0 +1,176 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SwissStanding;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TeamSchedule;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TiebreakRule;
+
+/**
+ * Utility class for Round Robin and Swiss standings
+ */
+public class StandingsUtil {
+
+    // Primary order: most wins first, then fewest losses
+    private static final Comparator<TeamSchedule> BY_RECORD = Comparator
+        .comparingInt(TeamSchedule::getWins).reversed()
+        .thenComparingInt(TeamSchedule::getLosses);
+
+    // Last resort so equal rows always come back in the same order
+    private static final Comparator<TeamSchedule> BY_TEAM_ID = Comparator
+        .comparing(schedule -> schedule.getTeam().getId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    // Swiss pairing order: score first, then starting rank (pairing numbers)
+    private static final Comparator<SwissStanding> SWISS_PAIRING_ORDER = Comparator
+        .comparingInt(SwissStanding::getScore).reversed()
+        .thenComparingInt(SwissStanding::getInitialRank);
+
+    // Swiss standings order: score, then Buchholz, then starting rank
+    private static final Comparator<SwissStanding> SWISS_STANDINGS_ORDER = Comparator
+        .comparingInt(SwissStanding::getScore).reversed()
+        .thenComparing(Comparator.comparingInt(SwissStanding::getBuchholz).reversed())
+        .thenComparingInt(SwissStanding::getInitialRank);
+
+    /**
+     * Summarize a flattened per-game score into games and points for each side
+     * @param score Score list in the form [a1, b1, a2, b2, ...] (one pair per game)
+     * @return Array of {gamesWonA, gamesWonB, pointsA, pointsB}
+     */
+    public static int[] summarizeScore(List<Integer> score) {
+        int[] summary = new int[4];
+        if (score == null) {
+            return summary;
+        }
+
+        for (int i = 0; i + 1 < score.size(); i += 2) {
+            Integer a = score.get(i);
+            Integer b = score.get(i + 1);
+            if (a == null || b == null) {
+                continue;
+            }
+            if (a > b) {
+                summary[0]++;
+            } else if (b > a) {
+                summary[1]++;
+            }
+            summary[2] += a;
+            summary[3] += b;
+        }
+
+        return summary;
+    }
+
+    /**
+     * Rank standings rows by record, breaking ties with the given cascade
+     * Each rule only separates teams the previous rules left level.
+     * @param schedules Standings rows to rank (typically one pool)
+     * @param tiebreakers Tiebreak rules in priority order
+     * @return New list ordered best first
+     */
+    public static List<TeamSchedule> rank(List<TeamSchedule> schedules, List<TiebreakRule> tiebreakers) {
+        List<TeamSchedule> ordered = new ArrayList<>(schedules);
+        ordered.sort(BY_RECORD);
+
+        List<TeamSchedule> ranked = new ArrayList<>();
+        int start = 0;
+        while (start < ordered.size()) {
+            int end = start + 1;
+            while (end < ordered.size() && BY_RECORD.compare(ordered.get(start), ordered.get(end)) == 0) {
+                end++;
+            }
+            ranked.addAll(breakTie(ordered.subList(start, end), tiebreakers, 0));
+            start = end;
+        }
+
+        return ranked;
+    }
+
+    private static List<TeamSchedule> breakTie(List<TeamSchedule> tied, List<TiebreakRule> tiebreakers, int ruleIndex) {
+        List<TeamSchedule> group = new ArrayList<>(tied);
+        if (group.size() <= 1 || ruleIndex >= tiebreakers.size()) {
+            group.sort(BY_TEAM_ID);
+            return group;
+        }
+
+        TiebreakRule rule = tiebreakers.get(ruleIndex);
+        Map<TeamSchedule, Integer> keys = new HashMap<>();
+        for (TeamSchedule schedule : group) {
+            keys.put(schedule, tiebreakValue(rule, schedule, group));
+        }
+        group.sort((s1, s2) -> Integer.compare(keys.get(s2), keys.get(s1)));
+
+        // Teams still level under this rule move on to the next one
+        List<TeamSchedule> result = new ArrayList<>();
+        int start = 0;
+        while (start < group.size()) {
+            int end = start + 1;
+            while (end < group.size() && keys.get(group.get(end)).equals(keys.get(group.get(start)))) {
+                end++;
+            }
+            result.addAll(breakTie(group.subList(start, end), tiebreakers, ruleIndex + 1));
+            start = end;
+        }
+
+        return result;
+    }
+
+    private static int tiebreakValue(TiebreakRule rule, TeamSchedule schedule, List<TeamSchedule> group) {
+        return switch (rule) {
+            case HEAD_TO_HEAD -> headToHeadWins(schedule, group);
+            case GAME_DIFFERENTIAL -> schedule.getGameDifferential();
+            case POINT_DIFFERENTIAL -> schedule.getPointDifferential();
+        };
+    }
+
+    /**
+     * Count wins against the other tied teams only
+     * Only the tied teams' own matches are visited, never the whole event.
+     */
+    private static int headToHeadWins(TeamSchedule schedule, List<TeamSchedule> group) {
+        Set<Long> groupTeamIds = new HashSet<>();
+        for (TeamSchedule other : group) {
+            groupTeamIds.add(other.getTeam().getId());
+        }
+
+        Team team = schedule.getTeam();
+        int wins = 0;
+        for (Match match : schedule.getMatches()) {
+            if (!match.isCompleted() || match.getWinnerTeam() == null) {
+                continue;
+            }
+            Team opponent = team.getId().equals(match.getTeamA() != null ? match.getTeamA().getId() : null)
+                ? match.getTeamB() : match.getTeamA();
+            if (opponent != null && groupTeamIds.contains(opponent.getId())
+                    && team.getId().equals(match.getWinnerTeam().getId())) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    /**
+     * Order Swiss standings for pairing the next round
+     */
+    public static List<SwissStanding> rankSwissForPairing(List<SwissStanding> standings) {
+        List<SwissStanding> ordered = new ArrayList<>(standings);
+        ordered.sort(SWISS_PAIRING_ORDER);
+        return ordered;
+    }
+
+    /**
+     * Order Swiss standings for display and placements
+     */
+    public static List<SwissStanding> rankSwiss(List<SwissStanding> standings) {
+        List<SwissStanding> ordered = new ArrayList<>(standings);
+        ordered.sort(SWISS_STANDINGS_ORDER);
+        return ordered;
+    }
+}
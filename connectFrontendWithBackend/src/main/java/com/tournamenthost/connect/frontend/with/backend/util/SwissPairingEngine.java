@@ -0,0 +1,188 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Pairing engine for Swiss-system rounds
+ * Works on primitive arrays indexed by rank so it has no dependency on entities.
+ *
+ * Entrants are paired score group by score group using the Dutch fold
+ * (top half of a group against the bottom half). When the fold would cause a
+ * rematch, a depth-first search tries the next closest opponents and floats
+ * entrants down to the next score group, backtracking only as far as needed.
+ * In practice rematch conflicts are rare, so a round is paired in close to a
+ * single pass (O(n^2) worst case per pass, a few milliseconds for 1,000 entrants).
+ */
+public class SwissPairingEngine {
+
+    // Upper bound on backtracking before falling back to allowing a rematch
+    private static final int MAX_SEARCH_STEPS = 200_000;
+
+    /**
+     * Result of pairing one round
+     * sideA[k] plays sideB[k]; bye is the index receiving a bye, or -1
+     */
+    public static class Pairing {
+        private final int[] sideA;
+        private final int[] sideB;
+        private final int bye;
+
+        public Pairing(int[] sideA, int[] sideB, int bye) {
+            this.sideA = sideA;
+            this.sideB = sideB;
+            this.bye = bye;
+        }
+
+        public int[] getSideA() {
+            return sideA;
+        }
+
+        public int[] getSideB() {
+            return sideB;
+        }
+
+        public int getBye() {
+            return bye;
+        }
+
+        public int size() {
+            return sideA.length;
+        }
+    }
+
+    /**
+     * Pair one round
+     * @param scores Score of each entrant; entrants must be indexed in rank order (best first)
+     * @param sideBalance Times played as teamA minus times played as teamB, per entrant
+     * @param hadBye Whether each entrant has already received a bye
+     * @param played played[i] has bit j set when entrants i and j have already met
+     * @return Pairings for the round
+     */
+    public static Pairing pair(int[] scores, int[] sideBalance, boolean[] hadBye, BitSet[] played) {
+        int n = scores.length;
+        boolean[] paired = new boolean[n];
+        int[] partner = new int[n];
+
+        // Odd field: lowest ranked entrant without a bye sits out
+        int bye = -1;
+        if (n % 2 == 1) {
+            for (int i = n - 1; i >= 0; i--) {
+                if (!hadBye[i]) {
+                    bye = i;
+                    break;
+                }
+            }
+            if (bye == -1) {
+                bye = n - 1;
+            }
+        }
+
+        Arrays.fill(partner, -1);
+        if (bye >= 0) {
+            paired[bye] = true;
+        }
+        int[] steps = {0};
+        if (!search(0, scores, played, paired, partner, steps, false)) {
+            // No rematch-free pairing found within budget: accept the fewest forced rematches
+            Arrays.fill(paired, false);
+            Arrays.fill(partner, -1);
+            if (bye >= 0) {
+                paired[bye] = true;
+            }
+            search(0, scores, played, paired, partner, steps, true);
+        }
+
+        int pairs = (n - (bye >= 0 ? 1 : 0)) / 2;
+        int[] sideA = new int[pairs];
+        int[] sideB = new int[pairs];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            int j = partner[i];
+            if (j > i) {
+                // Whoever has played teamA less often takes teamA; higher rank breaks the tie
+                if (sideBalance[j] < sideBalance[i]) {
+                    sideA[k] = j;
+                    sideB[k] = i;
+                } else {
+                    sideA[k] = i;
+                    sideB[k] = j;
+                }
+                k++;
+            }
+        }
+
+        return new Pairing(sideA, sideB, bye);
+    }
+
+    private static boolean search(int from, int[] scores, BitSet[] played, boolean[] paired,
+                                  int[] partner, int[] steps, boolean allowRematch) {
+        // Highest ranked entrant still waiting for an opponent
+        int p = from;
+        while (p < paired.length && paired[p]) {
+            p++;
+        }
+        if (p == paired.length) {
+            return true;
+        }
+        if (!allowRematch && ++steps[0] > MAX_SEARCH_STEPS) {
+            return false;
+        }
+
+        paired[p] = true;
+        for (int q : candidates(p, scores, paired)) {
+            if (!allowRematch && played[p] != null && played[p].get(q)) {
+                continue;
+            }
+            paired[q] = true;
+            partner[p] = q;
+            partner[q] = p;
+            if (search(p + 1, scores, played, paired, partner, steps, allowRematch)) {
+                return true;
+            }
+            paired[q] = false;
+            partner[p] = -1;
+            partner[q] = -1;
+            if (!allowRematch && steps[0] > MAX_SEARCH_STEPS) {
+                break;
+            }
+        }
+        paired[p] = false;
+        return false;
+    }
+
+    /**
+     * Opponents for entrant p in order of preference:
+     * the fold partner in p's score group, the rest of the bottom half,
+     * the top half from the closest upward, then lower score groups in rank order.
+     */
+    private static int[] candidates(int p, int[] scores, boolean[] paired) {
+        // Entrants are in rank order, so p's score group is the run of equal scores after it
+        int[] unpaired = new int[scores.length - p - 1];
+        int count = 0;
+        int sameScore = 0;
+        for (int i = p + 1; i < scores.length; i++) {
+            if (!paired[i]) {
+                unpaired[count++] = i;
+                if (scores[i] == scores[p]) {
+                    sameScore++;
+                }
+            }
+        }
+
+        // Group is p plus sameScore; its fold partner sits at half the group size
+        int fold = Math.max(0, (sameScore + 1) / 2 - 1);
+        int[] ordered = new int[count];
+        int k = 0;
+        for (int i = fold; i < sameScore; i++) {
+            ordered[k++] = unpaired[i];
+        }
+        for (int i = fold - 1; i >= 0; i--) {
+            ordered[k++] = unpaired[i];
+        }
+        for (int i = sameScore; i < count; i++) {
+            ordered[k++] = unpaired[i];
+        }
+        return ordered;
+    }
+}
@@ -1,10 +1,13 @@
 package com.tournamenthost.connect.frontend.with.backend.util;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToLongFunction;
 
 import com.tournamenthost.connect.frontend.with.backend.Model.User;
 import com.tournamenthost.connect.frontend.with.backend.Model.Team;
@@ -19,6 +22,35 @@ public class TournamentUtil {
         return power;
     }
 
+    /**
+     * Split entrants into pools using snake (serpentine) seeding
+     * Entrants must already be ordered strongest first; the order runs
+     * 1..K across the pools, then K..1 back, so pool strengths stay balanced.
+     * @param orderedEntrants Entrants ordered by seed (seeded first, then unseeded)
+     * @param poolCount Number of pools (K)
+     * @return List of pools, each pool listing its entrants in seed order
+     */
+    public static <T> List<List<T>> snakeSeedIntoPools(List<T> orderedEntrants, int poolCount) {
+        if (poolCount < 1) {
+            throw new IllegalArgumentException("Pool count must be at least 1");
+        }
+
+        List<List<T>> pools = new ArrayList<>();
+        for (int i = 0; i < poolCount; i++) {
+            pools.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < orderedEntrants.size(); i++) {
+            int pass = i / poolCount;
+            int offset = i % poolCount;
+            // Even passes go left to right, odd passes come back right to left
+            int pool = (pass % 2 == 0) ? offset : poolCount - 1 - offset;
+            pools.get(pool).add(orderedEntrants.get(i));
+        }
+
+        return pools;
+    }
+
     /**
      * Generate a tournament draw with proper seeding
      * @param players List of all players
@@ -27,116 +59,155 @@ public class TournamentUtil {
      * @return Ordered list of players for bracket placement (playerA, playerB, playerA, playerB, ...)
      */
     public static ArrayList<User> generateDrawUsingSeeding(List<User> players, int matchAmount, Map<Long, Integer> playerSeeds) {
-        int bracketSize = matchAmount * 2;
+        return generateDrawUsingSeeding(players, matchAmount, playerSeeds, Map.of());
+    }
 
-        // Create position array - index represents position in bracket (0 to bracketSize-1)
-        User[] positions = new User[bracketSize];
+    /**
+     * Generate a tournament draw with proper seeding, keeping players who share a separation
+     * key apart for as long as the draw allows
+     * @param separationKeys Map of user ID to keys such as "club:riverside"; seeded players stay put
+     * @return Ordered list of players for bracket placement (playerA, playerB, playerA, playerB, ...)
+     */
+    public static ArrayList<User> generateDrawUsingSeeding(List<User> players, int matchAmount, Map<Long, Integer> playerSeeds,
+                                                           Map<Long, ? extends Collection<String>> separationKeys) {
+        return generateDraw(players, matchAmount, playerSeeds, User::getId, separationKeys, new Random());
+    }
+
+    /**
+     * Generate a tournament draw with proper seeding for teams
+     * @param teams List of all teams
+     * @param matchAmount Number of matches in the first round (bracket size / 2)
+     * @param teamSeeds Map of team ID to seed number (1 = first seed, 2 = second, etc.)
+     * @return Ordered list of teams for bracket placement (teamA, teamB, teamA, teamB, ...)
+     */
+    public static ArrayList<Team> generateDrawUsingTeamSeeding(List<Team> teams, int matchAmount, Map<Long, Integer> teamSeeds) {
+        return generateDrawUsingTeamSeeding(teams, matchAmount, teamSeeds, Map.of());
+    }
+
+    /**
+     * Generate a tournament draw with proper seeding for teams, keeping teams that share a
+     * separation key apart for as long as the draw allows
+     * @param separationKeys Map of team ID to keys such as "club:riverside"; seeded teams stay put
+     * @return Ordered list of teams for bracket placement (teamA, teamB, teamA, teamB, ...)
+     */
+    public static ArrayList<Team> generateDrawUsingTeamSeeding(List<Team> teams, int matchAmount, Map<Long, Integer> teamSeeds,
+                                                               Map<Long, ? extends Collection<String>> separationKeys) {
+        return generateDraw(teams, matchAmount, teamSeeds, Team::getId, separationKeys, new Random());
+    }
 
-        // Get standard seeding positions for power-of-2 bracket
-        int[] seedPositions = generateStandardSeedPositions(bracketSize);
+    /**
+     * Generate a seeded draw for any kind of entrant
+     * Entrants are numbered 1..n in list order and placed as numbers, so the draw itself
+     * only touches int arrays. Seeded entrants go to their standard positions; unseeded ones are
+     * shuffled in so that every match gets one entrant before any gets a second, which spreads
+     * the byes. Every random choice comes from the given Random, so the same seed and inputs
+     * always give the same draw.
+     * @param entrants List of all entrants
+     * @param matchAmount Number of matches in the first round (bracket size / 2, a power of two)
+     * @param entrantSeeds Map of entrant ID to seed number (1 = first seed, 2 = second, etc.)
+     * @param id Entrant ID, as used by entrantSeeds and separationKeys
+     * @param separationKeys Map of entrant ID to keys such as "club:riverside"; seeded entrants stay put
+     * @return Ordered list of entrants for bracket placement (A, B, A, B, ...), null for a bye
+     */
+    public static <T> ArrayList<T> generateDraw(List<T> entrants, int matchAmount, Map<Long, Integer> entrantSeeds,
+                                                ToLongFunction<T> id, Map<Long, ? extends Collection<String>> separationKeys,
+                                                Random random) {
+        int bracketSize = matchAmount * 2;
+        int[] seedPositions = seedPositions(bracketSize);
 
-        // Separate seeded and unseeded players
-        List<User> seededPlayers = new ArrayList<>();
-        List<User> unseededPlayers = new ArrayList<>();
+        // Entrant number at each position (0 = empty / bye)
+        int[] entrantAt = new int[bracketSize];
 
-        // Create inverse map: seed number -> user
-        Map<Integer, User> seedToUser = new HashMap<>();
-        for (User player : players) {
-            Integer seed = playerSeeds.get(player.getId());
+        // Split entrant numbers into seeded and unseeded; a repeated seed goes to the last entrant holding it
+        int[] unseeded = new int[entrants.size()];
+        int unseededCount = 0;
+        int seededCount = 0;
+        for (T entrant : entrants) {
+            Integer seed = entrantSeeds.get(id.applyAsLong(entrant));
+            if (seed != null && seed > 0) {
+                seededCount++;
+            }
+        }
+        int[] entrantOfSeed = new int[seededCount + 1];
+        boolean[] seeded = new boolean[entrants.size() + 1];
+        for (int e = 1; e <= entrants.size(); e++) {
+            Integer seed = entrantSeeds.get(id.applyAsLong(entrants.get(e - 1)));
             if (seed != null && seed > 0) {
-                seededPlayers.add(player);
-                seedToUser.put(seed, player);
+                seeded[e] = true;
+                if (seed <= seededCount) {
+                    entrantOfSeed[seed] = e;
+                }
             } else {
-                unseededPlayers.add(player);
+                unseeded[unseededCount++] = e;
             }
         }
 
-        // Shuffle unseeded players for randomness
-        Collections.shuffle(unseededPlayers);
+        // Shuffle unseeded entrants for randomness
+        shuffle(unseeded, unseededCount, random);
 
-        // If no players are seeded, treat all players as if they were seeded 1-N
-        // and byes as seeds (N+1) to bracketSize
-        if (seededPlayers.isEmpty()) {
-            // Assign unseeded players to seed positions 1 through totalPlayers
-            for (int i = 0; i < unseededPlayers.size(); i++) {
-                int seed = i + 1;
-                int position = seedPositions[seed - 1];
-                positions[position] = unseededPlayers.get(i);
+        if (seededCount == 0) {
+            // With nobody seeded, entrants take seeds 1..n in shuffled order and byes
+            // take the remaining seeds (n+1) to bracketSize
+            for (int i = 0; i < unseededCount; i++) {
+                entrantAt[seedPositions[i]] = unseeded[i];
             }
-
-            // Byes occupy the remaining seed positions (totalPlayers+1 to bracketSize)
-            // These are left as null
         } else {
-            // Place seeded players first
-            for (int seed = 1; seed <= seededPlayers.size(); seed++) {
-                User player = seedToUser.get(seed);
-                if (player != null && seed - 1 < seedPositions.length) {
-                    positions[seedPositions[seed - 1]] = player;
+            // Place seeded entrants first
+            for (int seed = 1; seed <= seededCount; seed++) {
+                if (entrantOfSeed[seed] != 0 && seed - 1 < seedPositions.length) {
+                    entrantAt[seedPositions[seed - 1]] = entrantOfSeed[seed];
                 }
             }
 
-            // Fill remaining positions with unseeded players, then byes
-            int unseededIndex = 0;
-
-            // First, find all empty positions and group by match
-            List<Integer> emptyPositions = new ArrayList<>();
+            // Walking empty positions in seed order, a position whose opponent is already
+            // placed can be a bye; the others need an entrant so no match is left empty
+            int[] needingEntrants = new int[bracketSize];
+            int needingCount = 0;
+            int[] canBeByes = new int[bracketSize];
+            int canBeByeCount = 0;
             for (int seed = 1; seed <= bracketSize; seed++) {
                 int position = seedPositions[seed - 1];
-                if (positions[position] == null) {
-                    emptyPositions.add(position);
+                if (entrantAt[position] == 0) {
+                    if (entrantAt[position ^ 1] != 0) {
+                        canBeByes[canBeByeCount++] = position;
+                    } else {
+                        needingEntrants[needingCount++] = position;
+                    }
                 }
             }
 
-            // Strategy: Ensure each match has at least one player before adding byes
-            // Group empty positions by match (every 2 positions = 1 match)
-            List<Integer> positionsNeedingPlayers = new ArrayList<>();
-            List<Integer> positionsCanBeByes = new ArrayList<>();
-
-            for (int position : emptyPositions) {
-                int matchIndex = position / 2;
-                int opponent = (position % 2 == 0) ? matchIndex * 2 + 1 : matchIndex * 2;
-
-                // Check if this match already has a player
-                if (positions[opponent] != null) {
-                    // Opponent exists, this position can be a bye
-                    positionsCanBeByes.add(position);
-                } else {
-                    // No opponent yet, this position needs a player
-                    positionsNeedingPlayers.add(position);
-                }
-            }
-
-            // Fill positions that need players first
-            for (int position : positionsNeedingPlayers) {
-                if (unseededIndex < unseededPlayers.size()) {
-                    positions[position] = unseededPlayers.get(unseededIndex++);
-                }
+            int unseededIndex = 0;
+            for (int i = 0; i < needingCount && unseededIndex < unseededCount; i++) {
+                entrantAt[needingEntrants[i]] = unseeded[unseededIndex++];
             }
 
             // Shuffle positions that can be byes for random distribution
-            Collections.shuffle(positionsCanBeByes);
-
-            // Fill remaining positions that can be byes
-            for (int position : positionsCanBeByes) {
-                if (unseededIndex < unseededPlayers.size()) {
-                    positions[position] = unseededPlayers.get(unseededIndex++);
-                }
-                // else leave as null (bye)
+            shuffle(canBeByes, canBeByeCount, random);
+            for (int i = 0; i < canBeByeCount && unseededIndex < unseededCount; i++) {
+                entrantAt[canBeByes[i]] = unseeded[unseededIndex++];
             }
         }
 
-        // Convert to answer format (playerA, playerB, playerA, playerB, ...)
-        ArrayList<User> answer = new ArrayList<>();
-        for (int i = 0; i < bracketSize; i++) {
-            answer.add(positions[i]);
+        if (!separationKeys.isEmpty()) {
+            boolean[] movable = new boolean[bracketSize];
+            for (int position = 0; position < bracketSize; position++) {
+                movable[position] = entrantAt[position] != 0 && !seeded[entrantAt[position]];
+            }
+            separate(entrants, entrantAt, movable, id, separationKeys, random);
         }
 
+        // Convert to answer format (A, B, A, B, ...)
+        ArrayList<T> answer = new ArrayList<>(bracketSize);
+        for (int position = 0; position < bracketSize; position++) {
+            answer.add(entrantAt[position] == 0 ? null : entrants.get(entrantAt[position] - 1));
+        }
         return answer;
     }
 
     /**
-     * Generate standard seeding positions for a bracket
-     * Returns array where index is (seed-1) and value is bracket position
+     * Standard seeding positions for a bracket
+     * Returns an array where index is (seed-1) and value is bracket position. Built once per
+     * bracket size and shared, so callers must not modify it.
      *
      * Standard pattern ensures:
      * - Seed 1 vs Seed 8 (positions 0-1)
@@ -144,148 +215,79 @@ public class TournamentUtil {
      * - Seed 2 vs Seed 7 (positions 4-5)
      * - Seed 3 vs Seed 6 (positions 6-7)
      */
-    private static int[] generateStandardSeedPositions(int bracketSize) {
-        int[] positions = new int[bracketSize];
-
-        // Standard tournament seeding using fair pairing
-        // Start with seed 1, then interleave remaining seeds
-        List<Integer> seeds = new ArrayList<>();
-        seeds.add(1);
-        seeds.add(2);
-
-        // Recursively insert seeds to maintain proper spacing
-        while (seeds.size() < bracketSize) {
-            List<Integer> newSeeds = new ArrayList<>();
-            int nextSeed = seeds.size() + 1;
-
-            for (int i = 0; i < seeds.size(); i++) {
-                newSeeds.add(seeds.get(i));
-                newSeeds.add(nextSeed + seeds.size() - 1 - i);
-            }
-            seeds = newSeeds;
+    static int[] seedPositions(int bracketSize) {
+        if (bracketSize < 2 || Integer.bitCount(bracketSize) != 1) {
+            throw new IllegalArgumentException("Bracket size must be a power of two of at least 2, was " + bracketSize);
         }
-
-        // Map each seed to its bracket position
-        for (int i = 0; i < seeds.size(); i++) {
-            int seed = seeds.get(i);
-            positions[seed - 1] = i;
+        int level = Integer.numberOfTrailingZeros(bracketSize);
+        int[] positions = SEED_POSITIONS.get(level);
+        if (positions == null) {
+            positions = generateStandardSeedPositions(bracketSize);
+            // A racing thread builds an identical table, so either one can win
+            SEED_POSITIONS.compareAndSet(level, null, positions);
         }
-
         return positions;
     }
 
+    // Seed tables by log2 of the bracket size
+    private static final AtomicReferenceArray<int[]> SEED_POSITIONS = new AtomicReferenceArray<>(31);
+
     /**
-     * Generate a tournament draw with proper seeding for teams
-     * @param teams List of all teams
-     * @param matchAmount Number of matches in the first round (bracket size / 2)
-     * @param teamSeeds Map of team ID to seed number (1 = first seed, 2 = second, etc.)
-     * @return Ordered list of teams for bracket placement (teamA, teamB, teamA, teamB, ...)
+     * Build the seeding positions for a bracket
+     * Seeds in bracket order start as [1, 2]; each doubling to size n follows the seed at
+     * index i with seed n - i, so the new seeds fill in from the bottom of the list up.
      */
-    public static ArrayList<Team> generateDrawUsingTeamSeeding(List<Team> teams, int matchAmount, Map<Long, Integer> teamSeeds) {
-        int bracketSize = matchAmount * 2;
-
-        // Create position array - index represents position in bracket (0 to bracketSize-1)
-        Team[] positions = new Team[bracketSize];
-
-        // Get standard seeding positions for power-of-2 bracket
-        int[] seedPositions = generateStandardSeedPositions(bracketSize);
-
-        // Separate seeded and unseeded teams
-        List<Team> seededTeams = new ArrayList<>();
-        List<Team> unseededTeams = new ArrayList<>();
-
-        // Create inverse map: seed number -> team
-        Map<Integer, Team> seedToTeam = new HashMap<>();
-        for (Team team : teams) {
-            Integer seed = teamSeeds.get(team.getId());
-            if (seed != null && seed > 0) {
-                seededTeams.add(team);
-                seedToTeam.put(seed, team);
-            } else {
-                unseededTeams.add(team);
+    private static int[] generateStandardSeedPositions(int bracketSize) {
+        int[] seeds = new int[bracketSize];
+        int[] next = new int[bracketSize];
+        seeds[0] = 1;
+        seeds[1] = 2;
+        for (int size = 2; size < bracketSize; size *= 2) {
+            for (int i = 0; i < size; i++) {
+                next[2 * i] = seeds[i];
+                next[2 * i + 1] = 2 * size - i;
             }
+            int[] swap = seeds;
+            seeds = next;
+            next = swap;
         }
 
-        // Shuffle unseeded teams for randomness
-        Collections.shuffle(unseededTeams);
-
-        // If no teams are seeded, treat all teams as if they were seeded 1-N
-        // and byes as seeds (N+1) to bracketSize
-        if (seededTeams.isEmpty()) {
-            // Assign unseeded teams to seed positions 1 through totalTeams
-            for (int i = 0; i < unseededTeams.size(); i++) {
-                int seed = i + 1;
-                int position = seedPositions[seed - 1];
-                positions[position] = unseededTeams.get(i);
-            }
-
-            // Byes occupy the remaining seed positions (totalTeams+1 to bracketSize)
-            // These are left as null
-        } else {
-            // Place seeded teams first
-            for (int seed = 1; seed <= seededTeams.size(); seed++) {
-                Team team = seedToTeam.get(seed);
-                if (team != null && seed - 1 < seedPositions.length) {
-                    positions[seedPositions[seed - 1]] = team;
-                }
-            }
-
-            // Fill remaining positions with unseeded teams, then byes
-            int unseededIndex = 0;
-
-            // First, find all empty positions and group by match
-            List<Integer> emptyPositions = new ArrayList<>();
-            for (int seed = 1; seed <= bracketSize; seed++) {
-                int position = seedPositions[seed - 1];
-                if (positions[position] == null) {
-                    emptyPositions.add(position);
-                }
-            }
-
-            // Strategy: Ensure each match has at least one team before adding byes
-            // Group empty positions by match (every 2 positions = 1 match)
-            List<Integer> positionsNeedingTeams = new ArrayList<>();
-            List<Integer> positionsCanBeByes = new ArrayList<>();
-
-            for (int position : emptyPositions) {
-                int matchIndex = position / 2;
-                int opponent = (position % 2 == 0) ? matchIndex * 2 + 1 : matchIndex * 2;
-
-                // Check if this match already has a team
-                if (positions[opponent] != null) {
-                    // Opponent exists, this position can be a bye
-                    positionsCanBeByes.add(position);
-                } else {
-                    // No opponent yet, this position needs a team
-                    positionsNeedingTeams.add(position);
-                }
-            }
-
-            // Fill positions that need teams first
-            for (int position : positionsNeedingTeams) {
-                if (unseededIndex < unseededTeams.size()) {
-                    positions[position] = unseededTeams.get(unseededIndex++);
-                }
-            }
-
-            // Shuffle positions that can be byes for random distribution
-            Collections.shuffle(positionsCanBeByes);
-
-            // Fill remaining positions that can be byes
-            for (int position : positionsCanBeByes) {
-                if (unseededIndex < unseededTeams.size()) {
-                    positions[position] = unseededTeams.get(unseededIndex++);
-                }
-                // else leave as null (bye)
-            }
+        // Map each seed to its bracket position
+        int[] positions = new int[bracketSize];
+        for (int i = 0; i < bracketSize; i++) {
+            positions[seeds[i] - 1] = i;
         }
+        return positions;
+    }
 
-        // Convert to answer format (teamA, teamB, teamA, teamB, ...)
-        ArrayList<Team> answer = new ArrayList<>();
-        for (int i = 0; i < bracketSize; i++) {
-            answer.add(positions[i]);
+    // Fisher-Yates over the first count elements
+    private static void shuffle(int[] values, int count, Random random) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
         }
+    }
 
-        return answer;
+    /**
+     * Rearrange movable entrants so those sharing a separation key meet as late as possible
+     * Keys are numbered for DrawSeparator, which swaps entrant numbers in place.
+     * @param entrantAt Entrant number (from 1) at each position, 0 for a bye; rearranged in place
+     * @param movable Positions whose entrant may move
+     */
+    private static <T> void separate(List<T> entrants, int[] entrantAt, boolean[] movable, ToLongFunction<T> id,
+                                     Map<Long, ? extends Collection<String>> separationKeys, Random random) {
+        Map<String, Integer> groupNumbers = new HashMap<>();
+        int[][] groupsOf = new int[entrants.size() + 1][];
+        groupsOf[0] = new int[0];
+        for (int e = 1; e <= entrants.size(); e++) {
+            Collection<String> keys = separationKeys.get(id.applyAsLong(entrants.get(e - 1)));
+            groupsOf[e] = keys == null ? new int[0] : keys.stream()
+                .distinct()
+                .mapToInt(key -> groupNumbers.computeIfAbsent(key, k -> groupNumbers.size()))
+                .toArray();
+        }
+        new DrawSeparator(entrantAt, movable, groupsOf, groupNumbers.size()).separate(random);
     }
 }
@@ -0,0 +1,91 @@
+package com.tournamenthost.connect.frontend.with.backend;
+
+import com.tournamenthost.connect.frontend.with.backend.DTO.DrawPreviewDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.UserDTO;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Repository.EventRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.TeamRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.TournamentRepository;
+import com.tournamenthost.connect.frontend.with.backend.Service.TournamentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * A draw preview and the event initialized with its seed must give the same first round
+ * The repositories are mocks holding one unsaved single elim event; the first round that
+ * initializeEvent builds is read back off the event's rounds.
+ */
+public class DrawPreviewTest {
+
+    private static final Long TOURNAMENT = 3L;
+
+    private SingleElimEvent event;
+    private TournamentService tournamentService;
+
+    private void setUp() {
+        Tournament tournament = new Tournament("Open");
+        event = new SingleElimEvent();
+        ReflectionTestUtils.setField(event, "id", 30L);
+        event.setTournament(tournament);
+        tournament.addEvent(event);
+
+        // 11 players in a bracket of 16, four of them seeded and a few sharing clubs
+        Map<Long, Integer> seeds = new HashMap<>();
+        for (long id = 1; id <= 11; id++) {
+            User player = new User("player" + id, "Player " + id, "x");
+            ReflectionTestUtils.setField(player, "id", id);
+            player.setClub(id % 3 == 0 ? "North" : id % 4 == 0 ? "South" : null);
+            event.addPlayer(player);
+            if (id <= 4) {
+                seeds.put(id, (int) id);
+            }
+        }
+        event.setPlayerSeeds(seeds);
+
+        TournamentRepository tournamentRepo = mock(TournamentRepository.class);
+        when(tournamentRepo.findById(TOURNAMENT)).thenReturn(Optional.of(tournament));
+        tournamentService = new TournamentService();
+        ReflectionTestUtils.setField(tournamentService, "tournamentRepo", tournamentRepo);
+        ReflectionTestUtils.setField(tournamentService, "teamRepo", mock(TeamRepository.class));
+        ReflectionTestUtils.setField(tournamentService, "eventRepo", mock(EventRepository.class));
+        ReflectionTestUtils.setField(tournamentService, "matchRepo", mock(MatchRepository.class));
+    }
+
+    @Test
+    public void testPreviewMatchesInitializedDraw() {
+        for (long seed : new long[] {42L, -7L, 123_456_789L}) {
+            setUp();
+            DrawPreviewDTO preview = tournamentService.previewDraws(TOURNAMENT, 0, List.of(seed)).get(0);
+            List<Long> previewed = new ArrayList<>();
+            for (UserDTO player : preview.getPlayers()) {
+                previewed.add(player != null ? player.getId() : null);
+            }
+
+            tournamentService.initializeEvent(TOURNAMENT, 0, seed);
+            List<Long> drawn = new ArrayList<>();
+            for (Match match : event.getRounds().get(0).getMatches()) {
+                drawn.add(match.getPlayerA() != null ? match.getPlayerA().getId() : null);
+                drawn.add(match.getPlayerB() != null ? match.getPlayerB().getId() : null);
+            }
+
+            assertEquals(16, preview.getBracketSize());
+            assertEquals(previewed, drawn, "Draw for seed " + seed);
+            assertEquals(seed, event.getDrawSeed());
+        }
+
+        System.out.println("✓ Draw preview matches initialize test passed!");
+    }
+}
@@ -0,0 +1,111 @@
+package com.tournamenthost.connect.frontend.with.backend;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.BaseEvent;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.EventRegistration;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.EventType;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Repository.EventRegistrationRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.UserRepository;
+import com.tournamenthost.connect.frontend.with.backend.Service.TournamentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Registration-opening burst: 1,000 players sign up at once for a 100 place event
+ * Needs a real Postgres database, so it only runs when DB_URL is set.
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+public class EventCapacityLoadTest {
+
+    @Autowired
+    private TournamentService tournamentService;
+
+    @Autowired
+    private UserRepository userRepo;
+
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepo;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testBurstNeverOverAdmits() throws Exception {
+        int capacity = 100;
+        int players = 1000;
+        String run = Long.toString(System.currentTimeMillis());
+
+        User owner = userRepo.save(new User("owner-" + run + "@load.test", "Owner", "x"));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            users.add(userRepo.save(new User("player-" + run + "-" + i + "@load.test", "Player " + i, "x")));
+        }
+
+        Long tournamentId = inRequest(() -> {
+            Tournament tournament = tournamentService.createTournament("Capacity load " + run, owner,
+                null, new Date(), new Date(), null);
+            tournamentService.addEvent("Burst", EventType.SINGLE_ELIM, tournament.getId());
+            tournamentService.setEventCapacity(tournament.getId(), 0, capacity);
+            return tournament.getId();
+        });
+
+        // Everyone signs up at once, like the moment registration opens
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<EventRegistration>> futures = new ArrayList<>();
+        for (User user : users) {
+            futures.add(pool.submit(() -> {
+                go.await();
+                return inRequest(() -> tournamentService.signUpForEvent(tournamentId, 0, user, null));
+            }));
+        }
+        go.countDown();
+        for (Future<EventRegistration> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        inRequest(() -> {
+            BaseEvent event = tournamentService.getEventsForTournament(tournamentId).get(0);
+            long pending = eventRegistrationRepo.findByEventAndStatus(event,
+                EventRegistration.RegistrationStatus.PENDING).size();
+            long waitlisted = eventRegistrationRepo.findByEventAndStatus(event,
+                EventRegistration.RegistrationStatus.WAITLISTED).size();
+
+            assertEquals(capacity, pending, "Exactly the capacity should hold a place");
+            assertEquals(players - capacity, waitlisted, "Everyone else should be waitlisted");
+            assertEquals(capacity, event.getAdmittedCount());
+            return null;
+        });
+
+        System.out.println("✓ Capacity burst test passed!");
+    }
+
+    /**
+     * Run with one EntityManager bound to the thread, as open-in-view does for a web request
+     */
+    private <T> T inRequest(Supplier<T> work) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            return work.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.tournamenthost.connect.frontend.with.backend;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Service.HeadToHeadService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Head-to-head pairs are stored once, under the lower side key first
+ * Whichever way round a match lists its sides, the pair row and its meeting must come out
+ * the same. The JdbcTemplate is a mock that records the parameters of each statement.
+ */
+public class HeadToHeadKeyTest {
+
+    private HeadToHeadService headToHeadService;
+    private final List<List<Object>> pairWrites = new ArrayList<>();
+    private final List<List<Object>> meetingWrites = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(startsWith("INSERT INTO head_to_head "), eq(Long.class), any(Object[].class)))
+            .thenAnswer(invocation -> {
+                pairWrites.add(Arrays.asList(invocation.getArguments()).subList(2, invocation.getArguments().length));
+                return 77L;
+            });
+        when(jdbcTemplate.update(startsWith("INSERT INTO head_to_head_meetings"), any(Object[].class)))
+            .thenAnswer(invocation -> {
+                meetingWrites.add(Arrays.asList(invocation.getArguments()).subList(1, invocation.getArguments().length));
+                return 1;
+            });
+        headToHeadService = new HeadToHeadService();
+        ReflectionTestUtils.setField(headToHeadService, "jdbcTemplate", jdbcTemplate);
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id, "User " + id, "x");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private Match match(long id) {
+        Match match = new Match();
+        match.setId(id);
+        return match;
+    }
+
+    @Test
+    public void testSidesAreStoredInKeyOrder() {
+        User two = user(2L);
+        User ten = user(10L);
+
+        // Player 10 beats player 2 11-7 11-4, listed both ways round; "10" sorts before "2"
+        headToHeadService.recordMeeting(match(1), List.of(ten), List.of(two), true, new int[] {2, 0, 22, 11});
+        headToHeadService.recordMeeting(match(2), List.of(two), List.of(ten), false, new int[] {0, 2, 11, 22});
+
+        assertEquals(pairWrites.get(0), pairWrites.get(1));
+        assertEquals(List.of("10", "2", false, 1, 0, 2, 0, 22, 11), pairWrites.get(0));
+        assertEquals(meetingWrites.get(0).subList(2, 7), meetingWrites.get(1).subList(2, 7));
+        assertEquals(List.of(77L, 1L, true, 2, 0, 22, 11), meetingWrites.get(0).subList(0, 7));
+
+        System.out.println("✓ Head-to-head key order test passed!");
+    }
+
+    @Test
+    public void testDoublesSideKeys() {
+        // Partners in either order make the same side
+        headToHeadService.recordMeeting(match(3), List.of(user(5L), user(3L)), List.of(user(4L), user(6L)),
+            false, new int[] {1, 2, 30, 31});
+
+        assertEquals(List.of("3+5", "4+6", true, 0, 1, 1, 2, 30, 31), pairWrites.get(0));
+
+        assertThrows(IllegalArgumentException.class,
+            () -> headToHeadService.getHeadToHead(List.of(3L, 5L), List.of(5L, 3L), 5));
+        assertThrows(IllegalArgumentException.class,
+            () -> headToHeadService.getHeadToHead(List.of(1L), List.of(2L), 101));
+
+        System.out.println("✓ Head-to-head doubles key test passed!");
+    }
+}
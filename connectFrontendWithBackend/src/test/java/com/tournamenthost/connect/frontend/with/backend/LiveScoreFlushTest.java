@@ -0,0 +1,167 @@
+package com.tournamenthost.connect.frontend.with.backend;
+
+import com.tournamenthost.connect.frontend.with.backend.DTO.LiveScoreDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.LiveScoreStartRequest;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import com.tournamenthost.connect.frontend.with.backend.Service.LiveScoreService;
+import com.tournamenthost.connect.frontend.with.backend.Service.PageVersionService;
+import com.tournamenthost.connect.frontend.with.backend.Service.TournamentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Write-behind flushes of live scores racing the end of the match
+ * The database is a mock JdbcTemplate that logs each game write when it lands, so the test
+ * can hold a flush mid-write while the final point is scored.
+ */
+public class LiveScoreFlushTest {
+
+    private static final Long TOURNAMENT = 10L;
+    private static final Long MATCH = 7L;
+
+    private LiveScoreService liveScoreService;
+    private TournamentService tournamentService;
+    private JdbcTemplate jdbcTemplate;
+    private User scorer;
+
+    @BeforeEach
+    public void setUp() {
+        liveScoreService = new LiveScoreService();
+        tournamentService = mock(TournamentService.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        MatchRepository matchRepo = mock(MatchRepository.class);
+        ReflectionTestUtils.setField(liveScoreService, "tournamentService", tournamentService);
+        ReflectionTestUtils.setField(liveScoreService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(liveScoreService, "matchRepo", matchRepo);
+        ReflectionTestUtils.setField(liveScoreService, "pageVersionService", mock(PageVersionService.class));
+
+        Match match = new Match();
+        match.setId(MATCH);
+        match.setPlayerA(user(1L));
+        match.setPlayerB(user(2L));
+        match.setGamesRequiredToWin(1);
+        when(matchRepo.findById(MATCH)).thenReturn(Optional.of(match));
+        scorer = user(99L);
+
+        // One game to 3, win by 1
+        liveScoreService.start(TOURNAMENT, MATCH, new LiveScoreStartRequest(3, 1, 0), scorer);
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id, "User " + id, "x");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String describe(Object rows) {
+        StringBuilder games = new StringBuilder("store");
+        for (Object[] row : (List<Object[]>) rows) {
+            games.append(' ').append(row[2]).append('-').append(row[3]);
+        }
+        return games.toString();
+    }
+
+    @Test
+    public void testFinishWaitsForFlushInProgress() throws Exception {
+        liveScoreService.point(TOURNAMENT, MATCH, "A", scorer);
+        liveScoreService.point(TOURNAMENT, MATCH, "A", scorer);
+
+        List<String> landed = new CopyOnWriteArrayList<>();
+        CountDownLatch flushWriting = new CountDownLatch(1);
+        CountDownLatch releaseFlush = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (flushWriting.getCount() > 0) {
+                flushWriting.countDown();
+                releaseFlush.await(5, TimeUnit.SECONDS);
+            }
+            landed.add(describe(invocation.getArgument(1)));
+            return new int[0];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        doAnswer(invocation -> landed.add("result " + invocation.getArgument(3)))
+            .when(tournamentService).recordMatchResult(eq(TOURNAMENT), eq(MATCH), any(), anyList());
+
+        // point -> flush (held mid-write) -> final point, which finishes the match
+        Thread flusher = new Thread(liveScoreService::flush);
+        flusher.start();
+        assertTrue(flushWriting.await(5, TimeUnit.SECONDS));
+        Thread finisher = new Thread(() -> liveScoreService.point(TOURNAMENT, MATCH, "A", scorer));
+        finisher.start();
+        finisher.join(300);
+        assertTrue(finisher.isAlive(), "Finishing should wait for the flush writing the same match");
+        verify(tournamentService, never()).recordMatchResult(any(), any(), any(), anyList());
+
+        releaseFlush.countDown();
+        flusher.join(5000);
+        finisher.join(5000);
+
+        assertEquals(List.of("store 2-0", "store 3-0", "result [3, 0]"), landed);
+
+        System.out.println("✓ Live score flush ordering test passed!");
+    }
+
+    @Test
+    public void testFailedFlushIsRetried() {
+        liveScoreService.point(TOURNAMENT, MATCH, "B", scorer);
+
+        List<String> landed = new CopyOnWriteArrayList<>();
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+            .doAnswer(invocation -> {
+                landed.add(describe(invocation.getArgument(1)));
+                return new int[0];
+            })
+            .when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        liveScoreService.flush();
+        assertTrue(landed.isEmpty());
+        liveScoreService.point(TOURNAMENT, MATCH, "B", scorer);
+        liveScoreService.flush();
+        liveScoreService.flush();
+
+        // The retry writes the game as an upsert, with the score it has by then, exactly once
+        assertEquals(List.of("store 0-2"), landed);
+        verify(jdbcTemplate, times(2)).batchUpdate(contains("ON CONFLICT (match_id, game_number)"), anyList());
+
+        System.out.println("✓ Live score flush retry test passed!");
+    }
+
+    @Test
+    public void testFailedResultKeepsMatchLive() {
+        liveScoreService.point(TOURNAMENT, MATCH, "A", scorer);
+        liveScoreService.point(TOURNAMENT, MATCH, "A", scorer);
+        doThrow(new IllegalStateException("Match is locked"))
+            .doNothing()
+            .when(tournamentService).recordMatchResult(eq(TOURNAMENT), eq(MATCH), any(), anyList());
+
+        assertThrows(IllegalStateException.class, () -> liveScoreService.point(TOURNAMENT, MATCH, "A", scorer));
+
+        // Still live, with the deciding rally taken back so the scorer can award it again
+        LiveScoreDTO kept = liveScoreService.getLiveScore(MATCH);
+        assertNotNull(kept);
+        assertFalse(kept.isCompleted());
+        assertEquals(List.of(List.of(2, 0)), kept.getGames());
+        assertEquals(0, kept.getSideAGamesWon());
+
+        LiveScoreDTO retried = liveScoreService.point(TOURNAMENT, MATCH, "A", scorer);
+        assertTrue(retried.isCompleted());
+        assertNull(liveScoreService.getLiveScore(MATCH));
+        verify(tournamentService, times(2)).recordMatchResult(TOURNAMENT, MATCH, 1L, List.of(3, 0));
+
+        System.out.println("✓ Live score failed result test passed!");
+    }
+}
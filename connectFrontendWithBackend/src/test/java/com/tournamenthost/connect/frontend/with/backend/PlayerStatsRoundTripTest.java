@@ -0,0 +1,160 @@
+package com.tournamenthost.connect.frontend.with.backend;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.League;
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.PlayerStats;
+import com.tournamenthost.connect.frontend.with.backend.Model.Tournament;
+import com.tournamenthost.connect.frontend.with.backend.Model.User;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.SingleElimEvent;
+import com.tournamenthost.connect.frontend.with.backend.Repository.LeagueRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.MatchRepository;
+import com.tournamenthost.connect.frontend.with.backend.Repository.PlayerStatsRepository;
+import com.tournamenthost.connect.frontend.with.backend.Service.HeadToHeadService;
+import com.tournamenthost.connect.frontend.with.backend.Service.PlayerStatsService;
+import com.tournamenthost.connect.frontend.with.backend.Service.RatingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Retracting results and recording them again must leave player stats as if nothing happened
+ * The stats table is an in-memory list behind a mock repository, and every row is compared
+ * in both its career and its league scope.
+ */
+public class PlayerStatsRoundTripTest {
+
+    private PlayerStatsService playerStatsService;
+    private final List<PlayerStats> table = new ArrayList<>();
+    private final List<Match> completed = new ArrayList<>();
+    private Tournament tournament;
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    public void setUp() {
+        tournament = new Tournament("Open");
+        ReflectionTestUtils.setField(tournament, "id", 1L);
+        League league = new League("Club league");
+        ReflectionTestUtils.setField(league, "id", 5L);
+        alice = user(1L);
+        bob = user(2L);
+
+        PlayerStatsRepository playerStatsRepo = mock(PlayerStatsRepository.class);
+        when(playerStatsRepo.findByPlayerIdForUpdate(anyLong())).thenAnswer(invocation -> table.stream()
+            .filter(row -> row.getPlayer().getId().equals(invocation.getArgument(0)))
+            .toList());
+        when(playerStatsRepo.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<PlayerStats> rows = invocation.getArgument(0);
+            for (PlayerStats row : rows) {
+                if (table.stream().noneMatch(existing -> existing == row)) {
+                    table.add(row);
+                }
+            }
+            return new ArrayList<>(rows);
+        });
+        doAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            table.removeIf(row -> ids.contains(row.getPlayer().getId()));
+            return null;
+        }).when(playerStatsRepo).deleteByPlayerIds(anyCollection());
+
+        MatchRepository matchRepo = mock(MatchRepository.class);
+        when(matchRepo.findCompletedForPlayers(anyCollection())).thenAnswer(invocation -> completed.stream()
+            .filter(match -> ((Collection<?>) invocation.getArgument(0)).stream()
+                .anyMatch(id -> id.equals(match.getPlayerA().getId()) || id.equals(match.getPlayerB().getId())))
+            .toList());
+        LeagueRepository leagueRepo = mock(LeagueRepository.class);
+        when(leagueRepo.findByTournamentsContaining(tournament)).thenReturn(List.of(league));
+        league.getTournaments().add(tournament);
+
+        playerStatsService = new PlayerStatsService();
+        ReflectionTestUtils.setField(playerStatsService, "playerStatsRepo", playerStatsRepo);
+        ReflectionTestUtils.setField(playerStatsService, "matchRepo", matchRepo);
+        ReflectionTestUtils.setField(playerStatsService, "leagueRepo", leagueRepo);
+        ReflectionTestUtils.setField(playerStatsService, "headToHeadService", mock(HeadToHeadService.class));
+        ReflectionTestUtils.setField(playerStatsService, "ratingService", mock(RatingService.class));
+    }
+
+    private User user(Long id) {
+        User user = new User("user" + id, "User " + id, "x");
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private Match play(long id, User winner, Integer... score) {
+        SingleElimEvent event = new SingleElimEvent();
+        event.setTournament(tournament);
+        Match match = new Match();
+        match.setId(id);
+        match.setEvent(event);
+        match.setPlayerA(winner == alice ? alice : bob);
+        match.setPlayerB(winner == alice ? bob : alice);
+        match.setWinner(winner);
+        match.setScore(List.of(score));
+        match.setCompleted(true);
+        match.setCompletedAt(LocalDateTime.of(2026, 1, 1, 10, 0).plusHours(id));
+        completed.add(match);
+        playerStatsService.recordResult(match);
+        return match;
+    }
+
+    // Every row as text, in a stable order
+    private Set<String> snapshot() {
+        Set<String> rows = new TreeSet<>();
+        for (PlayerStats row : table) {
+            rows.add(row.getPlayer().getUsername() + "/" + (row.getLeague() == null ? "career" : row.getLeague().getName()) +
+                " W" + row.getMatchesWon() + " L" + row.getMatchesLost() +
+                " games " + row.getGamesWon() + "-" + row.getGamesLost() +
+                " points " + row.getPointsWon() + "-" + row.getPointsLost() +
+                " streak " + row.getCurrentStreak() + " best " + row.getLongestWinStreak() + " titles " + row.getTitles());
+        }
+        return rows;
+    }
+
+    @Test
+    public void testRetractThenRecordRestoresStats() {
+        play(1, alice, 11, 5, 11, 7);
+        play(2, bob, 11, 9, 8, 11, 11, 6);
+        Match last = play(3, alice, 11, 3, 13, 11);
+        Set<String> before = snapshot();
+        assertEquals(4, before.size());
+
+        playerStatsService.retractResults(List.of(last));
+        completed.remove(last);
+        assertNotEquals(before, snapshot());
+
+        completed.add(last);
+        playerStatsService.recordResult(last);
+        assertEquals(before, snapshot());
+
+        System.out.println("✓ Player stats retract/record round trip test passed!");
+    }
+
+    @Test
+    public void testRetractMatchesRebuild() {
+        play(1, alice, 11, 5, 11, 7);
+        Match middle = play(2, bob, 11, 9, 8, 11, 11, 6);
+        play(3, alice, 11, 3, 13, 11);
+
+        // Retracting a result from the middle must agree with rebuilding from the results left
+        playerStatsService.retractResults(List.of(middle));
+        completed.remove(middle);
+        Set<String> retracted = snapshot();
+        playerStatsService.rebuildPlayers(List.of(alice.getId(), bob.getId()));
+        assertEquals(snapshot(), retracted);
+        assertTrue(retracted.contains("user1/career W2 L0 games 4-0 points 46-26 streak 2 best 2 titles 0"), retracted.toString());
+
+        System.out.println("✓ Player stats retract vs rebuild test passed!");
+    }
+}
@@ -0,0 +1,120 @@
+package com.tournamenthost.connect.frontend.with.backend;
+
+import com.tournamenthost.connect.frontend.with.backend.Repository.PlayerRatingRepository;
+import com.tournamenthost.connect.frontend.with.backend.Service.RatingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Startup backfill of player ratings against an empty player_ratings table
+ * Postgres rejects LOCK TABLE outside a transaction block, so every statement the backfill
+ * issues must run inside one. The context here has a stand-in transaction manager and a
+ * JdbcTemplate that records whether a transaction was active for each statement.
+ */
+public class RatingBackfillTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    static class Config {
+        @Bean
+        RatingService ratingService() {
+            return new RatingService();
+        }
+
+        @Bean
+        PlayerRatingRepository playerRatingRepository() {
+            return mock(PlayerRatingRepository.class);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate() {
+            return mock(JdbcTemplate.class);
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+
+    @Test
+    public void testBackfillOnEmptyTableRunsInTransaction() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+            when(context.getBean(PlayerRatingRepository.class).count()).thenReturn(0L);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<String> statementsOutsideTransaction = new ArrayList<>();
+            doAnswer(invocation -> {
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                    statementsOutsideTransaction.add(invocation.getArgument(0));
+                }
+                return null;
+            }).when(jdbcTemplate).execute(anyString());
+            doAnswer(invocation -> {
+                if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                    statementsOutsideTransaction.add(invocation.getArgument(0));
+                }
+                return 0;
+            }).when(jdbcTemplate).update(anyString());
+
+            // Fired the way Spring Boot fires it at the end of startup
+            context.publishEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO));
+
+            verify(jdbcTemplate).execute(startsWith("LOCK TABLE player_ratings"));
+            verify(jdbcTemplate).update("DELETE FROM player_ratings");
+            assertTrue(statementsOutsideTransaction.isEmpty(),
+                "Ran outside a transaction: " + statementsOutsideTransaction);
+        }
+
+        System.out.println("✓ Rating backfill transaction test passed!");
+    }
+
+    @Test
+    public void testBackfillSkipsRatedDatabase() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+            when(context.getBean(PlayerRatingRepository.class).count()).thenReturn(12L);
+            context.publishEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO));
+            // The context itself calls afterPropertiesSet on the template, so only statements are checked
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            verify(jdbcTemplate, never()).execute(anyString());
+            verify(jdbcTemplate, never()).update(anyString());
+        }
+
+        System.out.println("✓ Rating backfill skip test passed!");
+    }
+}
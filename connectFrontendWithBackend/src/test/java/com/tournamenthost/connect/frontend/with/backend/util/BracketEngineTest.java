@@ -0,0 +1,273 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.IntBinaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the in-memory bracket engine: live play, replay from a result log and restore
+ */
+public class BracketEngineTest {
+
+    @Test
+    public void testSingleElimByesAndCorrection() {
+        // Five entrants in an eight draw: matches 0-3, semifinals 4-5, final 6
+        BracketEngine replay = BracketEngine.singleElim(new int[] {4, 2, 1});
+        replay.seed(0, 1, 2);
+        replay.seed(1, 3, 0);
+        replay.seed(2, 4, 0);
+        replay.seed(3, 5, 0);
+        replay.start();
+
+        // Byes go straight through
+        assertTrue(replay.isCompleted(1));
+        assertEquals(3, replay.getSlotB(4));
+        assertEquals(4, replay.getSlotA(5));
+        assertEquals(5, replay.getSlotB(5));
+
+        replay.record(0, 1);
+        replay.record(4, 1);
+        replay.record(5, 4);
+        assertEquals(1, replay.getSlotA(6));
+        assertEquals(4, replay.getSlotB(6));
+
+        // Correcting the first match pulls its winner back out of the semifinal and final
+        replay.correct(0, 2);
+        assertEquals(2, replay.getSlotA(4));
+        assertFalse(replay.isCompleted(4));
+        assertEquals(0, replay.getSlotA(6));
+        assertEquals(4, replay.getSlotB(6), "The other semifinal is untouched");
+
+        assertThrows(IllegalStateException.class, () -> replay.correct(1, 3), "Byes cannot be corrected");
+
+        System.out.println("✓ Single elim replay test passed!");
+    }
+
+    @Test
+    public void testDoubleElimReplayIsDeterministicAndFast() {
+        int entrants = 500;
+        List<int[]> log = new ArrayList<>();
+
+        // Play the whole event once, logging every result
+        BracketEngine live = doubleElim512(entrants);
+        Random random = new Random(42);
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int match = 0; match < live.size(); match++) {
+                if (!live.isCompleted(match) && live.getSlotA(match) != 0 && live.getSlotB(match) != 0) {
+                    int winner = random.nextBoolean() ? live.getSlotA(match) : live.getSlotB(match);
+                    live.record(match, winner);
+                    log.add(new int[] {match, winner});
+                    progress = true;
+                }
+            }
+        }
+        assertTrue(live.isCompleted(510), "Winners final should have been played");
+        assertTrue(log.size() >= 499, "Every real winners bracket match should have been played");
+
+        // Warm up, then time a full rebuild from the draw plus the log
+        for (int i = 0; i < 20; i++) {
+            replay(entrants, log);
+        }
+        long start = System.nanoTime();
+        BracketEngine rebuilt = replay(entrants, log);
+        long micros = (System.nanoTime() - start) / 1000;
+
+        for (int match = 0; match < live.size(); match++) {
+            assertEquals(live.getSlotA(match), rebuilt.getSlotA(match), "Slot A of match " + match);
+            assertEquals(live.getSlotB(match), rebuilt.getSlotB(match), "Slot B of match " + match);
+            assertEquals(live.getWinner(match), rebuilt.getWinner(match), "Winner of match " + match);
+            assertEquals(live.isCompleted(match), rebuilt.isCompleted(match), "Completion of match " + match);
+        }
+        assertTrue(micros < 50_000, "Replaying " + log.size() + " results took " + micros + "us");
+
+        System.out.println("✓ Double elim replay test passed! (" + log.size() + " results in " + micros + "us)");
+    }
+
+    @Test
+    public void testRestoreReverseAndPlacementProperties() {
+        // For many random draws and results: a bracket restored mid-event plays on exactly
+        // like the live one, reversing and re-recording the latest result is a no-op, and
+        // every entrant but the champion ends with a last loss
+        for (int seed = 0; seed < 50; seed++) {
+            Random random = new Random(seed);
+            boolean doubleElim = seed % 5 == 0;
+            int rounds = 2 + random.nextInt(5);
+            int drawSize = 1 << rounds;
+            int entrants = drawSize / 2 + 1 + random.nextInt(drawSize / 2);
+            BracketEngine live = doubleElim ? doubleElim512(500) : singleElim(rounds, entrants);
+            int total = doubleElim ? 500 : entrants;
+
+            int latest = playRandomly(live, random, 0.5);
+            BracketEngine restored = doubleElim ? doubleElimShape() : BracketEngine.singleElim(roundSizes(rounds));
+            for (int match = 0; match < live.size(); match++) {
+                restored.restore(match, live.getSlotA(match), live.getSlotB(match),
+                    live.getWinner(match), live.isCompleted(match));
+            }
+
+            if (latest >= 0) {
+                int winner = live.getWinner(latest);
+                live.reverse(latest);
+                assertFalse(live.isCompleted(latest));
+                live.record(latest, winner);
+            }
+            assertSameState(live, restored, "seed " + seed + " after reverse and re-record");
+
+            long continueSeed = random.nextLong();
+            playRandomly(live, new Random(continueSeed), 1.0);
+            playRandomly(restored, new Random(continueSeed), 1.0);
+            assertSameState(live, restored, "seed " + seed + " after playing on");
+
+            int[] lastLosses = live.lastLosses();
+            int unbeaten = 0;
+            for (int entrant = 1; entrant <= total; entrant++) {
+                if (lastLosses[entrant] < 0) {
+                    unbeaten++;
+                }
+            }
+            // Double elim crowns a winners bracket champion and never plays the losers final off
+            assertTrue(doubleElim ? unbeaten >= 1 : unbeaten == 1, "seed " + seed + ": " + unbeaten + " unbeaten");
+        }
+
+        System.out.println("✓ Bracket engine property test passed!");
+    }
+
+    @Test
+    public void testRoundRobinPairsEveryoneOnce() {
+        BracketEngine engine = BracketEngine.roundRobin(5);
+        assertEquals(10, engine.size());
+
+        Set<String> pairs = new HashSet<>();
+        Map<Integer, Set<Integer>> playingInRound = new HashMap<>();
+        for (int match = 0; match < engine.size(); match++) {
+            int a = engine.getSlotA(match);
+            int b = engine.getSlotB(match);
+            assertTrue(pairs.add(Math.min(a, b) + "-" + Math.max(a, b)), "Pair " + a + "-" + b + " repeated");
+            Set<Integer> playing = playingInRound.computeIfAbsent(engine.getRound(match), r -> new HashSet<>());
+            assertTrue(playing.add(a) && playing.add(b), "Entrant plays twice in round " + engine.getRound(match));
+        }
+        assertEquals(5, playingInRound.size());
+
+        engine.record(0, engine.getSlotA(0));
+        assertEquals(engine.getSlotA(0), engine.getWinner(0));
+
+        System.out.println("✓ Round robin engine test passed!");
+    }
+
+    @Test
+    public void testPlayOutMatchesRecordingOneByOne() {
+        // A one-pass play-out (what simulations use) ends where recording every result does
+        IntBinaryOperator pick = (a, b) -> (a * 7919 + b * 104729) % 3 == 0 ? a : b;
+        for (int seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            BracketEngine recorded = seed % 2 == 0 ? doubleElim512(500) : singleElim(6, 40 + seed);
+            playRandomly(recorded, random, 0.3);
+            BracketEngine played = recorded.copy();
+
+            boolean progress = true;
+            while (progress) {
+                progress = false;
+                for (int match = 0; match < recorded.size(); match++) {
+                    if (!recorded.isCompleted(match) && recorded.getSlotA(match) != 0 && recorded.getSlotB(match) != 0) {
+                        recorded.record(match, pick.applyAsInt(recorded.getSlotA(match), recorded.getSlotB(match)));
+                        progress = true;
+                    }
+                }
+            }
+            played.playOut(pick);
+            assertSameState(recorded, played, "seed " + seed);
+
+            // resetTo brings a reused copy back to the source's state
+            BracketEngine reused = played.copy();
+            reused.resetTo(recorded);
+            assertSameState(recorded, reused, "seed " + seed + " after reset");
+        }
+
+        System.out.println("✓ Bracket play-out test passed!");
+    }
+
+    // Returns the last match recorded
+    private int playRandomly(BracketEngine engine, Random random, double share) {
+        int latest = -1;
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int match = 0; match < engine.size(); match++) {
+                if (!engine.isCompleted(match) && engine.getSlotA(match) != 0 && engine.getSlotB(match) != 0
+                    && random.nextDouble() < share) {
+                    engine.record(match, random.nextBoolean() ? engine.getSlotA(match) : engine.getSlotB(match));
+                    latest = match;
+                    progress = share >= 1.0;
+                }
+            }
+        }
+        return latest;
+    }
+
+    private void assertSameState(BracketEngine expected, BracketEngine actual, String context) {
+        for (int match = 0; match < expected.size(); match++) {
+            assertEquals(expected.getSlotA(match), actual.getSlotA(match), context + ": slot A of match " + match);
+            assertEquals(expected.getSlotB(match), actual.getSlotB(match), context + ": slot B of match " + match);
+            assertEquals(expected.getWinner(match), actual.getWinner(match), context + ": winner of match " + match);
+            assertEquals(expected.isCompleted(match), actual.isCompleted(match), context + ": completion of match " + match);
+        }
+    }
+
+    private BracketEngine singleElim(int rounds, int entrants) {
+        BracketEngine engine = BracketEngine.singleElim(roundSizes(rounds));
+        int firstRound = 1 << (rounds - 1);
+        int byes = 2 * firstRound - entrants;
+        int next = 1;
+        for (int match = 0; match < firstRound; match++) {
+            int a = next++;
+            int b = match < byes ? 0 : next++;
+            engine.seed(match, a, b);
+        }
+        engine.start();
+        return engine;
+    }
+
+    private int[] roundSizes(int rounds) {
+        int[] sizes = new int[rounds];
+        for (int r = 0; r < rounds; r++) {
+            sizes[r] = 1 << (rounds - 1 - r);
+        }
+        return sizes;
+    }
+
+    private BracketEngine replay(int entrants, List<int[]> log) {
+        BracketEngine replay = doubleElim512(entrants);
+        for (int[] entry : log) {
+            replay.record(entry[0], entry[1]);
+        }
+        return replay;
+    }
+
+    /**
+     * Same shape TournamentService builds for a 512 draw: feed-ins from winners rounds 0 and 1
+     */
+    private BracketEngine doubleElim512(int entrants) {
+        BracketEngine replay = doubleElimShape();
+
+        // Seeds 1-12 get byes, as the seeded draw spreads them
+        int next = 1;
+        for (int match = 0; match < 256; match++) {
+            int a = next <= entrants ? next++ : 0;
+            int b = match < 12 || next > entrants ? 0 : next++;
+            replay.seed(match, a, b);
+        }
+        replay.start();
+        return replay;
+    }
+
+    private BracketEngine doubleElimShape() {
+        int[] winners = {256, 128, 64, 32, 16, 8, 4, 2, 1};
+        int[] losers = {128, 64, 64, 32, 16, 8, 4, 2, 1};
+        int[] feedsFrom = {0, -1, 1, -1, -1, -1, -1, -1, -1};
+        return BracketEngine.doubleElim(winners, losers, feedsFrom, 1, true);
+    }
+}
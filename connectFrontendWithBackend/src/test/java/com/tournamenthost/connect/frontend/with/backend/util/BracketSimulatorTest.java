@@ -0,0 +1,78 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Monte Carlo bracket simulator
+ */
+public class BracketSimulatorTest {
+
+    @Test
+    public void testFourDrawMatchesExactOdds() {
+        // 1 v 4 and 2 v 3, then the final
+        BracketEngine engine = BracketEngine.singleElim(new int[] {2, 1});
+        engine.seed(0, 1, 4);
+        engine.seed(1, 2, 3);
+        engine.start();
+
+        double[] rating = {0, 1800, 1650, 1500, 1350};
+        double[] deviation = {0, 60, 80, 350, 100};
+        double[] p = BracketSimulator.winProbabilities(rating, deviation);
+        int[] stageOf = {0, 0, 1};
+        // Placements "1", "2", "3" (indices 0-2) worth 100, 60, 30
+        int[] loserPlacement = {2, 2, 1};
+        int[] winnerPlacement = {-1, -1, 0};
+        int[] points = {100, 60, 30};
+
+        BracketSimulator.Forecast forecast = new BracketSimulator(engine, 4, p, stageOf, 2,
+            loserPlacement, winnerPlacement, points).run(400_000, 11);
+
+        double p14 = p[1 * 5 + 4];
+        double p23 = p[2 * 5 + 3];
+        double champion1 = p14 * (p23 * p[1 * 5 + 2] + (1 - p23) * p[1 * 5 + 3]);
+        assertEquals(p14, forecast.reach()[1][1], 0.005);
+        assertEquals(champion1, forecast.placement()[1][0], 0.005);
+        assertEquals(1.0, forecast.reach()[3][0], 1e-12);
+
+        double total = 0;
+        for (int e = 1; e <= 4; e++) {
+            double placed = 0;
+            for (double probability : forecast.placement()[e]) {
+                placed += probability;
+            }
+            assertEquals(1.0, placed, 1e-9, "Every entrant of a full draw places");
+            total += forecast.expectedPoints()[e];
+        }
+        assertEquals(100 + 60 + 30 + 30, total, 1e-6);
+
+        // Same seed, same answer however the chunks were scheduled
+        BracketSimulator.Forecast again = new BracketSimulator(engine, 4, p, stageOf, 2,
+            loserPlacement, winnerPlacement, points).run(400_000, 11);
+        assertArrayEquals(forecast.expectedPoints(), again.expectedPoints());
+
+        System.out.println("✓ Bracket simulator odds test passed!");
+    }
+
+    @Test
+    public void testCompletedResultsAreFixed() {
+        BracketEngine engine = BracketEngine.singleElim(new int[] {2, 1});
+        engine.seed(0, 1, 4);
+        engine.seed(1, 2, 3);
+        engine.start();
+        // The outsider has already won their first match
+        engine.record(0, 4);
+
+        double[] p = BracketSimulator.winProbabilities(new double[] {0, 2000, 1500, 1500, 1000},
+            new double[] {0, 50, 50, 50, 50});
+        BracketSimulator.Forecast forecast = new BracketSimulator(engine, 4, p, new int[] {0, 0, 1}, 2,
+            new int[] {1, 1, 0}, new int[] {-1, -1, 0}, new int[] {10, 0}).run(10_000, 3);
+
+        assertEquals(0.0, forecast.reach()[1][1], 1e-12);
+        assertEquals(1.0, forecast.reach()[4][1], 1e-12);
+        assertFalse(engine.isCompleted(2), "The base engine is left untouched");
+
+        System.out.println("✓ Bracket simulator state test passed!");
+    }
+}
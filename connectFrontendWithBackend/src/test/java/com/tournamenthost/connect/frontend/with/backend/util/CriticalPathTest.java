@@ -0,0 +1,38 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the critical-path timeline
+ */
+public class CriticalPathTest {
+
+    @Test
+    public void testEarliestFinishAndIncrementalUpdate() {
+        // Four-player bracket: semifinals 0 and 1 (30 and 60 minutes) feed final 2 (30 minutes)
+        int[] duration = {30, 60, 30};
+        int[][] predecessors = {{}, {}, {0, 1}};
+        CriticalPath path = new CriticalPath(duration, predecessors, 10, new Long[3]);
+
+        // At time 0 the long semifinal decides the final: 60 + 10 rest + 30
+        assertEquals(100, path.earliestFinish(2, 0));
+        assertEquals(List.of(1, 2), path.criticalPath(2, 0));
+
+        // The long semifinal finishes early at 40; later, "now" moves on to 45
+        path.complete(1, 40);
+        assertEquals(40, path.earliestFinish(1, 45));
+        assertEquals(115, path.earliestFinish(2, 45), "Final now waits on the other semifinal: 45 + 30 + 10 + 30");
+        assertEquals(List.of(0, 2), path.criticalPath(2, 45));
+
+        // Both semifinals done: the final can start after rest
+        path.complete(0, 50);
+        assertEquals(90, path.earliestFinish(2, 50));
+        assertEquals(List.of(2), path.criticalPath(2, 50));
+
+        System.out.println("✓ Critical path test passed!");
+    }
+}
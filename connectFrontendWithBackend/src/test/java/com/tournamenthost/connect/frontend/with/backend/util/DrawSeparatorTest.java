@@ -0,0 +1,93 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for keeping entrants who share a club or region apart in a draw
+ */
+public class DrawSeparatorTest {
+
+    @Test
+    public void testSeparatesClubsInLargeDraw() {
+        // 1,000 entrants in a 1,024 draw: 40 clubs of 25, 8 regions, 32 seeds at the top of each section
+        int size = 1024;
+        Random random = new Random(5);
+        int[] entrantAt = new int[size];
+        boolean[] movable = new boolean[size];
+        int[][] groupsOf = new int[1001][];
+        groupsOf[0] = new int[0];
+        int next = 1;
+        for (int position = 0; position < size; position++) {
+            // The last 24 odd positions are byes
+            if (position % 2 == 1 && position >= size - 48) {
+                continue;
+            }
+            entrantAt[position] = next;
+            movable[position] = position % 32 != 0;
+            groupsOf[next] = new int[] {random.nextInt(40), 40 + random.nextInt(8)};
+            next++;
+        }
+        int[] before = entrantAt.clone();
+
+        // Warm up, then time one repair
+        for (int i = 0; i < 5; i++) {
+            new DrawSeparator(before.clone(), movable, groupsOf, 48).separate(new Random(i));
+        }
+        DrawSeparator separator = new DrawSeparator(entrantAt, movable, groupsOf, 48);
+        long initial = separator.cost();
+        long start = System.nanoTime();
+        long remaining = separator.separate(new Random(9));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        // A region of 125 can't avoid meeting before the quarterfinals, so the floor is well above zero
+        assertTrue(remaining < initial * 3 / 4, "Cost went from " + initial + " to " + remaining);
+        int sharedInRoundOne = 0;
+        for (int match = 0; match < size / 2; match++) {
+            int a = entrantAt[2 * match];
+            int b = entrantAt[2 * match + 1];
+            if (a != 0 && b != 0 && (groupsOf[a][0] == groupsOf[b][0] || groupsOf[a][1] == groupsOf[b][1])) {
+                sharedInRoundOne++;
+            }
+        }
+        assertEquals(0, sharedInRoundOne, "No clubmates or neighbours should meet in round one");
+
+        // Seeds and byes stay where they were, and nobody is lost
+        boolean[] seen = new boolean[1001];
+        for (int position = 0; position < size; position++) {
+            if (!movable[position] || before[position] == 0) {
+                assertEquals(before[position], entrantAt[position], "Position " + position);
+            }
+            assertFalse(seen[entrantAt[position]] && entrantAt[position] != 0);
+            seen[entrantAt[position]] = true;
+        }
+        assertTrue(millis < 500, "Repair took " + millis + "ms");
+
+        System.out.println("✓ Draw separation test passed! (" + initial + " -> " + remaining + " in " + millis + "ms)");
+    }
+
+    @Test
+    public void testPenaltyFallsWithMeetingRound() {
+        // In an 8 draw, positions 0 and 1 meet in round one, 0 and 2 in the semifinal, 0 and 4 in the final
+        assertEquals(4, DrawSeparator.penalty(0, 1, 3));
+        assertEquals(2, DrawSeparator.penalty(0, 2, 3));
+        assertEquals(1, DrawSeparator.penalty(0, 4, 3));
+        assertEquals(1, DrawSeparator.penalty(3, 7, 3));
+
+        // Two clubmates drawn together are split into opposite halves
+        int[] entrantAt = {1, 2, 3, 4, 5, 6, 7, 8};
+        boolean[] movable = {false, true, true, true, true, true, true, true};
+        int[][] groupsOf = {{}, {0}, {0}, {}, {}, {}, {}, {}, {}};
+        new DrawSeparator(entrantAt, movable, groupsOf, 1).separate(new Random(1));
+        int position = 0;
+        while (entrantAt[position] != 2) {
+            position++;
+        }
+        assertTrue(position >= 4, "Clubmate of seed 1 should be in the other half, was at " + position);
+
+        System.out.println("✓ Draw separation penalty test passed!");
+    }
+}
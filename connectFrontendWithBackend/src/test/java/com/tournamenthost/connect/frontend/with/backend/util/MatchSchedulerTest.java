@@ -0,0 +1,144 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the court and time-slot scheduler
+ */
+public class MatchSchedulerTest {
+
+    @Test
+    public void testRestAndDependenciesAreRespected() {
+        // Two first-round matches feeding a final; player 0 is also in a match from another event
+        MatchScheduler.Problem problem = new MatchScheduler.Problem(4);
+        problem.setMatch(0, 30, null, new int[] {0, 1});
+        problem.setMatch(1, 30, null, new int[] {2, 3});
+        problem.setMatch(2, 30, new int[] {0, 1}, null);
+        problem.setMatch(3, 30, null, new int[] {0, 4});
+
+        MatchScheduler.Schedule schedule = MatchScheduler.schedule(problem, 4, 15, 0, new long[0][]);
+
+        // Player 0 cannot play both first matches at once
+        long first = Math.min(schedule.getStart(0), schedule.getStart(3));
+        long second = Math.max(schedule.getStart(0), schedule.getStart(3));
+        assertTrue(second >= first + 30 + 15, "Player 0 needs 15 minutes of rest");
+
+        // The final waits for both semifinals plus rest
+        long semisDone = Math.max(schedule.getEnd(0), schedule.getEnd(1));
+        assertTrue(schedule.getStart(2) >= semisDone + 15, "Final must wait for the semifinals");
+
+        System.out.println("✓ Scheduler rest and dependency test passed!");
+    }
+
+    @Test
+    public void testMatchesOnlyStartInsideSessions() {
+        MatchScheduler.Problem problem = new MatchScheduler.Problem(3);
+        for (int i = 0; i < 3; i++) {
+            problem.setMatch(i, 60, null, new int[] {i * 2, i * 2 + 1});
+        }
+
+        // One court, a 90 minute morning session and an afternoon session
+        long[][] sessions = {{0, 90}, {300, 600}};
+        MatchScheduler.Schedule schedule = MatchScheduler.schedule(problem, 1, 0, 0, sessions);
+
+        assertEquals(0, schedule.getStart(0));
+        assertEquals(300, schedule.getStart(1), "Second match does not fit in the morning");
+        assertEquals(360, schedule.getStart(2));
+
+        System.out.println("✓ Scheduler session window test passed!");
+    }
+
+    @Test
+    public void testTwoThousandMatchTournament() {
+        // Four 512-draw single elim events (2,044 matches) sharing 32 courts;
+        // half the players are entered in two events
+        int events = 4;
+        int drawSize = 512;
+        int matchesPerEvent = drawSize - 1;
+        int n = events * matchesPerEvent;
+        int courts = 32;
+        int rest = 20;
+        Random random = new Random(7);
+
+        MatchScheduler.Problem problem = new MatchScheduler.Problem(n);
+        int[][] participants = new int[n][];
+        for (int e = 0; e < events; e++) {
+            int base = e * matchesPerEvent;
+            int offset = 0;
+            int roundSize = drawSize / 2;
+            int previousOffset = -1;
+            while (roundSize >= 1) {
+                for (int j = 0; j < roundSize; j++) {
+                    int i = base + offset + j;
+                    if (previousOffset < 0) {
+                        // First round: real players, overlapping between neighbouring events
+                        int playerBase = e * drawSize / 2;
+                        participants[i] = new int[] {playerBase + 2 * j, playerBase + 2 * j + 1};
+                        problem.setMatch(i, 20 + random.nextInt(3) * 20, null, participants[i]);
+                    } else {
+                        int[] feeders = {base + previousOffset + 2 * j, base + previousOffset + 2 * j + 1};
+                        participants[i] = new int[0];
+                        problem.setMatch(i, 40, feeders, null);
+                    }
+                }
+                previousOffset = offset;
+                offset += roundSize;
+                roundSize /= 2;
+            }
+        }
+
+        // Five days of 09:00 - 21:00
+        long day = 24 * 60;
+        long[][] sessions = new long[5][];
+        for (int d = 0; d < 5; d++) {
+            sessions[d] = new long[] {d * day + 9 * 60, d * day + 21 * 60};
+        }
+
+        long start = System.nanoTime();
+        MatchScheduler.Schedule schedule = MatchScheduler.schedule(problem, courts, rest, 0, sessions);
+        long elapsed = System.nanoTime() - start;
+
+        // No two matches on the same court at once
+        Map<Integer, List<Integer>> byCourt = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            assertTrue(schedule.isScheduled(i), "Match " + i + " should fit in five days");
+            byCourt.computeIfAbsent(schedule.getCourt(i), c -> new ArrayList<>()).add(i);
+
+            // Inside a session, after its feeders
+            boolean inSession = false;
+            for (long[] session : sessions) {
+                inSession |= schedule.getStart(i) >= session[0] && schedule.getEnd(i) <= session[1];
+            }
+            assertTrue(inSession, "Match " + i + " must be inside a session");
+            for (int p : problem.getPredecessors(i)) {
+                assertTrue(schedule.getStart(i) >= schedule.getEnd(p) + rest);
+            }
+        }
+        for (List<Integer> onCourt : byCourt.values()) {
+            onCourt.sort(Comparator.comparingLong(schedule::getStart));
+            for (int k = 1; k < onCourt.size(); k++) {
+                assertTrue(schedule.getStart(onCourt.get(k)) >= schedule.getEnd(onCourt.get(k - 1)));
+            }
+        }
+
+        // Players shared between events get their rest
+        Map<Integer, List<Integer>> byPlayer = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            for (int p : participants[i]) {
+                byPlayer.computeIfAbsent(p, x -> new ArrayList<>()).add(i);
+            }
+        }
+        for (List<Integer> played : byPlayer.values()) {
+            played.sort(Comparator.comparingLong(schedule::getStart));
+            for (int k = 1; k < played.size(); k++) {
+                assertTrue(schedule.getStart(played.get(k)) >= schedule.getEnd(played.get(k - 1)) + rest);
+            }
+        }
+
+        System.out.println("✓ Scheduled " + n + " matches on " + courts + " courts in " + (elapsed / 1_000_000) + " ms");
+    }
+}
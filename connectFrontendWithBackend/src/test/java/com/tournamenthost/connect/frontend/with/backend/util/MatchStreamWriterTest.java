@@ -0,0 +1,82 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tournamenthost.connect.frontend.with.backend.DTO.MatchDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.TeamDTO;
+import com.tournamenthost.connect.frontend.with.backend.DTO.UserDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for writing match listings as JSON, NDJSON and CSV
+ */
+public class MatchStreamWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MatchDTO singlesMatch(long id) {
+        MatchDTO match = new MatchDTO();
+        match.setId(id);
+        match.setMatchType("SINGLES");
+        match.setGames(new ArrayList<>());
+        match.setPlayerA(new UserDTO(1L, "alice", "Alice, Jr.", null));
+        match.setPlayerB(new UserDTO(2L, "bob", "", null));
+        match.setScore(List.of(11, 7, 9, 11, 11, 5));
+        match.setCompleted(true);
+        match.setWinner(match.getPlayerA());
+        return match;
+    }
+
+    private String write(MatchStreamWriter.Format format, MatchDTO... matches) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatchStreamWriter writer = new MatchStreamWriter(format, out, objectMapper);
+        writer.start();
+        for (MatchDTO match : matches) {
+            writer.write(match, 0, "Open \"A\"");
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testJsonAndNdjsonFraming() throws Exception {
+        assertEquals("[]", write(MatchStreamWriter.Format.JSON));
+
+        JsonNode array = objectMapper.readTree(write(MatchStreamWriter.Format.JSON, singlesMatch(1), singlesMatch(2)));
+        assertEquals(2, array.size());
+        assertEquals(2, array.get(1).get("id").asLong());
+        assertEquals("alice", array.get(0).get("playerA").get("username").asText());
+
+        String[] lines = write(MatchStreamWriter.Format.NDJSON, singlesMatch(1), singlesMatch(2), singlesMatch(3)).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(3, objectMapper.readTree(lines[2]).get("id").asLong());
+
+        System.out.println("✓ JSON and NDJSON framing test passed!");
+    }
+
+    @Test
+    public void testCsvRows() throws Exception {
+        MatchDTO doubles = new MatchDTO();
+        doubles.setId(7L);
+        doubles.setMatchType("DOUBLES");
+        doubles.setTeamA(new TeamDTO(3L, null, null, "DOUBLES", "=Ann / Ben"));
+        doubles.setTeamB(new TeamDTO(4L, null, null, "DOUBLES", "Cy / TBD"));
+
+        String[] lines = write(MatchStreamWriter.Format.CSV, singlesMatch(1), doubles).split("\n");
+        assertEquals(MatchStreamWriter.CSV_HEADER.trim(), lines[0]);
+        assertEquals("1,0,\"Open \"\"A\"\"\",SINGLES,\"Alice, Jr.\",bob,\"Alice, Jr.\",11-7 9-11 11-5,true,,", lines[1]);
+        assertEquals("7,0,\"Open \"\"A\"\"\",DOUBLES,'=Ann / Ben,Cy / TBD,,,false,,", lines[2]);
+
+        assertThrows(IllegalArgumentException.class, () -> MatchStreamWriter.Format.parse("xml"));
+        assertEquals(MatchStreamWriter.Format.NDJSON, MatchStreamWriter.Format.parse("NDJson"));
+
+        System.out.println("✓ CSV rows test passed!");
+    }
+}
@@ -0,0 +1,125 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Glicko rating engine
+ */
+public class RatingEngineTest {
+
+    @Test
+    public void testMatchesGlickmanExample() {
+        // Worked example from Glickman's Glicko paper: 1500/200 beats 1400/30, loses to 1550/100 and 1700/300
+        double[] updated = RatingEngine.update(1500, 200,
+            new double[] {1400, 1550, 1700}, new double[] {30, 100, 300}, new double[] {1, 0, 0});
+
+        assertEquals(1464, updated[0], 0.5);
+        assertEquals(151.4, updated[1], 0.5);
+
+        System.out.println("✓ Glicko worked example test passed!");
+    }
+
+    @Test
+    public void testReplayIsRatingPeriodsInOrder() {
+        Random random = new Random(7);
+        int entrants = 200;
+        List<RatingEngine.Result> results = new ArrayList<>();
+        for (int day = 0; day < 60; day++) {
+            for (int k = 0; k < 40; k++) {
+                int a = random.nextInt(entrants);
+                int b = random.nextInt(entrants - 1);
+                if (b >= a) {
+                    b++;
+                }
+                results.add(new RatingEngine.Result(new int[] {a}, new int[] {b}, a < b == random.nextInt(4) > 0, day));
+            }
+        }
+
+        RatingEngine parallel = new RatingEngine(entrants);
+        parallel.replay(results);
+
+        // Recompute each day by hand, every update reading the ratings from the start of the day
+        double[] rating = new double[entrants];
+        double[] deviation = new double[entrants];
+        long[] lastDay = new long[entrants];
+        Arrays.fill(rating, RatingEngine.DEFAULT_RATING);
+        Arrays.fill(deviation, RatingEngine.DEFAULT_DEVIATION);
+        Arrays.fill(lastDay, RatingEngine.NEVER);
+        for (int day = 0; day < 60; day++) {
+            double[] aged = new double[entrants];
+            for (int i = 0; i < entrants; i++) {
+                aged[i] = RatingEngine.agedDeviation(deviation[i], lastDay[i], day);
+            }
+            Map<Integer, double[][]> games = new HashMap<>();
+            for (RatingEngine.Result result : results) {
+                if (result.day() != day) {
+                    continue;
+                }
+                int a = result.sideA()[0];
+                int b = result.sideB()[0];
+                addGame(games, a, rating[b], aged[b], result.sideAWon() ? 1 : 0);
+                addGame(games, b, rating[a], aged[a], result.sideAWon() ? 0 : 1);
+            }
+            Map<Integer, double[]> updates = new HashMap<>();
+            for (Map.Entry<Integer, double[][]> entry : games.entrySet()) {
+                int i = entry.getKey();
+                double[][] played = entry.getValue();
+                updates.put(i, RatingEngine.update(rating[i], aged[i], played[0], played[1], played[2]));
+            }
+            for (Map.Entry<Integer, double[]> entry : updates.entrySet()) {
+                rating[entry.getKey()] = entry.getValue()[0];
+                deviation[entry.getKey()] = entry.getValue()[1];
+                lastDay[entry.getKey()] = day;
+            }
+        }
+        for (int i = 0; i < entrants; i++) {
+            assertEquals(rating[i], parallel.getRating(i), 1e-9);
+            assertEquals(deviation[i], parallel.getDeviation(i), 1e-9);
+        }
+
+        // Entrants 0..49 win three games in four against higher numbers, so they end up rated higher
+        double low = 0;
+        double high = 0;
+        for (int i = 0; i < 50; i++) {
+            low += parallel.getRating(i);
+            high += parallel.getRating(entrants - 1 - i);
+        }
+        assertTrue(low > high);
+
+        System.out.println("✓ Rating replay test passed!");
+    }
+
+    @Test
+    public void testDoublesMovesBothPartners() {
+        RatingEngine engine = new RatingEngine(4);
+        engine.rate(new RatingEngine.Result(new int[] {0, 1}, new int[] {2, 3}, true, 0));
+
+        assertTrue(engine.getRating(0) > RatingEngine.DEFAULT_RATING);
+        assertTrue(engine.getRating(1) > RatingEngine.DEFAULT_RATING);
+        assertTrue(engine.getRating(2) < RatingEngine.DEFAULT_RATING);
+        assertTrue(engine.getRating(3) < RatingEngine.DEFAULT_RATING);
+        assertTrue(engine.getDeviation(0) < RatingEngine.DEFAULT_DEVIATION);
+
+        // An idle player's deviation grows back, capped at the unrated value
+        double rd = engine.getDeviation(0);
+        assertTrue(RatingEngine.agedDeviation(rd, 0, 30) > rd);
+        assertEquals(RatingEngine.DEFAULT_DEVIATION, RatingEngine.agedDeviation(rd, 0, 10_000), 1e-9);
+
+        System.out.println("✓ Doubles rating test passed!");
+    }
+
+    private void addGame(Map<Integer, double[][]> games, int entrant, double rating, double deviation, double score) {
+        double[][] existing = games.getOrDefault(entrant, new double[][] {{}, {}, {}});
+        double[][] grown = new double[3][];
+        double[] values = {rating, deviation, score};
+        for (int c = 0; c < 3; c++) {
+            grown[c] = Arrays.copyOf(existing[c], existing[c].length + 1);
+            grown[c][existing[c].length] = values[c];
+        }
+        games.put(entrant, grown);
+    }
+}
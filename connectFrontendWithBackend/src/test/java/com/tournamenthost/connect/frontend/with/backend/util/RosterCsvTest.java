@@ -0,0 +1,36 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for roster CSV parsing
+ */
+public class RosterCsvTest {
+
+    @Test
+    public void testHeaderSelectsEmailColumn() {
+        String csv = "name,email,club\n"
+            + "\"Smith, Ann\",Ann@Example.com,North\n"
+            + "\n"
+            + "Bob Lee,bob@example.com,South\n"
+            + "Ann again,ann@example.com,North\n";
+
+        assertEquals(List.of("ann@example.com", "bob@example.com"), RosterCsv.parseUsernames(csv));
+
+        System.out.println("✓ Roster CSV header test passed!");
+    }
+
+    @Test
+    public void testPlainListWithoutHeader() {
+        String csv = "carol@example.com\r\n# late entry\r\ndave@example.com\r\n";
+
+        assertEquals(List.of("carol@example.com", "dave@example.com"), RosterCsv.parseUsernames(csv));
+        assertTrue(RosterCsv.parseUsernames("  ").isEmpty());
+
+        System.out.println("✓ Roster CSV plain list test passed!");
+    }
+}
@@ -0,0 +1,53 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for reading scores stored as serialized Java lists
+ */
+public class ScoreBlobDecoderTest {
+
+    private byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testDecodesSerializedLists() throws IOException {
+        assertEquals(List.of(21, 15, 18, 21), ScoreBlobDecoder.decode(serialize(new ArrayList<>(List.of(21, 15, 18, 21)))));
+        assertEquals(List.of(11, 9), ScoreBlobDecoder.decode(serialize(List.of(11, 9))));
+        assertEquals(List.of(6, 4), ScoreBlobDecoder.decode(serialize(Arrays.asList(6, 4))));
+        assertNull(ScoreBlobDecoder.decode(null));
+        assertNull(ScoreBlobDecoder.decode(new byte[0]));
+
+        System.out.println("✓ Score blob decode test passed!");
+    }
+
+    @Test
+    public void testRejectsAnythingElse() throws IOException {
+        // Classes outside the allow list are refused before they are instantiated
+        byte[] map = serialize(new HashMap<>(Map.of("a", 1)));
+        assertThrows(IllegalArgumentException.class, () -> ScoreBlobDecoder.decode(map));
+
+        byte[] custom = serialize(new ArrayList<>(List.of(new Payload())));
+        assertThrows(IllegalArgumentException.class, () -> ScoreBlobDecoder.decode(custom));
+
+        assertThrows(IllegalArgumentException.class, () -> ScoreBlobDecoder.decode(new byte[] {1, 2, 3}));
+
+        System.out.println("✓ Score blob rejection test passed!");
+    }
+
+    private static class Payload implements Serializable {
+    }
+}
@@ -0,0 +1,73 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import com.tournamenthost.connect.frontend.with.backend.Model.Match;
+import com.tournamenthost.connect.frontend.with.backend.Model.Team;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TeamSchedule;
+import com.tournamenthost.connect.frontend.with.backend.Model.Event.TiebreakRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for Round Robin standings ranking
+ */
+public class StandingsUtilTest {
+
+    private Team team(long id) {
+        Team team = new Team();
+        team.setId(id);
+        return team;
+    }
+
+    private Match completedMatch(Team a, Team b, Team winner) {
+        Match match = new Match();
+        match.setTeamA(a);
+        match.setTeamB(b);
+        match.setWinnerTeam(winner);
+        match.setCompleted(true);
+        return match;
+    }
+
+    @Test
+    public void testSummarizeScore() {
+        // 21-15, 18-21, 21-19: team A wins 2 games to 1
+        int[] summary = StandingsUtil.summarizeScore(List.of(21, 15, 18, 21, 21, 19));
+
+        assertArrayEquals(new int[] {2, 1, 60, 55}, summary);
+        assertArrayEquals(new int[] {0, 0, 0, 0}, StandingsUtil.summarizeScore(null));
+    }
+
+    @Test
+    public void testTiebreakCascade() {
+        Team t1 = team(1L);
+        Team t2 = team(2L);
+        Team t3 = team(3L);
+        TeamSchedule s1 = new TeamSchedule(t1, null);
+        TeamSchedule s2 = new TeamSchedule(t2, null);
+        TeamSchedule s3 = new TeamSchedule(t3, null);
+
+        // Team 2 beat team 1 head to head, but team 1 has the better game differential
+        Match m12 = completedMatch(t1, t2, t2);
+        s1.addMatch(m12);
+        s2.addMatch(m12);
+        s1.recordResult(true, 4, 0, 84, 40);
+        s1.recordResult(false, 1, 2, 55, 60);
+        s2.recordResult(true, 2, 1, 60, 55);
+        s2.recordResult(false, 0, 2, 30, 42);
+        s3.recordResult(false, 0, 2, 20, 42);
+
+        // Head to head first: team 2 ahead of team 1
+        List<TeamSchedule> byHeadToHead = StandingsUtil.rank(List.of(s1, s2, s3),
+            List.of(TiebreakRule.HEAD_TO_HEAD, TiebreakRule.GAME_DIFFERENTIAL));
+        assertEquals(List.of(s2, s1, s3), byHeadToHead);
+
+        // Game differential first: team 1 ahead of team 2
+        List<TeamSchedule> byGames = StandingsUtil.rank(List.of(s1, s2, s3),
+            List.of(TiebreakRule.GAME_DIFFERENTIAL, TiebreakRule.HEAD_TO_HEAD));
+        assertEquals(List.of(s1, s2, s3), byGames);
+
+        System.out.println("✓ Tiebreak cascade test passed!");
+    }
+}
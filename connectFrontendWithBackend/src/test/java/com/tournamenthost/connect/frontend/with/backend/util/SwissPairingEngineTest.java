@@ -0,0 +1,103 @@
+package com.tournamenthost.connect.frontend.with.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Swiss pairing engine
+ */
+public class SwissPairingEngineTest {
+
+    @Test
+    public void testFirstRoundFoldsTopHalfAgainstBottomHalf() {
+        int n = 8;
+        BitSet[] played = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            played[i] = new BitSet(n);
+        }
+
+        SwissPairingEngine.Pairing pairing = SwissPairingEngine.pair(new int[n], new int[n], new boolean[n], played);
+
+        // Ranks 1-4 meet ranks 5-8: 1v5, 2v6, 3v7, 4v8
+        assertEquals(4, pairing.size());
+        assertEquals(-1, pairing.getBye());
+        for (int k = 0; k < 4; k++) {
+            assertEquals(k, pairing.getSideA()[k]);
+            assertEquals(k + 4, pairing.getSideB()[k]);
+        }
+
+        System.out.println("✓ Swiss first round fold test passed!");
+    }
+
+    @Test
+    public void testThousandPlayersNoRematches() {
+        int n = 1001;
+        int rounds = 10;
+        Random random = new Random(42);
+
+        // Entrants are tracked by id; each round they are re-ranked by score
+        int[] score = new int[n];
+        int[] sideBalance = new int[n];
+        boolean[] hadBye = new boolean[n];
+        BitSet[] met = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            met[i] = new BitSet(n);
+        }
+
+        long totalNanos = 0;
+        for (int round = 0; round < rounds; round++) {
+            Integer[] ranked = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                ranked[i] = i;
+            }
+            Arrays.sort(ranked, (a, b) -> score[b] != score[a] ? Integer.compare(score[b], score[a]) : Integer.compare(a, b));
+
+            int[] rankedScores = new int[n];
+            int[] rankedSides = new int[n];
+            boolean[] rankedByes = new boolean[n];
+            BitSet[] rankedPlayed = new BitSet[n];
+            int[] rankOf = new int[n];
+            for (int r = 0; r < n; r++) {
+                rankOf[ranked[r]] = r;
+            }
+            for (int r = 0; r < n; r++) {
+                int id = ranked[r];
+                rankedScores[r] = score[id];
+                rankedSides[r] = sideBalance[id];
+                rankedByes[r] = hadBye[id];
+                rankedPlayed[r] = new BitSet(n);
+                for (int opp = met[id].nextSetBit(0); opp >= 0; opp = met[id].nextSetBit(opp + 1)) {
+                    rankedPlayed[r].set(rankOf[opp]);
+                }
+            }
+
+            long start = System.nanoTime();
+            SwissPairingEngine.Pairing pairing = SwissPairingEngine.pair(rankedScores, rankedSides, rankedByes, rankedPlayed);
+            totalNanos += System.nanoTime() - start;
+
+            assertEquals(n / 2, pairing.size());
+            assertTrue(pairing.getBye() >= 0, "Odd field should produce a bye");
+
+            int byeId = ranked[pairing.getBye()];
+            assertFalse(hadBye[byeId], "No entrant should get a second bye");
+            hadBye[byeId] = true;
+            score[byeId]++;
+
+            for (int k = 0; k < pairing.size(); k++) {
+                int a = ranked[pairing.getSideA()[k]];
+                int b = ranked[pairing.getSideB()[k]];
+                assertFalse(met[a].get(b), "Entrants " + a + " and " + b + " should not meet twice");
+                met[a].set(b);
+                met[b].set(a);
+                sideBalance[a]++;
+                sideBalance[b]--;
+                score[random.nextBoolean() ? a : b]++;
+            }
+        }
+
+        System.out.println("✓ Swiss 1,001 players x " + rounds + " rounds paired in " + (totalNanos / 1_000_000) + " ms");
+    }
+}
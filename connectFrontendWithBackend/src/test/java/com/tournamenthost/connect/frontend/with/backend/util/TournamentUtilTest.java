@@ -155,6 +155,97 @@ public class TournamentUtilTest {
         System.out.println("✓ 16-player seeding test passed!");
     }
 
+    @Test
+    public void testSnakeSeedingIntoPools() {
+        // Seeds 1-10 split into 3 pools
+        List<Integer> seeds = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            seeds.add(i);
+        }
+
+        List<List<Integer>> pools = TournamentUtil.snakeSeedIntoPools(seeds, 3);
+
+        // Serpentine order: 1-2-3, 6-5-4, 7-8-9, then 10 back into pool 3
+        assertEquals(List.of(1, 6, 7), pools.get(0));
+        assertEquals(List.of(2, 5, 8), pools.get(1));
+        assertEquals(List.of(3, 4, 9, 10), pools.get(2));
+
+        System.out.println("✓ Snake pool seeding test passed!");
+    }
+
+    @Test
+    public void testSeedTablesAreCachedAndMatchBoxedBuild() {
+        for (int bracketSize = 2; bracketSize <= 4096; bracketSize *= 2) {
+            int[] positions = TournamentUtil.seedPositions(bracketSize);
+            assertArrayEquals(boxedSeedPositions(bracketSize), positions, "Bracket of " + bracketSize);
+            assertSame(positions, TournamentUtil.seedPositions(bracketSize), "Table should be built once");
+        }
+        assertThrows(IllegalArgumentException.class, () -> TournamentUtil.seedPositions(6));
+
+        // Bytes allocated building a 1,024 table the old boxed way, against fetching the cached one
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1000; i++) {
+            boxedSeedPositions(1024);
+        }
+        long boxed = threads.getThreadAllocatedBytes(threadId) - before;
+        before = threads.getThreadAllocatedBytes(threadId);
+        long checksum = 0;
+        for (int i = 0; i < 1000; i++) {
+            checksum += TournamentUtil.seedPositions(1024)[i];
+        }
+        long cached = threads.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(checksum > 0);
+        assertTrue(cached * 100 < boxed, "Cached lookups allocated " + cached + " bytes against " + boxed);
+
+        System.out.println("✓ Seed table test passed! (1,000 draws of 1,024: " + boxed / 1000 + " bytes each boxed, "
+            + cached + " bytes in total cached)");
+    }
+
+    @Test
+    public void testSameRandomSeedGivesSameDraw() {
+        // 20 entrants in a 32 draw, top 4 seeded, with a club shared by half the field
+        List<Long> entrants = new ArrayList<>();
+        Map<Long, Integer> seeds = new HashMap<>();
+        Map<Long, List<String>> keys = new HashMap<>();
+        for (long i = 1; i <= 20; i++) {
+            entrants.add(i);
+            if (i <= 4) {
+                seeds.put(i, (int) i);
+            }
+            keys.put(i, List.of(i % 2 == 0 ? "club:even" : "club:odd"));
+        }
+
+        ArrayList<Long> first = TournamentUtil.generateDraw(entrants, 16, seeds, Long::longValue, keys, new Random(42));
+        ArrayList<Long> second = TournamentUtil.generateDraw(entrants, 16, seeds, Long::longValue, keys, new Random(42));
+        assertEquals(first, second, "The same seed should give the same draw");
+        assertEquals(1L, first.get(0), "Seed 1 stays at the top");
+        assertEquals(20, first.stream().filter(Objects::nonNull).distinct().count(), "Everyone is drawn once");
+
+        System.out.println("✓ Reproducible draw test passed!");
+    }
+
+    // The seed table built with boxed lists, as draws used to do every time
+    private int[] boxedSeedPositions(int bracketSize) {
+        List<Integer> seeds = new ArrayList<>(List.of(1, 2));
+        while (seeds.size() < bracketSize) {
+            List<Integer> newSeeds = new ArrayList<>();
+            int nextSeed = seeds.size() + 1;
+            for (int i = 0; i < seeds.size(); i++) {
+                newSeeds.add(seeds.get(i));
+                newSeeds.add(nextSeed + seeds.size() - 1 - i);
+            }
+            seeds = newSeeds;
+        }
+        int[] positions = new int[bracketSize];
+        for (int i = 0; i < seeds.size(); i++) {
+            positions[seeds.get(i) - 1] = i;
+        }
+        return positions;
+    }
+
     // Helper method to verify a matchup
     private void verifyMatchup(ArrayList<User> draw, int pos1, int pos2, long expectedSeed1, long expectedSeed2) {
         User player1 = draw.get(pos1);